@@ -0,0 +1,101 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import shopco.backend.domain.enums.CouponType;
+
+/**
+ * {@link CartPricer} against the same pricing written as chained {@link BigDecimal} arithmetic,
+ * for carts of 1 to 200 lines with a 15% coupon. {@code minorUnitsFromDecimals} includes the
+ * conversion of every price and of the totals at the boundary.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartPricingBenchmark {
+
+    private static final BigDecimal SHIPPING_FEE = new BigDecimal("5.00");
+    private static final BigDecimal FREE_SHIPPING_FROM = new BigDecimal("100.00");
+    private static final BigDecimal PERCENT = new BigDecimal("15.00");
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({"1", "10", "50", "200"})
+    private int lines;
+
+    private BigDecimal[] prices;
+    private BigDecimal[] salePrices;
+    private int[] quantities;
+    private long[] unitPrices;
+    private long[] lineTotals;
+    private CartPricer pricer;
+    private CouponTerms coupon;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[lines];
+        salePrices = new BigDecimal[lines];
+        quantities = new int[lines];
+        unitPrices = new long[lines];
+        lineTotals = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            prices[i] = BigDecimal.valueOf(500 + random.nextInt(20_000), 2);
+            if (random.nextInt(4) == 0) {
+                salePrices[i] = prices[i].multiply(new BigDecimal("0.80")).setScale(2, RoundingMode.HALF_UP);
+            }
+            quantities[i] = 1 + random.nextInt(5);
+            unitPrices[i] = MinorUnits.of(salePrices[i] != null ? salePrices[i] : prices[i]);
+        }
+        pricer = new CartPricer(SHIPPING_FEE, FREE_SHIPPING_FROM);
+        coupon = new CouponTerms(CouponType.PERCENT, MinorUnits.of(PERCENT), 0);
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimal[] totals = new BigDecimal[lines];
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            BigDecimal price = salePrices[i] != null ? salePrices[i] : prices[i];
+            totals[i] = price.multiply(BigDecimal.valueOf(quantities[i]));
+            total = total.add(totals[i]);
+        }
+        BigDecimal shipping = total.compareTo(FREE_SHIPPING_FROM) >= 0 ? BigDecimal.ZERO : SHIPPING_FEE;
+        BigDecimal discount = total.multiply(PERCENT).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+        blackhole.consume(totals);
+        blackhole.consume(total.add(shipping).subtract(discount));
+    }
+
+    @Benchmark
+    public CartTotals minorUnits() {
+        return pricer.price(unitPrices, quantities, lines, null, coupon, lineTotals);
+    }
+
+    @Benchmark
+    public void minorUnitsFromDecimals(Blackhole blackhole) {
+        long[] converted = new long[lines];
+        for (int i = 0; i < lines; i++) {
+            converted[i] = MinorUnits.of(salePrices[i] != null ? salePrices[i] : prices[i]);
+        }
+        long[] totals = new long[lines];
+        CartTotals priced = pricer.price(converted, quantities, lines, null, coupon, totals);
+        blackhole.consume(totals);
+        blackhole.consume(MinorUnits.toDecimal(priced.finalAmount()));
+    }
+}
@@ -0,0 +1,4 @@
+package shopco.backend.application.dto;
+
+public record BannerDto(String id, String title, String imageUrl, String linkUrl, String position, Integer sortOrder) {
+}
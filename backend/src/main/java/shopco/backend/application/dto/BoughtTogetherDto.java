@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+/**
+ * A product frequently bought with another one, with the co-occurrence scores it was ranked by.
+ *
+ * @param coOrders orders containing both products
+ */
+public record BoughtTogetherDto(ProductSummaryDto product, int coOrders, double support, double confidence,
+                                double lift) {
+}
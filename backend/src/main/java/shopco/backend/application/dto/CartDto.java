@@ -0,0 +1,11 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * A user's or guest's cart; {@code userId} or {@code sessionId} identifies the owner
+ *
+ * @param items in the order they were first added
+ */
+public record CartDto(String id, String userId, String sessionId, List<CartItemDto> items) {
+}
@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * @param priceAtAdd unit price when the variant was first added
+ */
+public record CartItemDto(String id, String variantId, int quantity, BigDecimal priceAtAdd, LocalDateTime createdAt) {
+}
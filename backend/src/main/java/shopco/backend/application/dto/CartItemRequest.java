@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Variant and quantity to add to a cart
+ */
+public record CartItemRequest(String variantId, Integer quantity) {
+}
@@ -0,0 +1,9 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One priced cart line at the variant's current price
+ */
+public record CartLinePriceDto(String variantId, int quantity, BigDecimal unitPrice, BigDecimal lineTotal) {
+}
@@ -0,0 +1,19 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A cart priced for checkout; the amounts are the ones an order placed from it records
+ *
+ * @param couponCode the applied coupon, or null
+ */
+public record CartPricingDto(
+        String cartId,
+        List<CartLinePriceDto> lines,
+        String couponCode,
+        BigDecimal totalAmount,
+        BigDecimal discountAmount,
+        BigDecimal shippingFee,
+        BigDecimal finalAmount) {
+}
@@ -0,0 +1,26 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * One product/variant pair of the catalog export; variant columns are null for a product
+ * without variants
+ */
+public record CatalogExportRow(
+        String productSlug,
+        String productName,
+        String description,
+        ProductStatus status,
+        String brandSlug,
+        String brandName,
+        String categorySlug,
+        String categoryName,
+        String sku,
+        BigDecimal price,
+        BigDecimal salePrice,
+        Integer stock,
+        Float weight,
+        String barcode,
+        String attributes) {
+}
@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * A rejected import row; {@code line} is 0 for errors not tied to one row
+ */
+public record CatalogImportErrorDto(long line, String message) {
+}
@@ -0,0 +1,21 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one catalog import.
+ *
+ * @param errors          the first rejected rows, at most the configured report limit
+ * @param errorsTruncated true when more rows failed than {@code errors} lists
+ */
+public record CatalogImportReportDto(
+        long totalRows,
+        long importedRows,
+        long failedRows,
+        long productsWritten,
+        long variantsWritten,
+        long elapsedMs,
+        long rowsPerSecond,
+        List<CatalogImportErrorDto> errors,
+        boolean errorsTruncated) {
+}
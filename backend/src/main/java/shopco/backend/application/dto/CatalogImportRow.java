@@ -0,0 +1,34 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * One validated supplier feed row: a variant plus the product, brand, category, tags and images
+ * it belongs to. Slugs are already normalized; optional columns are null when left blank.
+ *
+ * @param line       line of the source file the row started on, for error reports
+ * @param attributes variant options as a JSON object, or null
+ */
+public record CatalogImportRow(
+        long line,
+        String productSlug,
+        String productName,
+        String description,
+        ProductStatus status,
+        String brandSlug,
+        String brandName,
+        String categorySlug,
+        String categoryName,
+        String parentCategorySlug,
+        List<String> tags,
+        List<String> images,
+        String sku,
+        BigDecimal price,
+        BigDecimal salePrice,
+        int stock,
+        Float weight,
+        String barcode,
+        String attributes) {
+}
@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+public record CategoryNodeDto(String id, String name, String slug, int depth) {
+
+    public CategoryNodeDto {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Category id must not be blank");
+        }
+    }
+}
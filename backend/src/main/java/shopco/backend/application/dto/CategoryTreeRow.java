@@ -0,0 +1,13 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+
+public record CategoryTreeRow(String id, String parentId, String name, String slug, Integer sortOrder,
+                              Boolean active, LocalDateTime updatedAt) {
+
+    public CategoryTreeRow {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Category id must not be blank");
+        }
+    }
+}
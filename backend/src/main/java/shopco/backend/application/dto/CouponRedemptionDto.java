@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+import shopco.backend.domain.enums.CouponRedemptionStatus;
+
+public record CouponRedemptionDto(String id, String couponId, String userId, String orderId,
+                                  CouponRedemptionStatus status) {
+}
@@ -0,0 +1,17 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * {@code nextCursor} is null when there are no more rows.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor, boolean hasNext) {
+
+    public CursorPage {
+        if (items == null) {
+            throw new IllegalArgumentException("Items must not be null");
+        }
+        items = List.copyOf(items);
+    }
+}
@@ -0,0 +1,33 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import shopco.backend.domain.enums.ExportDataset;
+import shopco.backend.domain.enums.ExportFormat;
+
+/**
+ * A validated export request.
+ *
+ * @param since inclusive lower bound on creation time (orders, users, reviews), or null
+ * @param until exclusive upper bound on creation time, or null
+ */
+public record ExportRequestDto(ExportDataset dataset, ExportFormat format, boolean gzip,
+                               LocalDateTime since, LocalDateTime until) {
+
+    public ExportRequestDto {
+        if (dataset == null || format == null) {
+            throw new IllegalArgumentException("Export dataset and format are required");
+        }
+        if (since != null && until != null && !since.isBefore(until)) {
+            throw new IllegalArgumentException("Export 'since' must be before 'until'");
+        }
+    }
+
+    public String filename(String stamp) {
+        return dataset.name().toLowerCase(Locale.ROOT) + "-" + stamp + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+
+    public String contentType() {
+        return gzip ? "application/gzip" : format.getContentType();
+    }
+}
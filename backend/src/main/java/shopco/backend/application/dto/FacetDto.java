@@ -0,0 +1,13 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+public record FacetDto(String name, List<FacetValueDto> values) {
+
+    public FacetDto {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Facet name must not be blank");
+        }
+        values = values == null ? List.of() : List.copyOf(values);
+    }
+}
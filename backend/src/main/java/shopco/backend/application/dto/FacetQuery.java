@@ -0,0 +1,29 @@
+package shopco.backend.application.dto;
+
+import java.util.Map;
+import java.util.Set;
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * Facet selections for the shop sidebar.
+ * Values are OR-ed within a facet and facets are AND-ed together.
+ *
+ * @param attributes selected variant attribute values keyed by attribute name (e.g. size, color)
+ */
+public record FacetQuery(
+        ProductStatus status,
+        Set<String> brandIds,
+        Set<String> categoryIds,
+        Set<String> priceBuckets,
+        Map<String, Set<String>> attributes) {
+
+    public FacetQuery {
+        if (status == null) {
+            status = ProductStatus.PUBLISHED;
+        }
+        brandIds = brandIds == null ? Set.of() : Set.copyOf(brandIds);
+        categoryIds = categoryIds == null ? Set.of() : Set.copyOf(categoryIds);
+        priceBuckets = priceBuckets == null ? Set.of() : Set.copyOf(priceBuckets);
+        attributes = attributes == null ? Map.of() : Map.copyOf(attributes);
+    }
+}
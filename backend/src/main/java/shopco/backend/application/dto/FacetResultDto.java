@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+public record FacetResultDto(int totalProducts, List<FacetDto> facets) {
+
+    public FacetResultDto {
+        facets = facets == null ? List.of() : List.copyOf(facets);
+    }
+}
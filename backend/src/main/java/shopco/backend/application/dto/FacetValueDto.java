@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+public record FacetValueDto(String value, int count, boolean selected) {
+
+    public FacetValueDto {
+        if (value == null) {
+            throw new IllegalArgumentException("Facet value must not be null");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package shopco.backend.application.dto;
+
+/**
+ * @param active    whether the variant is currently sold through the flash sale
+ * @param remaining units left in the sale, or when it has ended, units it left unsold
+ */
+public record FlashSaleDto(String variantId, boolean active, int remaining) {
+}
@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Natural key (slug, SKU) of a row together with its primary key
+ */
+public record KeyIdRow(String key, String id) {
+}
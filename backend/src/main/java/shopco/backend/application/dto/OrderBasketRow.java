@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * One product of one order; rows of the same order form its basket.
+ */
+public record OrderBasketRow(String orderId, String productId) {
+}
@@ -0,0 +1,31 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import shopco.backend.domain.enums.OrderStatus;
+import shopco.backend.domain.enums.PaymentStatus;
+
+/**
+ * One order item of the order export, with its order's totals repeated on every item
+ */
+public record OrderExportRow(
+        String orderId,
+        String orderNo,
+        LocalDateTime createdAt,
+        String userId,
+        OrderStatus orderStatus,
+        PaymentStatus payStatus,
+        String paymentMethod,
+        String couponCode,
+        BigDecimal totalAmount,
+        BigDecimal shippingFee,
+        BigDecimal discountAmount,
+        BigDecimal finalAmount,
+        String itemId,
+        String variantId,
+        String productName,
+        String variantAttributes,
+        BigDecimal unitPrice,
+        Integer quantity,
+        BigDecimal subtotal) {
+}
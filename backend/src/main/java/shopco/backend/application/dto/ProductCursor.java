@@ -0,0 +1,101 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a listing page.
+ * Clients only ever see the opaque Base64 form produced by {@link #encode()}.
+ */
+public record ProductCursor(ProductSort sort, String id, String key) {
+
+    private static final String SEPARATOR = "\n";
+
+    public ProductCursor {
+        if (sort == null) {
+            throw new IllegalArgumentException("Cursor sort must not be null");
+        }
+        if (id == null || id.isBlank() || id.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Cursor id is invalid");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Cursor key must not be null");
+        }
+    }
+
+    public static ProductCursor newest(LocalDateTime createdAt, String id) {
+        return new ProductCursor(ProductSort.NEWEST, id, createdAt.toString());
+    }
+
+    public static ProductCursor name(String name, String id) {
+        return new ProductCursor(ProductSort.NAME, id, name);
+    }
+
+    public static ProductCursor price(ProductSort sort, BigDecimal minPrice, String id) {
+        return new ProductCursor(sort, id, minPrice.toPlainString());
+    }
+
+    public static ProductCursor rating(BigDecimal ratingAverage, String id) {
+        return new ProductCursor(ProductSort.RATING, id, ratingAverage.toPlainString());
+    }
+
+    public static ProductCursor bestselling(long unitsSold, String id) {
+        return new ProductCursor(ProductSort.BESTSELLING, id, Long.toString(unitsSold));
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public BigDecimal decimalKey() {
+        try {
+            return new BigDecimal(key);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public long longKey() {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + id + SEPARATOR + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        // The key is last so that product names may contain the separator
+        String[] parts = raw.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        ProductCursor decoded = new ProductCursor(ProductSort.fromParam(parts[0]), parts[1], parts[2]);
+        switch (decoded.sort()) {
+            case NEWEST -> decoded.createdAt();
+            case PRICE_ASC, PRICE_DESC, RATING -> decoded.decimalKey();
+            case BESTSELLING -> decoded.longKey();
+            default -> {
+                // name keys are free text
+            }
+        }
+        return decoded;
+    }
+}
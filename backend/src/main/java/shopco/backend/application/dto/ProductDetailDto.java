@@ -0,0 +1,54 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Everything the product page renders, assembled from a single aggregate load
+ */
+public record ProductDetailDto(
+        String id,
+        String name,
+        String slug,
+        String description,
+        String defaultImage,
+        String seoMetaTitle,
+        String seoMetaDesc,
+        BrandRef brand,
+        CategoryRef category,
+        List<CategoryNodeDto> breadcrumb,
+        List<Variant> variants,
+        List<Image> images,
+        List<String> tags,
+        RatingSummaryDto rating,
+        List<ReviewItem> reviews) {
+
+    public ProductDetailDto {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+        breadcrumb = breadcrumb == null ? List.of() : List.copyOf(breadcrumb);
+        variants = variants == null ? List.of() : List.copyOf(variants);
+        images = images == null ? List.of() : List.copyOf(images);
+        tags = tags == null ? List.of() : List.copyOf(tags);
+        reviews = reviews == null ? List.of() : List.copyOf(reviews);
+    }
+
+    public record BrandRef(String id, String name, String slug, String logoUrl) {
+    }
+
+    public record CategoryRef(String id, String name, String slug) {
+    }
+
+    public record Variant(String id, String sku, String attributes, BigDecimal price, BigDecimal salePrice,
+                          Integer stockQuantity) {
+    }
+
+    public record Image(String id, String variantId, String url, String altText, Integer sortOrder) {
+    }
+
+    public record ReviewItem(String id, String userId, Integer rating, String title, String body,
+                             LocalDateTime createdAt) {
+    }
+}
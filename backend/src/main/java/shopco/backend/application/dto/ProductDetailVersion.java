@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Validators of a published product's detail, with the id the slug resolved to.
+ */
+public record ProductDetailVersion(String productId, ResourceVersion version) {
+}
@@ -0,0 +1,12 @@
+package shopco.backend.application.dto;
+
+import shopco.backend.domain.enums.ProductStatus;
+
+public record ProductFacetRow(String id, String brandId, String categoryId, ProductStatus status) {
+
+    public ProductFacetRow {
+        if (id == null || status == null) {
+            throw new IllegalArgumentException("Product id and status must not be null");
+        }
+    }
+}
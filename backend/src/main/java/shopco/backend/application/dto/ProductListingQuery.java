@@ -0,0 +1,32 @@
+package shopco.backend.application.dto;
+
+/**
+ * Filters and position for the published product listing.
+ * A null {@code cursor} requests the first page.
+ */
+public record ProductListingQuery(
+        String categoryId,
+        String brandId,
+        ProductSort sort,
+        String cursor,
+        int size) {
+
+    public static final int DEFAULT_SIZE = 24;
+    public static final int MAX_SIZE = 100;
+
+    public ProductListingQuery {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        if (sort == null) {
+            sort = ProductSort.NEWEST;
+        }
+        categoryId = blankToNull(categoryId);
+        brandId = blankToNull(brandId);
+        cursor = blankToNull(cursor);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,9 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-product variant aggregate: effective price range and number of variants in stock
+ */
+public record ProductPriceStockRow(String productId, BigDecimal minPrice, BigDecimal maxPrice, Long inStockVariants) {
+}
@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Per-product aggregate over approved reviews
+ */
+public record ProductRatingRow(String productId, Double average, Long count) {
+}
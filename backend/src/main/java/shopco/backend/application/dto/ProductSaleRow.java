@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Units of one product sold in one order, with the scopes the product ranks in.
+ */
+public record ProductSaleRow(String orderId, String productId, String categoryId, String brandId,
+                             LocalDateTime orderedAt, Integer quantity) {
+}
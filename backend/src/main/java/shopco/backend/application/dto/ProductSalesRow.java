@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Units of a product sold across orders in a counted status
+ */
+public record ProductSalesRow(String productId, Long unitsSold) {
+}
@@ -0,0 +1,4 @@
+package shopco.backend.application.dto;
+
+public record ProductScopeRow(String id, String categoryId, String brandId) {
+}
@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+public record ProductSearchResultDto(String id, String name, String slug, double score) {
+
+    public ProductSearchResultDto {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+    }
+}
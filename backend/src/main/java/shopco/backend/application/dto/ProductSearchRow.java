@@ -0,0 +1,22 @@
+package shopco.backend.application.dto;
+
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * Flat product row (product + brand + category names) used to feed the search index
+ */
+public record ProductSearchRow(
+        String id,
+        String name,
+        String slug,
+        String description,
+        ProductStatus status,
+        String brandName,
+        String categoryName) {
+
+    public ProductSearchRow {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package shopco.backend.application.dto;
+
+import java.util.Locale;
+
+/**
+ * Sort orders supported by the keyset-paginated product listing
+ */
+public enum ProductSort {
+    /**
+     * Newest first - ordered by (createdAt DESC, id DESC)
+     */
+    NEWEST,
+
+    /**
+     * Alphabetical - ordered by (name ASC, id ASC)
+     */
+    NAME,
+
+    /**
+     * Cheapest first - ordered by (minPrice ASC, id ASC); products without variants are skipped
+     */
+    PRICE_ASC,
+
+    /**
+     * Most expensive first - ordered by (minPrice DESC, id DESC)
+     */
+    PRICE_DESC,
+
+    /**
+     * Best rated first - ordered by (ratingAverage DESC, id DESC)
+     */
+    RATING,
+
+    /**
+     * Most units sold first - ordered by (unitsSold DESC, id DESC)
+     */
+    BESTSELLING;
+
+    /**
+     * Whether the order is served from the denormalized product summary
+     */
+    public boolean usesSummary() {
+        return this != NEWEST && this != NAME;
+    }
+
+    public static ProductSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return ProductSort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported sort: " + value);
+        }
+    }
+}
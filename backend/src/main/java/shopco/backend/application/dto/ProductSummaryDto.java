@@ -0,0 +1,29 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductSummaryDto(
+        String id,
+        String name,
+        String slug,
+        String defaultImage,
+        String brandId,
+        String categoryId,
+        LocalDateTime createdAt,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        boolean inStock,
+        BigDecimal ratingAverage,
+        long ratingCount,
+        long unitsSold) {
+
+    public ProductSummaryDto {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+        if (name == null || slug == null) {
+            throw new IllegalArgumentException("Product name and slug must not be null");
+        }
+    }
+}
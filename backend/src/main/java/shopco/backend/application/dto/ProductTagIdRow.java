@@ -0,0 +1,4 @@
+package shopco.backend.application.dto;
+
+public record ProductTagIdRow(String productId, String tagId) {
+}
@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+public record ProductTagNameRow(String productId, String tagName) {
+
+    public ProductTagNameRow {
+        if (productId == null || tagName == null) {
+            throw new IllegalArgumentException("Product id and tag name must not be null");
+        }
+    }
+}
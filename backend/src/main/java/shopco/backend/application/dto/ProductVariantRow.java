@@ -0,0 +1,21 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Scalar columns of a product variant, read without loading the entity graph
+ */
+public record ProductVariantRow(
+        String id,
+        String productId,
+        BigDecimal price,
+        BigDecimal salePrice,
+        Integer stockQuantity,
+        String attributes) {
+
+    public ProductVariantRow {
+        if (id == null || productId == null) {
+            throw new IllegalArgumentException("Variant id and product id must not be null");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * Timestamps and child counts of everything a product detail page is built from: the newest
+ * {@code updated_at} of each child table, so editing any rendered child changes the row, and
+ * counts to catch deleted children, whose timestamps disappear with them.
+ */
+public record ProductVersionRow(String id, ProductStatus status, LocalDateTime updatedAt,
+                                LocalDateTime brandUpdatedAt, LocalDateTime categoryUpdatedAt,
+                                Long variantCount, LocalDateTime variantsUpdatedAt,
+                                Long imageCount, LocalDateTime imagesUpdatedAt,
+                                Long tagCount, LocalDateTime tagsUpdatedAt,
+                                Long approvedReviewCount, LocalDateTime approvedReviewsUpdatedAt) {
+}
@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * @param score time-decayed units sold (best sellers) or views plus weighted units (trending)
+ */
+public record RankedProductDto(ProductSummaryDto product, double score) {
+}
@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Approved reviews of one product with one star rating
+ */
+public record RatingCountRow(String productId, Integer rating, Long count) {
+}
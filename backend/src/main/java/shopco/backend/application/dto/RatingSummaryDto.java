@@ -0,0 +1,16 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Average, count and star histogram over a product's approved reviews
+ *
+ * @param histogram reviews per star rating, one star first
+ */
+public record RatingSummaryDto(BigDecimal average, long count, List<Long> histogram) {
+
+    public RatingSummaryDto {
+        histogram = histogram == null ? List.of() : List.copyOf(histogram);
+    }
+}
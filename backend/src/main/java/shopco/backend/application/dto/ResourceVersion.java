@@ -0,0 +1,48 @@
+package shopco.backend.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.StringJoiner;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Validators for a cacheable representation, derived from the stored timestamps (and counts)
+ * of the rows it is built from rather than from the serialized body, so a conditional request
+ * can be answered before the body is loaded.
+ *
+ * @param etag         weak entity tag, e.g. {@code W/"3f2a..."}
+ * @param lastModified epoch millis of the newest contributing row, or -1 when unknown
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    /**
+     * @param lastModified newest timestamp among the contributing rows, or null
+     * @param parts        any further values that change when the representation changes
+     */
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        StringJoiner key = new StringJoiner("|");
+        key.add(String.valueOf(lastModified));
+        for (Object part : parts) {
+            key.add(String.valueOf(part));
+        }
+        // Weak: equal tags promise an equivalent body, not byte-identical JSON
+        String etag = "W/\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        // Timestamps are written in the JVM zone by @UpdateTimestamp and the import writer
+        return new ResourceVersion(etag,
+                lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * The latest of the given timestamps, ignoring nulls; null when all are null.
+     */
+    public static LocalDateTime newest(LocalDateTime... timestamps) {
+        LocalDateTime newest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null && (newest == null || timestamp.isAfter(newest))) {
+                newest = timestamp;
+            }
+        }
+        return newest;
+    }
+}
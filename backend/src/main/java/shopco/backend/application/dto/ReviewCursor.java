@@ -0,0 +1,43 @@
+package shopco.backend.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last review of a feed or moderation queue page, ordered by
+ * {@code (createdAt, id)}. Clients only ever see the opaque Base64 form produced by
+ * {@link #encode()}.
+ */
+public record ReviewCursor(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "\n";
+
+    public ReviewCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor time must not be null");
+        }
+        if (id == null || id.isBlank() || id.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Cursor id is invalid");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReviewCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+import shopco.backend.domain.enums.ReviewStatus;
+
+/**
+ * One review as listed in a product's review feed or the moderation queue
+ */
+public record ReviewDto(String id, String productId, String userId, Integer rating, String title, String body,
+                        ReviewStatus status, LocalDateTime createdAt) {
+}
@@ -0,0 +1,16 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+import shopco.backend.domain.enums.ReviewStatus;
+
+public record ReviewExportRow(
+        String id,
+        String productId,
+        String userId,
+        String orderItemId,
+        Integer rating,
+        String title,
+        String body,
+        ReviewStatus status,
+        LocalDateTime createdAt) {
+}
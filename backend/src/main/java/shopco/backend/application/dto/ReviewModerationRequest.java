@@ -0,0 +1,9 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Reviews to move out of the moderation queue, and whether they are approved or rejected
+ */
+public record ReviewModerationRequest(List<String> reviewIds, String status) {
+}
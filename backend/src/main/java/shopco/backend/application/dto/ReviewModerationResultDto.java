@@ -0,0 +1,11 @@
+package shopco.backend.application.dto;
+
+import shopco.backend.domain.enums.ReviewStatus;
+
+/**
+ * @param requested distinct review ids in the request
+ * @param moderated reviews that were pending and now have {@code status}
+ * @param skipped   ids that were unknown or no longer pending, e.g. moderated by someone else
+ */
+public record ReviewModerationResultDto(ReviewStatus status, int requested, int moderated, int skipped) {
+}
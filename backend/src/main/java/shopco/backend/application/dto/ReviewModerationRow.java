@@ -0,0 +1,8 @@
+package shopco.backend.application.dto;
+
+/**
+ * A pending review locked for moderation: enough to publish its change events without loading
+ * the entity
+ */
+public record ReviewModerationRow(String id, String productId, Integer rating) {
+}
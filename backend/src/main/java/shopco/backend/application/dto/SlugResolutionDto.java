@@ -0,0 +1,16 @@
+package shopco.backend.application.dto;
+
+import shopco.backend.domain.enums.SlugType;
+
+/**
+ * Target of a storefront slug. When {@code redirect} is true the requested slug is an old one
+ * and clients should redirect permanently to {@code slug}.
+ */
+public record SlugResolutionDto(SlugType type, String id, String slug, boolean redirect) {
+
+    public SlugResolutionDto {
+        if (type == null || id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Slug type and id must not be blank");
+        }
+    }
+}
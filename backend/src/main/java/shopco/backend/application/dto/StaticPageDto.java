@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+
+public record StaticPageDto(String id, String title, String slug, String content, String seoTitle, String seoDesc,
+                            LocalDateTime updatedAt) {
+}
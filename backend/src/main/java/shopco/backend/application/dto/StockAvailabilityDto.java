@@ -0,0 +1,11 @@
+package shopco.backend.application.dto;
+
+/**
+ * Available-to-promise for one variant
+ *
+ * @param onHand    units in stock, including those held for checkouts
+ * @param held      units held by checkouts, including expired holds the reaper has not released yet
+ * @param available {@code onHand - held}, what a new checkout can still reserve
+ */
+public record StockAvailabilityDto(String variantId, int onHand, int held, int available) {
+}
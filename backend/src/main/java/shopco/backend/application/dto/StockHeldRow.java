@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+/**
+ * Quantity of a variant in uncommitted reservations
+ *
+ * @param held   in reservations that are still active
+ * @param lapsed in holds that have expired but not been released by the reaper yet
+ */
+public record StockHeldRow(String variantId, Long held, Long lapsed) {
+}
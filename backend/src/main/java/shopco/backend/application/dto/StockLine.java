@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Quantity of one variant in a stock reservation
+ */
+public record StockLine(String variantId, Integer quantity) {
+}
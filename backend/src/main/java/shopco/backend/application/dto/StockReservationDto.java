@@ -0,0 +1,13 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import shopco.backend.domain.enums.StockReservationStatus;
+
+/**
+ * @param lines     one line per variant, ordered by variant id
+ * @param expiresAt when an uncommitted checkout hold is released; null for reservations without expiry
+ */
+public record StockReservationDto(String id, StockReservationStatus status, List<StockLine> lines,
+                                  LocalDateTime expiresAt) {
+}
@@ -0,0 +1,9 @@
+package shopco.backend.application.dto;
+
+import java.util.List;
+
+/**
+ * Variants and quantities to reserve for one checkout
+ */
+public record StockReservationRequest(List<StockLine> lines) {
+}
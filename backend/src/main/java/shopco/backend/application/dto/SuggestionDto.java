@@ -0,0 +1,13 @@
+package shopco.backend.application.dto;
+
+/**
+ * One autocomplete entry; {@code type} is product, brand, category or tag
+ */
+public record SuggestionDto(String type, String id, String text, String slug) {
+
+    public SuggestionDto {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Suggestion id must not be blank");
+        }
+    }
+}
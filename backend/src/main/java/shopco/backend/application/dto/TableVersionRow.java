@@ -0,0 +1,9 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Newest {@code updated_at} and row count of a small table; the count catches deletions.
+ */
+public record TableVersionRow(LocalDateTime lastModified, Long rowCount) {
+}
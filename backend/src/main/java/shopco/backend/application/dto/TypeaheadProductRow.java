@@ -0,0 +1,14 @@
+package shopco.backend.application.dto;
+
+/**
+ * Published product as seen by the autocomplete builder, with its popularity signals
+ */
+public record TypeaheadProductRow(
+        String productId,
+        String name,
+        String slug,
+        String brandId,
+        String categoryId,
+        Long unitsSold,
+        Long ratingCount) {
+}
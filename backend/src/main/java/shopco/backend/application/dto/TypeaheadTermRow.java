@@ -0,0 +1,7 @@
+package shopco.backend.application.dto;
+
+/**
+ * Named, slug-addressed row (brand or tag) offered as an autocomplete suggestion
+ */
+public record TypeaheadTermRow(String id, String name, String slug) {
+}
@@ -0,0 +1,13 @@
+package shopco.backend.application.dto;
+
+import java.time.LocalDateTime;
+
+public record UserExportRow(
+        String id,
+        String name,
+        String email,
+        Boolean emailVerified,
+        String role,
+        Boolean banned,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,35 @@
+package shopco.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Result of picking options on the product page: the matching variant (null until the
+ * selection is complete and exists) plus every option value flagged with whether it can still
+ * be combined with the current selection into an in-stock variant
+ */
+public record VariantSelectionDto(
+        String productId,
+        String variantId,
+        BigDecimal price,
+        BigDecimal salePrice,
+        Integer stockQuantity,
+        List<Option> options) {
+
+    public VariantSelectionDto {
+        if (productId == null || productId.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+        options = options == null ? List.of() : List.copyOf(options);
+    }
+
+    public record Option(String name, List<OptionValue> values) {
+
+        public Option {
+            values = values == null ? List.of() : List.copyOf(values);
+        }
+    }
+
+    public record OptionValue(String value, boolean selected, boolean available) {
+    }
+}
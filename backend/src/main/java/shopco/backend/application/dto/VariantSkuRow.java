@@ -0,0 +1,4 @@
+package shopco.backend.application.dto;
+
+public record VariantSkuRow(String sku, String id, String productId) {
+}
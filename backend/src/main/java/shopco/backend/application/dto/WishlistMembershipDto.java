@@ -0,0 +1,10 @@
+package shopco.backend.application.dto;
+
+import java.util.Map;
+
+/**
+ * @param wishlisted for every requested product id, whether the user has wishlisted it, in
+ *                   request order
+ */
+public record WishlistMembershipDto(String userId, Map<String, Boolean> wishlisted) {
+}
@@ -0,0 +1,15 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.BannerDto;
+import shopco.backend.application.dto.ResourceVersion;
+
+public interface BannerService {
+
+    /**
+     * Active banners ordered for display; all positions when {@code position} is null.
+     */
+    List<BannerDto> getActive(String position);
+
+    ResourceVersion getVersion();
+}
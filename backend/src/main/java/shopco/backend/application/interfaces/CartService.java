@@ -0,0 +1,48 @@
+package shopco.backend.application.interfaces;
+
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemRequest;
+import shopco.backend.application.dto.CartPricingDto;
+
+/**
+ * Carts of signed-in users and guests. Every method takes the owner as exactly one of
+ * {@code userId} and {@code sessionId}.
+ */
+public interface CartService {
+
+    CartDto getCart(String userId, String sessionId);
+
+    /**
+     * Adds units of a variant at its current price; a variant already in the cart keeps the
+     * price it was first added at.
+     *
+     * @throws IllegalStateException if the cart would hold more than the variant's stock
+     */
+    CartDto addItem(String userId, String sessionId, CartItemRequest request);
+
+    /**
+     * Sets the quantity of a line already in the cart; zero removes it.
+     *
+     * @throws IllegalStateException if the quantity exceeds the variant's stock
+     */
+    CartDto setQuantity(String userId, String sessionId, String variantId, int quantity);
+
+    CartDto removeItem(String userId, String sessionId, String variantId);
+
+    /**
+     * Folds a guest's cart into the user's cart on sign-in. Quantities of the same variant are
+     * added up and capped at the variant's stock, every line is repriced at the current price,
+     * and lines whose variant is gone or sold out are dropped. The guest cart is deleted.
+     *
+     * @throws IllegalStateException if the merged carts could not be written; retry the merge
+     */
+    CartDto mergeGuestCart(String sessionId, String userId);
+
+    /**
+     * Prices the cart at current variant prices, with the coupon, if given, and shipping. A
+     * product or percentage coupon only discounts the lines in its scope.
+     *
+     * @throws IllegalArgumentException if the coupon does not exist or is not running
+     */
+    CartPricingDto priceCart(String userId, String sessionId, String couponCode);
+}
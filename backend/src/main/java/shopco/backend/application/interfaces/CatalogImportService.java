@@ -0,0 +1,12 @@
+package shopco.backend.application.interfaces;
+
+import java.io.InputStream;
+import shopco.backend.application.dto.CatalogImportReportDto;
+
+public interface CatalogImportService {
+
+    /**
+     * @param format csv or jsonl; inferred from {@code filename} when blank
+     */
+    CatalogImportReportDto importCatalog(InputStream input, String filename, String format);
+}
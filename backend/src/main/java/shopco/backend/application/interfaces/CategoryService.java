@@ -0,0 +1,18 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.CategoryNodeDto;
+import shopco.backend.application.dto.ResourceVersion;
+
+public interface CategoryService {
+
+    List<CategoryNodeDto> getBreadcrumb(String categoryId);
+
+    List<CategoryNodeDto> getChildren(String categoryId);
+
+    /**
+     * Validators shared by every category read; they change whenever the tree is rebuilt from
+     * different rows.
+     */
+    ResourceVersion getVersion();
+}
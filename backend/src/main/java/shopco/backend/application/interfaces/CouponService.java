@@ -0,0 +1,24 @@
+package shopco.backend.application.interfaces;
+
+import shopco.backend.application.dto.CouponRedemptionDto;
+
+public interface CouponService {
+
+    /**
+     * Takes one of the coupon's usage slots for the order, counting against both
+     * {@code usageLimit} and the user's {@code usageLimitPerUser}. Redeeming the same coupon
+     * for the same order again returns the existing redemption.
+     *
+     * @throws IllegalArgumentException if no coupon has the code or it is not running
+     * @throws IllegalStateException    if the coupon or the user's share of it is used up
+     */
+    CouponRedemptionDto redeem(String code, String userId, String orderId);
+
+    /**
+     * Gives the order's usage slot back when the order is cancelled. Can be retried safely.
+     *
+     * @throws IllegalArgumentException if the order does not exist or did not redeem a coupon
+     * @throws IllegalStateException    if the order is not cancelled
+     */
+    CouponRedemptionDto releaseForOrder(String orderId);
+}
@@ -0,0 +1,21 @@
+package shopco.backend.application.interfaces;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import shopco.backend.application.dto.ExportRequestDto;
+
+public interface DataExportService {
+
+    /**
+     * Validates export parameters before anything is streamed.
+     *
+     * @param since ISO date or date-time, inclusive; may be null
+     * @param until ISO date or date-time, exclusive; may be null
+     */
+    ExportRequestDto prepare(String dataset, String format, boolean gzip, String since, String until);
+
+    /**
+     * @return the number of rows written
+     */
+    long export(ExportRequestDto request, OutputStream output) throws IOException;
+}
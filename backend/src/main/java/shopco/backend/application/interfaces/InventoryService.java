@@ -0,0 +1,60 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.FlashSaleDto;
+import shopco.backend.application.dto.StockAvailabilityDto;
+import shopco.backend.application.dto.StockLine;
+import shopco.backend.application.dto.StockReservationDto;
+
+public interface InventoryService {
+
+    /**
+     * Takes the quantities off stock for a checkout, all lines or none. Lines for the same
+     * variant are added up.
+     *
+     * @throws IllegalStateException if a variant does not have enough stock
+     */
+    StockReservationDto reserve(List<StockLine> lines);
+
+    /**
+     * Marks a reservation's stock as sold once the order is placed.
+     */
+    StockReservationDto commit(String reservationId);
+
+    /**
+     * Puts a reservation's stock back when the checkout is abandoned.
+     */
+    StockReservationDto release(String reservationId);
+
+    /**
+     * Holds the cart's quantities for the checkout TTL, replacing the cart's previous hold.
+     * The hold is committed or released like any reservation; if neither happens in time the
+     * reaper releases it.
+     *
+     * @throws IllegalStateException if a variant does not have enough stock
+     */
+    StockReservationDto holdCart(String cartId);
+
+    /**
+     * Available-to-promise per variant: stock on hand minus holds, including expired holds
+     * until the reaper releases them.
+     */
+    List<StockAvailabilityDto> getAvailability(List<String> variantIds);
+
+    /**
+     * Puts the variant on flash sale: its stock is counted in memory and written back in
+     * batches until the sale ends.
+     */
+    FlashSaleDto startFlashSale(String variantId);
+
+    FlashSaleDto endFlashSale(String variantId);
+
+    FlashSaleDto getFlashSale(String variantId);
+
+    /**
+     * Sells flash-sale units; the purchase is durable when this returns.
+     *
+     * @throws IllegalStateException if the sale is sold out
+     */
+    FlashSaleDto purchaseFlashSale(String variantId, int quantity);
+}
@@ -0,0 +1,10 @@
+package shopco.backend.application.interfaces;
+
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.ProductListingQuery;
+import shopco.backend.application.dto.ProductSummaryDto;
+
+public interface ProductCatalogService {
+
+    CursorPage<ProductSummaryDto> listPublished(ProductListingQuery query);
+}
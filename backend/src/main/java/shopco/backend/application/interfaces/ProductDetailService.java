@@ -0,0 +1,27 @@
+package shopco.backend.application.interfaces;
+
+import java.util.Optional;
+import shopco.backend.application.dto.ProductDetailDto;
+import shopco.backend.application.dto.ProductDetailVersion;
+import shopco.backend.application.dto.RatingSummaryDto;
+
+public interface ProductDetailService {
+
+    ProductDetailDto getPublishedBySlug(String slug);
+
+    /**
+     * Validators for {@link #getPublishedBySlug(String)}, without loading the detail; empty when
+     * the slug does not name a published product.
+     */
+    Optional<ProductDetailVersion> getPublishedVersion(String slug);
+
+    /**
+     * Counts one product page view for the trending ranking.
+     */
+    void recordView(String productId);
+
+    /**
+     * Average, count and star histogram of the product's approved reviews, from memory.
+     */
+    RatingSummaryDto getRatingSummary(String productId);
+}
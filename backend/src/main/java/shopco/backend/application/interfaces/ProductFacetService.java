@@ -0,0 +1,9 @@
+package shopco.backend.application.interfaces;
+
+import shopco.backend.application.dto.FacetQuery;
+import shopco.backend.application.dto.FacetResultDto;
+
+public interface ProductFacetService {
+
+    FacetResultDto getFacets(FacetQuery query);
+}
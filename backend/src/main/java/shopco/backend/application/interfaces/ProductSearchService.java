@@ -0,0 +1,9 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.ProductSearchResultDto;
+
+public interface ProductSearchService {
+
+    List<ProductSearchResultDto> search(String keyword, int limit);
+}
@@ -0,0 +1,9 @@
+package shopco.backend.application.interfaces;
+
+import java.util.Map;
+import shopco.backend.application.dto.VariantSelectionDto;
+
+public interface ProductVariantService {
+
+    VariantSelectionDto select(String productId, Map<String, String> options);
+}
@@ -0,0 +1,13 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.RankedProductDto;
+
+public interface RankingService {
+
+    /**
+     * Published best sellers or trending products, highest score first, optionally limited to a
+     * category (including its subcategories) or a brand.
+     */
+    List<RankedProductDto> getTop(String type, String categoryId, String brandId, int limit);
+}
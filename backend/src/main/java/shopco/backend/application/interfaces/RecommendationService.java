@@ -0,0 +1,12 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.BoughtTogetherDto;
+
+public interface RecommendationService {
+
+    /**
+     * Published products most often ordered together with the given one, strongest first.
+     */
+    List<BoughtTogetherDto> getFrequentlyBoughtTogether(String productId, int limit);
+}
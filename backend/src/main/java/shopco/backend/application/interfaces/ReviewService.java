@@ -0,0 +1,25 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.ReviewModerationResultDto;
+
+public interface ReviewService {
+
+    /**
+     * A product's approved reviews, newest first. A null {@code cursor} requests the first page.
+     */
+    CursorPage<ReviewDto> getApproved(String productId, String cursor, int size);
+
+    /**
+     * Reviews waiting for moderation, oldest first. A null {@code cursor} requests the first page.
+     */
+    CursorPage<ReviewDto> getModerationQueue(String cursor, int size);
+
+    /**
+     * Approves or rejects the given pending reviews in one transaction. Reviews that are unknown
+     * or no longer pending are skipped.
+     */
+    ReviewModerationResultDto moderate(List<String> reviewIds, String status);
+}
@@ -0,0 +1,8 @@
+package shopco.backend.application.interfaces;
+
+import shopco.backend.application.dto.SlugResolutionDto;
+
+public interface SlugService {
+
+    SlugResolutionDto resolve(String type, String slug);
+}
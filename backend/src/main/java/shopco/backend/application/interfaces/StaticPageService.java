@@ -0,0 +1,15 @@
+package shopco.backend.application.interfaces;
+
+import java.util.Optional;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.dto.StaticPageDto;
+
+public interface StaticPageService {
+
+    StaticPageDto getActiveBySlug(String slug);
+
+    /**
+     * Validators for {@link #getActiveBySlug(String)}; empty when no active page has the slug.
+     */
+    Optional<ResourceVersion> getActiveVersion(String slug);
+}
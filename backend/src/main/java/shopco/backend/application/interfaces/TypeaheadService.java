@@ -0,0 +1,9 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.SuggestionDto;
+
+public interface TypeaheadService {
+
+    List<SuggestionDto> suggest(String query, int limit);
+}
@@ -0,0 +1,22 @@
+package shopco.backend.application.interfaces;
+
+import java.util.List;
+import shopco.backend.application.dto.WishlistMembershipDto;
+
+public interface WishlistService {
+
+    /**
+     * Adds the product to the user's wishlist; adding it again is a no-op.
+     */
+    void add(String userId, String productId);
+
+    /**
+     * Removes the product from the user's wishlist; removing a missing one is a no-op.
+     */
+    void remove(String userId, String productId);
+
+    /**
+     * Answers "is it wishlisted" for a whole page of product cards at once.
+     */
+    WishlistMembershipDto getMembership(String userId, List<String> productIds);
+}
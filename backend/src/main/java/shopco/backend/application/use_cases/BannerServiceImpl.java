@@ -0,0 +1,32 @@
+package shopco.backend.application.use_cases;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.BannerDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.dto.TableVersionRow;
+import shopco.backend.application.interfaces.BannerService;
+import shopco.backend.infrastructure.repository.BannerRepository;
+
+@Service
+public class BannerServiceImpl implements BannerService {
+
+    @Autowired
+    private BannerRepository bannerRepository;
+
+    @Override
+    public List<BannerDto> getActive(String position) {
+        String normalized = position == null || position.isBlank() ? null : position.trim();
+        return bannerRepository.findActive(normalized).stream()
+                .map(banner -> new BannerDto(banner.getId(), banner.getTitle(), banner.getImageUrl(),
+                        banner.getLinkUrl(), banner.getPosition(), banner.getSortOrder()))
+                .toList();
+    }
+
+    @Override
+    public ResourceVersion getVersion() {
+        TableVersionRow row = bannerRepository.findTableVersion();
+        return ResourceVersion.of(row.lastModified(), row.rowCount());
+    }
+}
@@ -0,0 +1,201 @@
+package shopco.backend.application.use_cases;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemDto;
+import shopco.backend.application.dto.CartItemRequest;
+import shopco.backend.application.dto.CartLinePriceDto;
+import shopco.backend.application.dto.CartPricingDto;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.application.interfaces.CartService;
+import shopco.backend.infrastructure.cart.CartStore;
+import shopco.backend.infrastructure.catalog.VariantLookup;
+import shopco.backend.infrastructure.pricing.CartPricer;
+import shopco.backend.infrastructure.pricing.CartTotals;
+import shopco.backend.infrastructure.pricing.CouponMatcher;
+import shopco.backend.infrastructure.pricing.CouponMatcherCache;
+import shopco.backend.infrastructure.pricing.MinorUnits;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+@Service
+public class CartServiceImpl implements CartService {
+
+    static final int MAX_QUANTITY = 99;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private VariantLookup variantLookup;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private CouponMatcherCache couponMatcherCache;
+
+    @Autowired
+    private CartPricer cartPricer;
+
+    @Override
+    public CartDto getCart(String userId, String sessionId) {
+        requireOwner(userId, sessionId);
+        return cartStore.get(userId, sessionId);
+    }
+
+    @Override
+    public CartDto addItem(String userId, String sessionId, CartItemRequest request) {
+        requireOwner(userId, sessionId);
+        if (request == null || request.variantId() == null || request.variantId().isBlank()) {
+            throw new IllegalArgumentException("Variant id must not be blank");
+        }
+        int quantity = request.quantity() == null ? 1 : request.quantity();
+        if (quantity < 1 || quantity > MAX_QUANTITY) {
+            throw new IllegalArgumentException("Quantity must be between 1 and " + MAX_QUANTITY);
+        }
+        VariantLookup.Quote quote = quote(request.variantId());
+        return cartStore.add(userId, sessionId, request.variantId(), quantity, quote.price(),
+                total -> checkQuantity(request.variantId(), total, quote));
+    }
+
+    @Override
+    public CartDto setQuantity(String userId, String sessionId, String variantId, int quantity) {
+        requireOwner(userId, sessionId);
+        if (quantity < 0 || quantity > MAX_QUANTITY) {
+            throw new IllegalArgumentException("Quantity must be between 0 and " + MAX_QUANTITY);
+        }
+        if (quantity > 0) {
+            checkQuantity(variantId, quantity, quote(variantId));
+        }
+        return requireLine(cartStore.set(userId, sessionId, variantId, quantity), variantId);
+    }
+
+    @Override
+    public CartDto removeItem(String userId, String sessionId, String variantId) {
+        requireOwner(userId, sessionId);
+        return requireLine(cartStore.set(userId, sessionId, variantId, 0), variantId);
+    }
+
+    @Override
+    public CartDto mergeGuestCart(String sessionId, String userId) {
+        if (sessionId == null || sessionId.isBlank() || userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("Both sessionId and userId must be given");
+        }
+        return cartStore.merge(sessionId, userId, this::revalidate);
+    }
+
+    @Override
+    public CartPricingDto priceCart(String userId, String sessionId, String couponCode) {
+        requireOwner(userId, sessionId);
+        CouponMatcher coupon = null;
+        if (couponCode != null && !couponCode.isBlank()) {
+            coupon = runningCoupon(couponCode);
+        }
+        CartDto cart = cartStore.get(userId, sessionId);
+        int size = cart.items().size();
+        String[] variantIds = new String[size];
+        long[] unitPrices = new long[size];
+        int[] quantities = new int[size];
+        boolean[] eligible = new boolean[size];
+        int lines = 0;
+        for (CartItemDto item : cart.items()) {
+            VariantLookup.Quote quote = variantLookup.quote(item.variantId());
+            // A variant deleted since it was added is no longer for sale
+            if (quote == null) {
+                continue;
+            }
+            variantIds[lines] = item.variantId();
+            unitPrices[lines] = MinorUnits.of(quote.price());
+            quantities[lines] = item.quantity();
+            eligible[lines] = coupon != null && coupon.appliesTo(quote.productId());
+            lines++;
+        }
+        long[] lineTotals = new long[lines];
+        CartTotals totals = cartPricer.price(unitPrices, quantities, lines, eligible,
+                coupon == null ? null : coupon.terms(), lineTotals);
+
+        List<CartLinePriceDto> priced = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            priced.add(new CartLinePriceDto(variantIds[i], quantities[i], MinorUnits.toDecimal(unitPrices[i]),
+                    MinorUnits.toDecimal(lineTotals[i])));
+        }
+        return new CartPricingDto(cart.id(), priced, coupon == null ? null : couponCode,
+                MinorUnits.toDecimal(totals.totalAmount()), MinorUnits.toDecimal(totals.discountAmount()),
+                MinorUnits.toDecimal(totals.shippingFee()), MinorUnits.toDecimal(totals.finalAmount()));
+    }
+
+    private CouponMatcher runningCoupon(String code) {
+        CouponMatcher coupon = couponMatcherCache.get(code);
+        if (coupon == null) {
+            throw new IllegalArgumentException("Coupon not found: " + code);
+        }
+        if (!coupon.isRunning(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Coupon is not running: " + code);
+        }
+        return coupon;
+    }
+
+    /**
+     * Reprices and re-checks the stock of all merged lines with one query.
+     */
+    private List<CartItemDto> revalidate(List<CartItemDto> lines) {
+        Map<String, ProductVariantRow> variants = new HashMap<>();
+        productVariantRepository.findRowsByIdIn(lines.stream().map(CartItemDto::variantId).toList())
+                .forEach(variant -> variants.put(variant.id(), variant));
+        List<CartItemDto> valid = new ArrayList<>(lines.size());
+        for (CartItemDto line : lines) {
+            ProductVariantRow variant = variants.get(line.variantId());
+            if (variant == null) {
+                continue;
+            }
+            int stock = variant.stockQuantity() == null ? 0 : variant.stockQuantity();
+            int quantity = Math.min(line.quantity(), Math.min(stock, MAX_QUANTITY));
+            if (quantity <= 0) {
+                continue;
+            }
+            BigDecimal price = variant.salePrice() != null ? variant.salePrice() : variant.price();
+            valid.add(new CartItemDto(line.id(), line.variantId(), quantity, price, line.createdAt()));
+        }
+        return valid;
+    }
+
+    private VariantLookup.Quote quote(String variantId) {
+        VariantLookup.Quote quote = variantLookup.quote(variantId);
+        if (quote == null) {
+            throw new IllegalArgumentException("Product variant not found: " + variantId);
+        }
+        return quote;
+    }
+
+    private static void checkQuantity(String variantId, int quantity, VariantLookup.Quote quote) {
+        if (quantity > MAX_QUANTITY) {
+            throw new IllegalArgumentException("At most " + MAX_QUANTITY + " units of a variant fit in a cart");
+        }
+        // Only a sanity check against the cached stock; checkout holds are what guarantee it
+        if (quantity > quote.stock()) {
+            throw new IllegalStateException("Not enough stock for variant " + variantId);
+        }
+    }
+
+    private static CartDto requireLine(CartDto cart, String variantId) {
+        if (cart == null) {
+            throw new IllegalArgumentException("Variant is not in the cart: " + variantId);
+        }
+        return cart;
+    }
+
+    private static void requireOwner(String userId, String sessionId) {
+        boolean user = userId != null && !userId.isBlank();
+        boolean session = sessionId != null && !sessionId.isBlank();
+        if (user == session) {
+            throw new IllegalArgumentException("Exactly one of userId and sessionId must be given");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package shopco.backend.application.use_cases;
+
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.CatalogImportReportDto;
+import shopco.backend.application.interfaces.CatalogImportService;
+import shopco.backend.domain.enums.CatalogImportFormat;
+import shopco.backend.infrastructure.importing.CatalogImporter;
+
+@Service
+public class CatalogImportServiceImpl implements CatalogImportService {
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @Override
+    public CatalogImportReportDto importCatalog(InputStream input, String filename, String format) {
+        CatalogImportFormat importFormat = format == null || format.isBlank()
+                ? CatalogImportFormat.fromFilename(filename)
+                : CatalogImportFormat.fromParam(format);
+        return catalogImporter.importFeed(importFormat, input);
+    }
+}
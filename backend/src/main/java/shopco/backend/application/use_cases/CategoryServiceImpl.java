@@ -0,0 +1,56 @@
+package shopco.backend.application.use_cases;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.CategoryNodeDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.interfaces.CategoryService;
+import shopco.backend.infrastructure.catalog.CategoryTree;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+
+@Service
+public class CategoryServiceImpl implements CategoryService {
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Override
+    public List<CategoryNodeDto> getBreadcrumb(String categoryId) {
+        List<CategoryTree.Node> trail = categoryTreeCache.current().breadcrumb(categoryId);
+        if (trail.isEmpty()) {
+            throw new IllegalArgumentException("Category not found: " + categoryId);
+        }
+        return trail.stream().map(CategoryServiceImpl::toDto).toList();
+    }
+
+    @Override
+    public List<CategoryNodeDto> getChildren(String categoryId) {
+        CategoryTree tree = categoryTreeCache.current();
+        List<String> childIds;
+        if (categoryId == null) {
+            childIds = tree.rootIds();
+        } else {
+            CategoryTree.Node node = tree.node(categoryId);
+            if (node == null) {
+                throw new IllegalArgumentException("Category not found: " + categoryId);
+            }
+            childIds = node.childIds();
+        }
+        return childIds.stream()
+                .map(tree::node)
+                .filter(CategoryTree.Node::active)
+                .map(CategoryServiceImpl::toDto)
+                .toList();
+    }
+
+    @Override
+    public ResourceVersion getVersion() {
+        CategoryTree tree = categoryTreeCache.current();
+        return ResourceVersion.of(tree.lastModified(), tree.size());
+    }
+
+    private static CategoryNodeDto toDto(CategoryTree.Node node) {
+        return new CategoryNodeDto(node.id(), node.name(), node.slug(), node.depth());
+    }
+}
@@ -0,0 +1,60 @@
+package shopco.backend.application.use_cases;
+
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.CouponRedemptionDto;
+import shopco.backend.application.interfaces.CouponService;
+import shopco.backend.domain.enums.OrderStatus;
+import shopco.backend.infrastructure.model.Order;
+import shopco.backend.infrastructure.pricing.CouponMatcher;
+import shopco.backend.infrastructure.pricing.CouponMatcherCache;
+import shopco.backend.infrastructure.pricing.CouponRedemptionWriter;
+import shopco.backend.infrastructure.repository.OrderRepository;
+
+@Service
+public class CouponServiceImpl implements CouponService {
+
+    @Autowired
+    private CouponMatcherCache couponMatcherCache;
+
+    @Autowired
+    private CouponRedemptionWriter couponRedemptionWriter;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Override
+    public CouponRedemptionDto redeem(String code, String userId, String orderId) {
+        require(code, "code");
+        require(userId, "userId");
+        require(orderId, "orderId");
+        // The compiled coupon, so a rush on one code does not reload it for every attempt
+        CouponMatcher coupon = couponMatcherCache.get(code);
+        if (coupon == null) {
+            throw new IllegalArgumentException("Coupon not found: " + code);
+        }
+        if (!coupon.isRunning(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Coupon is not running: " + code);
+        }
+        return couponRedemptionWriter.redeem(coupon, userId, orderId);
+    }
+
+    @Override
+    public CouponRedemptionDto releaseForOrder(String orderId) {
+        require(orderId, "orderId");
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        // A live order keeps its discount, so giving its slot back would let the coupon be overused
+        if (order.getOrderStatus() != OrderStatus.CANCELLED) {
+            throw new IllegalStateException("Order " + orderId + " is not cancelled");
+        }
+        return couponRedemptionWriter.release(orderId);
+    }
+
+    private static void require(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+    }
+}
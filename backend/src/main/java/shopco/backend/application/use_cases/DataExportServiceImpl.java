@@ -0,0 +1,43 @@
+package shopco.backend.application.use_cases;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.ExportRequestDto;
+import shopco.backend.application.interfaces.DataExportService;
+import shopco.backend.domain.enums.ExportDataset;
+import shopco.backend.domain.enums.ExportFormat;
+import shopco.backend.infrastructure.exporting.DataExporter;
+
+@Service
+public class DataExportServiceImpl implements DataExportService {
+
+    @Autowired
+    private DataExporter dataExporter;
+
+    @Override
+    public ExportRequestDto prepare(String dataset, String format, boolean gzip, String since, String until) {
+        return new ExportRequestDto(ExportDataset.fromParam(dataset), ExportFormat.fromParam(format), gzip,
+                parseTime("since", since), parseTime("until", until));
+    }
+
+    @Override
+    public long export(ExportRequestDto request, OutputStream output) throws IOException {
+        return dataExporter.export(request, output);
+    }
+
+    private static LocalDateTime parseTime(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return value.contains("T") ? LocalDateTime.parse(value.trim()) : LocalDate.parse(value.trim()).atStartOfDay();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid '" + name + "' date: " + value);
+        }
+    }
+}
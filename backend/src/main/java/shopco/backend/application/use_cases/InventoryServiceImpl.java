@@ -0,0 +1,166 @@
+package shopco.backend.application.use_cases;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemDto;
+import shopco.backend.application.dto.FlashSaleDto;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.application.dto.StockAvailabilityDto;
+import shopco.backend.application.dto.StockHeldRow;
+import shopco.backend.application.dto.StockLine;
+import shopco.backend.application.dto.StockReservationDto;
+import shopco.backend.application.interfaces.InventoryService;
+import shopco.backend.domain.enums.StockReservationStatus;
+import shopco.backend.infrastructure.cart.CartStore;
+import shopco.backend.infrastructure.inventory.FlashSaleStock;
+import shopco.backend.infrastructure.inventory.StockReservationWriter;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+import shopco.backend.infrastructure.repository.StockReservationRepository;
+
+@Service
+public class InventoryServiceImpl implements InventoryService {
+
+    static final int MAX_LINES = 100;
+    static final int MAX_FLASH_SALE_QUANTITY = 10;
+
+    @Autowired
+    private StockReservationWriter stockReservationWriter;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private FlashSaleStock flashSaleStock;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Value("${shopco.inventory.holds.ttl-minutes:15}")
+    private long holdTtlMinutes;
+
+    @Override
+    public StockReservationDto reserve(List<StockLine> lines) {
+        return stockReservationWriter.reserve(merge(lines));
+    }
+
+    @Override
+    public StockReservationDto commit(String reservationId) {
+        return stockReservationWriter.commit(reservationId);
+    }
+
+    @Override
+    public StockReservationDto release(String reservationId) {
+        return stockReservationWriter.release(reservationId);
+    }
+
+    @Override
+    @Transactional
+    public StockReservationDto holdCart(String cartId) {
+        // The store, not the cart tables: they lag behind by up to one write-behind flush
+        CartDto cart = cartStore.find(cartId)
+                .orElseThrow(() -> new IllegalArgumentException("Cart not found: " + cartId));
+        List<StockLine> lines = new ArrayList<>();
+        for (CartItemDto item : cart.items()) {
+            lines.add(new StockLine(item.variantId(), item.quantity()));
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("Cart is empty: " + cartId);
+        }
+        List<StockLine> merged = merge(lines);
+        // Re-entering checkout swaps the old hold for one matching the current cart; both happen
+        // in this transaction, so the cart never holds its stock twice
+        for (String previous : stockReservationRepository.findIdsByCartIdAndStatus(
+                cartId, StockReservationStatus.RESERVED)) {
+            stockReservationWriter.release(previous);
+        }
+        return stockReservationWriter.reserve(merged, cartId, LocalDateTime.now().plusMinutes(holdTtlMinutes));
+    }
+
+    @Override
+    public List<StockAvailabilityDto> getAvailability(List<String> variantIds) {
+        if (variantIds == null || variantIds.isEmpty()) {
+            return List.of();
+        }
+        if (variantIds.size() > MAX_LINES) {
+            throw new IllegalArgumentException("At most " + MAX_LINES + " variants can be checked at once");
+        }
+        Map<String, StockHeldRow> held = new HashMap<>();
+        stockReservationRepository.sumHeldByVariantIdIn(
+                variantIds, StockReservationStatus.RESERVED, LocalDateTime.now())
+                .forEach(row -> held.put(row.variantId(), row));
+
+        List<StockAvailabilityDto> availability = new ArrayList<>();
+        for (ProductVariantRow variant : productVariantRepository.findRowsByIdIn(variantIds)) {
+            StockHeldRow row = held.get(variant.id());
+            int active = row == null || row.held() == null ? 0 : row.held().intValue();
+            int lapsed = row == null || row.lapsed() == null ? 0 : row.lapsed().intValue();
+            // Reserved units are already off stock_quantity. Expired holds stay held until the
+            // reaper puts them back, since reserve() cannot take their units before then
+            int onHand = variant.stockQuantity() + active + lapsed;
+            int unreleased = active + lapsed;
+            availability.add(new StockAvailabilityDto(variant.id(), onHand, unreleased, onHand - unreleased));
+        }
+        return availability;
+    }
+
+    @Override
+    public FlashSaleDto startFlashSale(String variantId) {
+        return new FlashSaleDto(variantId, true, flashSaleStock.start(variantId));
+    }
+
+    @Override
+    public FlashSaleDto endFlashSale(String variantId) {
+        return new FlashSaleDto(variantId, false, flashSaleStock.end(variantId));
+    }
+
+    @Override
+    public FlashSaleDto getFlashSale(String variantId) {
+        int remaining = flashSaleStock.remaining(variantId);
+        if (remaining < 0) {
+            throw new IllegalArgumentException("Variant is not on flash sale: " + variantId);
+        }
+        return new FlashSaleDto(variantId, true, remaining);
+    }
+
+    @Override
+    public FlashSaleDto purchaseFlashSale(String variantId, int quantity) {
+        if (quantity < 1 || quantity > MAX_FLASH_SALE_QUANTITY) {
+            throw new IllegalArgumentException("Quantity must be between 1 and " + MAX_FLASH_SALE_QUANTITY);
+        }
+        return new FlashSaleDto(variantId, true, flashSaleStock.purchase(variantId, quantity));
+    }
+
+    private static List<StockLine> merge(List<StockLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Reservation lines must not be empty");
+        }
+        Map<String, Integer> quantities = new TreeMap<>();
+        for (StockLine line : lines) {
+            if (line == null || line.variantId() == null || line.variantId().isBlank()) {
+                throw new IllegalArgumentException("Variant id must not be blank");
+            }
+            if (line.quantity() == null || line.quantity() <= 0) {
+                throw new IllegalArgumentException("Quantity must be positive for variant " + line.variantId());
+            }
+            quantities.merge(line.variantId(), line.quantity(), Math::addExact);
+        }
+        if (quantities.size() > MAX_LINES) {
+            throw new IllegalArgumentException("At most " + MAX_LINES + " variants can be reserved at once");
+        }
+        List<StockLine> merged = new ArrayList<>(quantities.size());
+        quantities.forEach((variantId, quantity) -> merged.add(new StockLine(variantId, quantity)));
+        return merged;
+    }
+}
@@ -0,0 +1,175 @@
+package shopco.backend.application.use_cases;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.ProductCursor;
+import shopco.backend.application.dto.ProductListingQuery;
+import shopco.backend.application.dto.ProductSort;
+import shopco.backend.application.dto.ProductSummaryDto;
+import shopco.backend.application.interfaces.ProductCatalogService;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductSummary;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+@Service
+public class ProductCatalogServiceImpl implements ProductCatalogService {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ProductSummaryDto> listPublished(ProductListingQuery query) {
+        ProductCursor cursor = query.cursor() == null ? null : ProductCursor.decode(query.cursor());
+        if (cursor != null && cursor.sort() != query.sort()) {
+            throw new IllegalArgumentException("Cursor does not match sort order " + query.sort());
+        }
+
+        // A category filter covers the whole subtree; an empty set is never bound as IN ()
+        boolean anyCategory = query.categoryId() == null;
+        Set<String> categoryIds = anyCategory
+                ? Set.of("")
+                : categoryTreeCache.current().subtreeIds(query.categoryId());
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Limit limit = Limit.of(query.size() + 1);
+        if (query.sort().usesSummary()) {
+            return listFromSummaries(query, anyCategory, categoryIds, cursor, limit);
+        }
+        List<Product> rows = query.sort() == ProductSort.NAME
+                ? findByName(query, anyCategory, categoryIds, cursor, limit)
+                : findByNewest(query, anyCategory, categoryIds, cursor, limit);
+
+        boolean hasNext = rows.size() > query.size();
+        List<Product> page = hasNext ? rows.subList(0, query.size()) : rows;
+        String nextCursor = hasNext ? cursorAfter(page.get(page.size() - 1), query.sort()).encode() : null;
+
+        // Card aggregates come from the summary projection in one primary-key lookup
+        Map<String, ProductSummary> summaries = productSummaryRepository
+                .findAllById(page.stream().map(Product::getId).toList()).stream()
+                .collect(Collectors.toMap(ProductSummary::getProductId, Function.identity()));
+        return new CursorPage<>(page.stream()
+                .map(product -> toSummary(product, summaries.get(product.getId())))
+                .toList(), nextCursor, hasNext);
+    }
+
+    private CursorPage<ProductSummaryDto> listFromSummaries(ProductListingQuery query, boolean anyCategory,
+                                                           Set<String> categoryIds, ProductCursor cursor,
+                                                           Limit limit) {
+        ProductStatus status = ProductStatus.PUBLISHED;
+        String brandId = query.brandId();
+        List<ProductSummary> rows = switch (query.sort()) {
+            case PRICE_ASC -> cursor == null
+                    ? productSummaryRepository.findFirstPageByPriceAsc(status, anyCategory, categoryIds, brandId, limit)
+                    : productSummaryRepository.findNextPageByPriceAsc(status, anyCategory, categoryIds, brandId,
+                            cursor.decimalKey(), cursor.id(), limit);
+            case PRICE_DESC -> cursor == null
+                    ? productSummaryRepository.findFirstPageByPriceDesc(status, anyCategory, categoryIds, brandId, limit)
+                    : productSummaryRepository.findNextPageByPriceDesc(status, anyCategory, categoryIds, brandId,
+                            cursor.decimalKey(), cursor.id(), limit);
+            case RATING -> cursor == null
+                    ? productSummaryRepository.findFirstPageByRating(status, anyCategory, categoryIds, brandId, limit)
+                    : productSummaryRepository.findNextPageByRating(status, anyCategory, categoryIds, brandId,
+                            cursor.decimalKey(), cursor.id(), limit);
+            case BESTSELLING -> cursor == null
+                    ? productSummaryRepository.findFirstPageByUnitsSold(status, anyCategory, categoryIds, brandId, limit)
+                    : productSummaryRepository.findNextPageByUnitsSold(status, anyCategory, categoryIds, brandId,
+                            cursor.longKey(), cursor.id(), limit);
+            default -> throw new IllegalArgumentException("Unsupported sort: " + query.sort());
+        };
+
+        boolean hasNext = rows.size() > query.size();
+        List<ProductSummary> page = hasNext ? rows.subList(0, query.size()) : rows;
+        String nextCursor = hasNext ? summaryCursorAfter(page.get(page.size() - 1), query.sort()).encode() : null;
+        return new CursorPage<>(page.stream().map(this::toSummary).toList(), nextCursor, hasNext);
+    }
+
+    private List<Product> findByNewest(ProductListingQuery query, boolean anyCategory, Set<String> categoryIds,
+                                       ProductCursor cursor, Limit limit) {
+        if (cursor == null) {
+            return productRepository.findFirstPageByNewest(
+                    ProductStatus.PUBLISHED, anyCategory, categoryIds, query.brandId(), limit);
+        }
+        return productRepository.findNextPageByNewest(
+                ProductStatus.PUBLISHED, anyCategory, categoryIds, query.brandId(),
+                cursor.createdAt(), cursor.id(), limit);
+    }
+
+    private List<Product> findByName(ProductListingQuery query, boolean anyCategory, Set<String> categoryIds,
+                                     ProductCursor cursor, Limit limit) {
+        if (cursor == null) {
+            return productRepository.findFirstPageByName(
+                    ProductStatus.PUBLISHED, anyCategory, categoryIds, query.brandId(), limit);
+        }
+        return productRepository.findNextPageByName(
+                ProductStatus.PUBLISHED, anyCategory, categoryIds, query.brandId(),
+                cursor.key(), cursor.id(), limit);
+    }
+
+    private ProductCursor cursorAfter(Product last, ProductSort sort) {
+        return sort == ProductSort.NAME
+                ? ProductCursor.name(last.getName(), last.getId())
+                : ProductCursor.newest(last.getCreatedAt(), last.getId());
+    }
+
+    private static ProductCursor summaryCursorAfter(ProductSummary last, ProductSort sort) {
+        return switch (sort) {
+            case RATING -> ProductCursor.rating(last.getRatingAverage(), last.getProductId());
+            case BESTSELLING -> ProductCursor.bestselling(last.getUnitsSold(), last.getProductId());
+            default -> ProductCursor.price(sort, last.getMinPrice(), last.getProductId());
+        };
+    }
+
+    private ProductSummaryDto toSummary(Product product, ProductSummary summary) {
+        // Products written since the last projection run simply show no aggregates yet
+        return new ProductSummaryDto(
+                product.getId(),
+                product.getName(),
+                product.getSlug(),
+                product.getDefaultImage(),
+                product.getBrandId(),
+                product.getCategoryId(),
+                product.getCreatedAt(),
+                summary == null ? null : summary.getMinPrice(),
+                summary == null ? null : summary.getMaxPrice(),
+                summary != null && Boolean.TRUE.equals(summary.getInStock()),
+                summary == null ? BigDecimal.ZERO : summary.getRatingAverage(),
+                summary == null ? 0 : summary.getRatingCount(),
+                summary == null ? 0 : summary.getUnitsSold());
+    }
+
+    private ProductSummaryDto toSummary(ProductSummary summary) {
+        return new ProductSummaryDto(
+                summary.getProductId(),
+                summary.getName(),
+                summary.getSlug(),
+                summary.getDefaultImage(),
+                summary.getBrandId(),
+                summary.getCategoryId(),
+                summary.getProductCreatedAt(),
+                summary.getMinPrice(),
+                summary.getMaxPrice(),
+                Boolean.TRUE.equals(summary.getInStock()),
+                summary.getRatingAverage(),
+                summary.getRatingCount(),
+                summary.getUnitsSold());
+    }
+}
@@ -0,0 +1,137 @@
+package shopco.backend.application.use_cases;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CategoryNodeDto;
+import shopco.backend.application.dto.ProductDetailDto;
+import shopco.backend.application.dto.ProductDetailVersion;
+import shopco.backend.application.dto.ProductVersionRow;
+import shopco.backend.application.dto.RatingSummaryDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.interfaces.ProductDetailService;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.catalog.CategoryTree;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.catalog.RatingHistogram;
+import shopco.backend.infrastructure.catalog.RatingSummaryStore;
+import shopco.backend.infrastructure.model.Brand;
+import shopco.backend.infrastructure.model.Category;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.ranking.ProductRankingTracker;
+import shopco.backend.infrastructure.repository.ProductRepository;
+
+@Service
+public class ProductDetailServiceImpl implements ProductDetailService {
+
+    static final int REVIEW_LIMIT = 10;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private ProductRankingTracker productRankingTracker;
+
+    @Autowired
+    private RatingSummaryStore ratingSummaryStore;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductDetailDto getPublishedBySlug(String slug) {
+        ProductRepository.ProductDetail detail = productRepository.loadDetailBySlug(slug, REVIEW_LIMIT)
+                .filter(loaded -> loaded.product().getStatus() == ProductStatus.PUBLISHED)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + slug));
+        return toDto(detail);
+    }
+
+    @Override
+    public Optional<ProductDetailVersion> getPublishedVersion(String slug) {
+        CategoryTree tree = categoryTreeCache.current();
+        return productRepository.findDetailVersionBySlug(slug, ReviewStatus.APPROVED)
+                .filter(row -> row.status() == ProductStatus.PUBLISHED)
+                .map(row -> new ProductDetailVersion(row.id(), toVersion(row, tree)));
+    }
+
+    @Override
+    public void recordView(String productId) {
+        productRankingTracker.recordView(productId);
+    }
+
+    @Override
+    public RatingSummaryDto getRatingSummary(String productId) {
+        return toRatingSummary(ratingSummaryStore.get(productId));
+    }
+
+    private ResourceVersion toVersion(ProductVersionRow row, CategoryTree tree) {
+        // The breadcrumb comes from the in-memory tree, so ancestor renames count as well, and
+        // the rating summary from the in-memory histogram, whose counts determine it entirely
+        return ResourceVersion.of(
+                ResourceVersion.newest(row.updatedAt(), row.brandUpdatedAt(), row.categoryUpdatedAt(),
+                        row.variantsUpdatedAt(), row.imagesUpdatedAt(), row.tagsUpdatedAt(),
+                        row.approvedReviewsUpdatedAt(), tree.lastModified()),
+                row.id(), row.updatedAt(), row.brandUpdatedAt(), row.categoryUpdatedAt(),
+                row.variantCount(), row.variantsUpdatedAt(), row.imageCount(), row.imagesUpdatedAt(),
+                row.tagCount(), row.tagsUpdatedAt(), row.approvedReviewCount(), row.approvedReviewsUpdatedAt(),
+                tree.lastModified(), tree.size(), ratingSummaryStore.get(row.id()));
+    }
+
+    private ProductDetailDto toDto(ProductRepository.ProductDetail detail) {
+        Product product = detail.product();
+        Brand brand = product.getBrand();
+        Category category = product.getCategory();
+        List<CategoryNodeDto> breadcrumb = product.getCategoryId() == null
+                ? List.of()
+                : categoryTreeCache.current().breadcrumb(product.getCategoryId()).stream()
+                        .map(node -> new CategoryNodeDto(node.id(), node.name(), node.slug(), node.depth()))
+                        .toList();
+
+        return new ProductDetailDto(
+                product.getId(),
+                product.getName(),
+                product.getSlug(),
+                product.getDescription(),
+                product.getDefaultImage(),
+                product.getSeoMetaTitle(),
+                product.getSeoMetaDesc(),
+                brand == null ? null
+                        : new ProductDetailDto.BrandRef(brand.getId(), brand.getName(), brand.getSlug(), brand.getLogoUrl()),
+                category == null ? null
+                        : new ProductDetailDto.CategoryRef(category.getId(), category.getName(), category.getSlug()),
+                breadcrumb,
+                product.getVariants().stream()
+                        .map(variant -> new ProductDetailDto.Variant(variant.getId(), variant.getSku(),
+                                variant.getAttributes(), variant.getPrice(), variant.getSalePrice(),
+                                variant.getStockQuantity()))
+                        .toList(),
+                product.getImages().stream()
+                        .sorted(Comparator.comparing(image -> image.getSortOrder() == null ? 0 : image.getSortOrder()))
+                        .map(image -> new ProductDetailDto.Image(image.getId(), image.getVariantId(), image.getUrl(),
+                                image.getAltText(), image.getSortOrder()))
+                        .toList(),
+                product.getTags().stream().map(productTag -> productTag.getTag().getName()).toList(),
+                toRatingSummary(ratingSummaryStore.get(product.getId())),
+                detail.approvedReviews().stream()
+                        .map(review -> new ProductDetailDto.ReviewItem(review.getId(), review.getUserId(),
+                                review.getRating(), review.getTitle(), review.getBody(), review.getCreatedAt()))
+                        .toList());
+    }
+
+    private static RatingSummaryDto toRatingSummary(RatingHistogram histogram) {
+        List<Long> counts = new ArrayList<>(RatingHistogram.MAX_RATING);
+        for (int rating = RatingHistogram.MIN_RATING; rating <= RatingHistogram.MAX_RATING; rating++) {
+            counts.add(histogram.count(rating));
+        }
+        return new RatingSummaryDto(BigDecimal.valueOf(histogram.average()).setScale(2, RoundingMode.HALF_UP),
+                histogram.count(), counts);
+    }
+}
@@ -0,0 +1,101 @@
+package shopco.backend.application.use_cases;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.FacetDto;
+import shopco.backend.application.dto.FacetQuery;
+import shopco.backend.application.dto.FacetResultDto;
+import shopco.backend.application.dto.FacetValueDto;
+import shopco.backend.application.interfaces.ProductFacetService;
+import shopco.backend.infrastructure.catalog.CategoryTree;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.catalog.ProductFacetIndex;
+
+@Service
+public class ProductFacetServiceImpl implements ProductFacetService {
+
+    @Autowired
+    private ProductFacetIndex productFacetIndex;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Override
+    public FacetResultDto getFacets(FacetQuery query) {
+        CategoryTree tree = categoryTreeCache.current();
+        // Selecting a category selects its whole subtree
+        FacetQuery expanded = query.categoryIds().isEmpty()
+                ? query
+                : new FacetQuery(query.status(), query.brandIds(), tree.subtreeIds(query.categoryIds()),
+                        query.priceBuckets(), query.attributes());
+
+        ProductFacetIndex.FacetCounts counts = productFacetIndex.count(expanded);
+        List<FacetDto> facets = new ArrayList<>();
+        counts.counts().forEach((facet, values) -> {
+            Map<String, Integer> facetCounts = ProductFacetIndex.CATEGORY.equals(facet)
+                    ? rollUpCategories(tree, values)
+                    : values;
+            facets.add(new FacetDto(facet, toValues(facet, facetCounts, selectedValues(query, facet))));
+        });
+        facets.sort(Comparator.comparing(FacetDto::name));
+        return new FacetResultDto(counts.totalProducts(), facets);
+    }
+
+    /**
+     * Products carry a single category, so a parent's count is the sum of its subtree's direct counts.
+     */
+    private static Map<String, Integer> rollUpCategories(CategoryTree tree, Map<String, Integer> direct) {
+        Map<String, Integer> rolledUp = new LinkedHashMap<>();
+        direct.forEach((categoryId, count) -> {
+            rolledUp.merge(categoryId, count, Integer::sum);
+            CategoryTree.Node node = tree.node(categoryId);
+            if (node != null) {
+                node.ancestorIds().forEach(ancestorId -> rolledUp.merge(ancestorId, count, Integer::sum));
+            }
+        });
+        return rolledUp;
+    }
+
+    private List<FacetValueDto> toValues(String facet, Map<String, Integer> counts, Set<String> selected) {
+        Map<String, Integer> merged = new LinkedHashMap<>(counts);
+        // Keep selected values visible even when the other filters leave them with no products
+        selected.forEach(value -> merged.putIfAbsent(value, 0));
+
+        Comparator<FacetValueDto> order = ProductFacetIndex.PRICE.equals(facet)
+                ? Comparator.comparingInt(value -> bucketPosition(value.value()))
+                : Comparator.comparingInt(FacetValueDto::count).reversed().thenComparing(FacetValueDto::value);
+        return merged.entrySet().stream()
+                .map(entry -> new FacetValueDto(entry.getKey(), entry.getValue(), selected.contains(entry.getKey())))
+                .sorted(order)
+                .toList();
+    }
+
+    private int bucketPosition(String bucket) {
+        int position = productFacetIndex.priceBucketLabels().indexOf(bucket);
+        return position < 0 ? Integer.MAX_VALUE : position;
+    }
+
+    private static Set<String> selectedValues(FacetQuery query, String facet) {
+        return switch (facet) {
+            case ProductFacetIndex.BRAND -> query.brandIds();
+            case ProductFacetIndex.CATEGORY -> query.categoryIds();
+            case ProductFacetIndex.PRICE -> query.priceBuckets();
+            default -> {
+                String attribute = facet.substring(ProductFacetIndex.ATTRIBUTE_PREFIX.length());
+                yield query.attributes().entrySet().stream()
+                        .filter(entry -> entry.getKey().trim().toLowerCase(Locale.ROOT).equals(attribute))
+                        .flatMap(entry -> entry.getValue().stream())
+                        .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toSet());
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package shopco.backend.application.use_cases;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.ProductSearchResultDto;
+import shopco.backend.application.interfaces.ProductSearchService;
+import shopco.backend.infrastructure.search.ProductSearchIndex;
+
+@Service
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Override
+    public List<ProductSearchResultDto> search(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("Keyword must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return productSearchIndex.search(keyword, limit).hits().stream()
+                .map(hit -> new ProductSearchResultDto(hit.productId(), hit.name(), hit.slug(), hit.score()))
+                .toList();
+    }
+}
@@ -0,0 +1,48 @@
+package shopco.backend.application.use_cases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.VariantSelectionDto;
+import shopco.backend.application.interfaces.ProductVariantService;
+import shopco.backend.infrastructure.catalog.VariantMatrix;
+import shopco.backend.infrastructure.catalog.VariantMatrixCache;
+
+@Service
+public class ProductVariantServiceImpl implements ProductVariantService {
+
+    @Autowired
+    private VariantMatrixCache variantMatrixCache;
+
+    @Override
+    public VariantSelectionDto select(String productId, Map<String, String> options) {
+        if (productId == null || productId.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+        VariantMatrix matrix = variantMatrixCache.get(productId);
+        if (matrix.variantCount() == 0) {
+            throw new IllegalArgumentException("Product has no variants: " + productId);
+        }
+
+        int[] selection = matrix.encode(options == null ? Map.of() : options);
+        int variant = matrix.find(selection);
+
+        List<VariantSelectionDto.Option> optionDtos = new ArrayList<>(matrix.dimensionCount());
+        for (int d = 0; d < matrix.dimensionCount(); d++) {
+            List<VariantSelectionDto.OptionValue> values = new ArrayList<>(matrix.valueCount(d));
+            for (int code = 0; code < matrix.valueCount(d); code++) {
+                values.add(new VariantSelectionDto.OptionValue(matrix.value(d, code),
+                        selection[d] == code, matrix.isAvailable(selection, d, code)));
+            }
+            optionDtos.add(new VariantSelectionDto.Option(matrix.dimension(d), values));
+        }
+
+        if (variant < 0) {
+            return new VariantSelectionDto(productId, null, null, null, null, optionDtos);
+        }
+        return new VariantSelectionDto(productId, matrix.variantId(variant), matrix.price(variant),
+                matrix.salePrice(variant), matrix.stock(variant), optionDtos);
+    }
+}
@@ -0,0 +1,106 @@
+package shopco.backend.application.use_cases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.ProductSummaryDto;
+import shopco.backend.application.dto.RankedProductDto;
+import shopco.backend.application.interfaces.RankingService;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.RankingType;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.model.ProductSummary;
+import shopco.backend.infrastructure.ranking.DecayedRanking;
+import shopco.backend.infrastructure.ranking.ProductRankingTracker;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+@Service
+public class RankingServiceImpl implements RankingService {
+
+    static final int MAX_LIMIT = 20;
+
+    @Autowired
+    private ProductRankingTracker productRankingTracker;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Override
+    public List<RankedProductDto> getTop(String type, String categoryId, String brandId, int limit) {
+        RankingType rankingType = RankingType.fromParam(type);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (hasText(categoryId) && hasText(brandId)) {
+            throw new IllegalArgumentException("Rank by either categoryId or brandId, not both");
+        }
+
+        String scope;
+        Predicate<ProductSummary> inScope;
+        if (hasText(categoryId)) {
+            scope = ProductRankingTracker.categoryScope(categoryId);
+            Set<String> subtree = categoryTreeCache.current().subtreeIds(categoryId);
+            inScope = summary -> subtree.contains(summary.getCategoryId());
+        } else if (hasText(brandId)) {
+            scope = ProductRankingTracker.brandScope(brandId);
+            inScope = summary -> brandId.equals(summary.getBrandId());
+        } else {
+            scope = ProductRankingTracker.ALL;
+            inScope = summary -> true;
+        }
+
+        // Over-fetch so that unpublished products and ones moved out of the scope since they were
+        // counted can be dropped without a second pass
+        List<DecayedRanking.Ranked> ranked = productRankingTracker.top(rankingType, scope, limit * 2);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ProductSummary> summaries = productSummaryRepository
+                .findAllById(ranked.stream().map(DecayedRanking.Ranked::productId).toList()).stream()
+                .filter(summary -> summary.getStatus() == ProductStatus.PUBLISHED)
+                .filter(inScope)
+                .collect(Collectors.toMap(ProductSummary::getProductId, Function.identity()));
+
+        List<RankedProductDto> result = new ArrayList<>(limit);
+        for (DecayedRanking.Ranked entry : ranked) {
+            ProductSummary summary = summaries.get(entry.productId());
+            if (summary != null) {
+                result.add(new RankedProductDto(toSummary(summary), entry.score()));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static ProductSummaryDto toSummary(ProductSummary summary) {
+        return new ProductSummaryDto(
+                summary.getProductId(),
+                summary.getName(),
+                summary.getSlug(),
+                summary.getDefaultImage(),
+                summary.getBrandId(),
+                summary.getCategoryId(),
+                summary.getProductCreatedAt(),
+                summary.getMinPrice(),
+                summary.getMaxPrice(),
+                Boolean.TRUE.equals(summary.getInStock()),
+                summary.getRatingAverage(),
+                summary.getRatingCount(),
+                summary.getUnitsSold());
+    }
+}
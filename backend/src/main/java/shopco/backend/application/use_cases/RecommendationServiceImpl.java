@@ -0,0 +1,79 @@
+package shopco.backend.application.use_cases;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.BoughtTogetherDto;
+import shopco.backend.application.dto.ProductSummaryDto;
+import shopco.backend.application.interfaces.RecommendationService;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.ProductSummary;
+import shopco.backend.infrastructure.recommendation.CoOccurrenceIndexer;
+import shopco.backend.infrastructure.recommendation.CoOccurrenceMatrix;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    static final int MAX_LIMIT = 20;
+
+    @Autowired
+    private CoOccurrenceIndexer coOccurrenceIndexer;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Value("${shopco.recommendations.min-co-orders:3}")
+    private int minCoOrders;
+
+    @Override
+    public List<BoughtTogetherDto> getFrequentlyBoughtTogether(String productId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        // Over-fetch so that unpublished or deleted products can be dropped without a second pass
+        List<CoOccurrenceMatrix.Pair> pairs = coOccurrenceIndexer.current().top(productId, limit * 2, minCoOrders);
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ProductSummary> summaries = productSummaryRepository
+                .findAllById(pairs.stream().map(CoOccurrenceMatrix.Pair::productId).toList()).stream()
+                .filter(summary -> summary.getStatus() == ProductStatus.PUBLISHED)
+                .collect(Collectors.toMap(ProductSummary::getProductId, Function.identity()));
+
+        List<BoughtTogetherDto> result = new ArrayList<>(limit);
+        for (CoOccurrenceMatrix.Pair pair : pairs) {
+            ProductSummary summary = summaries.get(pair.productId());
+            if (summary != null) {
+                result.add(new BoughtTogetherDto(toSummary(summary), pair.coOrders(), pair.support(),
+                        pair.confidence(), pair.lift()));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static ProductSummaryDto toSummary(ProductSummary summary) {
+        return new ProductSummaryDto(
+                summary.getProductId(),
+                summary.getName(),
+                summary.getSlug(),
+                summary.getDefaultImage(),
+                summary.getBrandId(),
+                summary.getCategoryId(),
+                summary.getProductCreatedAt(),
+                summary.getMinPrice(),
+                summary.getMaxPrice(),
+                Boolean.TRUE.equals(summary.getInStock()),
+                summary.getRatingAverage(),
+                summary.getRatingCount(),
+                summary.getUnitsSold());
+    }
+}
@@ -0,0 +1,129 @@
+package shopco.backend.application.use_cases;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.ReviewCursor;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.ReviewModerationResultDto;
+import shopco.backend.application.dto.ReviewModerationRow;
+import shopco.backend.application.interfaces.ReviewService;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.persistence.ReviewRatingChangedEvent;
+import shopco.backend.infrastructure.repository.ReviewRepository;
+
+@Service
+public class ReviewServiceImpl implements ReviewService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_MODERATION_BATCH = 5000;
+    // Ids bound per IN list, well below driver parameter limits
+    static final int STATEMENT_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto> getApproved(String productId, String cursor, int size) {
+        validateSize(size);
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        Limit limit = Limit.of(size + 1);
+        List<ReviewDto> rows;
+        if (isBlank(cursor)) {
+            rows = reviewRepository.findFirstFeedPage(productId, ReviewStatus.APPROVED, limit);
+        } else {
+            ReviewCursor after = ReviewCursor.decode(cursor);
+            rows = reviewRepository.findNextFeedPage(productId, ReviewStatus.APPROVED, after.createdAt(), after.id(),
+                    limit);
+        }
+        return page(rows, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto> getModerationQueue(String cursor, int size) {
+        validateSize(size);
+        Limit limit = Limit.of(size + 1);
+        List<ReviewDto> rows;
+        if (isBlank(cursor)) {
+            rows = reviewRepository.findFirstQueuePage(ReviewStatus.PENDING, limit);
+        } else {
+            ReviewCursor after = ReviewCursor.decode(cursor);
+            rows = reviewRepository.findNextQueuePage(ReviewStatus.PENDING, after.createdAt(), after.id(), limit);
+        }
+        return page(rows, size);
+    }
+
+    @Override
+    @Transactional
+    public ReviewModerationResultDto moderate(List<String> reviewIds, String status) {
+        ReviewStatus target = ReviewStatus.fromParam(status);
+        if (target == ReviewStatus.PENDING) {
+            throw new IllegalArgumentException("Reviews can only be approved or rejected");
+        }
+        // Sorted so that concurrent batches lock overlapping rows in the same order
+        List<String> ids = reviewIds == null ? List.of() : reviewIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .distinct()
+                .sorted()
+                .toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("Review ids must not be empty");
+        }
+        if (ids.size() > MAX_MODERATION_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_MODERATION_BATCH + " reviews can be moderated at once");
+        }
+
+        int moderated = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += STATEMENT_BATCH_SIZE) {
+            List<String> batch = ids.subList(from, Math.min(ids.size(), from + STATEMENT_BATCH_SIZE));
+            // Locking first means the guarded update below changes exactly the rows read here, so
+            // the events describe what was written even if another moderator races this one
+            List<ReviewModerationRow> pending = reviewRepository.lockByIdInAndStatus(batch, ReviewStatus.PENDING);
+            if (pending.isEmpty()) {
+                continue;
+            }
+            moderated += reviewRepository.updateStatus(
+                    pending.stream().map(ReviewModerationRow::id).toList(), ReviewStatus.PENDING, target, now);
+            // The bulk update bypasses the entity listeners; delivered after commit like theirs
+            for (ReviewModerationRow row : pending) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(
+                        CatalogEntityType.REVIEW, row.id(), row.productId(), false));
+                if (target == ReviewStatus.APPROVED) {
+                    eventPublisher.publishEvent(new ReviewRatingChangedEvent(row.productId(), null, row.rating()));
+                }
+            }
+        }
+        return new ReviewModerationResultDto(target, ids.size(), moderated, ids.size() - moderated);
+    }
+
+    private static CursorPage<ReviewDto> page(List<ReviewDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ReviewDto> page = hasNext ? rows.subList(0, size) : rows;
+        ReviewDto last = hasNext ? page.get(page.size() - 1) : null;
+        return new CursorPage<>(page, last == null ? null : new ReviewCursor(last.createdAt(), last.id()).encode(),
+                hasNext);
+    }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
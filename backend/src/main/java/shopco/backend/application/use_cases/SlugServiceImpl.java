@@ -0,0 +1,27 @@
+package shopco.backend.application.use_cases;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.SlugResolutionDto;
+import shopco.backend.application.interfaces.SlugService;
+import shopco.backend.domain.enums.SlugType;
+import shopco.backend.infrastructure.web.SlugResolver;
+
+@Service
+public class SlugServiceImpl implements SlugService {
+
+    @Autowired
+    private SlugResolver slugResolver;
+
+    @Override
+    public SlugResolutionDto resolve(String type, String slug) {
+        SlugType slugType = SlugType.fromParam(type);
+        if (slug == null || slug.isBlank()) {
+            throw new IllegalArgumentException("Slug must not be blank");
+        }
+        return slugResolver.resolve(slugType, slug)
+                .map(resolution -> new SlugResolutionDto(
+                        resolution.type(), resolution.id(), resolution.slug(), resolution.redirect()))
+                .orElseThrow(() -> new IllegalArgumentException("Slug not found: " + slug));
+    }
+}
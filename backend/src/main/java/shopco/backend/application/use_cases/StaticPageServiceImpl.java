@@ -0,0 +1,31 @@
+package shopco.backend.application.use_cases;
+
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.dto.StaticPageDto;
+import shopco.backend.application.interfaces.StaticPageService;
+import shopco.backend.infrastructure.model.StaticPage;
+import shopco.backend.infrastructure.repository.StaticPageRepository;
+
+@Service
+public class StaticPageServiceImpl implements StaticPageService {
+
+    @Autowired
+    private StaticPageRepository staticPageRepository;
+
+    @Override
+    public StaticPageDto getActiveBySlug(String slug) {
+        StaticPage page = staticPageRepository.findActiveBySlug(slug)
+                .orElseThrow(() -> new IllegalArgumentException("Page not found: " + slug));
+        return new StaticPageDto(page.getId(), page.getTitle(), page.getSlug(), page.getContent(),
+                page.getSeoTitle(), page.getSeoDesc(), page.getUpdatedAt());
+    }
+
+    @Override
+    public Optional<ResourceVersion> getActiveVersion(String slug) {
+        return staticPageRepository.findActiveUpdatedAtBySlug(slug)
+                .map(updatedAt -> ResourceVersion.of(updatedAt, slug));
+    }
+}
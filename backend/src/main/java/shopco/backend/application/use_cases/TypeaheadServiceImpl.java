@@ -0,0 +1,30 @@
+package shopco.backend.application.use_cases;
+
+import java.util.List;
+import java.util.Locale;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import shopco.backend.application.dto.SuggestionDto;
+import shopco.backend.application.interfaces.TypeaheadService;
+import shopco.backend.infrastructure.search.TypeaheadIndexer;
+
+@Service
+public class TypeaheadServiceImpl implements TypeaheadService {
+
+    @Autowired
+    private TypeaheadIndexer typeaheadIndexer;
+
+    @Override
+    public List<SuggestionDto> suggest(String query, int limit) {
+        if (limit < 1 || limit > typeaheadIndexer.topK()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + typeaheadIndexer.topK());
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return typeaheadIndexer.current().suggest(query, limit).stream()
+                .map(suggestion -> new SuggestionDto(suggestion.kind().name().toLowerCase(Locale.ROOT),
+                        suggestion.id(), suggestion.text(), suggestion.slug()))
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package shopco.backend.application.use_cases;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.WishlistMembershipDto;
+import shopco.backend.application.interfaces.WishlistService;
+import shopco.backend.infrastructure.model.WishlistItem;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+import shopco.backend.infrastructure.repository.WishlistItemRepository;
+import shopco.backend.infrastructure.wishlist.WishlistChangedEvent;
+import shopco.backend.infrastructure.wishlist.WishlistMembershipCache;
+
+@Service
+public class WishlistServiceImpl implements WishlistService {
+
+    static final int MAX_PRODUCT_IDS = 200;
+
+    @Autowired
+    private WishlistItemRepository wishlistItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WishlistMembershipCache wishlistMembershipCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Not transactional: the insert commits on its own, so a duplicate is caught here
+    @Override
+    public void add(String userId, String productId) {
+        if (wishlistItemRepository.existsByUserIdAndProductId(userId, productId)) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found: " + userId);
+        }
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("Product not found: " + productId);
+        }
+        WishlistItem item = new WishlistItem();
+        item.setId(UUID.randomUUID().toString());
+        item.setUserId(userId);
+        item.setProductId(productId);
+        try {
+            wishlistItemRepository.saveAndFlush(item);
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent add of the same product, e.g. a double click, won the unique constraint
+            if (wishlistItemRepository.existsByUserIdAndProductId(userId, productId)) {
+                return;
+            }
+            throw ex;
+        }
+        // Applied to the cached set; the item is already committed
+        eventPublisher.publishEvent(new WishlistChangedEvent(userId, productId, true));
+    }
+
+    @Override
+    @Transactional
+    public void remove(String userId, String productId) {
+        if (wishlistItemRepository.deleteByUserIdAndProductId(userId, productId) > 0) {
+            eventPublisher.publishEvent(new WishlistChangedEvent(userId, productId, false));
+        }
+    }
+
+    @Override
+    public WishlistMembershipDto getMembership(String userId, List<String> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return new WishlistMembershipDto(userId, Map.of());
+        }
+        if (productIds.size() > MAX_PRODUCT_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_PRODUCT_IDS + " product ids can be checked at once");
+        }
+        Set<String> wishlisted = wishlistMembershipCache.wishlisted(userId, productIds);
+        Map<String, Boolean> membership = new LinkedHashMap<>();
+        productIds.forEach(productId -> membership.put(productId, wishlisted.contains(productId)));
+        return new WishlistMembershipDto(userId, membership);
+    }
+}
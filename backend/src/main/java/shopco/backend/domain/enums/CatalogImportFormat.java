@@ -0,0 +1,41 @@
+package shopco.backend.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Catalog import file format enumeration
+ * Represents how supplier feed rows are encoded
+ */
+public enum CatalogImportFormat {
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV,
+
+    /**
+     * One JSON object per line
+     */
+    JSONL;
+
+    public static CatalogImportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Import format must not be blank");
+        }
+        try {
+            return CatalogImportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported import format: " + value);
+        }
+    }
+
+    public static CatalogImportFormat fromFilename(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return JSONL;
+        }
+        throw new IllegalArgumentException("Cannot infer import format from file name: " + filename);
+    }
+}
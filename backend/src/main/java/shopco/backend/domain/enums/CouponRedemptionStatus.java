@@ -0,0 +1,17 @@
+package shopco.backend.domain.enums;
+
+/**
+ * Coupon redemption status enumeration
+ * Represents whether an order still holds one of the coupon's usage slots
+ */
+public enum CouponRedemptionStatus {
+    /**
+     * The order took a usage slot and counts against the coupon's limits
+     */
+    REDEEMED,
+
+    /**
+     * The order was cancelled and its usage slot was given back
+     */
+    RELEASED
+}
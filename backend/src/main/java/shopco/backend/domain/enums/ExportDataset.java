@@ -0,0 +1,40 @@
+package shopco.backend.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Export dataset enumeration
+ * Represents the tables that can be streamed out as a file
+ */
+public enum ExportDataset {
+    /**
+     * Products with their variants, one row per variant (import-compatible columns)
+     */
+    CATALOG,
+
+    /**
+     * Orders with their items, one row per item
+     */
+    ORDERS,
+
+    /**
+     * User accounts without credentials
+     */
+    USERS,
+
+    /**
+     * Product reviews of every status
+     */
+    REVIEWS;
+
+    public static ExportDataset fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Export dataset must not be blank");
+        }
+        try {
+            return ExportDataset.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported export dataset: " + value);
+        }
+    }
+}
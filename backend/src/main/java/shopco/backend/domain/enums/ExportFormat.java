@@ -0,0 +1,46 @@
+package shopco.backend.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Export file format enumeration
+ * Represents how exported rows are encoded
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("csv", "text/csv"),
+
+    /**
+     * One JSON object per line
+     */
+    JSONL("jsonl", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Export format must not be blank");
+        }
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+}
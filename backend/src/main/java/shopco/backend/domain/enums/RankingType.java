@@ -0,0 +1,30 @@
+package shopco.backend.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Ranking type enumeration
+ * Represents the time-decayed product lists kept in memory
+ */
+public enum RankingType {
+    /**
+     * Units sold, decaying over days
+     */
+    BESTSELLERS,
+
+    /**
+     * Product page views plus weighted units sold, decaying over hours
+     */
+    TRENDING;
+
+    public static RankingType fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Ranking type must not be blank");
+        }
+        try {
+            return RankingType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported ranking type: " + value);
+        }
+    }
+}
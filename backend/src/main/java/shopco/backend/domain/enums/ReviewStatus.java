@@ -1,5 +1,7 @@
 package shopco.backend.domain.enums;
 
+import java.util.Locale;
+
 /**
  * Review status enumeration
  * Represents the moderation status of a product review
@@ -18,5 +20,16 @@ public enum ReviewStatus {
     /**
      * Review has been rejected and is not visible
      */
-    REJECTED
+    REJECTED;
+
+    public static ReviewStatus fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Review status must not be blank");
+        }
+        try {
+            return ReviewStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported review status: " + value);
+        }
+    }
 }
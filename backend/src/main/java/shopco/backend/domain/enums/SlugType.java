@@ -0,0 +1,40 @@
+package shopco.backend.domain.enums;
+
+import java.util.Locale;
+
+/**
+ * Slug type enumeration
+ * Represents the kind of storefront page a URL slug points to
+ */
+public enum SlugType {
+    /**
+     * Product detail page
+     */
+    PRODUCT,
+
+    /**
+     * Category listing page
+     */
+    CATEGORY,
+
+    /**
+     * Brand listing page
+     */
+    BRAND,
+
+    /**
+     * CMS static page
+     */
+    PAGE;
+
+    public static SlugType fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Slug type must not be blank");
+        }
+        try {
+            return SlugType.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported slug type: " + value);
+        }
+    }
+}
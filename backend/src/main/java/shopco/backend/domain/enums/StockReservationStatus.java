@@ -0,0 +1,22 @@
+package shopco.backend.domain.enums;
+
+/**
+ * Stock reservation status enumeration
+ * Represents where a reservation is in the checkout flow
+ */
+public enum StockReservationStatus {
+    /**
+     * Stock has been taken off the variants and is held for the order
+     */
+    RESERVED,
+
+    /**
+     * The order went through; the reserved stock is sold
+     */
+    COMMITTED,
+
+    /**
+     * The order was abandoned and the reserved stock was put back
+     */
+    RELEASED
+}
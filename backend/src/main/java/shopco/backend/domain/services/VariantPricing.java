@@ -0,0 +1,22 @@
+package shopco.backend.domain.services;
+
+import java.math.BigDecimal;
+
+/**
+ * Pricing rules shared by every place that needs a variant's selling price
+ */
+public final class VariantPricing {
+
+    private VariantPricing() {
+    }
+
+    /**
+     * The price a customer pays: the sale price when one is set and lower than the list price.
+     */
+    public static BigDecimal effectivePrice(BigDecimal price, BigDecimal salePrice) {
+        if (salePrice != null && (price == null || salePrice.compareTo(price) < 0)) {
+            return salePrice;
+        }
+        return price;
+    }
+}
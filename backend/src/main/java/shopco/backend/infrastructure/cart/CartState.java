@@ -0,0 +1,171 @@
+package shopco.backend.infrastructure.cart;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemDto;
+
+/**
+ * One cart held by {@link CartStore}. All access goes through the instance lock; the store
+ * never hands the mutable state out, only {@link CartDto} copies.
+ */
+final class CartState {
+
+    private final String id;
+    private final String userId;
+    private final String sessionId;
+    private final LocalDateTime createdAt;
+    // Keyed by variant, in the order lines were first added
+    private final Map<String, CartItemDto> lines = new LinkedHashMap<>();
+
+    // Whether the cart row exists in the database
+    private boolean persisted;
+    // Set once the store has dropped this instance; a writer holding it must look the cart up again
+    private boolean evicted;
+    private boolean deleted;
+    private long version;
+    private long flushedVersion;
+    private volatile long lastAccess = System.nanoTime();
+
+    CartState(String id, String userId, String sessionId, LocalDateTime createdAt, boolean persisted) {
+        this.id = id;
+        this.userId = userId;
+        this.sessionId = sessionId;
+        this.createdAt = createdAt;
+        this.persisted = persisted;
+    }
+
+    static CartState create(String userId, String sessionId) {
+        return new CartState(UUID.randomUUID().toString(), userId, sessionId, now(), false);
+    }
+
+    String id() {
+        return id;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    String sessionId() {
+        return sessionId;
+    }
+
+    LocalDateTime createdAt() {
+        return createdAt;
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    void touch() {
+        lastAccess = System.nanoTime();
+    }
+
+    synchronized void load(CartItemDto line) {
+        lines.put(line.variantId(), line);
+    }
+
+    synchronized void add(String variantId, int quantity, BigDecimal price) {
+        CartItemDto line = lines.get(variantId);
+        if (line == null) {
+            lines.put(variantId, new CartItemDto(UUID.randomUUID().toString(), variantId, quantity, price, now()));
+        } else {
+            // The price a line was added at is kept when more units are added
+            lines.put(variantId, new CartItemDto(line.id(), variantId, Math.addExact(line.quantity(), quantity),
+                    line.priceAtAdd(), line.createdAt()));
+        }
+        version++;
+    }
+
+    /**
+     * @return false if the cart has no line for the variant
+     */
+    synchronized boolean set(String variantId, int quantity) {
+        CartItemDto line = lines.get(variantId);
+        if (line == null) {
+            return false;
+        }
+        if (quantity == 0) {
+            lines.remove(variantId);
+        } else {
+            lines.put(variantId, new CartItemDto(line.id(), variantId, quantity, line.priceAtAdd(), line.createdAt()));
+        }
+        version++;
+        return true;
+    }
+
+    /**
+     * Replaces every line, e.g. with the result of a merge.
+     */
+    synchronized void replace(List<CartItemDto> merged) {
+        lines.clear();
+        merged.forEach(line -> lines.put(line.variantId(), line));
+        version++;
+    }
+
+    synchronized List<CartItemDto> lines() {
+        return new ArrayList<>(lines.values());
+    }
+
+    synchronized int quantity(String variantId) {
+        CartItemDto line = lines.get(variantId);
+        return line == null ? 0 : line.quantity();
+    }
+
+    synchronized void delete() {
+        lines.clear();
+        deleted = true;
+        version++;
+    }
+
+    synchronized boolean isDeleted() {
+        return deleted;
+    }
+
+    synchronized boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * Marks the cart evicted if it has nothing left to write.
+     */
+    synchronized boolean evictIfClean() {
+        if (version != flushedVersion) {
+            return false;
+        }
+        evicted = true;
+        return true;
+    }
+
+    synchronized CartDto toDto() {
+        return new CartDto(id, userId, sessionId, List.copyOf(lines.values()));
+    }
+
+    synchronized Pending pending() {
+        return new Pending(this, version, persisted, deleted, new ArrayList<>(lines.values()));
+    }
+
+    synchronized void flushed(Pending pending) {
+        persisted = !pending.deleted();
+        flushedVersion = Math.max(flushedVersion, pending.version());
+    }
+
+    // At the precision the database keeps, so a reloaded cart equals the one that was written
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * What one flush writes for the cart: its lines as of {@code version}.
+     */
+    record Pending(CartState cart, long version, boolean persisted, boolean deleted, List<CartItemDto> lines) {
+    }
+}
@@ -0,0 +1,425 @@
+package shopco.backend.infrastructure.cart;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemDto;
+import shopco.backend.infrastructure.model.Cart;
+import shopco.backend.infrastructure.model.CartItem;
+import shopco.backend.infrastructure.repository.CartItemRepository;
+import shopco.backend.infrastructure.repository.CartRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+
+/**
+ * Active carts, held in memory and written behind. Reads and changes are served from the
+ * in-memory copy; changed carts are marked dirty and a periodic flush writes each of them once,
+ * however often it changed in between, in batched statements of many carts per transaction.
+ * A cart is loaded from the database on first use, and only carts with nothing left to write
+ * are ever dropped, by the idle sweep or when the store is full. The store flushes on shutdown,
+ * so a graceful restart loses nothing; a crash loses at most the last flush interval.
+ * The carts live in one process: a cart must be served by one instance.
+ */
+@Component
+public class CartStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CartStore.class);
+
+    private static final String INSERT_CART = """
+            INSERT INTO cart (id, user_id, session_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final String TOUCH_CART = "UPDATE cart SET updated_at = ? WHERE id = ?";
+    private static final String DELETE_CART = "DELETE FROM cart WHERE id = ?";
+    private static final String DELETE_ITEMS = "DELETE FROM cart_item WHERE cart_id = ?";
+    private static final String INSERT_ITEM = """
+            INSERT INTO cart_item (id, cart_id, variant_id, quantity, price_at_add, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final int[] INSERT_CART_TYPES =
+            {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+    private static final int[] TOUCH_CART_TYPES = {Types.TIMESTAMP, Types.VARCHAR};
+    private static final int[] ID_TYPES = {Types.VARCHAR};
+    private static final int[] INSERT_ITEM_TYPES =
+            {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.DECIMAL, Types.TIMESTAMP};
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${shopco.cart.flush-batch-size:500}")
+    private int batchSize;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<String, CartState> carts = new ConcurrentHashMap<>();
+    // "u:" + user id or "s:" + session id, to the id of the owner's cart
+    private final ConcurrentHashMap<String, String> owners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CartState> dirty = new ConcurrentHashMap<>();
+    private final int maxCarts;
+    private final long idleTtlNanos;
+
+    public CartStore(PlatformTransactionManager transactionManager,
+                     @Value("${shopco.cart.store.max-carts:100000}") int maxCarts,
+                     @Value("${shopco.cart.store.idle-ttl-minutes:30}") long idleTtlMinutes) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxCarts = maxCarts;
+        this.idleTtlNanos = TimeUnit.MINUTES.toNanos(idleTtlMinutes);
+    }
+
+    /**
+     * The owner's cart; empty, and not yet written anywhere, if they have none. Exactly one of
+     * {@code userId} and {@code sessionId} is set.
+     */
+    public CartDto get(String userId, String sessionId) {
+        CartState state = lookup(userId, sessionId);
+        state.touch();
+        return state.toDto();
+    }
+
+    /**
+     * The cart with the given id, or empty if there is none.
+     */
+    public Optional<CartDto> find(String cartId) {
+        CartState state = carts.get(cartId);
+        if (state == null) {
+            Optional<Cart> cart = cartRepository.findById(cartId);
+            if (cart.isEmpty()) {
+                return Optional.empty();
+            }
+            state = lookup(cart.get().getUserId(), cart.get().getSessionId());
+        }
+        // A deleted cart may still be held until its deletion is flushed
+        if (!state.id().equals(cartId) || state.isDeleted()) {
+            return Optional.empty();
+        }
+        return Optional.of(state.toDto());
+    }
+
+    public CartDto add(String userId, String sessionId, String variantId, int quantity, BigDecimal price) {
+        return add(userId, sessionId, variantId, quantity, price, total -> {
+        });
+    }
+
+    /**
+     * Adds units of a variant at {@code price}; a line already in the cart keeps its price.
+     * {@code checkTotal} sees the line's quantity as it would be after the add and throws to
+     * refuse it. It runs under the cart's lock, so two concurrent adds cannot both pass it.
+     */
+    public CartDto add(String userId, String sessionId, String variantId, int quantity, BigDecimal price,
+                       IntConsumer checkTotal) {
+        return change(userId, sessionId, state -> {
+            checkTotal.accept(state.quantity(variantId) + quantity);
+            state.add(variantId, quantity, price);
+            return true;
+        });
+    }
+
+    /**
+     * Sets the quantity of a line; zero removes it.
+     *
+     * @return the cart, or null if it has no line for the variant
+     */
+    public CartDto set(String userId, String sessionId, String variantId, int quantity) {
+        return change(userId, sessionId, state -> state.set(variantId, quantity));
+    }
+
+    /**
+     * Moves a guest's lines into the user's cart when the guest signs in, and deletes the guest
+     * cart. Lines for the same variant are combined, keeping the user's line; {@code revalidate}
+     * then sees all combined lines at once and returns the ones to keep. Both carts are written
+     * in one transaction before this returns, so a crash cannot leave the guest's lines to be
+     * merged a second time. If that write fails the merge stands in memory and is left to the
+     * next flush; retrying the merge writes it at once.
+     *
+     * @return the user's cart
+     * @throws IllegalStateException if the merged carts could not be written
+     */
+    public CartDto merge(String sessionId, String userId, UnaryOperator<List<CartItemDto>> revalidate) {
+        // A deleted guest cart still held is one an earlier merge could not write; written with this one
+        String previousId = owners.get("s:" + sessionId);
+        CartState previous = previousId == null ? null : carts.get(previousId);
+        while (true) {
+            CartState guest = lookup(null, sessionId);
+            CartState user = lookup(userId, null);
+            // Guest before user, the only order in which two carts are ever locked together
+            synchronized (guest) {
+                synchronized (user) {
+                    if (guest.isEvicted() || guest.isDeleted() || user.isEvicted() || user.isDeleted()) {
+                        continue;
+                    }
+                    user.touch();
+                    List<CartItemDto> guestLines = guest.lines();
+                    if (!guestLines.isEmpty()) {
+                        Map<String, CartItemDto> combined = new LinkedHashMap<>();
+                        user.lines().forEach(line -> combined.put(line.variantId(), line));
+                        for (CartItemDto line : guestLines) {
+                            combined.merge(line.variantId(), line, (mine, theirs) -> new CartItemDto(mine.id(),
+                                    mine.variantId(), mine.quantity() + theirs.quantity(), mine.priceAtAdd(),
+                                    mine.createdAt()));
+                        }
+                        user.replace(revalidate.apply(new ArrayList<>(combined.values())));
+                        dirty.put(user.id(), user);
+                    }
+                    guest.delete();
+                    dirty.put(guest.id(), guest);
+                }
+            }
+            writeNow(previous != null && previous.isDeleted()
+                    ? List.of(previous, guest, user)
+                    : List.of(guest, user));
+            return user.toDto();
+        }
+    }
+
+    /**
+     * Writes every dirty cart. Runs on a timer, but may be called at any time.
+     *
+     * @return carts written
+     */
+    @Scheduled(fixedDelayString = "${shopco.cart.flush-delay-ms:1000}")
+    public synchronized int flush() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        List<CartState.Pending> pending = new ArrayList<>(dirty.size());
+        for (CartState state : new ArrayList<>(dirty.values())) {
+            // Removed before the snapshot: a change made after it marks the cart dirty again
+            dirty.remove(state.id(), state);
+            pending.add(state.pending());
+        }
+        // Deletions go first, so an owner's replacement cart never meets the old row
+        pending.sort(Comparator.comparing(p -> !p.deleted()));
+
+        int written = 0;
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<CartState.Pending> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            if (write(chunk)) {
+                written += chunk.size();
+                continue;
+            }
+            // One cart that cannot be written must not hold back the rest of its chunk
+            for (CartState.Pending p : chunk) {
+                if (chunk.size() > 1 && write(List.of(p))) {
+                    written++;
+                } else {
+                    dirty.putIfAbsent(p.cart().id(), p.cart());
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Writes the given carts, if dirty, in one transaction.
+     *
+     * @throws IllegalStateException if the write failed; the carts are left to the next flush
+     */
+    private synchronized void writeNow(List<CartState> states) {
+        List<CartState.Pending> pending = new ArrayList<>(states.size());
+        for (CartState state : states) {
+            if (dirty.remove(state.id(), state)) {
+                pending.add(state.pending());
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            commit(pending);
+        } catch (RuntimeException ex) {
+            pending.forEach(p -> dirty.putIfAbsent(p.cart().id(), p.cart()));
+            throw new IllegalStateException("Could not write the carts", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.cart.store.sweep-delay-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (CartState state : carts.values()) {
+            if (now - state.lastAccess() > idleTtlNanos && state.evictIfClean()) {
+                forget(state);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    public int size() {
+        return carts.size();
+    }
+
+    private CartDto change(String userId, String sessionId, Function<CartState, Boolean> change) {
+        while (true) {
+            CartState state = lookup(userId, sessionId);
+            synchronized (state) {
+                // Evicted or deleted between the lookup and the lock: look the cart up again
+                if (state.isEvicted() || state.isDeleted()) {
+                    continue;
+                }
+                state.touch();
+                if (!change.apply(state)) {
+                    return null;
+                }
+                dirty.put(state.id(), state);
+                return state.toDto();
+            }
+        }
+    }
+
+    private CartState lookup(String userId, String sessionId) {
+        String key = userId != null ? "u:" + userId : "s:" + sessionId;
+        while (true) {
+            String cartId = owners.get(key);
+            CartState state = cartId == null ? null : carts.get(cartId);
+            if (state != null && !state.isEvicted() && !state.isDeleted()) {
+                return state;
+            }
+            evictIfFull();
+            // One load per owner, so concurrent first requests agree on the cart
+            cartId = owners.compute(key, (owner, current) -> {
+                CartState held = current == null ? null : carts.get(current);
+                if (held != null && !held.isEvicted() && !held.isDeleted()) {
+                    return current;
+                }
+                // A deleted cart's row is still there until the deletion is flushed, so the owner
+                // starts afresh rather than loading it
+                CartState loaded = held != null && held.isDeleted()
+                        ? CartState.create(userId, sessionId)
+                        : load(userId, sessionId);
+                carts.put(loaded.id(), loaded);
+                return loaded.id();
+            });
+            state = carts.get(cartId);
+            if (state != null) {
+                return state;
+            }
+        }
+    }
+
+    private CartState load(String userId, String sessionId) {
+        Optional<Cart> cart = userId != null
+                ? cartRepository.findByUserId(userId)
+                : cartRepository.findBySessionId(sessionId);
+        if (cart.isEmpty()) {
+            // Checked once per cart rather than per change; the row is only written later
+            if (userId != null && !userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("User not found: " + userId);
+            }
+            return CartState.create(userId, sessionId);
+        }
+        CartState state = new CartState(cart.get().getId(), cart.get().getUserId(), cart.get().getSessionId(),
+                cart.get().getCreatedAt(), true);
+        for (CartItem item : cartItemRepository.findByCartId(state.id())) {
+            state.load(new CartItemDto(item.getId(), item.getVariantId(), item.getQuantity(),
+                    item.getPriceAtAdd(), item.getCreatedAt()));
+        }
+        return state;
+    }
+
+    private void forget(CartState state) {
+        carts.remove(state.id(), state);
+        String key = state.userId() != null ? "u:" + state.userId() : "s:" + state.sessionId();
+        owners.remove(key, state.id());
+    }
+
+    private void evictIfFull() {
+        Iterator<CartState> states = carts.values().iterator();
+        while (carts.size() >= maxCarts && states.hasNext()) {
+            CartState state = states.next();
+            if (state.evictIfClean()) {
+                forget(state);
+            }
+        }
+    }
+
+    private boolean write(List<CartState.Pending> chunk) {
+        try {
+            commit(chunk);
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Cart flush failed, {} carts will be retried", chunk.size(), ex);
+            return false;
+        }
+    }
+
+    private void commit(List<CartState.Pending> chunk) {
+        transactionTemplate.executeWithoutResult(status -> writeRows(chunk));
+        for (CartState.Pending p : chunk) {
+            p.cart().flushed(p);
+            if (p.deleted()) {
+                forget(p.cart());
+            }
+        }
+    }
+
+    private void writeRows(List<CartState.Pending> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> deletedCarts = new ArrayList<>();
+        List<Object[]> newCarts = new ArrayList<>();
+        List<Object[]> touchedCarts = new ArrayList<>();
+        List<Object[]> replacedItems = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (CartState.Pending p : chunk) {
+            CartState cart = p.cart();
+            if (p.deleted()) {
+                if (p.persisted()) {
+                    replacedItems.add(new Object[]{cart.id()});
+                    deletedCarts.add(new Object[]{cart.id()});
+                }
+                continue;
+            }
+            if (p.persisted()) {
+                touchedCarts.add(new Object[]{now, cart.id()});
+                replacedItems.add(new Object[]{cart.id()});
+            } else {
+                newCarts.add(new Object[]{cart.id(), cart.userId(), cart.sessionId(),
+                        Timestamp.valueOf(cart.createdAt()), now});
+            }
+            for (CartItemDto line : p.lines()) {
+                items.add(new Object[]{line.id(), cart.id(), line.variantId(), line.quantity(),
+                        line.priceAtAdd(), Timestamp.valueOf(line.createdAt())});
+            }
+        }
+        // Lines are rewritten whole: one delete and one insert batch however many edits a cart saw
+        jdbcTemplate.batchUpdate(DELETE_ITEMS, replacedItems, ID_TYPES);
+        jdbcTemplate.batchUpdate(DELETE_CART, deletedCarts, ID_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_CART, newCarts, INSERT_CART_TYPES);
+        jdbcTemplate.batchUpdate(TOUCH_CART, touchedCarts, TOUCH_CART_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_ITEM, items, INSERT_ITEM_TYPES);
+    }
+}
@@ -0,0 +1,171 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import shopco.backend.application.dto.CategoryTreeRow;
+
+/**
+ * Immutable, fully materialized view of the category hierarchy.
+ * Every node carries its depth, its ancestor path and the ids of its whole subtree, so
+ * descendant expansion and breadcrumbs are single map lookups.
+ */
+public final class CategoryTree {
+
+    public static final CategoryTree EMPTY = new CategoryTree(Map.of(), List.of(), null);
+
+    private final Map<String, Node> nodes;
+    private final List<String> rootIds;
+    private final LocalDateTime lastModified;
+
+    private CategoryTree(Map<String, Node> nodes, List<String> rootIds, LocalDateTime lastModified) {
+        this.nodes = nodes;
+        this.rootIds = rootIds;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @param ancestorIds ids from the root down to the parent; empty for a root
+     * @param childIds    direct children ordered by sortOrder then name
+     * @param subtreeIds  this node plus every descendant
+     */
+    public record Node(String id, String name, String slug, boolean active, int depth,
+                       List<String> ancestorIds, List<String> childIds, Set<String> subtreeIds) {
+    }
+
+    /**
+     * Builds the tree. Rows whose parent is missing, or that sit on a parent cycle, become roots.
+     */
+    public static CategoryTree build(Collection<CategoryTreeRow> rows) {
+        Map<String, CategoryTreeRow> byId = new HashMap<>();
+        LocalDateTime lastModified = null;
+        for (CategoryTreeRow row : rows) {
+            byId.put(row.id(), row);
+            if (row.updatedAt() != null && (lastModified == null || row.updatedAt().isAfter(lastModified))) {
+                lastModified = row.updatedAt();
+            }
+        }
+
+        Map<String, List<String>> ancestors = new HashMap<>();
+        for (CategoryTreeRow row : byId.values()) {
+            ancestors.put(row.id(), ancestorPath(row, byId));
+        }
+
+        Comparator<CategoryTreeRow> siblingOrder = Comparator
+                .comparing((CategoryTreeRow row) -> row.sortOrder() == null ? 0 : row.sortOrder())
+                .thenComparing(row -> row.name() == null ? "" : row.name())
+                .thenComparing(CategoryTreeRow::id);
+        Map<String, List<CategoryTreeRow>> children = new HashMap<>();
+        List<CategoryTreeRow> roots = new ArrayList<>();
+        for (CategoryTreeRow row : byId.values()) {
+            List<String> path = ancestors.get(row.id());
+            if (path.isEmpty()) {
+                roots.add(row);
+            } else {
+                children.computeIfAbsent(path.get(path.size() - 1), key -> new ArrayList<>()).add(row);
+            }
+        }
+        roots.sort(siblingOrder);
+        children.values().forEach(list -> list.sort(siblingOrder));
+
+        Map<String, Set<String>> subtrees = new HashMap<>();
+        for (CategoryTreeRow row : byId.values()) {
+            subtrees.computeIfAbsent(row.id(), key -> new LinkedHashSet<>()).add(row.id());
+            for (String ancestorId : ancestors.get(row.id())) {
+                subtrees.computeIfAbsent(ancestorId, key -> new LinkedHashSet<>()).add(row.id());
+            }
+        }
+
+        Map<String, Node> nodes = new HashMap<>(byId.size() * 2);
+        for (CategoryTreeRow row : byId.values()) {
+            List<String> path = ancestors.get(row.id());
+            List<String> childIds = children.getOrDefault(row.id(), List.of()).stream()
+                    .map(CategoryTreeRow::id)
+                    .toList();
+            nodes.put(row.id(), new Node(row.id(), row.name(), row.slug(), !Boolean.FALSE.equals(row.active()),
+                    path.size(), List.copyOf(path), childIds, Set.copyOf(subtrees.get(row.id()))));
+        }
+        return new CategoryTree(Map.copyOf(nodes), roots.stream().map(CategoryTreeRow::id).toList(), lastModified);
+    }
+
+    private static List<String> ancestorPath(CategoryTreeRow row, Map<String, CategoryTreeRow> byId) {
+        List<String> reversed = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        seen.add(row.id());
+        String parentId = row.parentId();
+        while (parentId != null && byId.containsKey(parentId)) {
+            if (!seen.add(parentId)) {
+                // Parent cycle: treat the row as a root rather than looping forever
+                return List.of();
+            }
+            reversed.add(parentId);
+            parentId = byId.get(parentId).parentId();
+        }
+        List<String> path = new ArrayList<>(reversed.size());
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            path.add(reversed.get(i));
+        }
+        return path;
+    }
+
+    public Node node(String id) {
+        return nodes.get(id);
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Newest category timestamp the tree was built from. Together with {@link #size()}, which
+     * catches deletions, it versions everything the tree can answer.
+     */
+    public LocalDateTime lastModified() {
+        return lastModified;
+    }
+
+    public List<String> rootIds() {
+        return rootIds;
+    }
+
+    /**
+     * The category plus all of its descendants. Unknown ids expand to themselves.
+     */
+    public Set<String> subtreeIds(String id) {
+        Node node = nodes.get(id);
+        return node == null ? Set.of(id) : node.subtreeIds();
+    }
+
+    /**
+     * Union of {@link #subtreeIds(String)} for every given id.
+     */
+    public Set<String> subtreeIds(Collection<String> ids) {
+        if (ids.size() == 1) {
+            return subtreeIds(ids.iterator().next());
+        }
+        Set<String> expanded = new HashSet<>();
+        ids.forEach(id -> expanded.addAll(subtreeIds(id)));
+        return expanded;
+    }
+
+    /**
+     * Nodes from the root down to and including the category, or an empty list when unknown.
+     */
+    public List<Node> breadcrumb(String id) {
+        Node node = nodes.get(id);
+        if (node == null) {
+            return List.of();
+        }
+        List<Node> trail = new ArrayList<>(node.depth() + 1);
+        node.ancestorIds().forEach(ancestorId -> trail.add(nodes.get(ancestorId)));
+        trail.add(node);
+        return trail;
+    }
+}
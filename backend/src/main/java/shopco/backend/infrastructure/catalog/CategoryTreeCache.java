@@ -0,0 +1,57 @@
+package shopco.backend.infrastructure.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.CategoryRepository;
+
+/**
+ * Holds the current {@link CategoryTree}. Any committed category write rebuilds the whole tree
+ * off to the side and swaps it in with a single volatile write, so readers never see a
+ * half-built hierarchy and never lock.
+ */
+@Component
+public class CategoryTreeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryTreeCache.class);
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+
+    public CategoryTree current() {
+        return tree;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        CategoryTree rebuilt = CategoryTree.build(categoryRepository.findAllTreeRows());
+        tree = rebuilt;
+        log.debug("Category tree rebuilt with {} categories", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.type() == CatalogEntityType.CATEGORY) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        if (event.types().contains(CatalogEntityType.CATEGORY)) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shopco.backend.application.dto.FacetQuery;
+import shopco.backend.application.dto.ProductFacetRow;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.domain.services.VariantPricing;
+
+/**
+ * Bitmap index behind the shop sidebar.
+ * Each product gets a dense ordinal and every facet value (brand, category, status, price bucket,
+ * variant attribute) keeps a compressed bitmap of the ordinals carrying it, so filtering is a
+ * bitwise AND and each count is an AND-cardinality instead of a GROUP BY.
+ */
+@Component
+public class ProductFacetIndex {
+
+    public static final String BRAND = "brand";
+    public static final String CATEGORY = "category";
+    public static final String STATUS = "status";
+    public static final String PRICE = "price";
+    public static final String ATTRIBUTE_PREFIX = "attr.";
+
+    private final List<BigDecimal> priceBoundaries;
+    private final List<String> priceBucketLabels;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Map<String, RoaringBitmap>> bitmaps = new HashMap<>();
+    private Map<String, Integer> ordinalsByProductId = new HashMap<>();
+    private List<ProductEntry> products = new ArrayList<>();
+    private ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    public ProductFacetIndex(
+            @Value("${shopco.catalog.facets.price-boundaries:50,100,200,500}") List<BigDecimal> priceBoundaries) {
+        this.priceBoundaries = priceBoundaries.stream().sorted().toList();
+        this.priceBucketLabels = bucketLabels(this.priceBoundaries);
+    }
+
+    public List<String> priceBucketLabels() {
+        return priceBucketLabels;
+    }
+
+    public void replaceAll(Collection<ProductFacetRow> productRows, Collection<ProductVariantRow> variantRows) {
+        Map<String, List<ProductVariantRow>> variantsByProduct = groupByProduct(variantRows);
+        Map<String, Map<String, RoaringBitmap>> newBitmaps = new HashMap<>();
+        Map<String, Integer> newOrdinals = new HashMap<>(productRows.size() * 2);
+        List<ProductEntry> newProducts = new ArrayList<>(productRows.size());
+        for (ProductFacetRow row : productRows) {
+            if (newOrdinals.containsKey(row.id())) {
+                continue;
+            }
+            int ordinal = newProducts.size();
+            List<FacetKey> keys = facetKeys(row, variantsByProduct.getOrDefault(row.id(), List.of()));
+            addBits(newBitmaps, ordinal, keys);
+            newProducts.add(new ProductEntry(row.id(), keys));
+            newOrdinals.put(row.id(), ordinal);
+        }
+        newBitmaps.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+
+        lock.writeLock().lock();
+        try {
+            bitmaps = newBitmaps;
+            ordinalsByProductId = newOrdinals;
+            products = newProducts;
+            freeOrdinals = new ArrayDeque<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(ProductFacetRow row, Collection<ProductVariantRow> variants) {
+        List<FacetKey> keys = facetKeys(row, variants);
+        lock.writeLock().lock();
+        try {
+            removeLocked(row.id());
+            Integer ordinal = freeOrdinals.pollFirst();
+            if (ordinal == null) {
+                ordinal = products.size();
+                products.add(null);
+            }
+            addBits(bitmaps, ordinal, keys);
+            products.set(ordinal, new ProductEntry(row.id(), keys));
+            ordinalsByProductId.put(row.id(), ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts matching products and, for every facet, how many products each value would match
+     * given the selections on all <em>other</em> facets (multi-select facet semantics).
+     */
+    public FacetCounts count(FacetQuery query) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap base = bitmap(STATUS, query.status().name());
+            Map<String, RoaringBitmap> selections = selections(query);
+
+            RoaringBitmap matching = base.clone();
+            selections.values().forEach(matching::and);
+
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, RoaringBitmap>> facet : bitmaps.entrySet()) {
+                if (STATUS.equals(facet.getKey())) {
+                    continue;
+                }
+                RoaringBitmap scope = selections.containsKey(facet.getKey())
+                        ? scopeExcluding(base, selections, facet.getKey())
+                        : matching;
+                Map<String, Integer> valueCounts = new LinkedHashMap<>();
+                for (Map.Entry<String, RoaringBitmap> value : facet.getValue().entrySet()) {
+                    int count = RoaringBitmap.andCardinality(scope, value.getValue());
+                    if (count > 0) {
+                        valueCounts.put(value.getKey(), count);
+                    }
+                }
+                counts.put(facet.getKey(), valueCounts);
+            }
+            return new FacetCounts(matching.getCardinality(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the products matching every selection in the query.
+     */
+    public List<String> matchingProductIds(FacetQuery query) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matching = bitmap(STATUS, query.status().name()).clone();
+            selections(query).values().forEach(matching::and);
+            List<String> ids = new ArrayList<>(matching.getCardinality());
+            matching.forEach((int ordinal) -> ids.add(products.get(ordinal).productId()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public String priceBucket(BigDecimal price) {
+        for (int i = 0; i < priceBoundaries.size(); i++) {
+            if (price.compareTo(priceBoundaries.get(i)) < 0) {
+                return priceBucketLabels.get(i);
+            }
+        }
+        return priceBucketLabels.get(priceBucketLabels.size() - 1);
+    }
+
+    private Map<String, RoaringBitmap> selections(FacetQuery query) {
+        Map<String, RoaringBitmap> selections = new HashMap<>();
+        select(selections, BRAND, query.brandIds());
+        select(selections, CATEGORY, query.categoryIds());
+        select(selections, PRICE, query.priceBuckets());
+        query.attributes().forEach((name, values) -> select(selections,
+                ATTRIBUTE_PREFIX + VariantAttributes.normalizeName(name),
+                values.stream().map(ProductFacetIndex::normalizeValue).collect(Collectors.toSet())));
+        return selections;
+    }
+
+    private void select(Map<String, RoaringBitmap> selections, String facet, Set<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : values) {
+            union.or(bitmap(facet, value));
+        }
+        selections.put(facet, union);
+    }
+
+    private static RoaringBitmap scopeExcluding(RoaringBitmap base, Map<String, RoaringBitmap> selections,
+                                                String excludedFacet) {
+        RoaringBitmap scope = base.clone();
+        selections.forEach((facet, selected) -> {
+            if (!facet.equals(excludedFacet)) {
+                scope.and(selected);
+            }
+        });
+        return scope;
+    }
+
+    private RoaringBitmap bitmap(String facet, String value) {
+        RoaringBitmap bitmap = bitmaps.getOrDefault(facet, Map.of()).get(value);
+        return bitmap == null ? new RoaringBitmap() : bitmap;
+    }
+
+    private void removeLocked(String productId) {
+        Integer ordinal = ordinalsByProductId.remove(productId);
+        if (ordinal == null) {
+            return;
+        }
+        for (FacetKey key : products.get(ordinal).keys()) {
+            Map<String, RoaringBitmap> values = bitmaps.get(key.facet());
+            RoaringBitmap bitmap = values == null ? null : values.get(key.value());
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    values.remove(key.value());
+                }
+            }
+        }
+        products.set(ordinal, null);
+        freeOrdinals.addLast(ordinal);
+    }
+
+    private static void addBits(Map<String, Map<String, RoaringBitmap>> target, int ordinal, List<FacetKey> keys) {
+        for (FacetKey key : keys) {
+            target.computeIfAbsent(key.facet(), facet -> new HashMap<>())
+                    .computeIfAbsent(key.value(), value -> new RoaringBitmap())
+                    .add(ordinal);
+        }
+    }
+
+    private List<FacetKey> facetKeys(ProductFacetRow row, Collection<ProductVariantRow> variants) {
+        Set<FacetKey> keys = new LinkedHashSet<>();
+        keys.add(new FacetKey(STATUS, row.status().name()));
+        if (row.brandId() != null) {
+            keys.add(new FacetKey(BRAND, row.brandId()));
+        }
+        if (row.categoryId() != null) {
+            keys.add(new FacetKey(CATEGORY, row.categoryId()));
+        }
+        for (ProductVariantRow variant : variants) {
+            BigDecimal price = VariantPricing.effectivePrice(variant.price(), variant.salePrice());
+            if (price != null) {
+                keys.add(new FacetKey(PRICE, priceBucket(price)));
+            }
+            VariantAttributes.parse(variant.attributes()).forEach((name, value) -> {
+                if (!value.isEmpty()) {
+                    keys.add(new FacetKey(ATTRIBUTE_PREFIX + name, normalizeValue(value)));
+                }
+            });
+        }
+        return List.copyOf(keys);
+    }
+
+    private static String normalizeValue(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, List<ProductVariantRow>> groupByProduct(Collection<ProductVariantRow> variants) {
+        Map<String, List<ProductVariantRow>> grouped = new HashMap<>();
+        for (ProductVariantRow variant : variants) {
+            grouped.computeIfAbsent(variant.productId(), key -> new ArrayList<>()).add(variant);
+        }
+        return grouped;
+    }
+
+    private static List<String> bucketLabels(List<BigDecimal> boundaries) {
+        List<String> labels = new ArrayList<>(boundaries.size() + 1);
+        BigDecimal lower = BigDecimal.ZERO;
+        for (BigDecimal upper : boundaries) {
+            labels.add(lower.toPlainString() + "-" + upper.toPlainString());
+            lower = upper;
+        }
+        labels.add(lower.toPlainString() + "+");
+        return List.copyOf(labels);
+    }
+
+    /**
+     * @param counts facet name to (value to product count); values with no matches are omitted
+     */
+    public record FacetCounts(int totalProducts, Map<String, Map<String, Integer>> counts) {
+    }
+
+    private record FacetKey(String facet, String value) {
+    }
+
+    private record ProductEntry(String productId, List<FacetKey> keys) {
+    }
+}
@@ -0,0 +1,87 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.application.dto.ProductFacetRow;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+/**
+ * Loads {@link ProductFacetIndex} at startup and refreshes single products after committed
+ * product or variant writes.
+ */
+@Component
+public class ProductFacetIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetIndexer.class);
+
+    @Autowired
+    private ProductFacetIndex facetIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        facetIndex.replaceAll(productRepository.findAllFacetRows(), productVariantRepository.findAllRows());
+        log.info("Facet index built with {} products in {} ms",
+                facetIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.type()) {
+            case PRODUCT -> {
+                if (event.removed()) {
+                    facetIndex.remove(event.productId());
+                } else {
+                    refresh(List.of(event.productId()));
+                }
+            }
+            case PRODUCT_VARIANT -> refresh(List.of(event.productId()));
+            default -> {
+                // brand, category and tag rows only carry ids the index already holds
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        refresh(event.productIds());
+    }
+
+    public void refresh(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<String, List<ProductVariantRow>> variants = new HashMap<>();
+        for (ProductVariantRow variant : productVariantRepository.findRowsByProductIdIn(productIds)) {
+            variants.computeIfAbsent(variant.productId(), key -> new ArrayList<>()).add(variant);
+        }
+        Set<String> missing = new HashSet<>(productIds);
+        for (ProductFacetRow row : productRepository.findFacetRowsByIdIn(productIds)) {
+            missing.remove(row.id());
+            facetIndex.upsert(row, variants.getOrDefault(row.id(), List.of()));
+        }
+        missing.forEach(facetIndex::remove);
+    }
+}
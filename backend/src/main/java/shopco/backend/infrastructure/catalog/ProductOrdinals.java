@@ -0,0 +1,39 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stable dense int ordinals for product ids, so per-user sets can be kept as compressed bitmaps
+ * instead of sets of strings. Unlike the facet index ordinals these are never reassigned, so
+ * bitmaps built at different times stay comparable. Thread-safe.
+ */
+public final class ProductOrdinals {
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * The product's ordinal, assigning the next free one on first use.
+     */
+    public int ordinalOf(String productId) {
+        return ordinals.computeIfAbsent(productId, key -> next.getAndIncrement());
+    }
+
+    /**
+     * @return the product's ordinal, or -1 if none was assigned, i.e. no cached set contains it
+     */
+    public int find(String productId) {
+        Integer ordinal = ordinals.get(productId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public void forget(String productId) {
+        ordinals.remove(productId);
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+}
@@ -0,0 +1,118 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+/**
+ * Keeps the {@code product_summary} projection in step with its source tables.
+ * Committed product, variant, review and order writes only mark products dirty; a short
+ * fixed-delay job then recomputes the dirty set in batches, so a checkout touching many rows of
+ * one product costs one recompute rather than one per row. A full pass at startup reconciles
+ * anything written while the application was down.
+ */
+@Component
+public class ProductSummaryProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSummaryProjector.class);
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    private final Set<String> dirtyProductIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> dirtyOrderIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        int refreshed = 0;
+        String afterId = "";
+        List<String> batch;
+        do {
+            batch = productSummaryRepository.findProductIdsAfter(afterId, Limit.of(BATCH_SIZE));
+            if (!batch.isEmpty()) {
+                productSummaryRepository.refresh(batch);
+                refreshed += batch.size();
+                afterId = batch.get(batch.size() - 1);
+            }
+        } while (batch.size() == BATCH_SIZE);
+        log.info("Product summaries rebuilt for {} products in {} ms",
+                refreshed, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.type()) {
+            case PRODUCT, PRODUCT_VARIANT, REVIEW -> {
+                if (event.productId() != null) {
+                    dirtyProductIds.add(event.productId());
+                }
+            }
+            case ORDER -> dirtyOrderIds.add(event.entityId());
+            default -> {
+                // brand, category and tag writes do not change card aggregates
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        dirtyProductIds.addAll(event.productIds());
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.catalog.summary.refresh-delay-ms:500}")
+    public void flush() {
+        if (!dirtyOrderIds.isEmpty()) {
+            for (List<String> orderIds : drain(dirtyOrderIds)) {
+                dirtyProductIds.addAll(productSummaryRepository.findProductIdsByOrderIdIn(orderIds));
+            }
+        }
+        List<List<String>> batches = drain(dirtyProductIds);
+        for (int i = 0; i < batches.size(); i++) {
+            try {
+                productSummaryRepository.refresh(batches.get(i));
+            } catch (RuntimeException ex) {
+                // Keep this and the remaining batches marked so the next run retries them
+                batches.subList(i, batches.size()).forEach(dirtyProductIds::addAll);
+                log.warn("Product summary refresh failed, will retry", ex);
+                return;
+            }
+        }
+    }
+
+    private static List<List<String>> drain(Set<String> dirty) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (String id : dirty) {
+            // Removing while iterating is safe on a concurrent set; ids marked meanwhile are kept
+            dirty.remove(id);
+            batch.add(id);
+            if (batch.size() == BATCH_SIZE) {
+                batches.add(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+}
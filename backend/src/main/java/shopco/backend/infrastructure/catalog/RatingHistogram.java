@@ -0,0 +1,92 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Immutable 1-5 star histogram with its count and star total kept alongside, so the average is
+ * a division rather than a pass over the buckets.
+ */
+public final class RatingHistogram {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    public static final RatingHistogram EMPTY = new RatingHistogram(new long[MAX_RATING], 0, 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+
+    private RatingHistogram(long[] counts, long count, long total) {
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+    }
+
+    /**
+     * @param counts reviews per star rating, one star first
+     */
+    public static RatingHistogram of(long... counts) {
+        if (counts.length != MAX_RATING) {
+            throw new IllegalArgumentException("Histogram needs one count per star rating");
+        }
+        long count = 0;
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            total += counts[i] * (i + MIN_RATING);
+        }
+        return new RatingHistogram(counts.clone(), count, total);
+    }
+
+    /**
+     * This histogram with one review moved out of {@code removed} and into {@code added}; either
+     * may be null. Out-of-range ratings are ignored and counts never go below zero, so a missed
+     * event can only leave the histogram stale until it is reconciled.
+     */
+    public RatingHistogram move(Integer removed, Integer added) {
+        long[] updated = counts.clone();
+        if (valid(removed) && updated[removed - MIN_RATING] > 0) {
+            updated[removed - MIN_RATING]--;
+        }
+        if (valid(added)) {
+            updated[added - MIN_RATING]++;
+        }
+        return of(updated);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long count(int rating) {
+        return valid(rating) ? counts[rating - MIN_RATING] : 0;
+    }
+
+    public double average() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    private static boolean valid(Integer rating) {
+        return rating != null && rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RatingHistogram histogram && Arrays.equals(counts, histogram.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(counts);
+    }
+}
@@ -0,0 +1,203 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.application.dto.RatingCountRow;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.persistence.ReviewRatingChangedEvent;
+import shopco.backend.infrastructure.repository.ReviewRepository;
+
+/**
+ * Star histogram of every product's approved reviews, so the product page gets its average,
+ * count and histogram from a map lookup instead of aggregating reviews.
+ * Committed review approvals, rejections, rating edits and deletes move one review between
+ * buckets. A reconciliation job (at startup and nightly) recounts everything from the review
+ * table in parallel chunks, which also repairs drift from writes that bypass JPA. A rating change
+ * is marked in flight from the moment it is published inside its transaction until its
+ * committed move (or rollback) is handled. A product marked in flight while a pass runs keeps its
+ * incremental histogram, as its chunk may have counted a review whose move is still to come,
+ * and is recounted again at the end of the run.
+ */
+@Component
+public class RatingSummaryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingSummaryStore.class);
+
+    static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Value("${shopco.ratings.reconcile-parallelism:4}")
+    private int parallelism;
+
+    private final Map<String, RatingHistogram> histograms = new ConcurrentHashMap<>();
+    // Product id to the number of its rating changes published but not yet moved or rolled back
+    private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+    // By identity, so that a change is unmarked exactly once however many equal ones are in flight
+    private final Set<ReviewRatingChangedEvent> marked = Collections.newSetFromMap(
+            Collections.synchronizedMap(new IdentityHashMap<>()));
+    // Products marked in flight since the running reconciliation pass started; null between passes
+    private volatile Set<String> markedDuringPass;
+
+    public RatingHistogram get(String productId) {
+        return histograms.getOrDefault(productId, RatingHistogram.EMPTY);
+    }
+
+    public int size() {
+        return histograms.size();
+    }
+
+    /**
+     * Marks the change in flight as it is published, before its transaction commits, so that a
+     * reconciliation counting the committed review cannot also apply its move.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onRatingChanging(ReviewRatingChangedEvent event) {
+        marked.add(event);
+        inFlight.merge(event.productId(), 1, Integer::sum);
+        Set<String> pass = markedDuringPass;
+        if (pass != null) {
+            pass.add(event.productId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingChanged(ReviewRatingChangedEvent event) {
+        histograms.compute(event.productId(), (productId, current) -> {
+            RatingHistogram histogram = (current == null ? RatingHistogram.EMPTY : current)
+                    .move(event.previousRating(), event.rating());
+            return histogram.isEmpty() ? null : histogram;
+        });
+        // Only once moved, so a pass never sees the change neither in flight nor applied
+        unmark(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onRatingRolledBack(ReviewRatingChangedEvent event) {
+        unmark(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.type() == CatalogEntityType.PRODUCT && event.removed()) {
+            histograms.remove(event.productId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${shopco.ratings.reconcile-cron:0 15 4 * * *}")
+    public synchronized void reconcile() {
+        long started = System.currentTimeMillis();
+        Set<String> productIds = new HashSet<>(reviewRepository.findProductIdsByStatus(ReviewStatus.APPROVED));
+        // Products whose last approved review went away without an event must be cleared too
+        productIds.addAll(histograms.keySet());
+
+        Set<String> changedMeanwhile = ConcurrentHashMap.newKeySet();
+        long drifted;
+        try {
+            drifted = reconcile(new ArrayList<>(productIds), changedMeanwhile);
+            if (!changedMeanwhile.isEmpty()) {
+                drifted += reconcile(new ArrayList<>(changedMeanwhile), ConcurrentHashMap.newKeySet());
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Rating reconciliation failed, incremental histograms are kept", ex);
+            return;
+        } finally {
+            markedDuringPass = null;
+        }
+        log.info("Rating histograms reconciled for {} products in {} ms, {} changed",
+                productIds.size(), System.currentTimeMillis() - started, drifted);
+    }
+
+    private long reconcile(List<String> productIds, Set<String> changedMeanwhile) {
+        Set<String> pass = ConcurrentHashMap.newKeySet();
+        markedDuringPass = pass;
+        // Changes marked before the pass started may still be moved after their chunk is counted;
+        // one marked concurrently with this line is either copied here or sees the new set
+        pass.addAll(inFlight.keySet());
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                Thread.ofVirtual().name("rating-reconcile-", 0).factory());
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (int from = 0; from < productIds.size(); from += CHUNK_SIZE) {
+                List<String> chunk = productIds.subList(from, Math.min(productIds.size(), from + CHUNK_SIZE));
+                chunks.add(workers.submit(() -> reconcileChunk(chunk, pass, changedMeanwhile)));
+            }
+            long drifted = 0;
+            for (Future<Integer> chunk : chunks) {
+                drifted += chunk.get();
+            }
+            return drifted;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rating reconciliation was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Counting ratings failed", ex.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * @return how many of the chunk's histograms were replaced by different counts
+     */
+    private int reconcileChunk(List<String> productIds, Set<String> markedInPass, Set<String> changedMeanwhile) {
+        Map<String, long[]> counts = new HashMap<>();
+        for (RatingCountRow row : reviewRepository.countRatings(productIds, ReviewStatus.APPROVED)) {
+            if (row.rating() != null && row.rating() >= RatingHistogram.MIN_RATING
+                    && row.rating() <= RatingHistogram.MAX_RATING) {
+                counts.computeIfAbsent(row.productId(), key -> new long[RatingHistogram.MAX_RATING])
+                        [row.rating() - RatingHistogram.MIN_RATING] = row.count();
+            }
+        }
+        int[] drifted = {0};
+        for (String productId : productIds) {
+            long[] productCounts = counts.get(productId);
+            RatingHistogram counted = productCounts == null ? RatingHistogram.EMPTY : RatingHistogram.of(productCounts);
+            histograms.compute(productId, (key, current) -> {
+                if (markedInPass.contains(productId)) {
+                    changedMeanwhile.add(productId);
+                    return current;
+                }
+                if (!counted.equals(current == null ? RatingHistogram.EMPTY : current)) {
+                    drifted[0]++;
+                }
+                return counted.isEmpty() ? null : counted;
+            });
+        }
+        return drifted[0];
+    }
+
+    private void unmark(ReviewRatingChangedEvent event) {
+        if (marked.remove(event)) {
+            inFlight.computeIfPresent(event.productId(), (productId, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package shopco.backend.infrastructure.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses the {@code ProductVariant.attributes} JSON object (e.g. {"size":"M","color":"Black"}).
+ * Names are lower-cased so "Size" and "size" land on the same option; values keep their casing.
+ */
+public final class VariantAttributes {
+
+    private static final Logger log = LoggerFactory.getLogger(VariantAttributes.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private VariantAttributes() {
+    }
+
+    public static Map<String, String> parse(String json) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (json == null || json.isBlank()) {
+            return attributes;
+        }
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            if (root == null || !root.isObject()) {
+                return attributes;
+            }
+            root.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (value != null && value.isValueNode() && !value.isNull()) {
+                    attributes.put(normalizeName(field.getKey()), value.asText().trim());
+                }
+            });
+        } catch (JsonProcessingException ex) {
+            log.debug("Ignoring malformed variant attributes: {}", json);
+        }
+        return attributes;
+    }
+
+    public static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
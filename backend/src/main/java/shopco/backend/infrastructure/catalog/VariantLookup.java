@@ -0,0 +1,81 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.application.dto.VariantSkuRow;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+/**
+ * Current price and stock of a single variant, answered from the owning product's
+ * {@link VariantMatrix}. Only the variant-to-product mapping is kept here, so prices and stock
+ * are exactly as fresh as the matrix cache.
+ */
+@Component
+public class VariantLookup {
+
+    /**
+     * @param price the sale price while one is set, otherwise the list price
+     */
+    public record Quote(String productId, BigDecimal price, int stock) {
+    }
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private VariantMatrixCache variantMatrixCache;
+
+    private final ConcurrentHashMap<String, String> productIds = new ConcurrentHashMap<>();
+    private final int maxVariants;
+
+    public VariantLookup(@Value("${shopco.catalog.variant-lookup.max-variants:200000}") int maxVariants) {
+        this.maxVariants = maxVariants;
+    }
+
+    /**
+     * @return the variant's quote, or null if the variant does not exist
+     */
+    public Quote quote(String variantId) {
+        String productId = productIds.get(variantId);
+        if (productId == null) {
+            List<VariantSkuRow> rows = productVariantRepository.findSkuRowsByIdIn(List.of(variantId));
+            if (rows.isEmpty()) {
+                return null;
+            }
+            productId = rows.get(0).productId();
+            evictIfFull();
+            productIds.put(variantId, productId);
+        }
+        VariantMatrix matrix = variantMatrixCache.get(productId);
+        int index = matrix.indexOf(variantId);
+        if (index < 0) {
+            productIds.remove(variantId);
+            return null;
+        }
+        BigDecimal salePrice = matrix.salePrice(index);
+        return new Quote(productId, salePrice != null ? salePrice : matrix.price(index), matrix.stock(index));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.type() == CatalogEntityType.PRODUCT_VARIANT && event.removed()) {
+            productIds.remove(event.entityId());
+        }
+    }
+
+    private void evictIfFull() {
+        Iterator<String> variants = productIds.keySet().iterator();
+        while (productIds.size() >= maxVariants && variants.hasNext()) {
+            variants.next();
+            variants.remove();
+        }
+    }
+}
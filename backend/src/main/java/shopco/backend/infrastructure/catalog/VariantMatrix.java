@@ -0,0 +1,260 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import shopco.backend.application.dto.ProductVariantRow;
+
+/**
+ * Immutable, dictionary-encoded option matrix of one product's variants.
+ * Attribute JSON is parsed once at build time: every option name becomes a dimension index and
+ * every value an int code, each variant is packed into a single long key, and per-value bitmasks
+ * over the variants answer "is this option still in stock" with a few word ANDs.
+ * Lookups by codes ({@link #find(int[])}, {@link #isAvailable(int[], int, int)}) do not allocate.
+ */
+public final class VariantMatrix {
+
+    public static final int NONE = -1;
+
+    private final String productId;
+    private final String[] dimensions;
+    private final String[][] values;
+    private final List<Map<String, Integer>> valueCodes;
+    private final long[] strides;
+
+    private final String[] variantIds;
+    private final BigDecimal[] prices;
+    private final BigDecimal[] salePrices;
+    private final int[] stock;
+
+    private final long[] sortedKeys;
+    private final int[] variantsByKey;
+
+    // masks[d][code] has bit i set when variant i carries that value; inStock marks variants with stock
+    private final long[][][] masks;
+    private final long[] inStock;
+
+    private VariantMatrix(String productId, List<ProductVariantRow> rows) {
+        this.productId = productId;
+        int count = rows.size();
+        List<Map<String, String>> parsed = new ArrayList<>(count);
+        TreeSet<String> names = new TreeSet<>();
+        for (ProductVariantRow row : rows) {
+            Map<String, String> attributes = VariantAttributes.parse(row.attributes());
+            parsed.add(attributes);
+            names.addAll(attributes.keySet());
+        }
+
+        dimensions = names.toArray(String[]::new);
+        values = new String[dimensions.length][];
+        valueCodes = new ArrayList<>(dimensions.length);
+        strides = new long[dimensions.length];
+        long stride = 1;
+        for (int d = 0; d < dimensions.length; d++) {
+            Map<String, Integer> codes = new LinkedHashMap<>();
+            List<String> display = new ArrayList<>();
+            for (Map<String, String> attributes : parsed) {
+                String value = attributes.get(dimensions[d]);
+                if (value != null && codes.putIfAbsent(foldValue(value), display.size()) == null) {
+                    display.add(value);
+                }
+            }
+            values[d] = display.toArray(String[]::new);
+            valueCodes.add(Map.copyOf(codes));
+            strides[d] = stride;
+            // +1 leaves room for "variant has no value for this dimension"
+            stride *= values[d].length + 1;
+        }
+
+        variantIds = new String[count];
+        prices = new BigDecimal[count];
+        salePrices = new BigDecimal[count];
+        stock = new int[count];
+        int words = Math.max(1, (count + 63) >>> 6);
+        inStock = new long[words];
+        masks = new long[dimensions.length][][];
+        for (int d = 0; d < dimensions.length; d++) {
+            masks[d] = new long[values[d].length][words];
+        }
+
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            ProductVariantRow row = rows.get(i);
+            variantIds[i] = row.id();
+            prices[i] = row.price();
+            salePrices[i] = row.salePrice();
+            stock[i] = row.stockQuantity() == null ? 0 : row.stockQuantity();
+            if (stock[i] > 0) {
+                inStock[i >>> 6] |= 1L << i;
+            }
+            long key = 0;
+            for (int d = 0; d < dimensions.length; d++) {
+                String value = parsed.get(i).get(dimensions[d]);
+                int code = value == null ? NONE : valueCodes.get(d).get(foldValue(value));
+                key += (code + 1) * strides[d];
+                if (code != NONE) {
+                    masks[d][code][i >>> 6] |= 1L << i;
+                }
+            }
+            keys[i] = key;
+        }
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+        sortedKeys = new long[count];
+        variantsByKey = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortedKeys[i] = keys[order[i]];
+            variantsByKey[i] = order[i];
+        }
+    }
+
+    public static VariantMatrix build(String productId, Collection<ProductVariantRow> rows) {
+        // Stable variant order keeps keys and masks deterministic across rebuilds
+        List<ProductVariantRow> sorted = rows.stream()
+                .filter(row -> productId.equals(row.productId()))
+                .sorted((a, b) -> a.id().compareTo(b.id()))
+                .toList();
+        return new VariantMatrix(productId, sorted);
+    }
+
+    public String productId() {
+        return productId;
+    }
+
+    public int dimensionCount() {
+        return dimensions.length;
+    }
+
+    public String dimension(int d) {
+        return dimensions[d];
+    }
+
+    public int dimensionIndex(String name) {
+        return Arrays.binarySearch(dimensions, VariantAttributes.normalizeName(name));
+    }
+
+    public int valueCount(int d) {
+        return values[d].length;
+    }
+
+    public String value(int d, int code) {
+        return values[d][code];
+    }
+
+    /**
+     * @return the value code, or {@link #NONE} when the product has no such option value
+     */
+    public int valueCode(int d, String value) {
+        Integer code = valueCodes.get(d).get(foldValue(value));
+        return code == null ? NONE : code;
+    }
+
+    public int variantCount() {
+        return variantIds.length;
+    }
+
+    /**
+     * Finds the variant with exactly the given option codes (one per dimension, {@link #NONE}
+     * for a dimension the variant does not carry).
+     *
+     * @return the variant index, or -1 when no variant has that combination
+     */
+    public int find(int[] codes) {
+        if (codes.length != dimensions.length) {
+            return -1;
+        }
+        long key = 0;
+        for (int d = 0; d < codes.length; d++) {
+            if (codes[d] < NONE || codes[d] >= values[d].length) {
+                return -1;
+            }
+            key += (codes[d] + 1) * strides[d];
+        }
+        int position = Arrays.binarySearch(sortedKeys, key);
+        return position < 0 ? -1 : variantsByKey[position];
+    }
+
+    /**
+     * @return the index of the variant with this id, or -1 if it is not one of this product's
+     */
+    public int indexOf(String variantId) {
+        // build() sorts the variants by id
+        int position = Arrays.binarySearch(variantIds, variantId);
+        return position < 0 ? -1 : position;
+    }
+
+    public String variantId(int variant) {
+        return variantIds[variant];
+    }
+
+    public BigDecimal price(int variant) {
+        return prices[variant];
+    }
+
+    public BigDecimal salePrice(int variant) {
+        return salePrices[variant];
+    }
+
+    public int stock(int variant) {
+        return stock[variant];
+    }
+
+    /**
+     * Whether some in-stock variant has {@code code} for dimension {@code d} while matching every
+     * other selected dimension in {@code selection} ({@link #NONE} means "not selected yet").
+     */
+    public boolean isAvailable(int[] selection, int d, int code) {
+        for (int other = 0; other < dimensions.length; other++) {
+            if (other != d && selection[other] < NONE) {
+                return false;
+            }
+        }
+        long[] candidate = masks[d][code];
+        for (int w = 0; w < inStock.length; w++) {
+            long bits = inStock[w] & candidate[w];
+            for (int other = 0; other < dimensions.length && bits != 0; other++) {
+                if (other != d && selection[other] != NONE) {
+                    bits &= masks[other][selection[other]][w];
+                }
+            }
+            if (bits != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Translates option names/values to codes. Unknown names are ignored, unknown values make
+     * the selection unsatisfiable and are returned as {@link Integer#MIN_VALUE}.
+     */
+    public int[] encode(Map<String, String> options) {
+        int[] codes = new int[dimensions.length];
+        Arrays.fill(codes, NONE);
+        Map<String, String> normalized = new HashMap<>();
+        options.forEach((name, value) -> normalized.put(VariantAttributes.normalizeName(name), value));
+        for (int d = 0; d < dimensions.length; d++) {
+            String value = normalized.get(dimensions[d]);
+            if (value != null && !value.isBlank()) {
+                int code = valueCode(d, value);
+                codes[d] = code == NONE ? Integer.MIN_VALUE : code;
+            }
+        }
+        return codes;
+    }
+
+    private static String foldValue(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
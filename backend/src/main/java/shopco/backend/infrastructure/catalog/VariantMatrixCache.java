@@ -0,0 +1,80 @@
+package shopco.backend.infrastructure.catalog;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+/**
+ * Per-product {@link VariantMatrix} cache. Matrices are built on first use and rebuilt after
+ * every committed write to one of the product's variants; the cache is bounded by evicting an
+ * arbitrary entry once it is full, which is enough to keep the hot product pages resident.
+ */
+@Component
+public class VariantMatrixCache {
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    private final ConcurrentHashMap<String, VariantMatrix> matrices = new ConcurrentHashMap<>();
+    private final int maxProducts;
+
+    public VariantMatrixCache(@Value("${shopco.catalog.variant-matrix.max-products:10000}") int maxProducts) {
+        this.maxProducts = maxProducts;
+    }
+
+    public VariantMatrix get(String productId) {
+        VariantMatrix matrix = matrices.get(productId);
+        if (matrix != null) {
+            return matrix;
+        }
+        evictIfFull();
+        return matrices.computeIfAbsent(productId, this::load);
+    }
+
+    public void invalidate(String productId) {
+        matrices.remove(productId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.type()) {
+            case PRODUCT -> {
+                if (event.removed()) {
+                    invalidate(event.productId());
+                }
+            }
+            // computeIfPresent serialises with a concurrent first load of the same product
+            case PRODUCT_VARIANT -> matrices.computeIfPresent(event.productId(), (productId, stale) -> load(productId));
+            default -> {
+                // other catalog rows do not affect variant options
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        if (event.types().contains(CatalogEntityType.PRODUCT_VARIANT)) {
+            event.productIds().forEach(this::invalidate);
+        }
+    }
+
+    private VariantMatrix load(String productId) {
+        return VariantMatrix.build(productId, productVariantRepository.findRowsByProductIdIn(List.of(productId)));
+    }
+
+    private void evictIfFull() {
+        Iterator<String> keys = matrices.keySet().iterator();
+        while (matrices.size() >= maxProducts && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
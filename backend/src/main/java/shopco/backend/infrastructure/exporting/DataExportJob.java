@@ -0,0 +1,54 @@
+package shopco.backend.infrastructure.exporting;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shopco.backend.application.dto.ExportRequestDto;
+import shopco.backend.domain.enums.ExportDataset;
+import shopco.backend.domain.enums.ExportFormat;
+
+/**
+ * Periodically refreshes gzip export files (e.g. the marketplace catalog feed) in a shared
+ * directory. Each file keeps a stable name and is replaced atomically, so feed consumers can
+ * poll it at any time. Disabled unless {@code shopco.exports.feed.cron} is set.
+ */
+@Component
+public class DataExportJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportJob.class);
+
+    @Autowired
+    private DataExporter dataExporter;
+
+    private final Path directory;
+    private final List<ExportDataset> datasets;
+    private final ExportFormat format;
+
+    public DataExportJob(@Value("${shopco.exports.directory:exports}") String directory,
+                         @Value("${shopco.exports.feed.datasets:CATALOG}") List<ExportDataset> datasets,
+                         @Value("${shopco.exports.feed.format:JSONL}") ExportFormat format) {
+        this.directory = Path.of(directory);
+        this.datasets = List.copyOf(datasets);
+        this.format = format;
+    }
+
+    @Scheduled(cron = "${shopco.exports.feed.cron:-}")
+    public void exportFeeds() {
+        for (ExportDataset dataset : datasets) {
+            ExportRequestDto request = new ExportRequestDto(dataset, format, true, null, null);
+            Path target = directory.resolve(request.filename("latest"));
+            try {
+                dataExporter.exportToFile(request, target);
+            } catch (IOException | RuntimeException ex) {
+                // Keep the previous file and still try the other feeds
+                log.warn("Scheduled {} export to {} failed", dataset, target, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package shopco.backend.infrastructure.exporting;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.CatalogExportRow;
+import shopco.backend.application.dto.ExportRequestDto;
+import shopco.backend.application.dto.OrderExportRow;
+import shopco.backend.application.dto.ReviewExportRow;
+import shopco.backend.application.dto.UserExportRow;
+import shopco.backend.infrastructure.importing.CatalogRowValidator;
+import shopco.backend.infrastructure.repository.OrderRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ReviewRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+
+/**
+ * Streams a dataset from a server-side cursor straight into an output stream.
+ * Each query is a read-only DTO projection consumed as a {@link Stream} inside one transaction,
+ * so rows are pulled from the database a fetch-size block at a time and never enter a
+ * persistence context; heap use is the fetch block plus the writer's buffer, whatever the table
+ * size. The catalog export uses the import column names, so a file can be edited and imported
+ * back.
+ */
+@Component
+public class DataExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExporter.class);
+
+    private static final LocalDateTime NO_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime NO_UPPER_BOUND = LocalDateTime.of(9999, 1, 1, 0, 0);
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
+    private static final List<String> CATALOG_COLUMNS = List.of(
+            CatalogRowValidator.PRODUCT_SLUG, CatalogRowValidator.PRODUCT_NAME, CatalogRowValidator.DESCRIPTION,
+            CatalogRowValidator.STATUS, CatalogRowValidator.BRAND_SLUG, CatalogRowValidator.BRAND_NAME,
+            CatalogRowValidator.CATEGORY_SLUG, CatalogRowValidator.CATEGORY_NAME, CatalogRowValidator.SKU,
+            CatalogRowValidator.PRICE, CatalogRowValidator.SALE_PRICE, CatalogRowValidator.STOCK,
+            CatalogRowValidator.WEIGHT, CatalogRowValidator.BARCODE, CatalogRowValidator.ATTRIBUTES);
+    private static final List<String> ORDER_COLUMNS = List.of(
+            "order_id", "order_no", "created_at", "user_id", "order_status", "pay_status", "payment_method",
+            "coupon_code", "total_amount", "shipping_fee", "discount_amount", "final_amount", "item_id",
+            "variant_id", "product_name", "variant_attributes", "unit_price", "quantity", "subtotal");
+    private static final List<String> USER_COLUMNS = List.of(
+            "id", "name", "email", "email_verified", "role", "banned", "created_at");
+    private static final List<String> REVIEW_COLUMNS = List.of(
+            "id", "product_id", "user_id", "order_item_id", "rating", "title", "body", "status", "created_at");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DataExporter(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Writes the requested dataset to {@code output}, gzip-compressed if asked. The stream is
+     * flushed but not closed.
+     *
+     * @return the number of rows written
+     */
+    public long export(ExportRequestDto request, OutputStream output) throws IOException {
+        long started = System.currentTimeMillis();
+        LocalDateTime since = request.since() != null ? request.since() : NO_LOWER_BOUND;
+        LocalDateTime until = request.until() != null ? request.until() : NO_UPPER_BOUND;
+        GZIPOutputStream gzip = request.gzip() ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE) : null;
+        OutputStream target = gzip != null ? gzip : output;
+        long rows;
+        try {
+            rows = switch (request.dataset()) {
+                case CATALOG -> copy(request, target, CATALOG_COLUMNS,
+                        productRepository::streamCatalogExportRows, DataExporter::catalogValues);
+                case ORDERS -> copy(request, target, ORDER_COLUMNS,
+                        () -> orderRepository.streamExportRows(since, until), DataExporter::orderValues);
+                case USERS -> copy(request, target, USER_COLUMNS,
+                        () -> userRepository.streamExportRows(since, until), DataExporter::userValues);
+                case REVIEWS -> copy(request, target, REVIEW_COLUMNS,
+                        () -> reviewRepository.streamExportRows(since, until), DataExporter::reviewValues);
+            };
+        } catch (UncheckedIOException ex) {
+            // Usually the client went away mid-download
+            throw ex.getCause();
+        }
+        if (gzip != null) {
+            gzip.finish();
+        }
+        output.flush();
+        log.info("Exported {} {} rows as {} in {} ms", rows, request.dataset(), request.format(),
+                System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    /**
+     * Exports to {@code target} through a temporary file in the same directory that is moved into
+     * place once complete, so readers of the file never see a partial export.
+     */
+    public long exportToFile(ExportRequestDto request, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path partial = Files.createTempFile(directory, target.getFileName().toString(), ".part");
+        try {
+            long rows;
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(partial), GZIP_BUFFER_SIZE)) {
+                rows = export(request, output);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    private <T> long copy(ExportRequestDto request, OutputStream output, List<String> columns,
+                          Supplier<Stream<T>> query, Function<T, Object[]> values) {
+        Long written = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (ExportRowWriter writer = ExportRowWriter.open(request.format(), output, columns);
+                 Stream<T> rows = query.get()) {
+                for (T row : (Iterable<T>) rows::iterator) {
+                    writer.write(values.apply(row));
+                    count++;
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return count;
+        });
+        return written == null ? 0 : written;
+    }
+
+    private static Object[] catalogValues(CatalogExportRow row) {
+        return new Object[]{row.productSlug(), row.productName(), row.description(), row.status(),
+                row.brandSlug(), row.brandName(), row.categorySlug(), row.categoryName(), row.sku(),
+                row.price(), row.salePrice(), row.stock(), row.weight(), row.barcode(), row.attributes()};
+    }
+
+    private static Object[] orderValues(OrderExportRow row) {
+        return new Object[]{row.orderId(), row.orderNo(), row.createdAt(), row.userId(), row.orderStatus(),
+                row.payStatus(), row.paymentMethod(), row.couponCode(), row.totalAmount(), row.shippingFee(),
+                row.discountAmount(), row.finalAmount(), row.itemId(), row.variantId(), row.productName(),
+                row.variantAttributes(), row.unitPrice(), row.quantity(), row.subtotal()};
+    }
+
+    private static Object[] userValues(UserExportRow row) {
+        return new Object[]{row.id(), row.name(), row.email(), row.emailVerified(), row.role(), row.banned(),
+                row.createdAt()};
+    }
+
+    private static Object[] reviewValues(ReviewExportRow row) {
+        return new Object[]{row.id(), row.productId(), row.userId(), row.orderItemId(), row.rating(),
+                row.title(), row.body(), row.status(), row.createdAt()};
+    }
+}
@@ -0,0 +1,32 @@
+package shopco.backend.infrastructure.exporting;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import shopco.backend.domain.enums.ExportFormat;
+
+/**
+ * Encodes export rows straight onto an output stream through a fixed-size buffer, so nothing
+ * but the current row is ever held in memory.
+ */
+public interface ExportRowWriter extends Closeable {
+
+    /**
+     * @param values one value per column; null, String, Number, Boolean, Enum or temporal
+     */
+    void write(Object[] values) throws IOException;
+
+    /**
+     * Flushes buffered output. Closing does not close the underlying stream.
+     */
+    @Override
+    void close() throws IOException;
+
+    static ExportRowWriter open(ExportFormat format, OutputStream output, List<String> columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportRowWriter(output, columns);
+            case JSONL -> new JsonLinesExportRowWriter(output, columns);
+        };
+    }
+}
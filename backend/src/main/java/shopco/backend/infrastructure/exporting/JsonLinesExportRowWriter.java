@@ -0,0 +1,63 @@
+package shopco.backend.infrastructure.exporting;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * JSON Lines: one object per row keyed by column name. Null values are left out, numbers and
+ * booleans keep their JSON types and everything else is written as a string.
+ */
+final class JsonLinesExportRowWriter implements ExportRowWriter {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder().build();
+
+    private final JsonGenerator generator;
+    private final String[] columns;
+    private boolean empty = true;
+
+    JsonLinesExportRowWriter(OutputStream output, List<String> columns) throws IOException {
+        this.generator = FACTORY.createGenerator(output, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Separates root values with a newline instead of the default space
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        this.columns = columns.toArray(String[]::new);
+    }
+
+    @Override
+    public void write(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            generator.writeFieldName(columns[i]);
+            switch (value) {
+                case BigDecimal decimal -> generator.writeNumber(decimal);
+                case Integer number -> generator.writeNumber(number);
+                case Long number -> generator.writeNumber(number);
+                case Float number -> generator.writeNumber(number);
+                case Double number -> generator.writeNumber(number);
+                case Boolean flag -> generator.writeBoolean(flag);
+                default -> generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        empty = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Terminate the last line too, so concatenated files stay valid JSON Lines
+        if (!empty) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+}
@@ -0,0 +1,460 @@
+package shopco.backend.infrastructure.importing;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.CatalogImportErrorDto;
+import shopco.backend.application.dto.CatalogImportRow;
+import shopco.backend.application.dto.KeyIdRow;
+import shopco.backend.application.dto.ProductTagIdRow;
+import shopco.backend.application.dto.VariantSkuRow;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.BrandRepository;
+import shopco.backend.infrastructure.repository.CategoryRepository;
+import shopco.backend.infrastructure.repository.ProductImageRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductTagRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+import shopco.backend.infrastructure.repository.TagRepository;
+
+/**
+ * Writes one batch of validated import rows in a single transaction.
+ * Natural keys (slugs, SKUs) are resolved to ids with one IN query per table, then every table is
+ * written with one JDBC batch of inserts and one of updates, so a batch costs a fixed number of
+ * round trips instead of a {@code save()} per entity. Brands, categories and tags are only
+ * created, never renamed; products and variants are upserted. When a batch violates a
+ * constraint it is replayed row by row so only the offending rows are rejected.
+ */
+@Component
+public class CatalogImportWriter {
+
+    private static final String INSERT_BRAND = """
+            INSERT INTO brand (id, name, slug, active, created_at, updated_at)
+            VALUES (?, ?, ?, TRUE, ?, ?)
+            """;
+    private static final String INSERT_CATEGORY = """
+            INSERT INTO category (id, name, slug, parent_id, sort_order, active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, TRUE, ?, ?)
+            """;
+    private static final String INSERT_TAG = "INSERT INTO tag (id, name, slug, updated_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO product (id, name, slug, description, brand_id, category_id, default_image, status,
+                                 created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    // Blank optional columns keep the stored value
+    private static final String UPDATE_PRODUCT = """
+            UPDATE product
+            SET name = ?,
+                description = COALESCE(?, description),
+                brand_id = COALESCE(?, brand_id),
+                category_id = COALESCE(?, category_id),
+                default_image = COALESCE(?, default_image),
+                status = COALESCE(?, status),
+                updated_at = ?
+            WHERE id = ?
+            """;
+    private static final String INSERT_VARIANT = """
+            INSERT INTO product_variant (id, product_id, sku, attributes, price, sale_price, stock_quantity,
+                                         weight, barcode, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_VARIANT = """
+            UPDATE product_variant
+            SET attributes = ?, price = ?, sale_price = ?, stock_quantity = ?, weight = ?, barcode = ?,
+                updated_at = ?
+            WHERE id = ?
+            """;
+    private static final String INSERT_IMAGE = """
+            INSERT INTO product_image (id, product_id, url, alt_text, sort_order, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_IMAGE = "UPDATE product_image SET sort_order = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT_PRODUCT_TAG = "INSERT INTO product_tag (product_id, tag_id) VALUES (?, ?)";
+
+    private static final int[] BRAND_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+    private static final int[] CATEGORY_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+    private static final int[] TAG_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP};
+    private static final int[] INSERT_PRODUCT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP};
+    private static final int[] UPDATE_PRODUCT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.TIMESTAMP, Types.VARCHAR};
+    private static final int[] INSERT_VARIANT_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.NUMERIC,
+            Types.INTEGER, Types.REAL, Types.VARCHAR, Types.TIMESTAMP};
+    private static final int[] UPDATE_VARIANT_TYPES = {
+            Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.INTEGER, Types.REAL, Types.VARCHAR, Types.TIMESTAMP,
+            Types.VARCHAR};
+    private static final int[] INSERT_IMAGE_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP};
+    private static final int[] UPDATE_IMAGE_TYPES = {Types.INTEGER, Types.TIMESTAMP, Types.VARCHAR};
+    private static final int[] PRODUCT_TAG_TYPES = {Types.VARCHAR, Types.VARCHAR};
+
+    private static final int MAX_ERROR_LENGTH = 300;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CatalogImportWriter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Brand, category and tag slug to id mappings already seen by one import. Taxonomy is small
+     * compared to the feed, so caching it saves a lookup per batch; products and SKUs are looked
+     * up per batch to keep memory independent of the file size.
+     */
+    public static final class TaxonomyIds {
+        private final Map<String, String> brands = new HashMap<>();
+        private final Map<String, String> categories = new HashMap<>();
+        private final Map<String, String> tags = new HashMap<>();
+
+        private void putAll(TaxonomyIds other) {
+            brands.putAll(other.brands);
+            categories.putAll(other.categories);
+            tags.putAll(other.tags);
+        }
+    }
+
+    /**
+     * @param importedRows rows written; the others are listed in {@code errors}
+     */
+    public record BatchResult(int importedRows, int productsWritten, int variantsWritten,
+                              List<CatalogImportErrorDto> errors) {
+    }
+
+    public BatchResult write(List<CatalogImportRow> rows, TaxonomyIds known) {
+        TaxonomyIds created = new TaxonomyIds();
+        try {
+            BatchResult result = transactionTemplate.execute(status -> writeBatch(rows, known, created));
+            // Only ids that were committed may be reused by later batches
+            known.putAll(created);
+            return result;
+        } catch (DataIntegrityViolationException ex) {
+            if (rows.size() == 1) {
+                return new BatchResult(0, 0, 0,
+                        List.of(new CatalogImportErrorDto(rows.get(0).line(), describe(ex))));
+            }
+            int imported = 0;
+            int products = 0;
+            int variants = 0;
+            List<CatalogImportErrorDto> errors = new ArrayList<>();
+            for (CatalogImportRow row : rows) {
+                BatchResult single = write(List.of(row), known);
+                imported += single.importedRows();
+                products += single.productsWritten();
+                variants += single.variantsWritten();
+                errors.addAll(single.errors());
+            }
+            return new BatchResult(imported, products, variants, errors);
+        }
+    }
+
+    private BatchResult writeBatch(List<CatalogImportRow> rows, TaxonomyIds known, TaxonomyIds created) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<CatalogImportErrorDto> errors = new ArrayList<>();
+        Set<CatalogEntityType> types = EnumSet.noneOf(CatalogEntityType.class);
+
+        // --- Taxonomy: resolve slugs, create what is missing ---
+        loadMissing(known.brands, rows.stream().map(CatalogImportRow::brandSlug).toList(),
+                brandRepository::findIdsBySlugIn);
+        List<String> categorySlugs = new ArrayList<>();
+        List<String> tagSlugs = new ArrayList<>();
+        for (CatalogImportRow row : rows) {
+            categorySlugs.add(row.categorySlug());
+            categorySlugs.add(row.parentCategorySlug());
+            row.tags().forEach(tag -> tagSlugs.add(CatalogRowValidator.toSlug(tag)));
+        }
+        loadMissing(known.categories, categorySlugs, categoryRepository::findIdsBySlugIn);
+        loadMissing(known.tags, tagSlugs, tagRepository::findIdsBySlugIn);
+
+        List<Object[]> brandInserts = new ArrayList<>();
+        List<Object[]> categoryInserts = new ArrayList<>();
+        List<Object[]> tagInserts = new ArrayList<>();
+        List<Resolved> resolved = new ArrayList<>(rows.size());
+        for (CatalogImportRow row : rows) {
+            String brandId = null;
+            if (row.brandSlug() != null) {
+                brandId = lookup(known.brands, created.brands, row.brandSlug());
+                if (brandId == null && row.brandName() == null) {
+                    errors.add(new CatalogImportErrorDto(row.line(),
+                            "Brand '" + row.brandSlug() + "' does not exist; add brand_name to create it"));
+                    continue;
+                }
+                if (brandId == null) {
+                    brandId = newId();
+                    created.brands.put(row.brandSlug(), brandId);
+                    brandInserts.add(new Object[]{brandId, row.brandName(), row.brandSlug(), now, now});
+                }
+            }
+
+            String categoryId = null;
+            if (row.categorySlug() != null) {
+                categoryId = lookup(known.categories, created.categories, row.categorySlug());
+                if (categoryId == null && row.categoryName() == null) {
+                    errors.add(new CatalogImportErrorDto(row.line(),
+                            "Category '" + row.categorySlug() + "' does not exist; add category_name to create it"));
+                    continue;
+                }
+                if (categoryId == null) {
+                    String parentId = null;
+                    if (row.parentCategorySlug() != null) {
+                        parentId = lookup(known.categories, created.categories, row.parentCategorySlug());
+                        if (parentId == null) {
+                            errors.add(new CatalogImportErrorDto(row.line(), "Parent category '"
+                                    + row.parentCategorySlug() + "' does not exist or appears on a later row"));
+                            continue;
+                        }
+                    }
+                    categoryId = newId();
+                    created.categories.put(row.categorySlug(), categoryId);
+                    categoryInserts.add(new Object[]{
+                            categoryId, row.categoryName(), row.categorySlug(), parentId, now, now});
+                }
+            }
+
+            List<String> tagIds = new ArrayList<>(row.tags().size());
+            for (String tag : row.tags()) {
+                String slug = CatalogRowValidator.toSlug(tag);
+                String tagId = lookup(known.tags, created.tags, slug);
+                if (tagId == null) {
+                    tagId = newId();
+                    created.tags.put(slug, tagId);
+                    tagInserts.add(new Object[]{tagId, tag, slug, now});
+                }
+                tagIds.add(tagId);
+            }
+            resolved.add(new Resolved(row, brandId, categoryId, tagIds));
+        }
+
+        // --- Products and variants: upsert by slug and SKU ---
+        Map<String, String> productIds = ids(productRepository.findIdsBySlugIn(
+                resolved.stream().map(entry -> entry.row().productSlug()).distinct().toList()));
+        Set<String> existingProducts = new HashSet<>(productIds.values());
+        Map<String, VariantSkuRow> existingSkus = new HashMap<>();
+        productVariantRepository.findSkuRowsBySkuIn(resolved.stream().map(entry -> entry.row().sku()).toList())
+                .forEach(sku -> existingSkus.put(sku.sku(), sku));
+
+        Map<String, List<Resolved>> byProduct = new LinkedHashMap<>();
+        Map<String, Resolved> bySku = new LinkedHashMap<>();
+        for (Resolved entry : resolved) {
+            CatalogImportRow row = entry.row();
+            String productId = productIds.computeIfAbsent(row.productSlug(), slug -> newId());
+            VariantSkuRow existing = existingSkus.get(row.sku());
+            Resolved earlier = bySku.get(row.sku());
+            if ((existing != null && !existing.productId().equals(productId))
+                    || (earlier != null && !earlier.row().productSlug().equals(row.productSlug()))) {
+                errors.add(new CatalogImportErrorDto(row.line(),
+                        "SKU '" + row.sku() + "' already belongs to another product"));
+                continue;
+            }
+            // A SKU repeated within the batch keeps its last row
+            bySku.put(row.sku(), entry);
+            byProduct.computeIfAbsent(row.productSlug(), slug -> new ArrayList<>()).add(entry);
+        }
+
+        List<Object[]> productInserts = new ArrayList<>();
+        List<Object[]> productUpdates = new ArrayList<>();
+        Map<String, Object[]> imageCandidates = new LinkedHashMap<>();
+        Map<String, Set<String>> tagsByProduct = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Resolved>> group : byProduct.entrySet()) {
+            String productId = productIds.get(group.getKey());
+            // Product columns come from the product's first row in the batch
+            Resolved first = group.getValue().get(0);
+            CatalogImportRow row = first.row();
+            List<String> images = group.getValue().stream()
+                    .map(entry -> entry.row().images())
+                    .filter(list -> !list.isEmpty())
+                    .findFirst()
+                    .orElse(List.of());
+            String defaultImage = images.isEmpty() ? null : images.get(0);
+            String status = row.status() == null ? null : row.status().name();
+            if (existingProducts.contains(productId)) {
+                productUpdates.add(new Object[]{row.productName(), row.description(), first.brandId(),
+                        first.categoryId(), defaultImage, status, now, productId});
+            } else {
+                productInserts.add(new Object[]{productId, row.productName(), row.productSlug(), row.description(),
+                        first.brandId(), first.categoryId(), defaultImage, status == null ? "DRAFT" : status, now, now});
+            }
+            for (int i = 0; i < images.size(); i++) {
+                String imageId = imageId(productId, images.get(i));
+                imageCandidates.put(imageId, new Object[]{imageId, productId, images.get(i), row.productName(), i, now});
+            }
+            Set<String> tagIds = new LinkedHashSet<>();
+            group.getValue().forEach(entry -> tagIds.addAll(entry.tagIds()));
+            if (!tagIds.isEmpty()) {
+                tagsByProduct.put(productId, tagIds);
+            }
+        }
+
+        List<Object[]> variantInserts = new ArrayList<>();
+        List<Object[]> variantUpdates = new ArrayList<>();
+        for (Resolved entry : bySku.values()) {
+            CatalogImportRow row = entry.row();
+            VariantSkuRow existing = existingSkus.get(row.sku());
+            if (existing != null) {
+                variantUpdates.add(new Object[]{row.attributes(), row.price(), row.salePrice(), row.stock(),
+                        row.weight(), row.barcode(), now, existing.id()});
+            } else {
+                variantInserts.add(new Object[]{newId(), productIds.get(row.productSlug()), row.sku(), row.attributes(),
+                        row.price(), row.salePrice(), row.stock(), row.weight(), row.barcode(), now});
+            }
+        }
+
+        // --- Images and tag links: insert what is missing ---
+        List<Object[]> imageInserts = new ArrayList<>();
+        List<Object[]> imageUpdates = new ArrayList<>();
+        if (!imageCandidates.isEmpty()) {
+            Set<String> existingImages = new HashSet<>(productImageRepository.findExistingIds(imageCandidates.keySet()));
+            imageCandidates.forEach((imageId, insert) -> {
+                if (existingImages.contains(imageId)) {
+                    imageUpdates.add(new Object[]{insert[4], now, imageId});
+                } else {
+                    imageInserts.add(insert);
+                }
+            });
+        }
+
+        List<Object[]> productTagInserts = new ArrayList<>();
+        if (!tagsByProduct.isEmpty()) {
+            List<String> existingIds = tagsByProduct.keySet().stream().filter(existingProducts::contains).toList();
+            Set<ProductTagIdRow> existingLinks = existingIds.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(productTagRepository.findTagIdsByProductIdIn(existingIds));
+            tagsByProduct.forEach((productId, tagIds) -> tagIds.forEach(tagId -> {
+                if (!existingLinks.contains(new ProductTagIdRow(productId, tagId))) {
+                    productTagInserts.add(new Object[]{productId, tagId});
+                }
+            }));
+        }
+
+        // Parents before children: brands/categories/tags, then products, then their rows
+        batch(INSERT_BRAND, brandInserts, BRAND_TYPES, types, CatalogEntityType.BRAND);
+        batch(INSERT_CATEGORY, categoryInserts, CATEGORY_TYPES, types, CatalogEntityType.CATEGORY);
+        batch(INSERT_TAG, tagInserts, TAG_TYPES, types, CatalogEntityType.TAG);
+        batch(INSERT_PRODUCT, productInserts, INSERT_PRODUCT_TYPES, types, CatalogEntityType.PRODUCT);
+        batch(UPDATE_PRODUCT, productUpdates, UPDATE_PRODUCT_TYPES, types, CatalogEntityType.PRODUCT);
+        batch(INSERT_VARIANT, variantInserts, INSERT_VARIANT_TYPES, types, CatalogEntityType.PRODUCT_VARIANT);
+        batch(UPDATE_VARIANT, variantUpdates, UPDATE_VARIANT_TYPES, types, CatalogEntityType.PRODUCT_VARIANT);
+        batch(INSERT_IMAGE, imageInserts, INSERT_IMAGE_TYPES, types, CatalogEntityType.PRODUCT);
+        batch(UPDATE_IMAGE, imageUpdates, UPDATE_IMAGE_TYPES, types, CatalogEntityType.PRODUCT);
+        batch(INSERT_PRODUCT_TAG, productTagInserts, PRODUCT_TAG_TYPES, types, CatalogEntityType.PRODUCT_TAG);
+
+        if (!types.isEmpty()) {
+            Set<String> written = new HashSet<>();
+            byProduct.keySet().forEach(slug -> written.add(productIds.get(slug)));
+            // Delivered to read models after commit, like the per-entity events
+            eventPublisher.publishEvent(new CatalogBulkChangedEvent(types, written));
+        }
+        return new BatchResult(rows.size() - errors.size(), byProduct.size(), bySku.size(), errors);
+    }
+
+    private void batch(String sql, List<Object[]> arguments, int[] argumentTypes,
+                       Set<CatalogEntityType> types, CatalogEntityType type) {
+        if (!arguments.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, arguments, argumentTypes);
+            types.add(type);
+        }
+    }
+
+    private static void loadMissing(Map<String, String> known, Collection<String> slugs,
+                                    Function<Collection<String>, List<KeyIdRow>> finder) {
+        Set<String> missing = new HashSet<>();
+        for (String slug : slugs) {
+            if (slug != null && !known.containsKey(slug)) {
+                missing.add(slug);
+            }
+        }
+        if (!missing.isEmpty()) {
+            known.putAll(ids(finder.apply(missing)));
+        }
+    }
+
+    private static String lookup(Map<String, String> known, Map<String, String> created, String slug) {
+        String id = known.get(slug);
+        return id != null ? id : created.get(slug);
+    }
+
+    private static Map<String, String> ids(List<KeyIdRow> rows) {
+        Map<String, String> ids = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> ids.put(row.key(), row.id()));
+        return ids;
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Name-based id, so importing the same image URL for a product again updates one row.
+     */
+    static String imageId(String productId, String url) {
+        return UUID.nameUUIDFromBytes((productId + '\n' + url).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static String describe(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        if (message == null) {
+            message = ex.getClass().getSimpleName();
+        }
+        int newline = message.indexOf('\n');
+        if (newline > 0) {
+            message = message.substring(0, newline);
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private record Resolved(CatalogImportRow row, String brandId, String categoryId, List<String> tagIds) {
+    }
+}
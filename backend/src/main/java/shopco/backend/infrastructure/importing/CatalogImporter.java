@@ -0,0 +1,178 @@
+package shopco.backend.infrastructure.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shopco.backend.application.dto.CatalogImportErrorDto;
+import shopco.backend.application.dto.CatalogImportReportDto;
+import shopco.backend.application.dto.CatalogImportRow;
+import shopco.backend.domain.enums.CatalogImportFormat;
+import shopco.backend.infrastructure.importing.CatalogRecordReader.MalformedRecordException;
+import shopco.backend.infrastructure.importing.CatalogRecordReader.RawRecord;
+
+/**
+ * Streams a supplier feed into the catalog through three concurrent stages: parsing and
+ * validation each run on their own virtual thread and hand batches to the next stage through
+ * small bounded queues, while the calling thread writes validated batches with
+ * {@link CatalogImportWriter}. The queues cap how many batches are in flight, so memory stays
+ * flat however large the file is, and a slow database simply back-pressures the parser.
+ */
+@Component
+public class CatalogImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImporter.class);
+
+    private static final int QUEUE_DEPTH = 4;
+
+    @Autowired
+    private CatalogImportWriter catalogImportWriter;
+
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public CatalogImporter(@Value("${shopco.catalog.import.batch-size:1000}") int batchSize,
+                           @Value("${shopco.catalog.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * @param records source records this batch accounts for, including rejected ones
+     * @param last    true for the final batch of the input
+     */
+    private record Batch<T>(List<T> items, List<CatalogImportErrorDto> errors, int records, boolean last) {
+    }
+
+    public CatalogImportReportDto importFeed(CatalogImportFormat format, InputStream input) {
+        long started = System.nanoTime();
+        BlockingQueue<Batch<RawRecord>> parsed = new ArrayBlockingQueue<>(QUEUE_DEPTH);
+        BlockingQueue<Batch<CatalogImportRow>> validated = new ArrayBlockingQueue<>(QUEUE_DEPTH);
+        CatalogImportWriter.TaxonomyIds known = new CatalogImportWriter.TaxonomyIds();
+
+        long totalRows = 0;
+        long importedRows = 0;
+        long productsWritten = 0;
+        long variantsWritten = 0;
+        long failedRows = 0;
+        List<CatalogImportErrorDto> errors = new ArrayList<>();
+        boolean errorsTruncated = false;
+
+        ExecutorService stages = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            stages.execute(() -> parse(format, input, parsed));
+            stages.execute(() -> validate(parsed, validated));
+            Batch<CatalogImportRow> batch;
+            do {
+                batch = validated.take();
+                totalRows += batch.records();
+                List<CatalogImportErrorDto> batchErrors = new ArrayList<>(batch.errors());
+                if (!batch.items().isEmpty()) {
+                    CatalogImportWriter.BatchResult result = catalogImportWriter.write(batch.items(), known);
+                    importedRows += result.importedRows();
+                    productsWritten += result.productsWritten();
+                    variantsWritten += result.variantsWritten();
+                    batchErrors.addAll(result.errors());
+                }
+                for (CatalogImportErrorDto error : batchErrors) {
+                    if (error.line() > 0) {
+                        failedRows++;
+                    }
+                    if (errors.size() < maxReportedErrors) {
+                        errors.add(error);
+                    } else {
+                        errorsTruncated = true;
+                    }
+                }
+            } while (!batch.last());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Catalog import was interrupted", ex);
+        } finally {
+            // Unblocks the reading stages when the write stage gave up early
+            stages.shutdownNow();
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        long rowsPerSecond = totalRows * 1000 / elapsedMs;
+        log.info("Catalog import read {} rows ({} imported, {} failed) in {} ms, {} rows/s",
+                totalRows, importedRows, failedRows, elapsedMs, rowsPerSecond);
+        return new CatalogImportReportDto(totalRows, importedRows, failedRows, productsWritten, variantsWritten,
+                elapsedMs, rowsPerSecond, List.copyOf(errors), errorsTruncated);
+    }
+
+    private void parse(CatalogImportFormat format, InputStream input, BlockingQueue<Batch<RawRecord>> out) {
+        List<RawRecord> records = new ArrayList<>(batchSize);
+        List<CatalogImportErrorDto> errors = new ArrayList<>();
+        try (CatalogRecordReader reader = CatalogRecordReader.open(format, input)) {
+            while (true) {
+                RawRecord record;
+                try {
+                    record = reader.next();
+                } catch (MalformedRecordException ex) {
+                    errors.add(new CatalogImportErrorDto(ex.line(), ex.getMessage()));
+                    if (ex.fatal()) {
+                        break;
+                    }
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                records.add(record);
+                if (records.size() + errors.size() >= batchSize) {
+                    out.put(new Batch<>(records, errors, records.size() + errors.size(), false));
+                    records = new ArrayList<>(batchSize);
+                    errors = new ArrayList<>();
+                }
+            }
+        } catch (MalformedRecordException ex) {
+            // The header itself could not be read
+            errors.add(new CatalogImportErrorDto(ex.line(), ex.getMessage()));
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Catalog import stopped reading its input", ex);
+            errors.add(new CatalogImportErrorDto(0, "Could not read the file: " + ex.getMessage()));
+        } catch (InterruptedException ex) {
+            return;
+        }
+        try {
+            out.put(new Batch<>(records, errors, records.size() + errors.size(), true));
+        } catch (InterruptedException ex) {
+            // The import was abandoned; nobody is waiting for the final batch
+        }
+    }
+
+    private void validate(BlockingQueue<Batch<RawRecord>> in, BlockingQueue<Batch<CatalogImportRow>> out) {
+        try {
+            Batch<RawRecord> batch;
+            do {
+                batch = in.take();
+                List<CatalogImportRow> rows = new ArrayList<>(batch.items().size());
+                List<CatalogImportErrorDto> errors = new ArrayList<>(batch.errors());
+                for (RawRecord record : batch.items()) {
+                    try {
+                        rows.add(CatalogRowValidator.validate(record));
+                    } catch (IllegalArgumentException ex) {
+                        errors.add(new CatalogImportErrorDto(record.line(), ex.getMessage()));
+                    } catch (RuntimeException ex) {
+                        // Never let one odd record stall the pipeline
+                        log.warn("Unexpected error validating import line {}", record.line(), ex);
+                        errors.add(new CatalogImportErrorDto(record.line(), "Row could not be validated"));
+                    }
+                }
+                out.put(new Batch<>(rows, errors, batch.records(), batch.last()));
+            } while (!batch.last());
+        } catch (InterruptedException ex) {
+            // The import was abandoned
+        }
+    }
+}
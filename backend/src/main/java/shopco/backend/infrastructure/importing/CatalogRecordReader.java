@@ -0,0 +1,58 @@
+package shopco.backend.infrastructure.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import shopco.backend.domain.enums.CatalogImportFormat;
+
+/**
+ * Streams raw records out of a supplier feed one at a time, so memory use does not depend on
+ * the size of the file.
+ */
+public interface CatalogRecordReader extends Closeable {
+
+    /**
+     * @param line   line of the file the record started on
+     * @param fields column name (lower-case) to raw text; blank cells are absent or empty
+     */
+    record RawRecord(long line, Map<String, String> fields) {
+    }
+
+    /**
+     * @return the next record, or null at the end of the input
+     * @throws MalformedRecordException when the record cannot be decoded; reading may continue
+     */
+    RawRecord next() throws IOException;
+
+    static CatalogRecordReader open(CatalogImportFormat format, InputStream input) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordReader(input);
+            case JSONL -> new JsonLinesRecordReader(input);
+        };
+    }
+
+    /**
+     * A single record could not be decoded. When {@code fatal} is set the rest of the input
+     * cannot be trusted either (e.g. an unterminated quote) and reading must stop.
+     */
+    final class MalformedRecordException extends IOException {
+
+        private final long line;
+        private final boolean fatal;
+
+        public MalformedRecordException(long line, String message, boolean fatal) {
+            super(message);
+            this.line = line;
+            this.fatal = fatal;
+        }
+
+        public long line() {
+            return line;
+        }
+
+        public boolean fatal() {
+            return fatal;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package shopco.backend.infrastructure.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import shopco.backend.application.dto.CatalogImportRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.importing.CatalogRecordReader.RawRecord;
+import shopco.backend.infrastructure.search.SearchTextAnalyzer;
+
+/**
+ * Turns a raw feed record into a {@link CatalogImportRow}, or rejects it with a message naming
+ * the offending column. Checks here need no database access; references to existing rows
+ * (brand, category, SKU owner) are checked by {@link CatalogImportWriter}.
+ */
+public final class CatalogRowValidator {
+
+    public static final String PRODUCT_SLUG = "product_slug";
+    public static final String PRODUCT_NAME = "product_name";
+    public static final String DESCRIPTION = "description";
+    public static final String STATUS = "status";
+    public static final String BRAND_SLUG = "brand_slug";
+    public static final String BRAND_NAME = "brand_name";
+    public static final String CATEGORY_SLUG = "category_slug";
+    public static final String CATEGORY_NAME = "category_name";
+    public static final String PARENT_CATEGORY_SLUG = "parent_category_slug";
+    public static final String TAGS = "tags";
+    public static final String IMAGES = "images";
+    public static final String SKU = "sku";
+    public static final String PRICE = "price";
+    public static final String SALE_PRICE = "sale_price";
+    public static final String STOCK = "stock";
+    public static final String WEIGHT = "weight";
+    public static final String BARCODE = "barcode";
+    public static final String ATTRIBUTES = "attributes";
+
+    // Mirrors the precision/scale of the variant price columns
+    private static final int PRICE_PRECISION = 12;
+    private static final int PRICE_SCALE = 2;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CatalogRowValidator() {
+    }
+
+    public static CatalogImportRow validate(RawRecord record) {
+        Map<String, String> fields = record.fields();
+        String productName = text(fields, PRODUCT_NAME);
+        if (productName == null) {
+            throw new IllegalArgumentException(PRODUCT_NAME + " is required");
+        }
+        String productSlug = slug(fields, PRODUCT_SLUG, productName);
+
+        String brandName = text(fields, BRAND_NAME);
+        String brandSlug = slug(fields, BRAND_SLUG, brandName);
+        String categoryName = text(fields, CATEGORY_NAME);
+        String categorySlug = slug(fields, CATEGORY_SLUG, categoryName);
+        String parentCategorySlug = slug(fields, PARENT_CATEGORY_SLUG, null);
+        if (parentCategorySlug != null && categorySlug == null) {
+            throw new IllegalArgumentException(PARENT_CATEGORY_SLUG + " needs " + CATEGORY_SLUG + " or " + CATEGORY_NAME);
+        }
+        if (parentCategorySlug != null && parentCategorySlug.equals(categorySlug)) {
+            throw new IllegalArgumentException("A category cannot be its own parent");
+        }
+
+        String sku = text(fields, SKU);
+        if (sku == null) {
+            throw new IllegalArgumentException(SKU + " is required");
+        }
+        BigDecimal price = price(fields, PRICE);
+        if (price == null) {
+            throw new IllegalArgumentException(PRICE + " is required");
+        }
+        BigDecimal salePrice = price(fields, SALE_PRICE);
+        if (salePrice != null && salePrice.compareTo(price) > 0) {
+            throw new IllegalArgumentException(SALE_PRICE + " must not exceed " + PRICE);
+        }
+
+        List<String> tags = list(fields, TAGS);
+        for (String tag : tags) {
+            if (toSlug(tag).isEmpty()) {
+                throw new IllegalArgumentException("Tag '" + tag + "' has no letters or digits");
+            }
+        }
+
+        return new CatalogImportRow(
+                record.line(),
+                productSlug,
+                productName,
+                text(fields, DESCRIPTION),
+                status(fields),
+                brandSlug,
+                brandName,
+                categorySlug,
+                categoryName,
+                parentCategorySlug,
+                tags,
+                list(fields, IMAGES),
+                sku,
+                price,
+                salePrice,
+                stock(fields),
+                weight(fields),
+                text(fields, BARCODE),
+                attributes(fields));
+    }
+
+    /**
+     * Lower-case, accent-folded, hyphen-separated form used for every slug the import writes.
+     */
+    public static String toSlug(String text) {
+        return String.join("-", SearchTextAnalyzer.tokenize(text));
+    }
+
+    private static String text(Map<String, String> fields, String column) {
+        String value = fields.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > MAX_TEXT_LENGTH && !DESCRIPTION.equals(column) && !ATTRIBUTES.equals(column)) {
+            throw new IllegalArgumentException(column + " must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    /**
+     * The column normalized to a slug, or the slug of {@code fallbackName} when the column is blank.
+     */
+    private static String slug(Map<String, String> fields, String column, String fallbackName) {
+        String value = text(fields, column);
+        if (value == null && fallbackName == null) {
+            return null;
+        }
+        String slug = toSlug(value != null ? value : fallbackName);
+        if (slug.isEmpty()) {
+            throw new IllegalArgumentException(column + " has no letters or digits");
+        }
+        return slug;
+    }
+
+    private static ProductStatus status(Map<String, String> fields) {
+        String value = text(fields, STATUS);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ProductStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported " + STATUS + ": " + value);
+        }
+    }
+
+    private static BigDecimal price(Map<String, String> fields, String column) {
+        String value = text(fields, column);
+        if (value == null) {
+            return null;
+        }
+        BigDecimal price;
+        try {
+            price = new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+        if (price.signum() < 0) {
+            throw new IllegalArgumentException(column + " must not be negative");
+        }
+        if (price.stripTrailingZeros().scale() > PRICE_SCALE
+                || price.precision() - price.scale() > PRICE_PRECISION - PRICE_SCALE) {
+            throw new IllegalArgumentException(column + " does not fit " + PRICE_PRECISION + " digits with "
+                    + PRICE_SCALE + " decimals: " + value);
+        }
+        return price.setScale(PRICE_SCALE);
+    }
+
+    private static int stock(Map<String, String> fields) {
+        String value = text(fields, STOCK);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            int stock = Integer.parseInt(value);
+            if (stock < 0) {
+                throw new IllegalArgumentException(STOCK + " must not be negative");
+            }
+            return stock;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(STOCK + " is not a whole number: " + value);
+        }
+    }
+
+    private static Float weight(Map<String, String> fields) {
+        String value = text(fields, WEIGHT);
+        if (value == null) {
+            return null;
+        }
+        try {
+            float weight = Float.parseFloat(value);
+            if (!Float.isFinite(weight) || weight < 0) {
+                throw new IllegalArgumentException(WEIGHT + " must be a non-negative number");
+            }
+            return weight;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(WEIGHT + " is not a number: " + value);
+        }
+    }
+
+    /**
+     * "|"-separated list, trimmed and de-duplicated in order.
+     */
+    private static List<String> list(Map<String, String> fields, String column) {
+        String value = text(fields, column);
+        if (value == null) {
+            return List.of();
+        }
+        Set<String> items = new LinkedHashSet<>();
+        for (String item : value.split("\\|")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * Accepts a JSON object ({"size":"M"}) or "size=M;color=Black" and returns a JSON object with
+     * string values, the shape {@code ProductVariant.attributes} is read back in.
+     */
+    private static String attributes(Map<String, String> fields) {
+        String value = text(fields, ATTRIBUTES);
+        if (value == null) {
+            return null;
+        }
+        ObjectNode attributes = MAPPER.createObjectNode();
+        if (value.startsWith("{")) {
+            JsonNode parsed;
+            try {
+                parsed = MAPPER.readTree(value);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalArgumentException(ATTRIBUTES + " is not valid JSON");
+            }
+            List<String> invalid = new ArrayList<>();
+            parsed.fields().forEachRemaining(field -> {
+                if (field.getValue().isValueNode() && !field.getValue().isNull()) {
+                    attributes.put(field.getKey().trim(), field.getValue().asText().trim());
+                } else {
+                    invalid.add(field.getKey());
+                }
+            });
+            if (!invalid.isEmpty()) {
+                throw new IllegalArgumentException(ATTRIBUTES + " values must be plain text: " + invalid);
+            }
+        } else {
+            for (String pair : value.split(";")) {
+                if (pair.isBlank()) {
+                    continue;
+                }
+                int separator = pair.indexOf('=');
+                if (separator <= 0 || pair.substring(0, separator).isBlank()) {
+                    throw new IllegalArgumentException(ATTRIBUTES + " must look like name=value;name=value");
+                }
+                attributes.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+        return attributes.isEmpty() ? null : attributes.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package shopco.backend.infrastructure.importing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader: comma separated, double-quoted fields may contain commas, line breaks and
+ * doubled quotes. The first record is the header. Input is scanned through a fixed char buffer
+ * and a single record is never allowed to grow past {@link #MAX_RECORD_CHARS}, so an unbalanced
+ * quote cannot swallow the rest of a large file into memory.
+ */
+final class CsvRecordReader implements CatalogRecordReader {
+
+    static final int MAX_RECORD_CHARS = 1 << 20;
+
+    private final Reader reader;
+    private final char[] buffer = new char[1 << 16];
+    private int position;
+    private int limit;
+
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> values = new ArrayList<>();
+    private final List<String> header;
+    private long line = 1;
+    private int recordChars;
+
+    CsvRecordReader(InputStream input) throws IOException {
+        this.reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        List<String> names = readRecord();
+        if (names == null) {
+            throw new MalformedRecordException(1, "File is empty, expected a header row", true);
+        }
+        header = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == '\uFEFF') {
+                name = name.substring(1);
+            }
+            header.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @Override
+    public RawRecord next() throws IOException {
+        while (true) {
+            long startLine = line;
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() > header.size()) {
+                throw new MalformedRecordException(startLine,
+                        "Expected " + header.size() + " columns but found " + record.size(), false);
+            }
+            Map<String, String> fields = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < record.size(); i++) {
+                fields.put(header.get(i), record.get(i));
+            }
+            return new RawRecord(startLine, fields);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return the fields of the next record, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        values.clear();
+        field.setLength(0);
+        recordChars = 0;
+        long startLine = line;
+        boolean quoted = false;
+        boolean sawAnything = false;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                if (quoted) {
+                    throw new MalformedRecordException(startLine, "Unterminated quoted field", true);
+                }
+                if (!sawAnything) {
+                    return null;
+                }
+                values.add(field.toString());
+                return new ArrayList<>(values);
+            }
+            sawAnything = true;
+            if (++recordChars > MAX_RECORD_CHARS) {
+                throw new MalformedRecordException(startLine,
+                        "Record exceeds " + MAX_RECORD_CHARS + " characters", true);
+            }
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                line++;
+                values.add(field.toString());
+                return new ArrayList<>(values);
+            } else {
+                field.append(ch);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,240 @@
+package shopco.backend.infrastructure.inventory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of flash-sale purchases, written before a purchase is acknowledged, so a
+ * sale that only lived in memory when the process died is not lost. Each record carries a
+ * sequence number and a checksum; a torn record at the tail (the write the crash interrupted,
+ * never acknowledged) is cut off when the file is reopened.
+ * Durability uses group commit: the first buyer to ask for an fsync covers everything appended
+ * so far, and buyers queued behind it usually find their record already on disk.
+ * The purchases not yet flushed to the database are also summed per variant here, under the
+ * same lock that orders the file, so a flush always takes a consistent cut of the journal.
+ */
+final class FlashSaleJournal implements Closeable {
+
+    /**
+     * Purchases taken out of the journal by one flush.
+     *
+     * @param sequence   every record up to this sequence is included
+     * @param quantities units sold per variant
+     */
+    record Drained(long sequence, Map<String, Integer> quantities) {
+    }
+
+    private final FileChannel channel;
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    // Guarded by appendLock
+    private long appended;
+    private final Map<String, Integer> pending = new HashMap<>();
+    private volatile long durable;
+
+    private FlashSaleJournal(FileChannel channel, long appended) {
+        this.channel = channel;
+        this.appended = appended;
+        this.durable = appended;
+    }
+
+    /**
+     * Opens or creates the journal. Records after {@code checkpoint} were sold but never
+     * flushed; they start out pending so the next flush applies them.
+     */
+    static FlashSaleJournal open(Path path, long checkpoint) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return open(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE), checkpoint);
+    }
+
+    static FlashSaleJournal open(FileChannel channel, long checkpoint) throws IOException {
+        Map<String, Integer> recovered = new HashMap<>();
+        long last = checkpoint;
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        while (true) {
+            header.clear();
+            if (readFully(channel, header, position) < Integer.BYTES) {
+                break;
+            }
+            int length = header.getInt(0);
+            if (length <= 0 || length > 64 * 1024) {
+                break;
+            }
+            ByteBuffer record = ByteBuffer.allocate(length + Long.BYTES);
+            if (readFully(channel, record, position + Integer.BYTES) < record.capacity()) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(record.array(), 0, length);
+            if (crc.getValue() != record.getLong(length)) {
+                break;
+            }
+            long sequence = record.getLong(0);
+            byte[] variantId = new byte[record.getShort(Long.BYTES)];
+            record.get(Long.BYTES + Short.BYTES, variantId);
+            int quantity = record.getInt(Long.BYTES + Short.BYTES + variantId.length);
+            if (sequence > checkpoint) {
+                recovered.merge(new String(variantId, StandardCharsets.UTF_8), quantity, FlashSaleJournal::sum);
+            }
+            last = Math.max(last, sequence);
+            position += Integer.BYTES + record.capacity();
+        }
+        // Drop a torn tail so new records follow the last complete one
+        channel.truncate(position);
+        channel.position(position);
+        FlashSaleJournal journal = new FlashSaleJournal(channel, last);
+        journal.pending.putAll(recovered);
+        return journal;
+    }
+
+    /**
+     * Writes one purchase; it is durable once {@link #force(long)} returns for its sequence.
+     */
+    long append(String variantId, int quantity) throws IOException {
+        synchronized (appendLock) {
+            long sequence = write(variantId, quantity);
+            pending.merge(variantId, quantity, FlashSaleJournal::sum);
+            return sequence;
+        }
+    }
+
+    /**
+     * Takes back an appended purchase that was never acknowledged, e.g. because it could not be
+     * forced: the purchase no longer counts as pending, and a compensating record makes a replay
+     * of the file cancel it out too. The pending count drops even if that record cannot be
+     * written, in which case a replay after a crash may still apply the purchase. That leaves
+     * units unsold but never sells them twice.
+     */
+    void cancel(String variantId, int quantity) throws IOException {
+        synchronized (appendLock) {
+            // Negative if a drain already took the purchase: the next flush then adds it back
+            pending.merge(variantId, -quantity, FlashSaleJournal::sum);
+            write(variantId, -quantity);
+        }
+    }
+
+    void force(long sequence) throws IOException {
+        if (durable >= sequence) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (durable >= sequence) {
+                return;
+            }
+            long upTo;
+            synchronized (appendLock) {
+                upTo = appended;
+            }
+            channel.force(false);
+            durable = upTo;
+        }
+    }
+
+    /**
+     * Takes everything sold since the last drain, or null if nothing was.
+     */
+    Drained drain() {
+        synchronized (appendLock) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            Drained drained = new Drained(appended, Map.copyOf(pending));
+            pending.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * Puts back a drain whose flush failed, to be retried with the next one.
+     */
+    void restore(Drained drained) {
+        synchronized (appendLock) {
+            drained.quantities().forEach((variantId, quantity) -> pending.merge(variantId, quantity,
+                    FlashSaleJournal::sum));
+        }
+    }
+
+    int pending(String variantId) {
+        synchronized (appendLock) {
+            return pending.getOrDefault(variantId, 0);
+        }
+    }
+
+    /**
+     * Empties the file once everything in it has been flushed up to {@code flushed}.
+     */
+    void truncateIfFlushed(long flushed) throws IOException {
+        synchronized (appendLock) {
+            if (appended == flushed && pending.isEmpty()) {
+                channel.truncate(0);
+                channel.position(0);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes one record under the append lock. A write that fails part-way is cut off again, so
+     * records appended after it are not hidden behind a torn record.
+     */
+    private long write(String variantId, int quantity) throws IOException {
+        byte[] id = variantId.getBytes(StandardCharsets.UTF_8);
+        int length = Long.BYTES + Short.BYTES + id.length + Integer.BYTES;
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + length + Long.BYTES);
+        long sequence = appended + 1;
+        record.putInt(length).putLong(sequence).putShort((short) id.length).put(id).putInt(quantity);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), Integer.BYTES, length);
+        record.putLong(crc.getValue()).flip();
+        long start = channel.position();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException ex) {
+            channel.truncate(start);
+            channel.position(start);
+            throw ex;
+        }
+        appended = sequence;
+        return sequence;
+    }
+
+    // Drops variants whose purchases cancel out, so a drain never carries a zero
+    private static Integer sum(Integer current, Integer added) {
+        int sum = current + added;
+        return sum == 0 ? null : sum;
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,310 @@
+package shopco.backend.infrastructure.inventory;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.VariantSkuRow;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+/**
+ * Stock of variants on flash sale, counted in memory while the sale runs. Purchases take units
+ * from a {@link StripedStockCounter} and are journaled to local disk before they are
+ * acknowledged, so thousands of buyers per second never wait on a database row lock.
+ * Write-behind periodically folds the journaled purchases into
+ * {@code product_variant.stock_quantity}: one batched decrement per variant, in the same
+ * transaction that advances the journal checkpoint. After a crash the journal records past the
+ * checkpoint are applied on startup, so no sold unit is lost and none is applied twice.
+ * The counters live in one process: a variant's flash sale must be served by one instance.
+ */
+@Component
+public class FlashSaleStock {
+
+    private static final Logger log = LoggerFactory.getLogger(FlashSaleStock.class);
+
+    private static final String SELECT_CHECKPOINT =
+            "SELECT flushed_sequence FROM flash_sale_checkpoint WHERE journal = ?";
+    private static final String INSERT_CHECKPOINT = """
+            INSERT INTO flash_sale_checkpoint (journal, flushed_sequence, updated_at)
+            VALUES (?, 0, ?)
+            """;
+    // Guarded so that a flush whose sequence was already applied changes nothing
+    private static final String ADVANCE_CHECKPOINT = """
+            UPDATE flash_sale_checkpoint
+            SET flushed_sequence = ?, updated_at = ?
+            WHERE journal = ? AND flushed_sequence < ?
+            """;
+    private static final String DECREMENT_STOCK = """
+            UPDATE product_variant
+            SET stock_quantity = stock_quantity - ?, updated_at = ?
+            WHERE id = ?
+            """;
+    // Waits for reservations still holding the row, so the counter starts from their result
+    private static final String LOCK_STOCK = "SELECT stock_quantity FROM product_variant WHERE id = ? FOR UPDATE";
+
+    private static final int[] DECREMENT_STOCK_TYPES = {Types.INTEGER, Types.TIMESTAMP, Types.VARCHAR};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Value("${shopco.inventory.flash-sale.journal:flash-sale.journal}")
+    private Path journalPath;
+
+    @Value("${shopco.inventory.flash-sale.stripes:16}")
+    private int stripes;
+
+    private final TransactionTemplate transactionTemplate;
+    // A variant is present from the moment its sale starts; the counter is set once loaded
+    private final Map<String, Sale> sales = new ConcurrentHashMap<>();
+    private volatile FlashSaleJournal journal;
+    private String journalKey;
+
+    public FlashSaleStock(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isActive(String variantId) {
+        return sales.containsKey(variantId);
+    }
+
+    /**
+     * Units left in the sale, or -1 if the variant is not on flash sale.
+     */
+    public int remaining(String variantId) {
+        Sale sale = sales.get(variantId);
+        return sale == null || sale.counter == null ? -1 : sale.counter.remaining();
+    }
+
+    /**
+     * Moves the variant's stock into memory. Reservations through
+     * {@link StockReservationWriter} are refused until the sale ends.
+     *
+     * @return units on sale
+     * @throws IllegalArgumentException if the variant does not exist
+     */
+    public synchronized int start(String variantId) {
+        Sale existing = sales.get(variantId);
+        if (existing != null) {
+            return existing.counter.remaining();
+        }
+        FlashSaleJournal journal = journal();
+        Sale sale = new Sale();
+        sales.put(variantId, sale);
+        try {
+            List<Integer> stock = transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForList(LOCK_STOCK, Integer.class, variantId));
+            if (stock == null || stock.isEmpty()) {
+                throw new IllegalArgumentException("Product variant not found: " + variantId);
+            }
+            // Purchases of an earlier sale that are not flushed yet are not in the row
+            sale.counter = new StripedStockCounter(stock.get(0) - journal.pending(variantId), stripes);
+            return sale.counter.remaining();
+        } catch (RuntimeException ex) {
+            sales.remove(variantId);
+            throw ex;
+        }
+    }
+
+    /**
+     * Ends the sale and flushes its purchases; later reservations use the row again.
+     *
+     * @return units left unsold
+     */
+    public synchronized int end(String variantId) {
+        Sale sale = sales.remove(variantId);
+        if (sale == null) {
+            throw new IllegalArgumentException("Variant is not on flash sale: " + variantId);
+        }
+        flush();
+        return sale.counter.remaining();
+    }
+
+    /**
+     * Sells {@code quantity} units; returns once the purchase is on disk.
+     *
+     * @return units left after this purchase
+     * @throws IllegalArgumentException if the variant is not on flash sale
+     * @throws IllegalStateException    if not enough units are left
+     */
+    public int purchase(String variantId, int quantity) {
+        Sale sale = sales.get(variantId);
+        if (sale == null || sale.counter == null) {
+            throw new IllegalArgumentException("Variant is not on flash sale: " + variantId);
+        }
+        if (!sale.counter.tryTake(quantity)) {
+            throw new IllegalStateException("Flash sale sold out for " + variantId);
+        }
+        FlashSaleJournal journal = journal();
+        long sequence;
+        try {
+            sequence = journal.append(variantId, quantity);
+        } catch (IOException ex) {
+            // Not acknowledged, so the units go back on sale
+            sale.counter.put(quantity);
+            throw new UncheckedIOException("Could not journal flash sale purchase", ex);
+        }
+        try {
+            journal.force(sequence);
+        } catch (IOException ex) {
+            // The record is already in the journal; cancel it before the units go back on sale,
+            // or a flush would take them off stock_quantity as well
+            try {
+                journal.cancel(variantId, quantity);
+            } catch (IOException cancelFailed) {
+                ex.addSuppressed(cancelFailed);
+            }
+            sale.counter.put(quantity);
+            throw new UncheckedIOException("Could not journal flash sale purchase", ex);
+        }
+        return sale.counter.remaining();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        // Opening the journal picks up purchases a crash left unflushed; without a file there
+        // were no flash sales to recover
+        if (Files.exists(journalPath)) {
+            journal();
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.inventory.flash-sale.flush-delay-ms:200}")
+    public synchronized void flush() {
+        FlashSaleJournal journal = this.journal;
+        if (journal == null) {
+            return;
+        }
+        FlashSaleJournal.Drained drained = journal.drain();
+        if (drained == null) {
+            return;
+        }
+        AtomicBoolean committed = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Registered first, so it learns of the commit before an after-commit listener can throw
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        committed.set(true);
+                    }
+                });
+                apply(drained);
+            });
+        } catch (RuntimeException ex) {
+            if (!committed.get()) {
+                journal.restore(drained);
+                log.warn("Flash sale flush failed, {} variants will be retried", drained.quantities().size(), ex);
+                return;
+            }
+            // The stock is written; restoring the purchases now would take them off it a second time
+            log.warn("Flash sale flush committed but a listener failed", ex);
+        }
+        try {
+            journal.truncateIfFlushed(drained.sequence());
+        } catch (IOException ex) {
+            // The checkpoint covers these records, so a replay of the file skips them
+            log.warn("Could not truncate flash sale journal {}", journalPath, ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        flush();
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void apply(FlashSaleJournal.Drained drained) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADVANCE_CHECKPOINT, drained.sequence(), now, journalKey, drained.sequence()) == 0) {
+            // Already applied, e.g. replayed after the flush committed but before the file was truncated
+            return;
+        }
+        // Variant order, like every other stock writer
+        Map<String, Integer> quantities = new TreeMap<>(drained.quantities());
+        List<Object[]> decrements = new ArrayList<>(quantities.size());
+        quantities.forEach((variantId, quantity) -> decrements.add(new Object[]{quantity, now, variantId}));
+        jdbcTemplate.batchUpdate(DECREMENT_STOCK, decrements, DECREMENT_STOCK_TYPES);
+
+        Set<String> productIds = new HashSet<>();
+        for (VariantSkuRow variant : productVariantRepository.findSkuRowsByIdIn(quantities.keySet())) {
+            productIds.add(variant.productId());
+        }
+        // Delivered to read models after commit, like the per-entity events
+        eventPublisher.publishEvent(new CatalogBulkChangedEvent(
+                EnumSet.of(CatalogEntityType.PRODUCT_VARIANT), productIds));
+    }
+
+    private FlashSaleJournal journal() {
+        FlashSaleJournal current = journal;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (journal == null) {
+                String key = journalPath.toAbsolutePath().normalize().toString();
+                Long checkpoint = transactionTemplate.execute(status -> {
+                    List<Long> flushed = jdbcTemplate.queryForList(SELECT_CHECKPOINT, Long.class, key);
+                    if (!flushed.isEmpty()) {
+                        return flushed.get(0);
+                    }
+                    jdbcTemplate.update(INSERT_CHECKPOINT, key, Timestamp.valueOf(LocalDateTime.now()));
+                    return 0L;
+                });
+                try {
+                    journalKey = key;
+                    journal = openJournal(journalPath, checkpoint == null ? 0 : checkpoint);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Could not open flash sale journal " + journalPath, ex);
+                }
+            }
+            return journal;
+        }
+    }
+
+    FlashSaleJournal openJournal(Path path, long checkpoint) throws IOException {
+        return FlashSaleJournal.open(path, checkpoint);
+    }
+
+    private static final class Sale {
+        private volatile StripedStockCounter counter;
+    }
+}
@@ -0,0 +1,51 @@
+package shopco.backend.infrastructure.inventory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import shopco.backend.domain.enums.StockReservationStatus;
+import shopco.backend.infrastructure.repository.StockReservationRepository;
+
+/**
+ * Puts the stock of abandoned checkout holds back. Each pass reads the oldest expired holds
+ * from the (status, expires_at) index, so it only touches rows that are due, and releases them
+ * a batch per transaction until none are left.
+ */
+@Component
+public class StockHoldReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(StockHoldReaper.class);
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationWriter stockReservationWriter;
+
+    @Value("${shopco.inventory.holds.reap-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${shopco.inventory.holds.reap-delay-ms:30000}")
+    public synchronized int reap() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        List<String> expired;
+        do {
+            expired = stockReservationRepository.findExpiredIds(
+                    StockReservationStatus.RESERVED, now, Limit.of(batchSize));
+            released += stockReservationWriter.releaseExpired(expired);
+            // Holds skipped because they were committed meanwhile are no longer RESERVED, so
+            // every pass shrinks the set and the loop ends
+        } while (expired.size() == batchSize);
+        if (released > 0) {
+            log.info("Released {} expired checkout holds", released);
+        }
+        return released;
+    }
+}
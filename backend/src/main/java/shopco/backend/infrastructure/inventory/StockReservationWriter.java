@@ -0,0 +1,308 @@
+package shopco.backend.infrastructure.inventory;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.StockLine;
+import shopco.backend.application.dto.StockReservationDto;
+import shopco.backend.application.dto.VariantSkuRow;
+import shopco.backend.domain.enums.StockReservationStatus;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+/**
+ * Takes stock off variants for a checkout and puts it back, without ever overselling.
+ * Every line is one guarded {@code UPDATE ... WHERE stock_quantity >= ?}, so the check and the
+ * decrement are a single atomic statement and no read-modify-write window exists. All lines of
+ * a reservation go to the database as one JDBC batch, in variant id order, so two checkouts
+ * sharing variants lock them in the same order and cannot deadlock. The decrement is the last
+ * statement before commit, which keeps the row lock on a hot variant as short as possible; if
+ * any line is short the whole reservation rolls back.
+ * Variants on flash sale are sold by {@link FlashSaleStock} instead and refused here.
+ * Checkout holds are reservations with an expiry; {@link #releaseExpired} puts the stock of
+ * many lapsed holds back with one batch per table.
+ */
+@Component
+public class StockReservationWriter {
+
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO stock_reservation (id, status, cart_id, expires_at, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_LINE = """
+            INSERT INTO stock_reservation_line (reservation_id, variant_id, quantity)
+            VALUES (?, ?, ?)
+            """;
+    private static final String DECREMENT_STOCK = """
+            UPDATE product_variant
+            SET stock_quantity = stock_quantity - ?, updated_at = ?
+            WHERE id = ? AND stock_quantity >= ?
+            """;
+    private static final String INCREMENT_STOCK = """
+            UPDATE product_variant
+            SET stock_quantity = stock_quantity + ?, updated_at = ?
+            WHERE id = ?
+            """;
+    // Guarded on the current status so that only one caller wins a commit/release race
+    private static final String TRANSITION = """
+            UPDATE stock_reservation
+            SET status = ?, updated_at = ?
+            WHERE id = ? AND status = ?
+            """;
+    private static final String SELECT_RESERVATION = "SELECT status, expires_at FROM stock_reservation WHERE id = ?";
+    private static final String SELECT_LINES = """
+            SELECT l.variant_id, l.quantity, v.product_id
+            FROM stock_reservation_line l
+            JOIN product_variant v ON v.id = l.variant_id
+            WHERE l.reservation_id IN (%s)
+            ORDER BY l.variant_id
+            """;
+
+    private static final int[] TRANSITION_TYPES = {Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR};
+    private static final int[] INSERT_LINE_TYPES = {Types.VARCHAR, Types.VARCHAR, Types.INTEGER};
+    private static final int[] DECREMENT_STOCK_TYPES = {Types.INTEGER, Types.TIMESTAMP, Types.VARCHAR, Types.INTEGER};
+    private static final int[] INCREMENT_STOCK_TYPES = {Types.INTEGER, Types.TIMESTAMP, Types.VARCHAR};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private FlashSaleStock flashSaleStock;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public StockReservationWriter(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public StockReservationDto reserve(List<StockLine> lines) {
+        return reserve(lines, null, null);
+    }
+
+    /**
+     * Reserves all lines or none of them.
+     *
+     * @param lines     one line per variant, each with a positive quantity
+     * @param cartId    cart a checkout hold is for, or null
+     * @param expiresAt when the reaper may release the reservation, or null to keep it until released
+     * @throws IllegalArgumentException if a variant does not exist
+     * @throws IllegalStateException    if a variant does not have enough stock; nothing is reserved
+     */
+    public StockReservationDto reserve(List<StockLine> lines, String cartId, LocalDateTime expiresAt) {
+        List<StockLine> sorted = lines.stream().sorted(Comparator.comparing(StockLine::variantId)).toList();
+        return transactionTemplate.execute(status -> {
+            Map<String, VariantSkuRow> variants = new HashMap<>();
+            productVariantRepository.findSkuRowsByIdIn(sorted.stream().map(StockLine::variantId).toList())
+                    .forEach(variant -> variants.put(variant.id(), variant));
+            for (StockLine line : sorted) {
+                if (!variants.containsKey(line.variantId())) {
+                    throw new IllegalArgumentException("Product variant not found: " + line.variantId());
+                }
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            String id = newId();
+            List<Object[]> lineInserts = new ArrayList<>(sorted.size());
+            List<Object[]> decrements = new ArrayList<>(sorted.size());
+            for (StockLine line : sorted) {
+                lineInserts.add(new Object[]{id, line.variantId(), line.quantity()});
+                decrements.add(new Object[]{line.quantity(), now, line.variantId(), line.quantity()});
+            }
+            // New rows first: they contend with nobody, unlike the variant rows locked below
+            jdbcTemplate.update(INSERT_RESERVATION, id, StockReservationStatus.RESERVED.name(), cartId,
+                    expiresAt == null ? null : Timestamp.valueOf(expiresAt), now, now);
+            jdbcTemplate.batchUpdate(INSERT_LINE, lineInserts, INSERT_LINE_TYPES);
+
+            int[] updated = jdbcTemplate.batchUpdate(DECREMENT_STOCK, decrements, DECREMENT_STOCK_TYPES);
+            List<String> shortSkus = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    VariantSkuRow variant = variants.get(sorted.get(i).variantId());
+                    shortSkus.add(variant.sku() != null ? variant.sku() : variant.id());
+                }
+            }
+            if (!shortSkus.isEmpty()) {
+                // Thrown out of the callback, so the lines reserved so far are rolled back
+                throw new IllegalStateException("Not enough stock for " + String.join(", ", shortSkus));
+            }
+            // Checked after the decrement: a sale starting now waits for this row lock and then
+            // counts from what this reservation left, and one that already started is refused
+            for (StockLine line : sorted) {
+                if (flashSaleStock.isActive(line.variantId())) {
+                    throw new IllegalStateException("Variant " + line.variantId() + " is on flash sale");
+                }
+            }
+
+            Set<String> productIds = new HashSet<>();
+            variants.values().forEach(variant -> productIds.add(variant.productId()));
+            publishStockChanged(productIds);
+            return new StockReservationDto(id, StockReservationStatus.RESERVED, sorted, expiresAt);
+        });
+    }
+
+    /**
+     * Marks the reserved stock as sold. Committing a committed reservation again is a no-op; a
+     * hold that has expired can still be committed until the reaper has released it.
+     *
+     * @throws IllegalArgumentException if the reservation does not exist
+     * @throws IllegalStateException    if the reservation was released
+     */
+    public StockReservationDto commit(String reservationId) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime expiresAt = transition(
+                    reservationId, StockReservationStatus.RESERVED, StockReservationStatus.COMMITTED).expiresAt();
+            return new StockReservationDto(reservationId, StockReservationStatus.COMMITTED,
+                    toStockLines(loadLines(List.of(reservationId))), expiresAt);
+        });
+    }
+
+    /**
+     * Puts the reserved stock back. Releasing a released reservation again is a no-op, so stock
+     * is restored exactly once however often this is retried.
+     *
+     * @throws IllegalArgumentException if the reservation does not exist
+     * @throws IllegalStateException    if the reservation was committed
+     */
+    public StockReservationDto release(String reservationId) {
+        return transactionTemplate.execute(status -> {
+            Transition transition = transition(
+                    reservationId, StockReservationStatus.RESERVED, StockReservationStatus.RELEASED);
+            List<ReservedLine> lines = loadLines(List.of(reservationId));
+            if (transition.changed()) {
+                restock(lines);
+            }
+            return new StockReservationDto(reservationId, StockReservationStatus.RELEASED, toStockLines(lines),
+                    transition.expiresAt());
+        });
+    }
+
+    /**
+     * Releases a batch of lapsed holds in one transaction: one batch of guarded status updates,
+     * one query for their lines and one batch of stock increments, summed per variant. Holds that
+     * were committed or released in the meantime are skipped.
+     *
+     * @return how many of the holds this call released
+     */
+    public int releaseExpired(List<String> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return 0;
+        }
+        // Sorted so that two reapers lock overlapping holds in the same order
+        List<String> ids = reservationIds.stream().distinct().sorted().toList();
+        Integer released = transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> transitions = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                transitions.add(new Object[]{StockReservationStatus.RELEASED.name(), now, id,
+                        StockReservationStatus.RESERVED.name()});
+            }
+            int[] updated = jdbcTemplate.batchUpdate(TRANSITION, transitions, TRANSITION_TYPES);
+            List<String> won = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] > 0) {
+                    won.add(ids.get(i));
+                }
+            }
+            if (!won.isEmpty()) {
+                restock(loadLines(won));
+            }
+            return won.size();
+        });
+        return released == null ? 0 : released;
+    }
+
+    /**
+     * Moves the reservation from {@code from} to {@code to} under its row lock.
+     */
+    private Transition transition(String reservationId, StockReservationStatus from, StockReservationStatus to) {
+        List<Transition> current = jdbcTemplate.query(SELECT_RESERVATION + " FOR UPDATE", (rs, rowNum) -> {
+            Timestamp expiresAt = rs.getTimestamp("expires_at");
+            return new Transition(rs.getString("status"), expiresAt == null ? null : expiresAt.toLocalDateTime(),
+                    false);
+        }, reservationId);
+        if (current.isEmpty()) {
+            throw new IllegalArgumentException("Stock reservation not found: " + reservationId);
+        }
+        Transition row = current.get(0);
+        if (to.name().equals(row.status())) {
+            return row;
+        }
+        if (!from.name().equals(row.status())) {
+            throw new IllegalStateException("Stock reservation is already " + row.status());
+        }
+        jdbcTemplate.update(TRANSITION, to.name(), Timestamp.valueOf(LocalDateTime.now()), reservationId, from.name());
+        return new Transition(to.name(), row.expiresAt(), true);
+    }
+
+    private void restock(List<ReservedLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        // Same variant order as reserve(); several holds of one variant become one statement
+        Map<String, Integer> quantities = new TreeMap<>();
+        Set<String> productIds = new HashSet<>();
+        for (ReservedLine line : lines) {
+            quantities.merge(line.variantId(), line.quantity(), Integer::sum);
+            productIds.add(line.productId());
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> increments = new ArrayList<>(quantities.size());
+        quantities.forEach((variantId, quantity) -> increments.add(new Object[]{quantity, now, variantId}));
+        jdbcTemplate.batchUpdate(INCREMENT_STOCK, increments, INCREMENT_STOCK_TYPES);
+        publishStockChanged(productIds);
+    }
+
+    private List<ReservedLine> loadLines(List<String> reservationIds) {
+        String sql = SELECT_LINES.formatted(String.join(", ", Collections.nCopies(reservationIds.size(), "?")));
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReservedLine(
+                rs.getString("variant_id"), rs.getInt("quantity"), rs.getString("product_id")),
+                reservationIds.toArray());
+    }
+
+    private void publishStockChanged(Set<String> productIds) {
+        // Delivered to read models after commit, like the per-entity events
+        eventPublisher.publishEvent(new CatalogBulkChangedEvent(
+                EnumSet.of(CatalogEntityType.PRODUCT_VARIANT), productIds));
+    }
+
+    private static List<StockLine> toStockLines(List<ReservedLine> lines) {
+        return lines.stream().map(line -> new StockLine(line.variantId(), line.quantity())).toList();
+    }
+
+    private static String newId() {
+        return UUID.randomUUID().toString();
+    }
+
+    private record ReservedLine(String variantId, int quantity, String productId) {
+    }
+
+    /**
+     * @param changed whether this call moved the reservation; false if it already had the target status
+     */
+    private record Transition(String status, LocalDateTime expiresAt, boolean changed) {
+    }
+}
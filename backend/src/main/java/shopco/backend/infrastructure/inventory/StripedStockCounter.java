@@ -0,0 +1,103 @@
+package shopco.backend.infrastructure.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Units of one variant split over several independently updated cells, so that concurrent
+ * buyers mostly compare-and-set different cache lines instead of all spinning on one. A take
+ * never drives a cell below zero, so the units handed out can never exceed the units put in.
+ * A take that no single cell can serve falls back to gathering units from several cells under
+ * the counter's lock. Gathered units are only ever held outside the cells under that lock, so
+ * a take that comes up short there has seen every unit, and a sale is never reported sold out
+ * while stock remains.
+ */
+final class StripedStockCounter {
+
+    // 16 ints = 64 bytes, so neighbouring cells do not share a cache line
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+
+    StripedStockCounter(int units, int stripes) {
+        this.stripes = Math.max(1, stripes);
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+        int initial = Math.max(0, units);
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PADDING, initial / this.stripes + (i < initial % this.stripes ? 1 : 0));
+        }
+    }
+
+    /**
+     * @return true if all {@code quantity} units were taken, false if none were because fewer
+     *         than {@code quantity} are left
+     */
+    boolean tryTake(int quantity) {
+        int home = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            if (take((home + i) % stripes, quantity, true) == quantity) {
+                return true;
+            }
+        }
+        return gather(home, quantity);
+    }
+
+    void put(int quantity) {
+        cells.addAndGet(ThreadLocalRandom.current().nextInt(stripes) * PADDING, quantity);
+    }
+
+    int remaining() {
+        int remaining = 0;
+        for (int i = 0; i < stripes; i++) {
+            remaining += cells.get(i * PADDING);
+        }
+        return remaining;
+    }
+
+    /**
+     * Takes {@code quantity} units spread over several cells, or none. Lock-free takes keep
+     * running meanwhile and only ever remove units for good, so a pass that comes up short is
+     * retried for as long as the cells still hold enough.
+     */
+    private synchronized boolean gather(int home, int quantity) {
+        int[] gathered = new int[stripes];
+        while (true) {
+            int taken = 0;
+            for (int i = 0; i < stripes && taken < quantity; i++) {
+                int stripe = (home + i) % stripes;
+                gathered[stripe] = take(stripe, quantity - taken, false);
+                taken += gathered[stripe];
+            }
+            if (taken == quantity) {
+                return true;
+            }
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                if (gathered[stripe] > 0) {
+                    cells.addAndGet(stripe * PADDING, gathered[stripe]);
+                    gathered[stripe] = 0;
+                }
+            }
+            if (remaining() < quantity) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @param all take {@code quantity} or nothing; otherwise as many as the cell has, up to it
+     */
+    private int take(int stripe, int quantity, boolean all) {
+        int index = stripe * PADDING;
+        while (true) {
+            int current = cells.get(index);
+            int taken = Math.min(current, quantity);
+            if (taken <= 0 || (all && taken < quantity)) {
+                return 0;
+            }
+            if (cells.compareAndSet(index, current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+}
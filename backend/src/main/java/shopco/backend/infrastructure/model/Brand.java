@@ -6,15 +6,20 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.SlugType;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
+import shopco.backend.infrastructure.persistence.SlugHistoryListener;
+import shopco.backend.infrastructure.persistence.SlugOwner;
 
 @Entity
+@EntityListeners({CatalogEntityListener.class, SlugHistoryListener.class})
 @Table(name = "brand")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Brand {
+public class Brand implements SlugOwner {
     
     @Id
     private String id;
@@ -45,4 +50,12 @@ public class Brand {
     // Relationships
     @OneToMany(mappedBy = "brand", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Product> products;
+
+    // Slug as last loaded from the database, used to detect renames
+    private transient String loadedSlug;
+
+    @Override
+    public SlugType getSlugType() {
+        return SlugType.BRAND;
+    }
 }
@@ -3,6 +3,7 @@ package shopco.backend.infrastructure.model;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -14,15 +15,20 @@ import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.SlugType;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
+import shopco.backend.infrastructure.persistence.SlugHistoryListener;
+import shopco.backend.infrastructure.persistence.SlugOwner;
 
 @Entity
+@EntityListeners({CatalogEntityListener.class, SlugHistoryListener.class})
 @Table(name = "category")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Category {
+public class Category implements SlugOwner {
     
     @Id
     private String id;
@@ -74,4 +80,12 @@ public class Category {
     
     @OneToMany(mappedBy = "category", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<CouponExcludedCategory> excludedCoupons; // Thêm quan hệ ngược
+
+    // Slug as last loaded from the database, used to detect renames
+    private transient String loadedSlug;
+
+    @Override
+    public SlugType getSlugType() {
+        return SlugType.CATEGORY;
+    }
 }
@@ -3,6 +3,7 @@ package shopco.backend.infrastructure.model;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -16,10 +17,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import shopco.backend.domain.enums.CouponType;
+import shopco.backend.infrastructure.persistence.CouponEntityListener;
 
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
+@EntityListeners(CouponEntityListener.class)
 @Table(name = "coupon")
 @Data
 @NoArgsConstructor
@@ -56,7 +59,8 @@ public class Coupon {
     @Column(name = "usage_limit")
     private Integer usageLimit;
     
-    @Column(name = "used_count", nullable = false)
+    // Maintained by CouponRedemptionWriter's guarded updates; never written back from a loaded coupon
+    @Column(name = "used_count", nullable = false, updatable = false)
     private Integer usedCount = 0;
     
     @Column(name = "usage_limit_per_user")
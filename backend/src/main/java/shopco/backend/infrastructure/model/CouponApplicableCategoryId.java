@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key for {@link CouponApplicableCategory}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponApplicableCategoryId implements Serializable {
+
+  private String couponId;
+
+  private String categoryId;
+}
@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key for {@link CouponExcludedCategory}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponExcludedCategoryId implements Serializable {
+
+  private String couponId;
+
+  private String categoryId;
+}
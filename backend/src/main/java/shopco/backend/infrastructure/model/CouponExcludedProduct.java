@@ -2,17 +2,22 @@ package shopco.backend.infrastructure.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.infrastructure.persistence.CouponEntityListener;
 
 @Entity
+@EntityListeners(CouponEntityListener.class)
 @Table(name = "coupon_excluded_product")
+@IdClass(CouponExcludedProductId.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
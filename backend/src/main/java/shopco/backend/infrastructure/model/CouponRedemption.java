@@ -0,0 +1,45 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.CouponRedemptionStatus;
+
+/**
+ * One order's use of a coupon. Written with guarded JDBC updates by
+ * {@link shopco.backend.infrastructure.pricing.CouponRedemptionWriter}, not through JPA.
+ * An order redeems at most one coupon, once.
+ */
+@Entity
+@Table(name = "coupon_redemption", indexes = {
+    @Index(name = "idx_coupon_redemption_coupon_user", columnList = "coupon_id, user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponRedemption {
+
+    @Id
+    private String id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private String couponId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "order_id", nullable = false, unique = true)
+    private String orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CouponRedemptionStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
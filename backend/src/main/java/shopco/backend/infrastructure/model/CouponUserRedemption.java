@@ -0,0 +1,34 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How many of a coupon's usage slots one user holds, so {@code usageLimitPerUser} is checked
+ * with a guarded update of this row instead of counting the user's orders.
+ */
+@Entity
+@Table(name = "coupon_user_redemption")
+@IdClass(CouponUserRedemptionId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponUserRedemption {
+
+    @Id
+    @Column(name = "coupon_id", nullable = false)
+    private String couponId;
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private Integer redeemed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last flash-sale journal sequence whose sales are in {@code product_variant.stock_quantity}.
+ * Advanced in the same transaction as the stock it covers, so a journal entry is applied
+ * exactly once however often a flush is retried or the journal replayed.
+ */
+@Entity
+@Table(name = "flash_sale_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlashSaleCheckpoint {
+
+    // Absolute path of the journal file
+    @Id
+    @Column(length = 1024)
+    private String journal;
+
+    @Column(name = "flushed_sequence", nullable = false)
+    private Long flushedSequence;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -3,6 +3,7 @@ package shopco.backend.infrastructure.model;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -22,8 +23,10 @@ import shopco.backend.domain.enums.PaymentStatus;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "order")
 @Data
 @NoArgsConstructor
@@ -5,8 +5,10 @@ import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "order_item")
 @Data
 @NoArgsConstructor
@@ -3,10 +3,12 @@ package shopco.backend.infrastructure.model;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -17,16 +19,26 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.SlugType;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
+import shopco.backend.infrastructure.persistence.SlugHistoryListener;
+import shopco.backend.infrastructure.persistence.SlugOwner;
 
 @Entity
-@Table(name = "product")
+@EntityListeners({CatalogEntityListener.class, SlugHistoryListener.class})
+@Table(name = "product", indexes = {
+    @Index(name = "idx_product_status_created", columnList = "status, created_at, id"),
+    @Index(name = "idx_product_status_category_created", columnList = "status, category_id, created_at, id"),
+    @Index(name = "idx_product_status_brand_created", columnList = "status, brand_id, created_at, id"),
+    @Index(name = "idx_product_status_name", columnList = "status, name, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Product {
+public class Product implements SlugOwner {
     
     @Id
     private String id;
@@ -97,5 +109,12 @@ public class Product {
     
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<CouponExcludedProduct> excludedCoupons; // Thêm quan hệ ngược
-}
 
+    // Slug as last loaded from the database, used to detect renames
+    private transient String loadedSlug;
+
+    @Override
+    public SlugType getSlugType() {
+        return SlugType.PRODUCT;
+    }
+}
@@ -1,9 +1,11 @@
 package shopco.backend.infrastructure.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Table(name = "product_image")
@@ -36,4 +38,9 @@ public class ProductImage {
 
   @Column(name = "sort_order")
   private Integer sortOrder = 0;
+
+  // Nullable so the column can be added to existing rows; it feeds the product detail ETag
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
 }
@@ -0,0 +1,79 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.ProductStatus;
+
+/**
+ * Denormalized product-card projection maintained from product, variant, review and order
+ * writes, so listings sorted by price, rating or popularity are single index scans.
+ */
+@Entity
+@Table(name = "product_summary", indexes = {
+    @Index(name = "idx_product_summary_status_price", columnList = "status, min_price, product_id"),
+    @Index(name = "idx_product_summary_status_rating", columnList = "status, rating_average, product_id"),
+    @Index(name = "idx_product_summary_status_sold", columnList = "status, units_sold, product_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummary {
+
+    @Id
+    @Column(name = "product_id")
+    private String productId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String slug;
+
+    @Column(name = "default_image")
+    private String defaultImage;
+
+    @Column(name = "brand_id")
+    private String brandId;
+
+    @Column(name = "category_id")
+    private String categoryId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProductStatus status;
+
+    @Column(name = "product_created_at")
+    private LocalDateTime productCreatedAt;
+
+    // Lowest / highest effective variant price; null while the product has no variants
+    @Column(name = "min_price", precision = 12, scale = 2)
+    private BigDecimal minPrice;
+
+    @Column(name = "max_price", precision = 12, scale = 2)
+    private BigDecimal maxPrice;
+
+    @Column(name = "in_stock", nullable = false)
+    private Boolean inStock = false;
+
+    @Column(name = "rating_average", nullable = false, precision = 3, scale = 2)
+    private BigDecimal ratingAverage = BigDecimal.ZERO;
+
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount = 0L;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold = 0L;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
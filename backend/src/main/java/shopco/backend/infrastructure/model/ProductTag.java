@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "product_tag")
+@IdClass(ProductTagId.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
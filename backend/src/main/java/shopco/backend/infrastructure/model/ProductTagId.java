@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key for {@link ProductTag}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductTagId implements Serializable {
+
+  private String productId;
+
+  private String tagId;
+}
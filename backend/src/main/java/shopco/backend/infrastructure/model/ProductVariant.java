@@ -3,6 +3,7 @@ package shopco.backend.infrastructure.model;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -10,12 +11,16 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "product_variant")
 @Data
 @NoArgsConstructor
@@ -49,6 +54,11 @@ public class ProductVariant {
     
     private Float weight;
     private String barcode;
+
+    // Nullable so the column can be added to existing rows; it feeds the product detail ETag
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
     
     // Relationships
     @OneToMany(mappedBy = "variant", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
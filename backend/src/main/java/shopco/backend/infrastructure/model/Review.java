@@ -5,12 +5,19 @@ import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
+import shopco.backend.infrastructure.persistence.ReviewRatingListener;
 import shopco.backend.domain.enums.ReviewStatus;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "review")
+@EntityListeners({CatalogEntityListener.class, ReviewRatingListener.class})
+@Table(name = "review", indexes = {
+  @Index(name = "idx_review_product_status_created", columnList = "product_id, status, created_at, id"),
+  @Index(name = "idx_review_status_created", columnList = "status, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -54,4 +61,13 @@ public class Review {
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
+
+  // Nullable so the column can be added to existing rows; it feeds the product detail ETag
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  // Status and rating as last loaded or written, used to detect what changed in the rating
+  private transient ReviewStatus loadedStatus;
+  private transient Integer loadedRating;
 }
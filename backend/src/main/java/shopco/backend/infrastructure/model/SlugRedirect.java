@@ -0,0 +1,43 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.domain.enums.SlugType;
+
+/**
+ * A slug an entity used to have, kept so old storefront URLs can redirect to the current one
+ */
+@Entity
+@Table(name = "slug_redirect")
+@IdClass(SlugRedirectId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlugRedirect {
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private SlugType type;
+
+  @Id
+  @Column(nullable = false)
+  private String slug;
+
+  @Column(name = "target_id", nullable = false)
+  private String targetId;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package shopco.backend.infrastructure.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.SlugType;
+
+/**
+ * Composite primary key for {@link SlugRedirect}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlugRedirectId implements Serializable {
+
+  private SlugType type;
+
+  private String slug;
+}
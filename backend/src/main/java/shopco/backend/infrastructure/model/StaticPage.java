@@ -5,15 +5,19 @@ import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.SlugType;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.SlugHistoryListener;
+import shopco.backend.infrastructure.persistence.SlugOwner;
 
 @Entity
+@EntityListeners(SlugHistoryListener.class)
 @Table(name = "static_page")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class StaticPage {
+public class StaticPage implements SlugOwner {
     
     @Id
     private String id;
@@ -43,4 +47,12 @@ public class StaticPage {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    // Slug as last loaded from the database, used to detect renames
+    private transient String loadedSlug;
+
+    @Override
+    public SlugType getSlugType() {
+        return SlugType.PAGE;
+    }
 }
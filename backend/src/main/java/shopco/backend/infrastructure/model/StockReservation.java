@@ -0,0 +1,48 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import shopco.backend.domain.enums.StockReservationStatus;
+
+/**
+ * Stock taken off variants for one checkout. Written with guarded JDBC updates by
+ * {@link shopco.backend.infrastructure.inventory.StockReservationWriter}, not through JPA.
+ * Checkout holds carry an expiry after which the reaper releases them.
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+    @Index(name = "idx_stock_reservation_status_expires", columnList = "status, expires_at"),
+    @Index(name = "idx_stock_reservation_cart_status", columnList = "cart_id, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservation {
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StockReservationStatus status;
+
+    // Set for checkout holds only
+    @Column(name = "cart_id")
+    private String cartId;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @OneToMany(mappedBy = "reservation", fetch = FetchType.LAZY)
+    private List<StockReservationLine> lines;
+}
@@ -0,0 +1,36 @@
+package shopco.backend.infrastructure.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "stock_reservation_line", indexes = {
+    @Index(name = "idx_stock_reservation_line_variant", columnList = "variant_id")
+})
+@IdClass(StockReservationLineId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationLine {
+
+    @Id
+    @Column(name = "reservation_id", nullable = false)
+    private String reservationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", insertable = false, updatable = false)
+    private StockReservation reservation;
+
+    @Id
+    @Column(name = "variant_id", nullable = false)
+    private String variantId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "variant_id", insertable = false, updatable = false)
+    private ProductVariant variant;
+
+    @Column(nullable = false)
+    private Integer quantity;
+}
@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.model;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key for {@link StockReservationLine}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationLineId implements Serializable {
+
+    private String reservationId;
+
+    private String variantId;
+}
@@ -1,12 +1,16 @@
 package shopco.backend.infrastructure.model;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import shopco.backend.infrastructure.persistence.CatalogEntityListener;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "tag")
 @Data
 @NoArgsConstructor
@@ -21,6 +25,11 @@ public class Tag {
   @Column(nullable = false, unique = true)
   private String slug;
 
+  // Nullable so the column can be added to existing rows; it feeds the product detail ETag
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
   // Relationships
   @OneToMany(mappedBy = "tag", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
   private List<ProductTag> products;
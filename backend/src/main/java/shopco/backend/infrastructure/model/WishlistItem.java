@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
-@Table(name = "wishlist_item")
+@Table(name = "wishlist_item", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_wishlist_item_user_product", columnNames = {"user_id", "product_id"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
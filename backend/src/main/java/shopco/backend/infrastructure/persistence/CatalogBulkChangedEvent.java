@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.persistence;
+
+import java.util.Set;
+
+/**
+ * Published when catalog rows are written in bulk with plain JDBC (e.g. by the catalog import),
+ * which bypasses {@link CatalogEntityListener}. One event covers a whole committed batch so read
+ * models can refresh all affected products at once instead of one by one.
+ *
+ * @param types      tables that received inserts or updates
+ * @param productIds products whose own, variant, image or tag rows were written
+ */
+public record CatalogBulkChangedEvent(Set<CatalogEntityType> types, Set<String> productIds) {
+
+    public CatalogBulkChangedEvent {
+        types = Set.copyOf(types);
+        productIds = Set.copyOf(productIds);
+    }
+}
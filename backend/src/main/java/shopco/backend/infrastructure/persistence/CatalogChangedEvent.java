@@ -0,0 +1,20 @@
+package shopco.backend.infrastructure.persistence;
+
+/**
+ * Published whenever a catalog row is inserted, updated or deleted through JPA.
+ * In-memory read models listen for it (after commit) to refresh themselves.
+ *
+ * @param type      the table that changed
+ * @param entityId  primary key of the changed row (the owning product id for join rows,
+ *                  the order id for order items)
+ * @param productId product the row belongs to, or null for rows that are not product-scoped
+ * @param removed   true when the row was deleted
+ */
+public record CatalogChangedEvent(CatalogEntityType type, String entityId, String productId, boolean removed) {
+
+    public CatalogChangedEvent {
+        if (type == null) {
+            throw new IllegalArgumentException("Catalog entity type must not be null");
+        }
+    }
+}
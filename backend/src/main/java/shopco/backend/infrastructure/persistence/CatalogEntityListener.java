@@ -0,0 +1,62 @@
+package shopco.backend.infrastructure.persistence;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import shopco.backend.infrastructure.model.Brand;
+import shopco.backend.infrastructure.model.Category;
+import shopco.backend.infrastructure.model.Order;
+import shopco.backend.infrastructure.model.OrderItem;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductTag;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.model.Review;
+import shopco.backend.infrastructure.model.Tag;
+
+/**
+ * JPA entity listener that turns catalog writes into {@link CatalogChangedEvent}s.
+ * Hibernate resolves it through Spring's bean container, so it can use injected beans.
+ */
+@Component
+public class CatalogEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        publish(entity, false);
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        publish(entity, true);
+    }
+
+    private void publish(Object entity, boolean removed) {
+        CatalogChangedEvent event = switch (entity) {
+            case Product product -> new CatalogChangedEvent(
+                    CatalogEntityType.PRODUCT, product.getId(), product.getId(), removed);
+            case ProductVariant variant -> new CatalogChangedEvent(
+                    CatalogEntityType.PRODUCT_VARIANT, variant.getId(), variant.getProductId(), removed);
+            case ProductTag productTag -> new CatalogChangedEvent(
+                    CatalogEntityType.PRODUCT_TAG, productTag.getProductId(), productTag.getProductId(), removed);
+            case Tag tag -> new CatalogChangedEvent(CatalogEntityType.TAG, tag.getId(), null, removed);
+            case Brand brand -> new CatalogChangedEvent(CatalogEntityType.BRAND, brand.getId(), null, removed);
+            case Category category -> new CatalogChangedEvent(
+                    CatalogEntityType.CATEGORY, category.getId(), null, removed);
+            case Review review -> new CatalogChangedEvent(
+                    CatalogEntityType.REVIEW, review.getId(), review.getProductId(), removed);
+            case Order order -> new CatalogChangedEvent(CatalogEntityType.ORDER, order.getId(), null, removed);
+            case OrderItem item -> new CatalogChangedEvent(CatalogEntityType.ORDER, item.getOrderId(), null, removed);
+            default -> null;
+        };
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.persistence;
+
+/**
+ * Tables whose writes are broadcast as {@link CatalogChangedEvent}s: the catalog itself plus
+ * the review and order rows that feed catalog read models
+ */
+public enum CatalogEntityType {
+    PRODUCT,
+    PRODUCT_VARIANT,
+    PRODUCT_TAG,
+    TAG,
+    BRAND,
+    CATEGORY,
+    REVIEW,
+    /**
+     * Order or order item; the event's entity id is always the order id
+     */
+    ORDER
+}
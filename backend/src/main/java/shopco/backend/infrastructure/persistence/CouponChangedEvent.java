@@ -0,0 +1,14 @@
+package shopco.backend.infrastructure.persistence;
+
+/**
+ * Published whenever a coupon or one of its scope rows (applicable or excluded products and
+ * categories) is inserted, updated or deleted through JPA.
+ */
+public record CouponChangedEvent(String couponId) {
+
+    public CouponChangedEvent {
+        if (couponId == null) {
+            throw new IllegalArgumentException("Coupon id must not be null");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package shopco.backend.infrastructure.persistence;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import shopco.backend.infrastructure.model.Coupon;
+import shopco.backend.infrastructure.model.CouponApplicableCategory;
+import shopco.backend.infrastructure.model.CouponApplicableProduct;
+import shopco.backend.infrastructure.model.CouponExcludedCategory;
+import shopco.backend.infrastructure.model.CouponExcludedProduct;
+
+/**
+ * JPA entity listener that turns coupon and coupon scope writes into {@link CouponChangedEvent}s.
+ */
+@Component
+public class CouponEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        String couponId = switch (entity) {
+            case Coupon coupon -> coupon.getId();
+            case CouponApplicableProduct scope -> scope.getCouponId();
+            case CouponApplicableCategory scope -> scope.getCouponId();
+            case CouponExcludedProduct scope -> scope.getCouponId();
+            case CouponExcludedCategory scope -> scope.getCouponId();
+            default -> null;
+        };
+        if (couponId != null) {
+            eventPublisher.publishEvent(new CouponChangedEvent(couponId));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package shopco.backend.infrastructure.persistence;
+
+/**
+ * Published when a review write changes what it contributes to its product's rating: it was
+ * approved or un-approved, its rating was edited while approved, or an approved review was
+ * deleted.
+ *
+ * @param previousRating the stars the review counted with before the write, or null if it did
+ *                       not count (new, pending or rejected)
+ * @param rating         the stars it counts with after the write, or null if it no longer counts
+ */
+public record ReviewRatingChangedEvent(String productId, Integer previousRating, Integer rating) {
+
+    public ReviewRatingChangedEvent {
+        if (productId == null) {
+            throw new IllegalArgumentException("Product id must not be null");
+        }
+    }
+}
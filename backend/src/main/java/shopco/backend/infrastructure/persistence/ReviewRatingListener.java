@@ -0,0 +1,57 @@
+package shopco.backend.infrastructure.persistence;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.model.Review;
+
+/**
+ * JPA entity listener that turns review status transitions, rating edits and deletions into
+ * {@link ReviewRatingChangedEvent}s, comparing against the state the review was loaded with.
+ */
+@Component
+public class ReviewRatingListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(Review review) {
+        remember(review);
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Review review) {
+        Integer previous = countedRating(review.getLoadedStatus(), review.getLoadedRating());
+        Integer current = countedRating(review.getStatus(), review.getRating());
+        if (!Objects.equals(previous, current)) {
+            eventPublisher.publishEvent(new ReviewRatingChangedEvent(review.getProductId(), previous, current));
+        }
+        remember(review);
+    }
+
+    @PostRemove
+    public void onRemoved(Review review) {
+        // The row deleted is the one last loaded or written, not any unflushed edits
+        Integer previous = countedRating(review.getLoadedStatus(), review.getLoadedRating());
+        if (previous != null) {
+            eventPublisher.publishEvent(new ReviewRatingChangedEvent(review.getProductId(), previous, null));
+        }
+    }
+
+    private static void remember(Review review) {
+        review.setLoadedStatus(review.getStatus());
+        review.setLoadedRating(review.getRating());
+    }
+
+    private static Integer countedRating(ReviewStatus status, Integer rating) {
+        return status == ReviewStatus.APPROVED ? rating : null;
+    }
+}
@@ -0,0 +1,18 @@
+package shopco.backend.infrastructure.persistence;
+
+import shopco.backend.domain.enums.SlugType;
+
+/**
+ * Published when a slug-addressed row is created, renamed or deleted through JPA.
+ *
+ * @param oldSlug the slug before the write, or null for a new row
+ * @param newSlug the slug after the write, or null for a deleted row
+ */
+public record SlugChangedEvent(SlugType type, String entityId, String oldSlug, String newSlug) {
+
+    public SlugChangedEvent {
+        if (type == null || entityId == null) {
+            throw new IllegalArgumentException("Slug type and entity id must not be null");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package shopco.backend.infrastructure.persistence;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns slug creation, renames and deletions of {@link SlugOwner}s
+ * into {@link SlugChangedEvent}s carrying both the old and the new slug.
+ */
+@Component
+public class SlugHistoryListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoaded(Object entity) {
+        if (entity instanceof SlugOwner owner) {
+            owner.setLoadedSlug(owner.getSlug());
+        }
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof SlugOwner owner && !Objects.equals(owner.getLoadedSlug(), owner.getSlug())) {
+            eventPublisher.publishEvent(new SlugChangedEvent(
+                    owner.getSlugType(), owner.getId(), owner.getLoadedSlug(), owner.getSlug()));
+            owner.setLoadedSlug(owner.getSlug());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof SlugOwner owner) {
+            eventPublisher.publishEvent(new SlugChangedEvent(
+                    owner.getSlugType(), owner.getId(), owner.getSlug(), null));
+        }
+    }
+}
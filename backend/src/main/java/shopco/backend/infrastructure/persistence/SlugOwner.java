@@ -0,0 +1,20 @@
+package shopco.backend.infrastructure.persistence;
+
+import shopco.backend.domain.enums.SlugType;
+
+/**
+ * Entity addressed by a unique storefront slug. {@link SlugHistoryListener} remembers the slug
+ * an instance was loaded with so a rename can be detected on update.
+ */
+public interface SlugOwner {
+
+    SlugType getSlugType();
+
+    String getId();
+
+    String getSlug();
+
+    String getLoadedSlug();
+
+    void setLoadedSlug(String loadedSlug);
+}
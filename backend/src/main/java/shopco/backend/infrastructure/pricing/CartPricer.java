@@ -0,0 +1,51 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.math.BigDecimal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prices a cart in one pass over its lines: line totals, the order total and the coupon-eligible
+ * total are accumulated together, then coupon discount and shipping are applied to the sums.
+ * All arithmetic is on longs in minor units, so pricing a cart allocates nothing but the result;
+ * callers convert from and to {@link BigDecimal} with {@link MinorUnits} at the boundary.
+ */
+@Component
+public class CartPricer {
+
+    private final long shippingFee;
+    private final long freeShippingFrom;
+
+    public CartPricer(@Value("${shopco.pricing.shipping.fee:0}") BigDecimal shippingFee,
+                      @Value("${shopco.pricing.shipping.free-from:0}") BigDecimal freeShippingFrom) {
+        this.shippingFee = MinorUnits.of(shippingFee);
+        // Zero means shipping is never free
+        this.freeShippingFrom = freeShippingFrom.signum() > 0 ? MinorUnits.of(freeShippingFrom) : Long.MAX_VALUE;
+    }
+
+    /**
+     * @param unitPrices per line, in minor units
+     * @param quantities per line
+     * @param lines      number of lines to price; the arrays may be longer
+     * @param eligible   lines the coupon applies to, or null for all of them
+     * @param coupon     the applied coupon, or null
+     * @param lineTotals filled with each line's total in minor units
+     * @throws ArithmeticException if an amount overflows a long
+     */
+    public CartTotals price(long[] unitPrices, int[] quantities, int lines, boolean[] eligible,
+                            CouponTerms coupon, long[] lineTotals) {
+        long total = 0;
+        long eligibleTotal = 0;
+        for (int i = 0; i < lines; i++) {
+            long lineTotal = Math.multiplyExact(unitPrices[i], quantities[i]);
+            lineTotals[i] = lineTotal;
+            total = Math.addExact(total, lineTotal);
+            if (eligible == null || eligible[i]) {
+                eligibleTotal += lineTotal;
+            }
+        }
+        long shipping = lines == 0 || total >= freeShippingFrom ? 0 : shippingFee;
+        long discount = coupon == null ? 0 : coupon.discount(total, eligibleTotal, shipping);
+        return new CartTotals(total, discount, shipping, total + shipping - discount);
+    }
+}
@@ -0,0 +1,7 @@
+package shopco.backend.infrastructure.pricing;
+
+/**
+ * A priced cart in minor units, named after the {@code Order} columns they fill.
+ */
+public record CartTotals(long totalAmount, long discountAmount, long shippingFee, long finalAmount) {
+}
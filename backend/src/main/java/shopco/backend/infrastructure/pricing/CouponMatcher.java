@@ -0,0 +1,88 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.time.LocalDateTime;
+import org.roaringbitmap.RoaringBitmap;
+import shopco.backend.infrastructure.catalog.ProductOrdinals;
+
+/**
+ * A coupon compiled for eligibility checks: its scope as bitmaps of {@link ProductOrdinals},
+ * with category scopes already expanded to the products of every category in their subtree.
+ * Immutable, so it is shared by all requests and checks never touch the database.
+ */
+public final class CouponMatcher {
+
+    private final String couponId;
+    private final String code;
+    private final CouponTerms terms;
+    private final boolean active;
+    private final LocalDateTime startsAt;
+    private final LocalDateTime endsAt;
+    // Null when a user may use the coupon any number of times
+    private final Integer usageLimitPerUser;
+    private final ProductOrdinals ordinals;
+    // Null when the coupon is not limited to some products, i.e. it applies to the whole order
+    private final RoaringBitmap applicable;
+    private final RoaringBitmap excluded;
+    private final boolean categoryScoped;
+
+    CouponMatcher(String couponId, String code, CouponTerms terms, boolean active, LocalDateTime startsAt,
+                  LocalDateTime endsAt, Integer usageLimitPerUser, ProductOrdinals ordinals, RoaringBitmap applicable,
+                  RoaringBitmap excluded, boolean categoryScoped) {
+        this.couponId = couponId;
+        this.code = code;
+        this.terms = terms;
+        this.active = active;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.usageLimitPerUser = usageLimitPerUser;
+        this.ordinals = ordinals;
+        this.applicable = applicable;
+        this.excluded = excluded;
+        this.categoryScoped = categoryScoped;
+    }
+
+    public String couponId() {
+        return couponId;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public CouponTerms terms() {
+        return terms;
+    }
+
+    /**
+     * @return how many orders of one user may use the coupon, or null if there is no such limit
+     */
+    public Integer usageLimitPerUser() {
+        return usageLimitPerUser;
+    }
+
+    /**
+     * Whether the coupon is active and {@code now} falls in its {@code [startsAt, endsAt)} window.
+     */
+    public boolean isRunning(LocalDateTime now) {
+        return active && !now.isBefore(startsAt) && now.isBefore(endsAt);
+    }
+
+    /**
+     * Whether the discount applies to the product: it is in scope and not excluded.
+     */
+    public boolean appliesTo(String productId) {
+        int ordinal = ordinals.find(productId);
+        // A product without an ordinal is in none of the bitmaps
+        if (ordinal < 0) {
+            return applicable == null;
+        }
+        return (applicable == null || applicable.contains(ordinal)) && !excluded.contains(ordinal);
+    }
+
+    /**
+     * Whether the scope depends on which category products are in.
+     */
+    boolean isCategoryScoped() {
+        return categoryScoped;
+    }
+}
@@ -0,0 +1,164 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.infrastructure.catalog.CategoryTree;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.catalog.ProductOrdinals;
+import shopco.backend.infrastructure.model.Coupon;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.persistence.CouponChangedEvent;
+import shopco.backend.infrastructure.repository.CouponApplicableCategoryRepository;
+import shopco.backend.infrastructure.repository.CouponApplicableProductRepository;
+import shopco.backend.infrastructure.repository.CouponExcludedCategoryRepository;
+import shopco.backend.infrastructure.repository.CouponExcludedProductRepository;
+import shopco.backend.infrastructure.repository.CouponRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+
+/**
+ * {@link CouponMatcher}s by coupon code. A coupon is compiled on first use and dropped after
+ * every committed write to it or its scope rows. Matchers with a category scope are also
+ * dropped when products or categories change, since either can move products in or out of
+ * the scope. The cache is bounded by evicting an arbitrary entry once it is full.
+ */
+@Component
+public class CouponMatcherCache {
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponApplicableProductRepository applicableProductRepository;
+
+    @Autowired
+    private CouponApplicableCategoryRepository applicableCategoryRepository;
+
+    @Autowired
+    private CouponExcludedProductRepository excludedProductRepository;
+
+    @Autowired
+    private CouponExcludedCategoryRepository excludedCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    private final ProductOrdinals ordinals = new ProductOrdinals();
+    private final ConcurrentHashMap<String, CouponMatcher> matchers = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a compile that raced with one does not cache a stale matcher
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxCoupons;
+
+    public CouponMatcherCache(@Value("${shopco.pricing.coupon-matchers.max-coupons:10000}") int maxCoupons) {
+        this.maxCoupons = maxCoupons;
+    }
+
+    /**
+     * @return the compiled coupon, or null if no coupon has the code
+     */
+    public CouponMatcher get(String code) {
+        CouponMatcher cached = matchers.get(code);
+        if (cached != null) {
+            return cached;
+        }
+        long observed = generation.get();
+        Optional<Coupon> coupon = couponRepository.findByCode(code);
+        if (coupon.isEmpty()) {
+            return null;
+        }
+        CouponMatcher compiled = compile(coupon.get());
+        evictIfFull();
+        // Checked after the insert: an invalidation landing before it found nothing to drop, and
+        // a compiled matcher is never dropped otherwise
+        if (matchers.putIfAbsent(code, compiled) == null && generation.get() != observed) {
+            matchers.remove(code, compiled);
+        }
+        return compiled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        generation.incrementAndGet();
+        // Keyed by code, which the edit may have changed
+        matchers.values().removeIf(matcher -> matcher.couponId().equals(event.couponId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.type() == CatalogEntityType.PRODUCT || event.type() == CatalogEntityType.CATEGORY) {
+            dropCategoryScoped();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        if (event.types().contains(CatalogEntityType.PRODUCT) || event.types().contains(CatalogEntityType.CATEGORY)) {
+            dropCategoryScoped();
+        }
+    }
+
+    public int size() {
+        return matchers.size();
+    }
+
+    private CouponMatcher compile(Coupon coupon) {
+        CategoryTree tree = categoryTreeCache.current();
+        List<String> applicableProducts = applicableProductRepository.findProductIdsByCouponId(coupon.getId());
+        List<String> applicableCategories = applicableCategoryRepository.findCategoryIdsByCouponId(coupon.getId());
+        List<String> excludedCategories = excludedCategoryRepository.findCategoryIdsByCouponId(coupon.getId());
+
+        RoaringBitmap applicable = null;
+        if (!applicableProducts.isEmpty() || !applicableCategories.isEmpty()) {
+            applicable = bitmap(applicableProducts);
+            applicable.or(categoryBitmap(tree, applicableCategories));
+            applicable.runOptimize();
+        }
+        RoaringBitmap excluded = bitmap(excludedProductRepository.findProductIdsByCouponId(coupon.getId()));
+        excluded.or(categoryBitmap(tree, excludedCategories));
+        excluded.runOptimize();
+
+        return new CouponMatcher(coupon.getId(), coupon.getCode(), CouponTerms.of(coupon),
+                Boolean.TRUE.equals(coupon.getActive()), coupon.getStartsAt(), coupon.getEndsAt(),
+                coupon.getUsageLimitPerUser(), ordinals, applicable, excluded,
+                !applicableCategories.isEmpty() || !excludedCategories.isEmpty());
+    }
+
+    private RoaringBitmap categoryBitmap(CategoryTree tree, List<String> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return bitmap(productRepository.findIdsByCategoryIdIn(tree.subtreeIds(categoryIds)));
+    }
+
+    private RoaringBitmap bitmap(Collection<String> productIds) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        productIds.forEach(productId -> bitmap.add(ordinals.ordinalOf(productId)));
+        return bitmap;
+    }
+
+    private void dropCategoryScoped() {
+        generation.incrementAndGet();
+        matchers.values().removeIf(CouponMatcher::isCategoryScoped);
+    }
+
+    private void evictIfFull() {
+        Iterator<String> codes = matchers.keySet().iterator();
+        while (matchers.size() >= maxCoupons && codes.hasNext()) {
+            codes.next();
+            codes.remove();
+        }
+    }
+}
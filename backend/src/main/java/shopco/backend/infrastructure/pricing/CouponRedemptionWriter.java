@@ -0,0 +1,237 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.CouponRedemptionDto;
+import shopco.backend.domain.enums.CouponRedemptionStatus;
+import shopco.backend.infrastructure.persistence.CouponChangedEvent;
+
+/**
+ * Takes usage slots of a coupon for orders and gives them back, without ever exceeding
+ * {@code usageLimit} or {@code usageLimitPerUser}. Both limits are counters checked and
+ * incremented by one guarded {@code UPDATE ... WHERE count < limit}: {@code coupon.used_count}
+ * for the coupon and one {@code coupon_user_redemption} row per user, so no orders are counted
+ * and no read-modify-write window exists. The user's row is taken first, as it only contends
+ * with that user's own checkouts; the coupon row, which every checkout of a viral code waits
+ * for, is incremented by the last statement before commit so its lock is held as briefly as
+ * possible. Once a coupon is used up it is refused from memory for a short while, so a crowd
+ * still trying the code does not queue on its row. A user's row is created on their first
+ * redemption, counting the orders they already placed with the coupon.
+ */
+@Component
+public class CouponRedemptionWriter {
+
+    private static final String COUNT_USER = """
+            UPDATE coupon_user_redemption
+            SET redeemed = redeemed + 1, updated_at = ?
+            WHERE coupon_id = ? AND user_id = ? AND redeemed < ?
+            """;
+    private static final String UNCOUNT_USER = """
+            UPDATE coupon_user_redemption
+            SET redeemed = redeemed - 1, updated_at = ?
+            WHERE coupon_id = ? AND user_id = ? AND redeemed > 0
+            """;
+    // Seeded with the user's orders that used the coupon before redemptions were counted here
+    private static final String INSERT_USER = """
+            INSERT INTO coupon_user_redemption (coupon_id, user_id, redeemed, updated_at)
+            SELECT ?, ?, COUNT(*), ? FROM order
+            WHERE coupon_id = ? AND user_id = ? AND id <> ? AND order_status <> 'CANCELLED'
+            """;
+    private static final String SELECT_USER = """
+            SELECT redeemed FROM coupon_user_redemption WHERE coupon_id = ? AND user_id = ?
+            """;
+    private static final String INSERT_REDEMPTION = """
+            INSERT INTO coupon_redemption (id, coupon_id, user_id, order_id, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String TAKE_SLOT = """
+            UPDATE coupon
+            SET used_count = used_count + 1
+            WHERE id = ? AND (usage_limit IS NULL OR used_count < usage_limit)
+            """;
+    private static final String RETURN_SLOT = """
+            UPDATE coupon
+            SET used_count = used_count - 1
+            WHERE id = ? AND used_count > 0
+            """;
+    // Guarded on the current status so that only one caller wins a release race
+    private static final String TRANSITION = """
+            UPDATE coupon_redemption
+            SET status = ?, updated_at = ?
+            WHERE id = ? AND status = ?
+            """;
+    private static final String SELECT_REDEMPTION = """
+            SELECT id, coupon_id, user_id, order_id, status FROM coupon_redemption WHERE order_id = ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+    // Coupon id to the System.nanoTime() until which it is refused without a database round trip
+    private final ConcurrentHashMap<String, Long> usedUpUntil = new ConcurrentHashMap<>();
+    private final long usedUpNanos;
+
+    public CouponRedemptionWriter(PlatformTransactionManager transactionManager,
+                                  @Value("${shopco.pricing.coupon-redemptions.used-up-ttl-ms:2000}")
+                                  long usedUpTtlMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.usedUpNanos = TimeUnit.MILLISECONDS.toNanos(usedUpTtlMs);
+    }
+
+    /**
+     * Takes one usage slot of the coupon for the order. Redeeming the same coupon for the same
+     * order again returns the existing redemption, so the call can be retried.
+     *
+     * @throws IllegalStateException if the coupon or the user's share of it is used up, or the
+     *                               order already redeemed a coupon; nothing is taken
+     */
+    public CouponRedemptionDto redeem(CouponMatcher coupon, String userId, String orderId) {
+        Optional<CouponRedemptionDto> existing = find(orderId);
+        if (existing.isPresent()) {
+            return retried(existing.get(), coupon, userId);
+        }
+        Long until = usedUpUntil.get(coupon.couponId());
+        if (until != null && System.nanoTime() - until < 0) {
+            throw usedUp(coupon);
+        }
+
+        Integer perUser = coupon.usageLimitPerUser();
+        int userLimit = perUser == null ? Integer.MAX_VALUE : perUser;
+        CouponRedemptionDto redemption;
+        try {
+            redemption = transactionTemplate.execute(status -> take(coupon, userId, orderId, userLimit));
+            if (redemption == null) {
+                // The user's first redemption of the coupon: create their counter and try again
+                createCounter(coupon.couponId(), userId, orderId);
+                redemption = transactionTemplate.execute(status -> take(coupon, userId, orderId, userLimit));
+            }
+        } catch (DuplicateKeyException ex) {
+            // A concurrent redemption of the order committed first and ours was rolled back
+            return retried(find(orderId).orElseThrow(() -> ex), coupon, userId);
+        }
+        if (redemption == null) {
+            throw new IllegalStateException("Could not count the redemption of coupon " + coupon.code());
+        }
+        return redemption;
+    }
+
+    /**
+     * Gives the order's usage slot back, to the coupon and to the user. Releasing a released
+     * redemption again is a no-op, so the slot is returned exactly once however often this is
+     * retried.
+     *
+     * @throws IllegalArgumentException if the order did not redeem a coupon
+     */
+    public CouponRedemptionDto release(String orderId) {
+        CouponRedemptionDto released = transactionTemplate.execute(status -> {
+            List<CouponRedemptionDto> current = jdbcTemplate.query(
+                    SELECT_REDEMPTION + " FOR UPDATE", CouponRedemptionWriter::toDto, orderId);
+            if (current.isEmpty()) {
+                throw new IllegalArgumentException("No coupon redemption for order: " + orderId);
+            }
+            CouponRedemptionDto row = current.get(0);
+            if (row.status() == CouponRedemptionStatus.RELEASED) {
+                return row;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.update(TRANSITION, CouponRedemptionStatus.RELEASED.name(), now, row.id(),
+                    CouponRedemptionStatus.REDEEMED.name());
+            // Same order as redeem(): the user's row, then the coupon's
+            jdbcTemplate.update(UNCOUNT_USER, now, row.couponId(), row.userId());
+            jdbcTemplate.update(RETURN_SLOT, row.couponId());
+            return new CouponRedemptionDto(row.id(), row.couponId(), row.userId(), row.orderId(),
+                    CouponRedemptionStatus.RELEASED);
+        });
+        // The slot is free again for everyone still trying the code
+        usedUpUntil.remove(released.couponId());
+        return released;
+    }
+
+    public Optional<CouponRedemptionDto> find(String orderId) {
+        return jdbcTemplate.query(SELECT_REDEMPTION, CouponRedemptionWriter::toDto, orderId).stream().findFirst();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponChanged(CouponChangedEvent event) {
+        // The edit may have raised the limit
+        usedUpUntil.remove(event.couponId());
+    }
+
+    /**
+     * One attempt at the redemption, run in its own transaction.
+     *
+     * @return null if the user has no counter row for the coupon yet; nothing was written
+     */
+    private CouponRedemptionDto take(CouponMatcher coupon, String userId, String orderId, int userLimit) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(COUNT_USER, now, coupon.couponId(), userId, userLimit) == 0) {
+            if (jdbcTemplate.queryForList(SELECT_USER, Integer.class, coupon.couponId(), userId).isEmpty()) {
+                return null;
+            }
+            // A concurrent redemption of the same order may have taken the user's last use; as
+            // nothing was written yet, returning it commits nothing
+            Optional<CouponRedemptionDto> existing = find(orderId);
+            if (existing.isPresent()) {
+                return retried(existing.get(), coupon, userId);
+            }
+            throw new IllegalStateException("Coupon " + coupon.code() + " was already used "
+                    + userLimit + " time(s) by this user");
+        }
+        String id = UUID.randomUUID().toString();
+        // A duplicate order is thrown out of the callback, so the user's count is rolled back
+        jdbcTemplate.update(INSERT_REDEMPTION, id, coupon.couponId(), userId, orderId,
+                CouponRedemptionStatus.REDEEMED.name(), now, now);
+        if (jdbcTemplate.update(TAKE_SLOT, coupon.couponId()) == 0) {
+            usedUpUntil.put(coupon.couponId(), System.nanoTime() + usedUpNanos);
+            throw usedUp(coupon);
+        }
+        return new CouponRedemptionDto(id, coupon.couponId(), userId, orderId, CouponRedemptionStatus.REDEEMED);
+    }
+
+    private void createCounter(String couponId, String userId, String orderId) {
+        try {
+            jdbcTemplate.update(INSERT_USER, couponId, userId, Timestamp.valueOf(LocalDateTime.now()),
+                    couponId, userId, orderId);
+        } catch (DuplicateKeyException ex) {
+            // A concurrent first redemption by the same user created it
+        }
+    }
+
+    /**
+     * The order's existing redemption, if redeeming the coupon for it again is a retry.
+     *
+     * @throws IllegalStateException if the order redeemed another coupon, or released this one
+     */
+    private static CouponRedemptionDto retried(CouponRedemptionDto existing, CouponMatcher coupon, String userId) {
+        if (existing.status() == CouponRedemptionStatus.REDEEMED
+                && existing.couponId().equals(coupon.couponId()) && existing.userId().equals(userId)) {
+            return existing;
+        }
+        throw new IllegalStateException("Order " + existing.orderId() + " already has a coupon redemption");
+    }
+
+    private static IllegalStateException usedUp(CouponMatcher coupon) {
+        return new IllegalStateException("Coupon " + coupon.code() + " has reached its usage limit");
+    }
+
+    private static CouponRedemptionDto toDto(ResultSet rs, int rowNum) throws SQLException {
+        return new CouponRedemptionDto(rs.getString("id"), rs.getString("coupon_id"), rs.getString("user_id"),
+                rs.getString("order_id"), CouponRedemptionStatus.valueOf(rs.getString("status")));
+    }
+}
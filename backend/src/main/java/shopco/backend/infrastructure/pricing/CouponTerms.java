@@ -0,0 +1,43 @@
+package shopco.backend.infrastructure.pricing;
+
+import shopco.backend.domain.enums.CouponType;
+import shopco.backend.infrastructure.model.Coupon;
+
+/**
+ * The part of a coupon that pricing needs, in minor units.
+ *
+ * @param value          basis points for {@link CouponType#PERCENT} (12.5% is 1250), otherwise
+ *                       minor units
+ * @param minOrderAmount order total the cart must reach, in minor units
+ */
+public record CouponTerms(CouponType type, long value, long minOrderAmount) {
+
+    public CouponTerms {
+        if (type == null) {
+            throw new IllegalArgumentException("Coupon type must not be null");
+        }
+    }
+
+    public static CouponTerms of(Coupon coupon) {
+        // A percentage in minor units is a percentage in basis points
+        return new CouponTerms(coupon.getType(), MinorUnits.of(coupon.getValue()),
+                MinorUnits.of(coupon.getMinOrderAmount()));
+    }
+
+    /**
+     * @param total         all lines
+     * @param eligibleTotal lines the coupon applies to
+     * @param shippingFee   shipping charged before the coupon
+     */
+    long discount(long total, long eligibleTotal, long shippingFee) {
+        if (total < minOrderAmount) {
+            return 0;
+        }
+        return switch (type) {
+            // Half up, and never more than the lines it applies to
+            case PERCENT -> Math.min(eligibleTotal, (Math.multiplyExact(eligibleTotal, value) + 5_000) / 10_000);
+            case FIXED -> Math.min(eligibleTotal, value);
+            case FREE_SHIPPING -> shippingFee;
+        };
+    }
+}
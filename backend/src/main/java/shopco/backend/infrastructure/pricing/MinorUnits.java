@@ -0,0 +1,30 @@
+package shopco.backend.infrastructure.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Money as a long count of minor units (cents), the scale of every amount column. Pricing
+ * converts at its boundary and does all arithmetic on longs in between.
+ */
+public final class MinorUnits {
+
+    public static final int SCALE = 2;
+
+    private MinorUnits() {
+    }
+
+    /**
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long of(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
@@ -0,0 +1,85 @@
+package shopco.backend.infrastructure.ranking;
+
+/**
+ * Count-min sketch over string keys with real-valued weights.
+ * Memory is fixed at {@code depth * width} doubles however many distinct keys are counted, so
+ * the long tail of rarely sold or viewed products costs nothing extra. Estimates never
+ * undercount; with conservative update (only the counters at the current minimum are raised)
+ * the overcount from colliding keys stays small for the heavy keys rankings care about.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final double[][] counters;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("Sketch depth and width must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counters = new double[depth][size];
+    }
+
+    /**
+     * Adds {@code weight} (non-negative) to the key.
+     *
+     * @return the key's estimate after the update
+     */
+    public double add(String key, double weight) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][(h1 + row * h2) & mask]);
+        }
+        double updated = estimate + weight;
+        for (int row = 0; row < depth; row++) {
+            int index = (h1 + row * h2) & mask;
+            if (counters[row][index] < updated) {
+                counters[row][index] = updated;
+            }
+        }
+        return updated;
+    }
+
+    public double estimate(String key) {
+        long hash = mix(key.hashCode());
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row][(h1 + row * h2) & mask]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Multiplies every counter, e.g. to move decayed scores to a new time landmark.
+     */
+    public void scale(double factor) {
+        for (double[] row : counters) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+    }
+
+    // Spreads the 32-bit String hash over 64 bits (MurmurHash3 finalizer); the two halves drive
+    // the per-row indexes as h1 + row * h2
+    private static long mix(int hashCode) {
+        long h = hashCode * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,97 @@
+package shopco.backend.infrastructure.ranking;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exponentially time-decayed scores with a top-k heap per scope (e.g. all products, one
+ * category, one brand).
+ * Scores use forward decay: an event of weight w at time t adds {@code w * e^(λ(t - landmark))}
+ * and the current score is the sum times {@code e^(-λ(now - landmark))}. The second factor is the
+ * same for every key, so rank order only changes when a key receives an event and the heaps
+ * never need re-scoring as time passes. When the exponent grows large all stored values are
+ * scaled down once and the landmark moves forward.
+ * <p>
+ * Per-key scores live in a {@link CountMinSketch}, so only heap members are held exactly.
+ * Not thread-safe.
+ */
+public final class DecayedRanking {
+
+    // e^40 is far from overflowing a double but keeps the rescale rare (20+ half-lives)
+    private static final double RENORMALIZE_EXPONENT = 40;
+
+    private final double lambda;
+    private final int capacity;
+    private final CountMinSketch sketch;
+    private final Map<String, TopKHeap> heaps = new HashMap<>();
+    private long landmark;
+
+    public record Ranked(String productId, double score) {
+    }
+
+    /**
+     * @param halfLifeMillis time after which an event counts half
+     * @param capacity       entries kept per scope
+     */
+    public DecayedRanking(long halfLifeMillis, int capacity, int sketchDepth, int sketchWidth, long now) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Half-life must be positive");
+        }
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.capacity = capacity;
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.landmark = now;
+    }
+
+    /**
+     * Counts an event for the product in every given scope.
+     *
+     * @param time when the event happened, in epoch millis
+     */
+    public void add(String productId, Collection<String> scopes, double weight, long time) {
+        if (weight <= 0) {
+            return;
+        }
+        renormalizeIfNeeded(time);
+        double score = sketch.add(productId, weight * Math.exp(lambda * (time - landmark)));
+        for (String scope : scopes) {
+            heaps.computeIfAbsent(scope, key -> new TopKHeap(capacity)).offer(productId, score);
+        }
+    }
+
+    public void remove(String productId) {
+        heaps.values().forEach(heap -> heap.remove(productId));
+    }
+
+    /**
+     * The scope's highest scores, decayed to {@code now}.
+     */
+    public List<Ranked> top(String scope, int n, long now) {
+        TopKHeap heap = heaps.get(scope);
+        if (heap == null) {
+            return List.of();
+        }
+        double decay = Math.exp(-lambda * (now - landmark));
+        return heap.top(n).stream().map(entry -> new Ranked(entry.key(), entry.score() * decay)).toList();
+    }
+
+    public double score(String productId, long now) {
+        return sketch.estimate(productId) * Math.exp(-lambda * (now - landmark));
+    }
+
+    public int scopes() {
+        return heaps.size();
+    }
+
+    private void renormalizeIfNeeded(long time) {
+        if (lambda * (time - landmark) < RENORMALIZE_EXPONENT) {
+            return;
+        }
+        double factor = Math.exp(-lambda * (time - landmark));
+        sketch.scale(factor);
+        heaps.values().forEach(heap -> heap.scale(factor));
+        landmark = time;
+    }
+}
@@ -0,0 +1,276 @@
+package shopco.backend.infrastructure.ranking;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.ProductSaleRow;
+import shopco.backend.application.dto.ProductScopeRow;
+import shopco.backend.domain.enums.RankingType;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.OrderItemRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+/**
+ * Keeps the time-decayed best seller and trending rankings for the whole shop, every category
+ * (including sales of its subcategories) and every brand.
+ * Product page views are only counted into a map on the request thread; committed order writes
+ * mark the order dirty. A short fixed-delay job applies both under the write lock, counting
+ * each sold order once. At startup the rankings are seeded from the sold orders of the last
+ * {@code history-days}; views are not persisted, so trending restarts from sales alone.
+ */
+@Component
+public class ProductRankingTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductRankingTracker.class);
+
+    public static final String ALL = "all";
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DecayedRanking bestsellers;
+    private final DecayedRanking trending;
+    private final double trendingOrderWeight;
+    private final Duration history;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<String, Integer> pendingViews = new ConcurrentHashMap<>();
+    private final Set<String> dirtyOrderIds = ConcurrentHashMap.newKeySet();
+
+    // Sold orders counted since the startup load, by creation time so they can be forgotten once
+    // they fall out of the history window; only touched by load() and flush()
+    private final Map<String, LocalDateTime> countedOrders = new HashMap<>();
+    private LocalDateTime loadedBefore;
+
+    public ProductRankingTracker(
+            PlatformTransactionManager transactionManager,
+            @Value("${shopco.rankings.capacity:50}") int capacity,
+            @Value("${shopco.rankings.sketch.depth:4}") int sketchDepth,
+            @Value("${shopco.rankings.sketch.width:65536}") int sketchWidth,
+            @Value("${shopco.rankings.bestsellers.half-life-hours:168}") long bestsellerHalfLifeHours,
+            @Value("${shopco.rankings.trending.half-life-hours:6}") long trendingHalfLifeHours,
+            @Value("${shopco.rankings.trending.order-weight:5}") double trendingOrderWeight,
+            @Value("${shopco.rankings.history-days:30}") long historyDays) {
+        long now = System.currentTimeMillis();
+        this.bestsellers = new DecayedRanking(Duration.ofHours(bestsellerHalfLifeHours).toMillis(), capacity,
+                sketchDepth, sketchWidth, now);
+        this.trending = new DecayedRanking(Duration.ofHours(trendingHalfLifeHours).toMillis(), capacity,
+                sketchDepth, sketchWidth, now);
+        this.trendingOrderWeight = trendingOrderWeight;
+        this.history = Duration.ofDays(historyDays);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public static String categoryScope(String categoryId) {
+        return "category:" + categoryId;
+    }
+
+    public static String brandScope(String brandId) {
+        return "brand:" + brandId;
+    }
+
+    /**
+     * Highest-ranked products of the scope, decayed to now. Products may have been moved out of
+     * the scope or unpublished since they were counted; callers filter those.
+     */
+    public List<DecayedRanking.Ranked> top(RankingType type, String scope, int n) {
+        lock.readLock().lock();
+        try {
+            return ranking(type).top(scope, n, System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void recordView(String productId) {
+        pendingViews.merge(productId, 1, Integer::sum);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long started = System.currentTimeMillis();
+        LocalDateTime before = LocalDateTime.now();
+        Long rows = readOnlyTransaction.execute(status -> {
+            try (Stream<ProductSaleRow> sales = orderItemRepository.streamSaleRows(
+                    ProductSummaryRepository.SOLD_ORDER_STATUSES, before.minus(history), before)) {
+                long[] count = {0};
+                Map<String, List<String>> scopes = new HashMap<>();
+                sales.forEach(row -> {
+                    List<String> productScopes = scopes.computeIfAbsent(row.productId(),
+                            key -> scopesOf(row.categoryId(), row.brandId()));
+                    lock.writeLock().lock();
+                    try {
+                        addSale(row, productScopes);
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                    count[0]++;
+                });
+                return count[0];
+            }
+        });
+        loadedBefore = before;
+        log.info("Product rankings seeded from {} order items in {} ms", rows, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.type() == CatalogEntityType.ORDER && !event.removed()) {
+            dirtyOrderIds.add(event.entityId());
+        } else if (event.type() == CatalogEntityType.PRODUCT && event.removed()) {
+            lock.writeLock().lock();
+            try {
+                bestsellers.remove(event.productId());
+                trending.remove(event.productId());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.rankings.refresh-delay-ms:1000}")
+    public synchronized void flush() {
+        if (loadedBefore == null) {
+            return;
+        }
+        flushViews();
+        flushOrders();
+    }
+
+    private void flushViews() {
+        if (pendingViews.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> views = new HashMap<>();
+        for (String productId : pendingViews.keySet()) {
+            // remove() hands over the count atomically; views recorded meanwhile start a new entry
+            Integer count = pendingViews.remove(productId);
+            if (count != null) {
+                views.put(productId, count);
+            }
+        }
+        long now = System.currentTimeMillis();
+        List<String> ids = new ArrayList<>(views.keySet());
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<ProductScopeRow> rows = productRepository.findScopeRowsByIdIn(
+                    ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE)));
+            lock.writeLock().lock();
+            try {
+                for (ProductScopeRow row : rows) {
+                    trending.add(row.id(), scopesOf(row.categoryId(), row.brandId()), views.get(row.id()), now);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void flushOrders() {
+        LocalDateTime since = LocalDateTime.now().minus(history);
+        countedOrders.values().removeIf(orderedAt -> orderedAt.isBefore(since));
+        // Orders created before the load were either counted by it or not sold at the time
+        LocalDateTime floor = since.isAfter(loadedBefore) ? since : loadedBefore;
+
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (String orderId : dirtyOrderIds) {
+            dirtyOrderIds.remove(orderId);
+            if (!countedOrders.containsKey(orderId)) {
+                batch.add(orderId);
+            }
+            if (batch.size() == BATCH_SIZE) {
+                if (!countIn(batch, floor)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            countIn(batch, floor);
+        }
+    }
+
+    /**
+     * @return false when the orders could not be loaded; they are marked dirty again
+     */
+    private boolean countIn(List<String> orderIds, LocalDateTime floor) {
+        List<ProductSaleRow> rows;
+        try {
+            rows = orderItemRepository.findSaleRows(orderIds, ProductSummaryRepository.SOLD_ORDER_STATUSES, floor);
+        } catch (RuntimeException ex) {
+            dirtyOrderIds.addAll(orderIds);
+            log.warn("Loading sold order items failed, will retry", ex);
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            for (ProductSaleRow row : rows) {
+                addSale(row, scopesOf(row.categoryId(), row.brandId()));
+                countedOrders.put(row.orderId(), row.orderedAt());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    private void addSale(ProductSaleRow row, List<String> scopes) {
+        int quantity = row.quantity() == null ? 0 : row.quantity();
+        long orderedAt = row.orderedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        bestsellers.add(row.productId(), scopes, quantity, orderedAt);
+        trending.add(row.productId(), scopes, quantity * trendingOrderWeight, orderedAt);
+    }
+
+    /**
+     * The shop, the product's brand, its category and every ancestor category.
+     */
+    private List<String> scopesOf(String categoryId, String brandId) {
+        List<String> scopes = new ArrayList<>(6);
+        scopes.add(ALL);
+        if (brandId != null) {
+            scopes.add(brandScope(brandId));
+        }
+        if (categoryId != null) {
+            scopes.add(categoryScope(categoryId));
+            categoryTreeCache.current().breadcrumb(categoryId).stream()
+                    .filter(node -> !node.id().equals(categoryId))
+                    .forEach(node -> scopes.add(categoryScope(node.id())));
+        }
+        return scopes;
+    }
+
+    private DecayedRanking ranking(RankingType type) {
+        return type == RankingType.BESTSELLERS ? bestsellers : trending;
+    }
+}
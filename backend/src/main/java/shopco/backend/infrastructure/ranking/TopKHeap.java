@@ -0,0 +1,145 @@
+package shopco.backend.infrastructure.ranking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded, indexed min-heap of the k highest-scoring keys. The weakest entry sits at the root, so
+ * deciding whether a newcomer gets in is one comparison, and a key already inside can have its
+ * score raised in place. Not thread-safe.
+ */
+public final class TopKHeap {
+
+    private final int capacity;
+    private final String[] keys;
+    private final double[] scores;
+    private final Map<String, Integer> positions;
+    private int size;
+
+    public record Entry(String key, double score) {
+    }
+
+    public TopKHeap(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Heap capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.scores = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Records the key's new score, which must not be lower than a score offered before. The key
+     * is kept if it is already in the heap, the heap has room, or it beats the weakest entry.
+     *
+     * @return whether the key is in the heap afterwards
+     */
+    public boolean offer(String key, double score) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            scores[position] = score;
+            siftDown(position);
+            return true;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            scores[size] = score;
+            positions.put(key, size);
+            siftUp(size++);
+            return true;
+        }
+        if (score <= scores[0]) {
+            return false;
+        }
+        positions.remove(keys[0]);
+        keys[0] = key;
+        scores[0] = score;
+        positions.put(key, 0);
+        siftDown(0);
+        return true;
+    }
+
+    public void remove(String key) {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            return;
+        }
+        int last = --size;
+        if (position != last) {
+            keys[position] = keys[last];
+            scores[position] = scores[last];
+            positions.put(keys[position], position);
+            siftDown(position);
+            siftUp(positions.get(keys[position]));
+        }
+        keys[last] = null;
+    }
+
+    public void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            scores[i] *= factor;
+        }
+    }
+
+    /**
+     * Up to {@code n} entries, highest score first.
+     */
+    public List<Entry> top(int n) {
+        Entry[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry(keys[i], scores[i]);
+        }
+        Arrays.sort(entries, Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::key));
+        List<Entry> result = new ArrayList<>(Math.min(n, entries.length));
+        for (int i = 0; i < entries.length && i < n; i++) {
+            result.add(entries[i]);
+        }
+        return result;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int left = 2 * position + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[position] <= scores[smallest]) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        String key = keys[a];
+        double score = scores[a];
+        keys[a] = keys[b];
+        scores[a] = scores[b];
+        keys[b] = key;
+        scores[b] = score;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+}
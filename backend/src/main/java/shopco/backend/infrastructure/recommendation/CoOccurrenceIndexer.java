@@ -0,0 +1,175 @@
+package shopco.backend.infrastructure.recommendation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import shopco.backend.application.dto.OrderBasketRow;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.OrderItemRepository;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+
+/**
+ * Maintains the {@link CoOccurrenceMatrix} behind "frequently bought together".
+ * At startup (and nightly) the full history of sold orders is streamed once and built in
+ * parallel. In between, committed order writes mark the order dirty and a short fixed-delay job
+ * counts in the baskets of orders that were sold after that build; each order is counted once.
+ * Orders cancelled or refunded after being counted stay in the matrix until the next rebuild.
+ */
+@Component
+public class CoOccurrenceIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(CoOccurrenceIndexer.class);
+
+    static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxBasketSize;
+
+    private volatile CoOccurrenceMatrix matrix;
+
+    // Orders created since the last build that are already counted, and orders waiting to be;
+    // builtBefore stays null until the first build
+    private LocalDateTime builtBefore;
+    private final Set<String> countedOrderIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> dirtyOrderIds = ConcurrentHashMap.newKeySet();
+
+    public CoOccurrenceIndexer(PlatformTransactionManager transactionManager,
+                               @Value("${shopco.recommendations.max-basket-size:50}") int maxBasketSize) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxBasketSize = maxBasketSize;
+        this.matrix = CoOccurrenceMatrix.empty(maxBasketSize);
+    }
+
+    public CoOccurrenceMatrix current() {
+        return matrix;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${shopco.recommendations.rebuild-cron:0 30 3 * * *}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        LocalDateTime before = LocalDateTime.now();
+        List<String[]> baskets = readOnlyTransaction.execute(status -> {
+            try (Stream<OrderBasketRow> rows = orderItemRepository.streamBasketRows(
+                    ProductSummaryRepository.SOLD_ORDER_STATUSES, before)) {
+                return collectBaskets(rows);
+            }
+        });
+        long loaded = System.currentTimeMillis();
+        CoOccurrenceMatrix rebuilt = CoOccurrenceMatrix.build(baskets, maxBasketSize, ForkJoinPool.commonPool());
+        matrix = rebuilt;
+        builtBefore = before;
+        // Orders counted since the previous build but created after this one started are not in
+        // the new matrix; the next flush counts them again
+        dirtyOrderIds.addAll(countedOrderIds);
+        countedOrderIds.clear();
+        log.info("Co-occurrence matrix built from {} orders over {} products in {} ms ({} ms loading)",
+                rebuilt.orders(), rebuilt.size(), System.currentTimeMillis() - started, loaded - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // Order and order item writes both carry the order id; status changes matter too, since
+        // an order only counts once it is sold
+        if (event.type() == CatalogEntityType.ORDER && !event.removed()) {
+            dirtyOrderIds.add(event.entityId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.recommendations.refresh-delay-ms:5000}")
+    public synchronized void flush() {
+        if (builtBefore == null) {
+            return;
+        }
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (String orderId : dirtyOrderIds) {
+            dirtyOrderIds.remove(orderId);
+            if (!countedOrderIds.contains(orderId)) {
+                batch.add(orderId);
+            }
+            if (batch.size() == BATCH_SIZE) {
+                if (!countIn(batch)) {
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            countIn(batch);
+        }
+    }
+
+    /**
+     * @return false when the baskets could not be loaded; the orders are marked dirty again
+     */
+    private boolean countIn(List<String> orderIds) {
+        List<OrderBasketRow> rows;
+        try {
+            // Orders created before the build were either counted by it or not sold at the time
+            rows = orderItemRepository.findBasketRows(orderIds, ProductSummaryRepository.SOLD_ORDER_STATUSES,
+                    builtBefore);
+        } catch (RuntimeException ex) {
+            dirtyOrderIds.addAll(orderIds);
+            log.warn("Loading order baskets failed, will retry", ex);
+            return false;
+        }
+        Map<String, List<String>> baskets = new LinkedHashMap<>();
+        for (OrderBasketRow row : rows) {
+            baskets.computeIfAbsent(row.orderId(), key -> new ArrayList<>()).add(row.productId());
+        }
+        matrix.add(baskets.values().stream().map(products -> products.toArray(String[]::new)).toList());
+        countedOrderIds.addAll(baskets.keySet());
+        return true;
+    }
+
+    /**
+     * Groups consecutive rows of the same order. Product ids are canonicalized so the baskets
+     * held during a build share one String per product instead of one per order item.
+     */
+    private static List<String[]> collectBaskets(Stream<OrderBasketRow> rows) {
+        List<String[]> baskets = new ArrayList<>();
+        Map<String, String> canonical = new HashMap<>();
+        List<String> basket = new ArrayList<>();
+        String[] currentOrder = {null};
+        rows.forEachOrdered(row -> {
+            if (!row.orderId().equals(currentOrder[0])) {
+                addBasket(baskets, basket);
+                currentOrder[0] = row.orderId();
+            }
+            basket.add(canonical.computeIfAbsent(row.productId(), id -> id));
+        });
+        addBasket(baskets, basket);
+        return baskets;
+    }
+
+    private static void addBasket(Collection<String[]> baskets, List<String> basket) {
+        if (!basket.isEmpty()) {
+            baskets.add(basket.toArray(String[]::new));
+            basket.clear();
+        }
+    }
+}
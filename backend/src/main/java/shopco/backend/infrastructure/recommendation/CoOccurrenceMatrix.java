@@ -0,0 +1,317 @@
+package shopco.backend.infrastructure.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sparse, symmetric product co-occurrence matrix mined from order baskets.
+ * Every product keeps one immutable row: how many orders contain it, and for each product ever
+ * bought with it (sorted by id) how many orders contain both. From those counts a pair gets
+ * support {@code both / orders}, confidence {@code both / orders(p)} and lift
+ * {@code both * orders / (orders(p) * orders(q))}, i.e. how much more often the two are bought
+ * together than if they were independent.
+ * <p>
+ * Reads are lock-free. Writers ({@link #add(Collection)}) must be serialized by the caller; they
+ * replace whole rows, so a reader always sees a consistent row.
+ */
+public final class CoOccurrenceMatrix {
+
+    // Smallest product range counted by one fork/join leaf; each leaf allocates two int arrays
+    // over all products, so leaves are also sized to give each worker only a handful
+    static final int MIN_PRODUCTS_PER_TASK = 256;
+    private static final int TASKS_PER_WORKER = 8;
+
+    private final ConcurrentHashMap<String, Row> rows;
+    private final int maxBasketSize;
+    private volatile long orders;
+
+    private CoOccurrenceMatrix(ConcurrentHashMap<String, Row> rows, long orders, int maxBasketSize) {
+        this.rows = rows;
+        this.orders = orders;
+        this.maxBasketSize = maxBasketSize;
+    }
+
+    /**
+     * @param productId   the product bought with the row's product
+     * @param coOrders    orders containing both products
+     * @param support     share of all orders containing both
+     * @param confidence  share of the row product's orders that also contain this one
+     * @param lift        confidence divided by this product's own order share; above 1 means
+     *                    bought together more often than chance
+     */
+    public record Pair(String productId, int coOrders, double support, double confidence, double lift) {
+    }
+
+    private record Row(int orders, String[] neighbors, int[] counts) {
+    }
+
+    public static CoOccurrenceMatrix empty(int maxBasketSize) {
+        return new CoOccurrenceMatrix(new ConcurrentHashMap<>(), 0, maxBasketSize);
+    }
+
+    /**
+     * Builds the matrix from whole baskets (product ids per order; duplicates are ignored).
+     * Baskets are first inverted into a product-to-baskets index, after which every product's row
+     * depends only on read-only arrays: the rows are counted in parallel by fork/join tasks over
+     * product ranges, each with its own dense scratch counters, with no shared writes to merge.
+     * Baskets larger than {@code maxBasketSize} (bulk or B2B orders) are skipped.
+     */
+    public static CoOccurrenceMatrix build(Collection<String[]> baskets, int maxBasketSize, ForkJoinPool pool) {
+        // Ordinals follow id order, so rows come out sorted by neighbor id without a sort
+        TreeSet<String> distinct = new TreeSet<>();
+        List<String[]> kept = new ArrayList<>(baskets.size());
+        for (String[] basket : baskets) {
+            String[] products = distinctSorted(basket);
+            if (products.length > 0 && products.length <= maxBasketSize) {
+                kept.add(products);
+                distinct.addAll(Arrays.asList(products));
+            }
+        }
+        String[] ids = distinct.toArray(String[]::new);
+        Map<String, Integer> ordinals = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            ordinals.put(ids[i], i);
+        }
+
+        int[][] encoded = new int[kept.size()][];
+        int[] basketsPerProduct = new int[ids.length];
+        for (int b = 0; b < encoded.length; b++) {
+            String[] products = kept.get(b);
+            int[] basket = new int[products.length];
+            for (int i = 0; i < products.length; i++) {
+                basket[i] = ordinals.get(products[i]);
+                basketsPerProduct[basket[i]]++;
+            }
+            encoded[b] = basket;
+        }
+
+        // CSR layout: baskets containing product p are basketIndex[offsets[p] .. offsets[p + 1])
+        int[] offsets = new int[ids.length + 1];
+        for (int p = 0; p < ids.length; p++) {
+            offsets[p + 1] = offsets[p] + basketsPerProduct[p];
+        }
+        int[] basketIndex = new int[offsets[ids.length]];
+        int[] fill = Arrays.copyOf(offsets, ids.length);
+        for (int b = 0; b < encoded.length; b++) {
+            for (int p : encoded[b]) {
+                basketIndex[fill[p]++] = b;
+            }
+        }
+
+        Row[] built = new Row[ids.length];
+        int leafSize = Math.max(MIN_PRODUCTS_PER_TASK,
+                ids.length / (pool.getParallelism() * TASKS_PER_WORKER) + 1);
+        pool.invoke(new RowTask(ids, encoded, offsets, basketIndex, built, leafSize, 0, ids.length));
+
+        ConcurrentHashMap<String, Row> rows = new ConcurrentHashMap<>(ids.length * 2);
+        for (int p = 0; p < ids.length; p++) {
+            rows.put(ids[p], built[p]);
+        }
+        return new CoOccurrenceMatrix(rows, encoded.length, maxBasketSize);
+    }
+
+    /**
+     * Counts further baskets in. Rows of the products involved are copied and replaced.
+     */
+    public void add(Collection<String[]> baskets) {
+        for (String[] basket : baskets) {
+            String[] products = distinctSorted(basket);
+            if (products.length == 0 || products.length > maxBasketSize) {
+                continue;
+            }
+            for (String product : products) {
+                Row current = rows.get(product);
+                rows.put(product, current == null ? newRow(product, products) : merge(current, product, products));
+            }
+            orders++;
+        }
+    }
+
+    public long orders() {
+        return orders;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Orders containing the product, 0 when it was never bought.
+     */
+    public int orders(String productId) {
+        Row row = rows.get(productId);
+        return row == null ? 0 : row.orders();
+    }
+
+    /**
+     * Orders containing both products.
+     */
+    public int coOrders(String productId, String otherId) {
+        Row row = rows.get(productId);
+        if (row == null) {
+            return 0;
+        }
+        int position = Arrays.binarySearch(row.neighbors(), otherId);
+        return position < 0 ? 0 : row.counts()[position];
+    }
+
+    /**
+     * Products most often bought with {@code productId}, by lift then co-occurrence count.
+     * Pairs seen in fewer than {@code minCoOrders} orders are ignored: with one or two shared
+     * orders lift mostly measures how rare the products are.
+     */
+    public List<Pair> top(String productId, int limit, int minCoOrders) {
+        Row row = rows.get(productId);
+        long total = orders;
+        if (row == null || limit <= 0 || total == 0) {
+            return List.of();
+        }
+        Comparator<Pair> rank = Comparator.comparingDouble(Pair::lift)
+                .thenComparingInt(Pair::coOrders)
+                .thenComparing(Pair::productId, Comparator.reverseOrder());
+        // Min-heap of the best so far; the weakest is evicted once it holds limit pairs
+        PriorityQueue<Pair> best = new PriorityQueue<>(limit + 1, rank);
+        String[] neighbors = row.neighbors();
+        int[] counts = row.counts();
+        for (int i = 0; i < neighbors.length; i++) {
+            if (counts[i] < minCoOrders) {
+                continue;
+            }
+            int otherOrders = orders(neighbors[i]);
+            if (otherOrders == 0) {
+                continue;
+            }
+            double confidence = (double) counts[i] / row.orders();
+            double lift = confidence * total / otherOrders;
+            best.add(new Pair(neighbors[i], counts[i], (double) counts[i] / total, confidence, lift));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Pair> result = new ArrayList<>(best);
+        result.sort(rank.reversed());
+        return result;
+    }
+
+    private static String[] distinctSorted(String[] basket) {
+        return Arrays.stream(basket).filter(id -> id != null && !id.isBlank()).distinct().sorted()
+                .toArray(String[]::new);
+    }
+
+    private static Row newRow(String product, String[] basket) {
+        String[] neighbors = new String[basket.length - 1];
+        int size = 0;
+        for (String other : basket) {
+            if (!other.equals(product)) {
+                neighbors[size++] = other;
+            }
+        }
+        int[] counts = new int[neighbors.length];
+        Arrays.fill(counts, 1);
+        return new Row(1, neighbors, counts);
+    }
+
+    /**
+     * Sorted merge of the row with the basket's other products, each counted once more.
+     */
+    private static Row merge(Row row, String product, String[] basket) {
+        String[] neighbors = row.neighbors();
+        int[] counts = row.counts();
+        String[] mergedNeighbors = new String[neighbors.length + basket.length - 1];
+        int[] mergedCounts = new int[mergedNeighbors.length];
+        int i = 0;
+        int size = 0;
+        for (String other : basket) {
+            if (other.equals(product)) {
+                continue;
+            }
+            while (i < neighbors.length && neighbors[i].compareTo(other) < 0) {
+                mergedNeighbors[size] = neighbors[i];
+                mergedCounts[size++] = counts[i++];
+            }
+            if (i < neighbors.length && neighbors[i].equals(other)) {
+                mergedNeighbors[size] = neighbors[i];
+                mergedCounts[size++] = counts[i++] + 1;
+            } else {
+                mergedNeighbors[size] = other;
+                mergedCounts[size++] = 1;
+            }
+        }
+        while (i < neighbors.length) {
+            mergedNeighbors[size] = neighbors[i];
+            mergedCounts[size++] = counts[i++];
+        }
+        return new Row(row.orders() + 1, Arrays.copyOf(mergedNeighbors, size), Arrays.copyOf(mergedCounts, size));
+    }
+
+    /**
+     * Counts the rows of products {@code [from, to)}. Leaves use a dense counter array over all
+     * products plus the list of slots they touched, so resetting between products costs only
+     * what was counted.
+     */
+    private static final class RowTask extends RecursiveAction {
+
+        private final String[] ids;
+        private final int[][] baskets;
+        private final int[] offsets;
+        private final int[] basketIndex;
+        private final Row[] rows;
+        private final int leafSize;
+        private final int from;
+        private final int to;
+
+        RowTask(String[] ids, int[][] baskets, int[] offsets, int[] basketIndex, Row[] rows, int leafSize,
+                int from, int to) {
+            this.ids = ids;
+            this.baskets = baskets;
+            this.offsets = offsets;
+            this.basketIndex = basketIndex;
+            this.rows = rows;
+            this.leafSize = leafSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(ids, baskets, offsets, basketIndex, rows, leafSize, from, middle),
+                        new RowTask(ids, baskets, offsets, basketIndex, rows, leafSize, middle, to));
+                return;
+            }
+            int[] counters = new int[ids.length];
+            int[] touched = new int[ids.length];
+            for (int p = from; p < to; p++) {
+                int touchedCount = 0;
+                for (int k = offsets[p]; k < offsets[p + 1]; k++) {
+                    for (int q : baskets[basketIndex[k]]) {
+                        if (q != p && counters[q]++ == 0) {
+                            touched[touchedCount++] = q;
+                        }
+                    }
+                }
+                Arrays.sort(touched, 0, touchedCount);
+                String[] neighbors = new String[touchedCount];
+                int[] counts = new int[touchedCount];
+                for (int i = 0; i < touchedCount; i++) {
+                    int q = touched[i];
+                    neighbors[i] = ids[q];
+                    counts[i] = counters[q];
+                    counters[q] = 0;
+                }
+                rows[p] = new Row(offsets[p + 1] - offsets[p], neighbors, counts);
+            }
+        }
+    }
+}
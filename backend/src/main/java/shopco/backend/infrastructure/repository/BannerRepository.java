@@ -1,10 +1,25 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.TableVersionRow;
 import shopco.backend.infrastructure.model.Banner;
 
 @Repository
 public interface BannerRepository extends JpaRepository<Banner, String> {
 
+    @Query("""
+            SELECT b FROM Banner b
+            WHERE b.active = TRUE AND (:position IS NULL OR b.position = :position)
+            ORDER BY b.position, b.sortOrder, b.id
+            """)
+    List<Banner> findActive(@Param("position") String position);
+
+    // Versions the whole table: banners are few, and a banner moved to another position or
+    // deactivated has to invalidate the list it left as well
+    @Query("SELECT new shopco.backend.application.dto.TableVersionRow(MAX(b.updatedAt), COUNT(b)) FROM Banner b")
+    TableVersionRow findTableVersion();
 }
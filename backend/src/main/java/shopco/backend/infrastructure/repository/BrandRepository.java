@@ -1,10 +1,32 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.KeyIdRow;
+import shopco.backend.application.dto.TypeaheadTermRow;
 import shopco.backend.infrastructure.model.Brand;
 
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, String> {
 
+    @Query("SELECT b.id FROM Brand b WHERE b.slug = :slug")
+    Optional<String> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT b.slug FROM Brand b WHERE b.id = :id")
+    Optional<String> findSlugById(@Param("id") String id);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.TypeaheadTermRow(b.id, b.name, b.slug)
+            FROM Brand b
+            WHERE b.active = TRUE
+            """)
+    List<TypeaheadTermRow> findActiveTypeaheadRows();
+
+    @Query("SELECT new shopco.backend.application.dto.KeyIdRow(b.slug, b.id) FROM Brand b WHERE b.slug IN :slugs")
+    List<KeyIdRow> findIdsBySlugIn(@Param("slugs") Collection<String> slugs);
 }
@@ -1,5 +1,6 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.CartItem;
@@ -7,4 +8,5 @@ import shopco.backend.infrastructure.model.CartItem;
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, String> {
 
+    List<CartItem> findByCartId(String cartId);
 }
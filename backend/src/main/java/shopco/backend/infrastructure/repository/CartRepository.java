@@ -1,5 +1,6 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.Cart;
@@ -7,4 +8,7 @@ import shopco.backend.infrastructure.model.Cart;
 @Repository
 public interface CartRepository extends JpaRepository<Cart, String> {
 
+    Optional<Cart> findByUserId(String userId);
+
+    Optional<Cart> findBySessionId(String sessionId);
 }
@@ -1,10 +1,32 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.CategoryTreeRow;
+import shopco.backend.application.dto.KeyIdRow;
 import shopco.backend.infrastructure.model.Category;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, String> {
 
+    @Query("""
+            SELECT new shopco.backend.application.dto.CategoryTreeRow(
+                c.id, c.parentId, c.name, c.slug, c.sortOrder, c.active, c.updatedAt)
+            FROM Category c
+            """)
+    List<CategoryTreeRow> findAllTreeRows();
+
+    @Query("SELECT c.id FROM Category c WHERE c.slug = :slug")
+    Optional<String> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT c.slug FROM Category c WHERE c.id = :id")
+    Optional<String> findSlugById(@Param("id") String id);
+
+    @Query("SELECT new shopco.backend.application.dto.KeyIdRow(c.slug, c.id) FROM Category c WHERE c.slug IN :slugs")
+    List<KeyIdRow> findIdsBySlugIn(@Param("slugs") Collection<String> slugs);
 }
@@ -1,10 +1,16 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.CouponApplicableCategory;
+import shopco.backend.infrastructure.model.CouponApplicableCategoryId;
 
 @Repository
-public interface CouponApplicableCategoryRepository extends JpaRepository<CouponApplicableCategory, String> {
+public interface CouponApplicableCategoryRepository extends JpaRepository<CouponApplicableCategory, CouponApplicableCategoryId> {
 
+    @Query("SELECT c.categoryId FROM CouponApplicableCategory c WHERE c.couponId = :couponId")
+    List<String> findCategoryIdsByCouponId(@Param("couponId") String couponId);
 }
@@ -1,10 +1,16 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.CouponApplicableProduct;
+import shopco.backend.infrastructure.model.CouponApplicableProductId;
 
 @Repository
-public interface CouponApplicableProductRepository extends JpaRepository<CouponApplicableProduct, String> {
+public interface CouponApplicableProductRepository extends JpaRepository<CouponApplicableProduct, CouponApplicableProductId> {
 
+    @Query("SELECT c.productId FROM CouponApplicableProduct c WHERE c.couponId = :couponId")
+    List<String> findProductIdsByCouponId(@Param("couponId") String couponId);
 }
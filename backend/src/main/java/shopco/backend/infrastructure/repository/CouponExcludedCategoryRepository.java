@@ -1,10 +1,16 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.CouponExcludedCategory;
+import shopco.backend.infrastructure.model.CouponExcludedCategoryId;
 
 @Repository
-public interface CouponExcludedCategoryRepository extends JpaRepository<CouponExcludedCategory, String> {
+public interface CouponExcludedCategoryRepository extends JpaRepository<CouponExcludedCategory, CouponExcludedCategoryId> {
 
+    @Query("SELECT c.categoryId FROM CouponExcludedCategory c WHERE c.couponId = :couponId")
+    List<String> findCategoryIdsByCouponId(@Param("couponId") String couponId);
 }
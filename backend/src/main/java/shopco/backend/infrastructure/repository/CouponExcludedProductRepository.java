@@ -1,10 +1,16 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.CouponExcludedProduct;
+import shopco.backend.infrastructure.model.CouponExcludedProductId;
 
 @Repository
-public interface CouponExcludedProductRepository extends JpaRepository<CouponExcludedProduct, String> {
+public interface CouponExcludedProductRepository extends JpaRepository<CouponExcludedProduct, CouponExcludedProductId> {
 
+    @Query("SELECT c.productId FROM CouponExcludedProduct c WHERE c.couponId = :couponId")
+    List<String> findProductIdsByCouponId(@Param("couponId") String couponId);
 }
@@ -1,5 +1,6 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.Coupon;
@@ -7,4 +8,5 @@ import shopco.backend.infrastructure.model.Coupon;
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, String> {
 
+    Optional<Coupon> findByCode(String code);
 }
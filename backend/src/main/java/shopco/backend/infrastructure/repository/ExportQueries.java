@@ -0,0 +1,16 @@
+package shopco.backend.infrastructure.repository;
+
+/**
+ * Shared settings of the repository methods that stream whole tables for exports.
+ */
+public final class ExportQueries {
+
+    /**
+     * Rows the JDBC driver pulls per round trip. PostgreSQL only honours it (and keeps a server
+     * side cursor instead of buffering the whole result) inside a transaction.
+     */
+    public static final String FETCH_SIZE = "1000";
+
+    private ExportQueries() {
+    }
+}
@@ -1,10 +1,79 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.OrderBasketRow;
+import shopco.backend.application.dto.ProductSaleRow;
+import shopco.backend.domain.enums.OrderStatus;
 import shopco.backend.infrastructure.model.OrderItem;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, String> {
 
+    /**
+     * Basket rows of every order in the given statuses created before {@code before}, grouped by
+     * order. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.OrderBasketRow(oi.orderId, v.productId)
+            FROM OrderItem oi
+            JOIN oi.variant v
+            JOIN oi.order o
+            WHERE o.orderStatus IN :statuses AND o.createdAt < :before
+            ORDER BY oi.orderId
+            """)
+    Stream<OrderBasketRow> streamBasketRows(@Param("statuses") Collection<OrderStatus> statuses,
+                                            @Param("before") LocalDateTime before);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.OrderBasketRow(oi.orderId, v.productId)
+            FROM OrderItem oi
+            JOIN oi.variant v
+            JOIN oi.order o
+            WHERE oi.orderId IN :orderIds AND o.orderStatus IN :statuses AND o.createdAt >= :since
+            """)
+    List<OrderBasketRow> findBasketRows(@Param("orderIds") Collection<String> orderIds,
+                                        @Param("statuses") Collection<OrderStatus> statuses,
+                                        @Param("since") LocalDateTime since);
+
+    /**
+     * Every sold order item created in {@code [since, before)}. Must be consumed inside a
+     * transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductSaleRow(
+                oi.orderId, v.productId, p.categoryId, p.brandId, o.createdAt, oi.quantity)
+            FROM OrderItem oi
+            JOIN oi.variant v
+            JOIN v.product p
+            JOIN oi.order o
+            WHERE o.orderStatus IN :statuses AND o.createdAt >= :since AND o.createdAt < :before
+            """)
+    Stream<ProductSaleRow> streamSaleRows(@Param("statuses") Collection<OrderStatus> statuses,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("before") LocalDateTime before);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductSaleRow(
+                oi.orderId, v.productId, p.categoryId, p.brandId, o.createdAt, oi.quantity)
+            FROM OrderItem oi
+            JOIN oi.variant v
+            JOIN v.product p
+            JOIN oi.order o
+            WHERE oi.orderId IN :orderIds AND o.orderStatus IN :statuses AND o.createdAt >= :since
+            """)
+    List<ProductSaleRow> findSaleRows(@Param("orderIds") Collection<String> orderIds,
+                                      @Param("statuses") Collection<OrderStatus> statuses,
+                                      @Param("since") LocalDateTime since);
 }
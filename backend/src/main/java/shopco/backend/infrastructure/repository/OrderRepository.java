@@ -1,10 +1,31 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.OrderExportRow;
 import shopco.backend.infrastructure.model.Order;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.OrderExportRow(
+                o.id, o.orderNo, o.createdAt, o.userId, o.orderStatus, o.payStatus, o.paymentMethod,
+                o.appliedCouponCode, o.totalAmount, o.shippingFee, o.discountAmount, o.finalAmount,
+                i.id, i.variantId, i.productName, i.variantAttributes, i.unitPrice, i.quantity, i.subtotal)
+            FROM Order o
+            LEFT JOIN o.items i
+            WHERE o.createdAt >= :since AND o.createdAt < :until
+            ORDER BY o.createdAt, o.id, i.id
+            """)
+    Stream<OrderExportRow> streamExportRows(@Param("since") LocalDateTime since,
+                                            @Param("until") LocalDateTime until);
 }
@@ -1,10 +1,16 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.ProductImage;
 
 @Repository
 public interface ProductImageRepository extends JpaRepository<ProductImage, String> {
 
+    @Query("SELECT i.id FROM ProductImage i WHERE i.id IN :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
 }
@@ -1,10 +1,241 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CatalogExportRow;
+import shopco.backend.application.dto.KeyIdRow;
+import shopco.backend.application.dto.ProductFacetRow;
+import shopco.backend.application.dto.ProductScopeRow;
+import shopco.backend.application.dto.ProductSearchRow;
+import shopco.backend.application.dto.ProductVersionRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
 import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.Review;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, String> {
 
+    // Keyset pagination: each page seeks past the last (sort key, id) seen instead of using OFFSET,
+    // so deep pages cost the same as the first one. Backed by the idx_product_status_* indexes.
+    // categoryIds is a category plus its subtree; it is ignored when anyCategory is true.
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.status = :status
+              AND (:anyCategory = TRUE OR p.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR p.brandId = :brandId)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Product> findFirstPageByNewest(@Param("status") ProductStatus status,
+                                        @Param("anyCategory") boolean anyCategory,
+                                        @Param("categoryIds") Collection<String> categoryIds,
+                                        @Param("brandId") String brandId,
+                                        Limit limit);
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.status = :status
+              AND (:anyCategory = TRUE OR p.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR p.brandId = :brandId)
+              AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Product> findNextPageByNewest(@Param("status") ProductStatus status,
+                                       @Param("anyCategory") boolean anyCategory,
+                                       @Param("categoryIds") Collection<String> categoryIds,
+                                       @Param("brandId") String brandId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") String id,
+                                       Limit limit);
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.status = :status
+              AND (:anyCategory = TRUE OR p.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR p.brandId = :brandId)
+            ORDER BY p.name ASC, p.id ASC
+            """)
+    List<Product> findFirstPageByName(@Param("status") ProductStatus status,
+                                      @Param("anyCategory") boolean anyCategory,
+                                      @Param("categoryIds") Collection<String> categoryIds,
+                                      @Param("brandId") String brandId,
+                                      Limit limit);
+
+    @Query("""
+            SELECT p FROM Product p
+            WHERE p.status = :status
+              AND (:anyCategory = TRUE OR p.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR p.brandId = :brandId)
+              AND (p.name > :name OR (p.name = :name AND p.id > :id))
+            ORDER BY p.name ASC, p.id ASC
+            """)
+    List<Product> findNextPageByName(@Param("status") ProductStatus status,
+                                     @Param("anyCategory") boolean anyCategory,
+                                     @Param("categoryIds") Collection<String> categoryIds,
+                                     @Param("brandId") String brandId,
+                                     @Param("name") String name,
+                                     @Param("id") String id,
+                                     Limit limit);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductSearchRow(
+                p.id, p.name, p.slug, p.description, p.status, b.name, c.name)
+            FROM Product p
+            LEFT JOIN p.brand b
+            LEFT JOIN p.category c
+            WHERE p.status = :status
+            """)
+    List<ProductSearchRow> findSearchRowsByStatus(@Param("status") ProductStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductSearchRow(
+                p.id, p.name, p.slug, p.description, p.status, b.name, c.name)
+            FROM Product p
+            LEFT JOIN p.brand b
+            LEFT JOIN p.category c
+            WHERE p.id IN :ids
+            """)
+    List<ProductSearchRow> findSearchRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.brandId = :brandId")
+    List<String> findIdsByBrandId(@Param("brandId") String brandId);
+
+    @Query("SELECT p.id FROM Product p WHERE p.categoryId = :categoryId")
+    List<String> findIdsByCategoryId(@Param("categoryId") String categoryId);
+
+    @Query("SELECT p.id FROM Product p WHERE p.categoryId IN :categoryIds")
+    List<String> findIdsByCategoryIdIn(@Param("categoryIds") Collection<String> categoryIds);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductFacetRow(p.id, p.brandId, p.categoryId, p.status)
+            FROM Product p
+            """)
+    List<ProductFacetRow> findAllFacetRows();
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductFacetRow(p.id, p.brandId, p.categoryId, p.status)
+            FROM Product p
+            WHERE p.id IN :ids
+            """)
+    List<ProductFacetRow> findFacetRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    // Product detail aggregate. Each collection is fetched by its own statement into the same
+    // persistence context, so there is no cartesian product and no per-row lazy loading:
+    // product+brand+category, variants, images, tags+tag, approved reviews = 5 statements.
+
+    @EntityGraph(attributePaths = {"brand", "category"})
+    Optional<Product> findWithBrandAndCategoryBySlug(String slug);
+
+    @EntityGraph(attributePaths = "variants")
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> fetchVariants(@Param("id") String id);
+
+    @EntityGraph(attributePaths = "images")
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> fetchImages(@Param("id") String id);
+
+    @EntityGraph(attributePaths = {"tags", "tags.tag"})
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> fetchTags(@Param("id") String id);
+
+    @Query("""
+            SELECT r FROM Review r
+            WHERE r.productId = :productId AND r.status = :status
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<Review> findReviewsByProductIdAndStatus(@Param("productId") String productId,
+                                                 @Param("status") ReviewStatus status,
+                                                 Limit limit);
+
+    @Query("SELECT p.id FROM Product p WHERE p.slug = :slug")
+    Optional<String> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT p.slug FROM Product p WHERE p.id = :id")
+    Optional<String> findSlugById(@Param("id") String id);
+
+    @Query("SELECT new shopco.backend.application.dto.KeyIdRow(p.slug, p.id) FROM Product p WHERE p.slug IN :slugs")
+    List<KeyIdRow> findIdsBySlugIn(@Param("slugs") Collection<String> slugs);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductScopeRow(p.id, p.categoryId, p.brandId)
+            FROM Product p WHERE p.id IN :ids
+            """)
+    List<ProductScopeRow> findScopeRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Loads a product with brand, category, variants, images, tags and its latest approved
+     * reviews in a fixed number of statements, whatever the size of each collection.
+     */
+    @Transactional(readOnly = true)
+    default Optional<ProductDetail> loadDetailBySlug(String slug, int reviewLimit) {
+        return findWithBrandAndCategoryBySlug(slug).map(product -> {
+            fetchVariants(product.getId());
+            fetchImages(product.getId());
+            fetchTags(product.getId());
+            List<Review> reviews = findReviewsByProductIdAndStatus(
+                    product.getId(), ReviewStatus.APPROVED, Limit.of(reviewLimit));
+            return new ProductDetail(product, reviews);
+        });
+    }
+
+    /**
+     * A product whose brand, category, variants, images and tags are initialized,
+     * plus the approved reviews selected for display.
+     */
+    record ProductDetail(Product product, List<Review> approvedReviews) {
+    }
+
+    /**
+     * Validators for {@link #loadDetailBySlug}: one row of correlated aggregates over the same
+     * tables, each answered from the product_id foreign-key indexes.
+     */
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductVersionRow(
+                p.id, p.status, p.updatedAt, b.updatedAt, c.updatedAt,
+                (SELECT COUNT(v) FROM ProductVariant v WHERE v.productId = p.id),
+                (SELECT MAX(v.updatedAt) FROM ProductVariant v WHERE v.productId = p.id),
+                (SELECT COUNT(i) FROM ProductImage i WHERE i.productId = p.id),
+                (SELECT MAX(i.updatedAt) FROM ProductImage i WHERE i.productId = p.id),
+                (SELECT COUNT(t) FROM ProductTag t WHERE t.productId = p.id),
+                (SELECT MAX(t.tag.updatedAt) FROM ProductTag t WHERE t.productId = p.id),
+                (SELECT COUNT(r) FROM Review r WHERE r.productId = p.id AND r.status = :reviewStatus),
+                (SELECT MAX(r.updatedAt) FROM Review r WHERE r.productId = p.id AND r.status = :reviewStatus))
+            FROM Product p
+            LEFT JOIN p.brand b
+            LEFT JOIN p.category c
+            WHERE p.slug = :slug
+            """)
+    Optional<ProductVersionRow> findDetailVersionBySlug(@Param("slug") String slug,
+                                                        @Param("reviewStatus") ReviewStatus reviewStatus);
+
+    /**
+     * Every product with each of its variants, for the catalog export. Must be consumed inside
+     * a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.CatalogExportRow(
+                p.slug, p.name, p.description, p.status, b.slug, b.name, c.slug, c.name,
+                v.sku, v.price, v.salePrice, v.stockQuantity, v.weight, v.barcode, v.attributes)
+            FROM Product p
+            LEFT JOIN p.brand b
+            LEFT JOIN p.category c
+            LEFT JOIN p.variants v
+            ORDER BY p.id, v.id
+            """)
+    Stream<CatalogExportRow> streamCatalogExportRows();
 }
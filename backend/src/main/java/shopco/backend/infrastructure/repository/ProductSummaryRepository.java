@@ -0,0 +1,269 @@
+package shopco.backend.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.ProductPriceStockRow;
+import shopco.backend.application.dto.ProductRatingRow;
+import shopco.backend.application.dto.ProductSalesRow;
+import shopco.backend.application.dto.TypeaheadProductRow;
+import shopco.backend.domain.enums.OrderStatus;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductSummary;
+
+@Repository
+public interface ProductSummaryRepository extends JpaRepository<ProductSummary, String> {
+
+    /**
+     * Order statuses whose items count towards units sold
+     */
+    List<OrderStatus> SOLD_ORDER_STATUSES = List.of(
+            OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    // --- Listing (keyset pagination, same filter shape as ProductRepository) ---
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status AND s.minPrice IS NOT NULL
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+            ORDER BY s.minPrice ASC, s.productId ASC
+            """)
+    List<ProductSummary> findFirstPageByPriceAsc(@Param("status") ProductStatus status,
+                                                 @Param("anyCategory") boolean anyCategory,
+                                                 @Param("categoryIds") Collection<String> categoryIds,
+                                                 @Param("brandId") String brandId,
+                                                 Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status AND s.minPrice IS NOT NULL
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+              AND (s.minPrice > :price OR (s.minPrice = :price AND s.productId > :id))
+            ORDER BY s.minPrice ASC, s.productId ASC
+            """)
+    List<ProductSummary> findNextPageByPriceAsc(@Param("status") ProductStatus status,
+                                                @Param("anyCategory") boolean anyCategory,
+                                                @Param("categoryIds") Collection<String> categoryIds,
+                                                @Param("brandId") String brandId,
+                                                @Param("price") BigDecimal price,
+                                                @Param("id") String id,
+                                                Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status AND s.minPrice IS NOT NULL
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+            ORDER BY s.minPrice DESC, s.productId DESC
+            """)
+    List<ProductSummary> findFirstPageByPriceDesc(@Param("status") ProductStatus status,
+                                                  @Param("anyCategory") boolean anyCategory,
+                                                  @Param("categoryIds") Collection<String> categoryIds,
+                                                  @Param("brandId") String brandId,
+                                                  Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status AND s.minPrice IS NOT NULL
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+              AND (s.minPrice < :price OR (s.minPrice = :price AND s.productId < :id))
+            ORDER BY s.minPrice DESC, s.productId DESC
+            """)
+    List<ProductSummary> findNextPageByPriceDesc(@Param("status") ProductStatus status,
+                                                 @Param("anyCategory") boolean anyCategory,
+                                                 @Param("categoryIds") Collection<String> categoryIds,
+                                                 @Param("brandId") String brandId,
+                                                 @Param("price") BigDecimal price,
+                                                 @Param("id") String id,
+                                                 Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+            ORDER BY s.ratingAverage DESC, s.productId DESC
+            """)
+    List<ProductSummary> findFirstPageByRating(@Param("status") ProductStatus status,
+                                               @Param("anyCategory") boolean anyCategory,
+                                               @Param("categoryIds") Collection<String> categoryIds,
+                                               @Param("brandId") String brandId,
+                                               Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+              AND (s.ratingAverage < :rating OR (s.ratingAverage = :rating AND s.productId < :id))
+            ORDER BY s.ratingAverage DESC, s.productId DESC
+            """)
+    List<ProductSummary> findNextPageByRating(@Param("status") ProductStatus status,
+                                              @Param("anyCategory") boolean anyCategory,
+                                              @Param("categoryIds") Collection<String> categoryIds,
+                                              @Param("brandId") String brandId,
+                                              @Param("rating") BigDecimal rating,
+                                              @Param("id") String id,
+                                              Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+            ORDER BY s.unitsSold DESC, s.productId DESC
+            """)
+    List<ProductSummary> findFirstPageByUnitsSold(@Param("status") ProductStatus status,
+                                                  @Param("anyCategory") boolean anyCategory,
+                                                  @Param("categoryIds") Collection<String> categoryIds,
+                                                  @Param("brandId") String brandId,
+                                                  Limit limit);
+
+    @Query("""
+            SELECT s FROM ProductSummary s
+            WHERE s.status = :status
+              AND (:anyCategory = TRUE OR s.categoryId IN :categoryIds)
+              AND (:brandId IS NULL OR s.brandId = :brandId)
+              AND (s.unitsSold < :unitsSold OR (s.unitsSold = :unitsSold AND s.productId < :id))
+            ORDER BY s.unitsSold DESC, s.productId DESC
+            """)
+    List<ProductSummary> findNextPageByUnitsSold(@Param("status") ProductStatus status,
+                                                 @Param("anyCategory") boolean anyCategory,
+                                                 @Param("categoryIds") Collection<String> categoryIds,
+                                                 @Param("brandId") String brandId,
+                                                 @Param("unitsSold") long unitsSold,
+                                                 @Param("id") String id,
+                                                 Limit limit);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.TypeaheadProductRow(
+                s.productId, s.name, s.slug, s.brandId, s.categoryId, s.unitsSold, s.ratingCount)
+            FROM ProductSummary s
+            WHERE s.status = :status
+            """)
+    List<TypeaheadProductRow> findTypeaheadRows(@Param("status") ProductStatus status);
+
+    // --- Source aggregates, one GROUP BY per source table for a whole batch of products ---
+
+    @Query("SELECT p FROM Product p WHERE p.id IN :productIds")
+    List<Product> findProductsByIdIn(@Param("productIds") Collection<String> productIds);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductPriceStockRow(
+                v.productId,
+                MIN(CASE WHEN v.salePrice IS NOT NULL AND v.salePrice < v.price THEN v.salePrice ELSE v.price END),
+                MAX(CASE WHEN v.salePrice IS NOT NULL AND v.salePrice < v.price THEN v.salePrice ELSE v.price END),
+                SUM(CASE WHEN v.stockQuantity > 0 THEN 1L ELSE 0L END))
+            FROM ProductVariant v
+            WHERE v.productId IN :productIds
+            GROUP BY v.productId
+            """)
+    List<ProductPriceStockRow> aggregateVariants(@Param("productIds") Collection<String> productIds);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductRatingRow(r.productId, AVG(r.rating), COUNT(r))
+            FROM Review r
+            WHERE r.productId IN :productIds AND r.status = :status
+            GROUP BY r.productId
+            """)
+    List<ProductRatingRow> aggregateReviews(@Param("productIds") Collection<String> productIds,
+                                            @Param("status") ReviewStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductSalesRow(v.productId, SUM(oi.quantity * 1L))
+            FROM OrderItem oi
+            JOIN oi.variant v
+            JOIN oi.order o
+            WHERE v.productId IN :productIds AND o.orderStatus IN :statuses
+            GROUP BY v.productId
+            """)
+    List<ProductSalesRow> aggregateSales(@Param("productIds") Collection<String> productIds,
+                                         @Param("statuses") Collection<OrderStatus> statuses);
+
+    @Query("""
+            SELECT DISTINCT v.productId
+            FROM OrderItem oi
+            JOIN oi.variant v
+            WHERE oi.orderId IN :orderIds
+            """)
+    List<String> findProductIdsByOrderIdIn(@Param("orderIds") Collection<String> orderIds);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<String> findProductIdsAfter(@Param("afterId") String afterId, Limit limit);
+
+    /**
+     * Recomputes the summaries of the given products from their source tables: four aggregate
+     * queries for the whole batch, then in-place updates of the existing rows. Summaries of
+     * products that no longer exist are deleted.
+     */
+    @Transactional
+    default void refresh(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<String, ProductSummary> existing = findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductSummary::getProductId, Function.identity()));
+        Map<String, ProductPriceStockRow> variants = aggregateVariants(productIds).stream()
+                .collect(Collectors.toMap(ProductPriceStockRow::productId, Function.identity()));
+        Map<String, ProductRatingRow> ratings = aggregateReviews(productIds, ReviewStatus.APPROVED).stream()
+                .collect(Collectors.toMap(ProductRatingRow::productId, Function.identity()));
+        Map<String, Long> sales = new HashMap<>();
+        aggregateSales(productIds, SOLD_ORDER_STATUSES).forEach(row -> sales.put(row.productId(), row.unitsSold()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> found = new HashSet<>();
+        for (Product product : findProductsByIdIn(productIds)) {
+            found.add(product.getId());
+            ProductSummary summary = existing.get(product.getId());
+            if (summary == null) {
+                summary = new ProductSummary();
+                summary.setProductId(product.getId());
+            }
+            summary.setName(product.getName());
+            summary.setSlug(product.getSlug());
+            summary.setDefaultImage(product.getDefaultImage());
+            summary.setBrandId(product.getBrandId());
+            summary.setCategoryId(product.getCategoryId());
+            summary.setStatus(product.getStatus());
+            summary.setProductCreatedAt(product.getCreatedAt());
+
+            ProductPriceStockRow variant = variants.get(product.getId());
+            summary.setMinPrice(variant == null ? null : variant.minPrice());
+            summary.setMaxPrice(variant == null ? null : variant.maxPrice());
+            summary.setInStock(variant != null && variant.inStockVariants() != null && variant.inStockVariants() > 0);
+
+            ProductRatingRow rating = ratings.get(product.getId());
+            summary.setRatingAverage(rating == null || rating.average() == null
+                    ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(rating.average()).setScale(2, RoundingMode.HALF_UP));
+            summary.setRatingCount(rating == null ? 0L : rating.count());
+            summary.setUnitsSold(sales.getOrDefault(product.getId(), 0L));
+            summary.setRefreshedAt(now);
+            if (!existing.containsKey(product.getId())) {
+                save(summary);
+            }
+        }
+        existing.values().stream()
+                .filter(summary -> !found.contains(summary.getProductId()))
+                .forEach(this::delete);
+    }
+}
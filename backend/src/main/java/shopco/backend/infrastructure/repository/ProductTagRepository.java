@@ -1,10 +1,52 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.ProductTagIdRow;
+import shopco.backend.application.dto.ProductTagNameRow;
+import shopco.backend.domain.enums.ProductStatus;
 import shopco.backend.infrastructure.model.ProductTag;
+import shopco.backend.infrastructure.model.ProductTagId;
 
 @Repository
-public interface ProductTagRepository extends JpaRepository<ProductTag, String> {
+public interface ProductTagRepository extends JpaRepository<ProductTag, ProductTagId> {
 
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductTagNameRow(pt.productId, t.name)
+            FROM ProductTag pt
+            JOIN pt.tag t
+            JOIN pt.product p
+            WHERE p.status = :status
+            """)
+    List<ProductTagNameRow> findTagNamesByProductStatus(@Param("status") ProductStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductTagNameRow(pt.productId, t.name)
+            FROM ProductTag pt
+            JOIN pt.tag t
+            WHERE pt.productId IN :productIds
+            """)
+    List<ProductTagNameRow> findTagNamesByProductIdIn(@Param("productIds") Collection<String> productIds);
+
+    @Query("SELECT pt.productId FROM ProductTag pt WHERE pt.tagId = :tagId")
+    List<String> findProductIdsByTagId(@Param("tagId") String tagId);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductTagIdRow(pt.productId, pt.tagId)
+            FROM ProductTag pt
+            JOIN pt.product p
+            WHERE p.status = :status
+            """)
+    List<ProductTagIdRow> findTagIdsByProductStatus(@Param("status") ProductStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductTagIdRow(pt.productId, pt.tagId)
+            FROM ProductTag pt
+            WHERE pt.productId IN :productIds
+            """)
+    List<ProductTagIdRow> findTagIdsByProductIdIn(@Param("productIds") Collection<String> productIds);
 }
@@ -1,10 +1,52 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.application.dto.VariantSkuRow;
 import shopco.backend.infrastructure.model.ProductVariant;
 
 @Repository
 public interface ProductVariantRepository extends JpaRepository<ProductVariant, String> {
 
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductVariantRow(
+                v.id, v.productId, v.price, v.salePrice, v.stockQuantity, v.attributes)
+            FROM ProductVariant v
+            """)
+    List<ProductVariantRow> findAllRows();
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductVariantRow(
+                v.id, v.productId, v.price, v.salePrice, v.stockQuantity, v.attributes)
+            FROM ProductVariant v
+            WHERE v.productId IN :productIds
+            """)
+    List<ProductVariantRow> findRowsByProductIdIn(@Param("productIds") Collection<String> productIds);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ProductVariantRow(
+                v.id, v.productId, v.price, v.salePrice, v.stockQuantity, v.attributes)
+            FROM ProductVariant v
+            WHERE v.id IN :ids
+            """)
+    List<ProductVariantRow> findRowsByIdIn(@Param("ids") Collection<String> ids);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.VariantSkuRow(v.sku, v.id, v.productId)
+            FROM ProductVariant v
+            WHERE v.sku IN :skus
+            """)
+    List<VariantSkuRow> findSkuRowsBySkuIn(@Param("skus") Collection<String> skus);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.VariantSkuRow(v.sku, v.id, v.productId)
+            FROM ProductVariant v
+            WHERE v.id IN :ids
+            """)
+    List<VariantSkuRow> findSkuRowsByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -1,10 +1,126 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.RatingCountRow;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.ReviewExportRow;
+import shopco.backend.application.dto.ReviewModerationRow;
+import shopco.backend.domain.enums.ReviewStatus;
 import shopco.backend.infrastructure.model.Review;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewExportRow(
+                r.id, r.productId, r.userId, r.orderItemId, r.rating, r.title, r.body, r.status, r.createdAt)
+            FROM Review r
+            WHERE r.createdAt >= :since AND r.createdAt < :until
+            ORDER BY r.createdAt, r.id
+            """)
+    Stream<ReviewExportRow> streamExportRows(@Param("since") LocalDateTime since,
+                                             @Param("until") LocalDateTime until);
+
+    @Query("SELECT DISTINCT r.productId FROM Review r WHERE r.status = :status")
+    List<String> findProductIdsByStatus(@Param("status") ReviewStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.RatingCountRow(r.productId, r.rating, COUNT(r))
+            FROM Review r
+            WHERE r.productId IN :productIds AND r.status = :status
+            GROUP BY r.productId, r.rating
+            """)
+    List<RatingCountRow> countRatings(@Param("productIds") Collection<String> productIds,
+                                      @Param("status") ReviewStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewDto(
+                r.id, r.productId, r.userId, r.rating, r.title, r.body, r.status, r.createdAt)
+            FROM Review r
+            WHERE r.productId = :productId AND r.status = :status
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewDto> findFirstFeedPage(@Param("productId") String productId,
+                                      @Param("status") ReviewStatus status,
+                                      Limit limit);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewDto(
+                r.id, r.productId, r.userId, r.rating, r.title, r.body, r.status, r.createdAt)
+            FROM Review r
+            WHERE r.productId = :productId AND r.status = :status
+              AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id))
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<ReviewDto> findNextFeedPage(@Param("productId") String productId,
+                                     @Param("status") ReviewStatus status,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") String id,
+                                     Limit limit);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewDto(
+                r.id, r.productId, r.userId, r.rating, r.title, r.body, r.status, r.createdAt)
+            FROM Review r
+            WHERE r.status = :status
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReviewDto> findFirstQueuePage(@Param("status") ReviewStatus status, Limit limit);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewDto(
+                r.id, r.productId, r.userId, r.rating, r.title, r.body, r.status, r.createdAt)
+            FROM Review r
+            WHERE r.status = :status
+              AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.id > :id))
+            ORDER BY r.createdAt, r.id
+            """)
+    List<ReviewDto> findNextQueuePage(@Param("status") ReviewStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") String id,
+                                      Limit limit);
+
+    /**
+     * Locks the given reviews that still have {@code status} until the transaction ends, so a
+     * following {@link #updateStatus} changes exactly these rows. Rows are locked in id order so
+     * that overlapping batches cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT new shopco.backend.application.dto.ReviewModerationRow(r.id, r.productId, r.rating)
+            FROM Review r
+            WHERE r.id IN :ids AND r.status = :status
+            ORDER BY r.id
+            """)
+    List<ReviewModerationRow> lockByIdInAndStatus(@Param("ids") Collection<String> ids,
+                                                  @Param("status") ReviewStatus status);
+
+    /**
+     * Moves the given reviews from {@code expected} to {@code target}. A bulk update bypasses
+     * {@code @UpdateTimestamp}, so {@code updatedAt} is set here; the product detail ETag reads it.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Review r SET r.status = :target, r.updatedAt = :now
+            WHERE r.id IN :ids AND r.status = :expected
+            """)
+    int updateStatus(@Param("ids") Collection<String> ids,
+                     @Param("expected") ReviewStatus expected,
+                     @Param("target") ReviewStatus target,
+                     @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,35 @@
+package shopco.backend.infrastructure.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.domain.enums.SlugType;
+import shopco.backend.infrastructure.model.SlugRedirect;
+import shopco.backend.infrastructure.model.SlugRedirectId;
+
+@Repository
+public interface SlugRedirectRepository extends JpaRepository<SlugRedirect, SlugRedirectId> {
+
+    @Query("SELECT r.targetId FROM SlugRedirect r WHERE r.type = :type AND r.slug = :slug")
+    Optional<String> findTargetId(@Param("type") SlugType type, @Param("slug") String slug);
+
+    /**
+     * Points {@code oldSlug} at {@code targetId}, replacing any earlier redirect of that slug.
+     * Runs in its own transaction because renames are recorded after the renaming one committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    default void recordRedirect(SlugType type, String oldSlug, String targetId) {
+        SlugRedirect redirect = findById(new SlugRedirectId(type, oldSlug)).orElseGet(() -> {
+            SlugRedirect created = new SlugRedirect();
+            created.setType(type);
+            created.setSlug(oldSlug);
+            return created;
+        });
+        redirect.setTargetId(targetId);
+        save(redirect);
+    }
+}
@@ -1,10 +1,25 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.StaticPage;
 
 @Repository
 public interface StaticPageRepository extends JpaRepository<StaticPage, String> {
 
+    @Query("SELECT s.id FROM StaticPage s WHERE s.slug = :slug")
+    Optional<String> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT s.slug FROM StaticPage s WHERE s.id = :id")
+    Optional<String> findSlugById(@Param("id") String id);
+
+    @Query("SELECT s FROM StaticPage s WHERE s.slug = :slug AND s.active = TRUE")
+    Optional<StaticPage> findActiveBySlug(@Param("slug") String slug);
+
+    @Query("SELECT s.updatedAt FROM StaticPage s WHERE s.slug = :slug AND s.active = TRUE")
+    Optional<LocalDateTime> findActiveUpdatedAtBySlug(@Param("slug") String slug);
 }
@@ -0,0 +1,52 @@
+package shopco.backend.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.StockHeldRow;
+import shopco.backend.domain.enums.StockReservationStatus;
+import shopco.backend.infrastructure.model.StockReservation;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+
+    /**
+     * Oldest expired holds first; a range scan of the (status, expires_at) index.
+     */
+    @Query("""
+            SELECT r.id
+            FROM StockReservation r
+            WHERE r.status = :status AND r.expiresAt <= :now
+            ORDER BY r.expiresAt
+            """)
+    List<String> findExpiredIds(@Param("status") StockReservationStatus status,
+                                @Param("now") LocalDateTime now,
+                                Limit limit);
+
+    @Query("""
+            SELECT r.id
+            FROM StockReservation r
+            WHERE r.cartId = :cartId AND r.status = :status
+            """)
+    List<String> findIdsByCartIdAndStatus(@Param("cartId") String cartId,
+                                          @Param("status") StockReservationStatus status);
+
+    @Query("""
+            SELECT new shopco.backend.application.dto.StockHeldRow(
+                l.variantId,
+                SUM(CASE WHEN r.expiresAt IS NULL OR r.expiresAt > :now THEN l.quantity ELSE 0 END),
+                SUM(CASE WHEN r.expiresAt <= :now THEN l.quantity ELSE 0 END))
+            FROM StockReservationLine l
+            JOIN l.reservation r
+            WHERE r.status = :status AND l.variantId IN :variantIds
+            GROUP BY l.variantId
+            """)
+    List<StockHeldRow> sumHeldByVariantIdIn(@Param("variantIds") Collection<String> variantIds,
+                                            @Param("status") StockReservationStatus status,
+                                            @Param("now") LocalDateTime now);
+}
@@ -1,10 +1,21 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.KeyIdRow;
+import shopco.backend.application.dto.TypeaheadTermRow;
 import shopco.backend.infrastructure.model.Tag;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, String> {
 
+    @Query("SELECT new shopco.backend.application.dto.TypeaheadTermRow(t.id, t.name, t.slug) FROM Tag t")
+    List<TypeaheadTermRow> findTypeaheadRows();
+
+    @Query("SELECT new shopco.backend.application.dto.KeyIdRow(t.slug, t.id) FROM Tag t WHERE t.slug IN :slugs")
+    List<KeyIdRow> findIdsBySlugIn(@Param("slugs") Collection<String> slugs);
 }
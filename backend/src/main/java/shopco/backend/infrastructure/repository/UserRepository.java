@@ -1,10 +1,28 @@
 package shopco.backend.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import shopco.backend.application.dto.UserExportRow;
 import shopco.backend.infrastructure.model.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportQueries.FETCH_SIZE))
+    @Query("""
+            SELECT new shopco.backend.application.dto.UserExportRow(
+                u.id, u.name, u.email, u.emailVerified, u.role, u.banned, u.createdAt)
+            FROM User u
+            WHERE u.createdAt >= :since AND u.createdAt < :until
+            ORDER BY u.createdAt, u.id
+            """)
+    Stream<UserExportRow> streamExportRows(@Param("since") LocalDateTime since,
+                                           @Param("until") LocalDateTime until);
 }
@@ -1,10 +1,22 @@
 package shopco.backend.infrastructure.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import shopco.backend.infrastructure.model.WishlistItem;
 
 @Repository
 public interface WishlistItemRepository extends JpaRepository<WishlistItem, String> {
 
+    @Query("SELECT w.productId FROM WishlistItem w WHERE w.userId = :userId")
+    List<String> findProductIdsByUserId(@Param("userId") String userId);
+
+    boolean existsByUserIdAndProductId(String userId, String productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WishlistItem w WHERE w.userId = :userId AND w.productId = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") String userId, @Param("productId") String productId);
 }
@@ -0,0 +1,271 @@
+package shopco.backend.infrastructure.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over published products.
+ * Every product gets a dense int ordinal; each term maps to a primitive posting list of
+ * (ordinal, weight) pairs so queries never box or touch the database.
+ * Readers share a read lock, single-document updates take the write lock briefly.
+ */
+@Component
+public class ProductSearchIndex {
+
+    static final float NAME_WEIGHT = 3.0f;
+    static final float BRAND_WEIGHT = 2.0f;
+    static final float CATEGORY_WEIGHT = 1.5f;
+    static final float TAG_WEIGHT = 1.5f;
+    static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Scoring buffers are sized to the ordinal space; pooling them keeps queries allocation-light
+    // without pinning one buffer per servlet thread.
+    private final ConcurrentLinkedQueue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private Map<String, Integer> ordinalsByProductId = new HashMap<>();
+    private List<IndexedProduct> products = new ArrayList<>();
+    private ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    /**
+     * Replaces the whole index. The new structures are built before the write lock is taken.
+     */
+    public void replaceAll(Collection<SearchDocument> documents) {
+        Map<String, PostingList> newPostings = new HashMap<>();
+        Map<String, Integer> newOrdinals = new HashMap<>(documents.size() * 2);
+        List<IndexedProduct> newProducts = new ArrayList<>(documents.size());
+        for (SearchDocument document : documents) {
+            if (newOrdinals.containsKey(document.productId())) {
+                continue;
+            }
+            int ordinal = newProducts.size();
+            newProducts.add(addPostings(newPostings, ordinal, document));
+            newOrdinals.put(document.productId(), ordinal);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            ordinalsByProductId = newOrdinals;
+            products = newProducts;
+            freeOrdinals = new ArrayDeque<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.productId());
+            Integer ordinal = freeOrdinals.pollFirst();
+            if (ordinal == null) {
+                ordinal = products.size();
+                products.add(null);
+            }
+            products.set(ordinal, addPostings(postings, ordinal, document));
+            ordinalsByProductId.put(document.productId(), ordinal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsByProductId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks products by how many query terms they contain, then by tf-idf score.
+     */
+    public SearchResult search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTextAnalyzer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        Scratch scratch = borrowScratch(products.size());
+        try {
+            int documentCount = ordinalsByProductId.size();
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1.0 + (double) documentCount / list.size);
+                for (int i = 0; i < list.size; i++) {
+                    scratch.accumulate(list.ordinals[i], idf * list.weights[i]);
+                }
+            }
+            return collectTopHits(scratch, limit);
+        } finally {
+            scratch.reset();
+            scratchPool.offer(scratch);
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchResult collectTopHits(Scratch scratch, int limit) {
+        Comparator<Integer> ranking = Comparator
+                .<Integer>comparingInt(ordinal -> scratch.matched[ordinal])
+                .thenComparingDouble(ordinal -> scratch.scores[ordinal])
+                .thenComparing(ordinal -> products.get(ordinal).productId(), Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, ranking);
+        for (int i = 0; i < scratch.touchedCount; i++) {
+            top.offer(scratch.touched[i]);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        SearchHit[] hits = new SearchHit[top.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            int ordinal = top.poll();
+            IndexedProduct product = products.get(ordinal);
+            hits[i] = new SearchHit(product.productId(), product.name(), product.slug(), scratch.scores[ordinal]);
+        }
+        return new SearchResult(scratch.touchedCount, Arrays.asList(hits));
+    }
+
+    private void removeLocked(String productId) {
+        Integer ordinal = ordinalsByProductId.remove(productId);
+        if (ordinal == null) {
+            return;
+        }
+        for (String term : products.get(ordinal).terms()) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(ordinal) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        products.set(ordinal, null);
+        freeOrdinals.addLast(ordinal);
+    }
+
+    private static IndexedProduct addPostings(Map<String, PostingList> target, int ordinal,
+                                              SearchDocument document) {
+        Map<String, Float> rawWeights = new HashMap<>();
+        addField(rawWeights, document.name(), NAME_WEIGHT);
+        addField(rawWeights, document.brandName(), BRAND_WEIGHT);
+        addField(rawWeights, document.categoryName(), CATEGORY_WEIGHT);
+        for (String tag : document.tags()) {
+            addField(rawWeights, tag, TAG_WEIGHT);
+        }
+        addField(rawWeights, document.description(), DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Float> entry : rawWeights.entrySet()) {
+            // log damping keeps long descriptions from drowning out a single name match
+            float weight = (float) Math.log1p(entry.getValue());
+            target.computeIfAbsent(entry.getKey(), key -> new PostingList()).add(ordinal, weight);
+        }
+        return new IndexedProduct(document.productId(), document.name(), document.slug(),
+                rawWeights.keySet().toArray(String[]::new));
+    }
+
+    private static void addField(Map<String, Float> rawWeights, String text, float fieldWeight) {
+        for (String token : SearchTextAnalyzer.tokenize(text)) {
+            rawWeights.merge(token, fieldWeight, Float::sum);
+        }
+    }
+
+    private Scratch borrowScratch(int capacity) {
+        Scratch scratch = scratchPool.poll();
+        if (scratch == null || scratch.scores.length < capacity) {
+            scratch = new Scratch(Math.max(capacity, 16));
+        }
+        return scratch;
+    }
+
+    public record SearchHit(String productId, String name, String slug, double score) {
+    }
+
+    public record SearchResult(int totalMatches, List<SearchHit> hits) {
+    }
+
+    private record IndexedProduct(String productId, String name, String slug, String[] terms) {
+    }
+
+    private static final class PostingList {
+        private int[] ordinals = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int ordinal, float weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ordinals[size] = ordinal;
+            weights[size] = weight;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    size--;
+                    ordinals[i] = ordinals[size];
+                    weights[i] = weights[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Scratch {
+        private final float[] scores;
+        private final int[] matched;
+        private final int[] touched;
+        private int touchedCount;
+
+        Scratch(int capacity) {
+            scores = new float[capacity];
+            matched = new int[capacity];
+            touched = new int[capacity];
+        }
+
+        void accumulate(int ordinal, float score) {
+            if (matched[ordinal] == 0) {
+                touched[touchedCount++] = ordinal;
+            }
+            matched[ordinal]++;
+            scores[ordinal] += score;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0f;
+                matched[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
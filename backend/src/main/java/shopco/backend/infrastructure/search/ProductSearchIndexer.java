@@ -0,0 +1,108 @@
+package shopco.backend.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.application.dto.ProductSearchRow;
+import shopco.backend.application.dto.ProductTagNameRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductTagRepository;
+
+/**
+ * Keeps {@link ProductSearchIndex} in sync with the database: a full load at startup,
+ * then per-product refreshes after each committed catalog write.
+ */
+@Component
+public class ProductSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndexer.class);
+
+    @Autowired
+    private ProductSearchIndex searchIndex;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        List<ProductSearchRow> rows = productRepository.findSearchRowsByStatus(ProductStatus.PUBLISHED);
+        Map<String, List<String>> tags = groupTags(
+                productTagRepository.findTagNamesByProductStatus(ProductStatus.PUBLISHED));
+        searchIndex.replaceAll(rows.stream().map(row -> toDocument(row, tags)).toList());
+        log.info("Search index built with {} products in {} ms",
+                searchIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.type()) {
+            case PRODUCT, PRODUCT_TAG -> {
+                if (event.type() == CatalogEntityType.PRODUCT && event.removed()) {
+                    searchIndex.remove(event.productId());
+                } else {
+                    refresh(List.of(event.productId()));
+                }
+            }
+            case BRAND -> refresh(productRepository.findIdsByBrandId(event.entityId()));
+            case CATEGORY -> refresh(productRepository.findIdsByCategoryId(event.entityId()));
+            case TAG -> refresh(productTagRepository.findProductIdsByTagId(event.entityId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        refresh(event.productIds());
+    }
+
+    /**
+     * Re-reads the given products and re-indexes or drops each one depending on its status.
+     */
+    public void refresh(Collection<String> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> tags = groupTags(productTagRepository.findTagNamesByProductIdIn(productIds));
+        Set<String> missing = new HashSet<>(productIds);
+        for (ProductSearchRow row : productRepository.findSearchRowsByIdIn(productIds)) {
+            missing.remove(row.id());
+            if (row.status() == ProductStatus.PUBLISHED) {
+                searchIndex.upsert(toDocument(row, tags));
+            } else {
+                searchIndex.remove(row.id());
+            }
+        }
+        missing.forEach(searchIndex::remove);
+    }
+
+    private static Map<String, List<String>> groupTags(List<ProductTagNameRow> rows) {
+        Map<String, List<String>> tags = new HashMap<>();
+        for (ProductTagNameRow row : rows) {
+            tags.computeIfAbsent(row.productId(), key -> new ArrayList<>()).add(row.tagName());
+        }
+        return tags;
+    }
+
+    private static SearchDocument toDocument(ProductSearchRow row, Map<String, List<String>> tags) {
+        return new SearchDocument(row.id(), row.name(), row.slug(), row.description(),
+                row.brandName(), row.categoryName(), tags.getOrDefault(row.id(), List.of()));
+    }
+}
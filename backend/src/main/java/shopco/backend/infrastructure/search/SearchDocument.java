@@ -0,0 +1,23 @@
+package shopco.backend.infrastructure.search;
+
+import java.util.List;
+
+/**
+ * Searchable view of one published product
+ */
+public record SearchDocument(
+        String productId,
+        String name,
+        String slug,
+        String description,
+        String brandName,
+        String categoryName,
+        List<String> tags) {
+
+    public SearchDocument {
+        if (productId == null || productId.isBlank()) {
+            throw new IllegalArgumentException("Product id must not be blank");
+        }
+        tags = tags == null ? List.of() : List.copyOf(tags);
+    }
+}
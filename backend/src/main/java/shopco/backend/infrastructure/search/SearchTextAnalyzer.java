@@ -0,0 +1,53 @@
+package shopco.backend.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lower-cases, folds accents and splits text into search terms.
+ * Folding makes "Áo sơ mi Đỏ" and "ao so mi do" produce the same terms, which is how
+ * customers type Vietnamese on keyboards without an IME.
+ */
+public final class SearchTextAnalyzer {
+
+    private SearchTextAnalyzer() {
+    }
+
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            // đ/Đ are distinct letters, not d + combining mark, so NFD leaves them alone
+            if (c == 'đ' || c == 'Đ') {
+                folded.append('d');
+            } else {
+                folded.append(Character.toLowerCase(c));
+            }
+        }
+        return folded.toString();
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,161 @@
+package shopco.backend.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.application.dto.ProductTagIdRow;
+import shopco.backend.application.dto.TypeaheadProductRow;
+import shopco.backend.application.dto.TypeaheadTermRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.catalog.CategoryTree;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.repository.BrandRepository;
+import shopco.backend.infrastructure.repository.ProductSummaryRepository;
+import shopco.backend.infrastructure.repository.ProductTagRepository;
+import shopco.backend.infrastructure.repository.TagRepository;
+import shopco.backend.infrastructure.search.TypeaheadTrie.Kind;
+import shopco.backend.infrastructure.search.TypeaheadTrie.Suggestion;
+
+/**
+ * Holds the current {@link TypeaheadTrie}. Catalog, review and order writes only flag the trie
+ * as stale; a background job rebuilds it from the product summaries at most once per interval
+ * and swaps it in with a single volatile write, so keystroke lookups never lock or wait.
+ * Products weigh 1 + units sold + review count; brands, categories and tags weigh the sum of
+ * their published products.
+ */
+@Component
+public class TypeaheadIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(TypeaheadIndexer.class);
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    private final int topK;
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private volatile TypeaheadTrie trie = TypeaheadTrie.EMPTY;
+
+    public TypeaheadIndexer(@Value("${shopco.search.typeahead.top-k:10}") int topK) {
+        this.topK = topK;
+    }
+
+    public TypeaheadTrie current() {
+        return trie;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    // Runs after the category tree and product summaries have loaded
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        stale.set(false);
+        TypeaheadTrie rebuilt = TypeaheadTrie.build(loadSuggestions(), topK);
+        trie = rebuilt;
+        log.debug("Typeahead trie rebuilt with {} suggestions in {} ms",
+                rebuilt.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        stale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.search.typeahead.rebuild-delay-ms:30000}",
+            initialDelayString = "${shopco.search.typeahead.rebuild-delay-ms:30000}")
+    public void rebuildIfStale() {
+        if (stale.get()) {
+            rebuild();
+        }
+    }
+
+    private List<Suggestion> loadSuggestions() {
+        CategoryTree tree = categoryTreeCache.current();
+        List<TypeaheadProductRow> products = productSummaryRepository.findTypeaheadRows(ProductStatus.PUBLISHED);
+        Map<String, Long> productWeights = new HashMap<>(products.size() * 2);
+        Map<String, Long> brandWeights = new HashMap<>();
+        Map<String, Long> categoryWeights = new HashMap<>();
+        List<Suggestion> suggestions = new ArrayList<>(products.size());
+        for (TypeaheadProductRow row : products) {
+            long weight = 1 + nonNull(row.unitsSold()) + nonNull(row.ratingCount());
+            productWeights.put(row.productId(), weight);
+            suggestions.add(new Suggestion(Kind.PRODUCT, row.productId(), row.name(), row.slug(), weight));
+            if (row.brandId() != null) {
+                brandWeights.merge(row.brandId(), weight, Long::sum);
+            }
+            if (row.categoryId() != null) {
+                // A product also makes every ancestor category more popular
+                CategoryTree.Node node = tree.node(row.categoryId());
+                categoryWeights.merge(row.categoryId(), weight, Long::sum);
+                if (node != null) {
+                    node.ancestorIds().forEach(ancestorId -> categoryWeights.merge(ancestorId, weight, Long::sum));
+                }
+            }
+        }
+
+        for (TypeaheadTermRow brand : brandRepository.findActiveTypeaheadRows()) {
+            Long weight = brandWeights.get(brand.id());
+            if (weight != null) {
+                suggestions.add(new Suggestion(Kind.BRAND, brand.id(), brand.name(), brand.slug(), weight));
+            }
+        }
+
+        categoryWeights.forEach((categoryId, weight) -> {
+            CategoryTree.Node node = tree.node(categoryId);
+            if (node != null && node.active()) {
+                suggestions.add(new Suggestion(Kind.CATEGORY, node.id(), node.name(), node.slug(), weight));
+            }
+        });
+
+        Map<String, Long> tagWeights = new HashMap<>();
+        for (ProductTagIdRow link : productTagRepository.findTagIdsByProductStatus(ProductStatus.PUBLISHED)) {
+            tagWeights.merge(link.tagId(), productWeights.getOrDefault(link.productId(), 1L), Long::sum);
+        }
+        for (TypeaheadTermRow tag : tagRepository.findTypeaheadRows()) {
+            Long weight = tagWeights.get(tag.id());
+            if (weight != null) {
+                suggestions.add(new Suggestion(Kind.TAG, tag.id(), tag.name(), tag.slug(), weight));
+            }
+        }
+        return suggestions;
+    }
+
+    private static long nonNull(Long value) {
+        return value == null ? 0 : value;
+    }
+}
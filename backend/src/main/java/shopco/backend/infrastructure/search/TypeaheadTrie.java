@@ -0,0 +1,221 @@
+package shopco.backend.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable radix trie for search-box autocomplete.
+ * Every suggestion is keyed by its folded text and by each suffix starting at a later word, so
+ * "oxf" and "shi" both reach "Oxford Shirt". Single-child chains are collapsed into one edge and
+ * every node stores the ordinals of its k heaviest suggestions, so a lookup is a walk of at most
+ * {@code prefix.length()} characters followed by copying a precomputed array.
+ */
+public final class TypeaheadTrie {
+
+    public static final TypeaheadTrie EMPTY = new TypeaheadTrie(new Suggestion[0], null, 0);
+
+    // Longer keys only make the trie deeper; nobody types that far before picking a suggestion
+    static final int MAX_KEY_LENGTH = 48;
+
+    private static final int[] NO_ORDINALS = new int[0];
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    private final Suggestion[] suggestions;
+    private final Node root;
+    private final int topK;
+
+    private TypeaheadTrie(Suggestion[] suggestions, Node root, int topK) {
+        this.suggestions = suggestions;
+        this.root = root;
+        this.topK = topK;
+    }
+
+    public enum Kind {
+        PRODUCT,
+        BRAND,
+        CATEGORY,
+        TAG
+    }
+
+    /**
+     * @param weight popularity used to rank suggestions sharing a prefix (higher first)
+     */
+    public record Suggestion(Kind kind, String id, String text, String slug, long weight) {
+    }
+
+    public static TypeaheadTrie build(Collection<Suggestion> input, int topK) {
+        Suggestion[] suggestions = input.stream()
+                .filter(suggestion -> suggestion.text() != null && !suggestion.text().isBlank())
+                .sorted(Comparator.comparingLong(Suggestion::weight).reversed()
+                        .thenComparing(Suggestion::text)
+                        .thenComparing(Suggestion::id))
+                .toArray(Suggestion[]::new);
+
+        // Ordinals follow rank, so merging top-k lists only has to compare ints
+        List<Key> keys = new ArrayList<>();
+        for (int ordinal = 0; ordinal < suggestions.length; ordinal++) {
+            List<String> tokens = SearchTextAnalyzer.tokenize(suggestions[ordinal].text());
+            for (int start = 0; start < tokens.size(); start++) {
+                String key = String.join(" ", tokens.subList(start, tokens.size()));
+                keys.add(new Key(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key, ordinal));
+            }
+        }
+        if (keys.isEmpty()) {
+            return new TypeaheadTrie(suggestions, null, topK);
+        }
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::ordinal));
+        return new TypeaheadTrie(suggestions, buildNode(keys, 0, keys.size(), 0, topK), topK);
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * Up to {@code limit} suggestions (capped at the trie's k) whose text or a later word of it
+     * starts with the given prefix, heaviest first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = String.join(" ", SearchTextAnalyzer.tokenize(prefix));
+        if (key.isEmpty() || root == null || limit <= 0) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+
+        Node node = root;
+        int position = 0;
+        while (true) {
+            String label = node.label;
+            int matched = 0;
+            while (matched < label.length() && position < key.length()) {
+                if (label.charAt(matched) != key.charAt(position)) {
+                    return List.of();
+                }
+                matched++;
+                position++;
+            }
+            if (position == key.length()) {
+                break;
+            }
+            int child = Arrays.binarySearch(node.childChars, key.charAt(position));
+            if (child < 0) {
+                return List.of();
+            }
+            node = node.children[child];
+            position++;
+        }
+
+        int count = Math.min(Math.min(limit, topK), node.top.length);
+        Suggestion[] result = new Suggestion[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = suggestions[node.top[i]];
+        }
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Builds the node for {@code keys[from, to)}, which all share their first {@code depth}
+     * characters (the last of them is the edge character the parent matched). Because the keys
+     * are sorted, the prefix shared by the whole range is the common prefix of its first and
+     * last key.
+     */
+    private static Node buildNode(List<Key> keys, int from, int to, int depth, int topK) {
+        String first = keys.get(from).text();
+        String last = keys.get(to - 1).text();
+        int end = depth;
+        while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+
+        List<int[]> ranked = new ArrayList<>();
+        int cursor = from;
+        // Keys that end exactly here sort before any longer key with the same prefix
+        int terminalStart = cursor;
+        while (cursor < to && keys.get(cursor).text().length() == end) {
+            cursor++;
+        }
+        if (cursor > terminalStart) {
+            int[] terminals = new int[cursor - terminalStart];
+            for (int i = 0; i < terminals.length; i++) {
+                terminals[i] = keys.get(terminalStart + i).ordinal();
+            }
+            ranked.add(terminals);
+        }
+
+        List<Character> childChars = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        while (cursor < to) {
+            char next = keys.get(cursor).text().charAt(end);
+            int groupEnd = cursor;
+            while (groupEnd < to && keys.get(groupEnd).text().charAt(end) == next) {
+                groupEnd++;
+            }
+            Node child = buildNode(keys, cursor, groupEnd, end + 1, topK);
+            childChars.add(next);
+            children.add(child);
+            ranked.add(child.top);
+            cursor = groupEnd;
+        }
+
+        // The parent's edge already consumed the character before depth
+        String label = first.substring(depth, end);
+        char[] chars = childChars.isEmpty() ? NO_CHARS : new char[childChars.size()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = childChars.get(i);
+        }
+        return new Node(label, chars, children.isEmpty() ? NO_NODES : children.toArray(Node[]::new),
+                mergeTop(ranked, topK));
+    }
+
+    /**
+     * Merges ordinal lists (each ascending, i.e. best first) into the k best distinct ordinals.
+     */
+    private static int[] mergeTop(List<int[]> lists, int topK) {
+        if (lists.isEmpty()) {
+            return NO_ORDINALS;
+        }
+        int total = 0;
+        for (int[] list : lists) {
+            total += list.length;
+        }
+        int[] all = new int[total];
+        int offset = 0;
+        for (int[] list : lists) {
+            System.arraycopy(list, 0, all, offset, list.length);
+            offset += list.length;
+        }
+        Arrays.sort(all);
+        int[] top = new int[Math.min(topK, total)];
+        int size = 0;
+        for (int i = 0; i < all.length && size < top.length; i++) {
+            // the same suggestion reaches a node through several of its word suffixes
+            if (i == 0 || all[i] != all[i - 1]) {
+                top[size++] = all[i];
+            }
+        }
+        return size == top.length ? top : Arrays.copyOf(top, size);
+    }
+
+    private record Key(String text, int ordinal) {
+    }
+
+    private static final class Node {
+        private final String label;
+        private final char[] childChars;
+        private final Node[] children;
+        private final int[] top;
+
+        Node(String label, char[] childChars, Node[] children, int[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+}
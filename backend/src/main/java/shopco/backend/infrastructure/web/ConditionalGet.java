@@ -0,0 +1,59 @@
+package shopco.backend.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+/**
+ * Conditional GET helpers for read endpoints. Controllers look up the {@link ResourceVersion}
+ * first and only load the body when the client's copy is stale:
+ *
+ * <pre>{@code
+ * ResourceVersion version = service.getVersion(id);
+ * if (ConditionalGet.isNotModified(request, version)) {
+ *     return ConditionalGet.notModified(version);
+ * }
+ * return ConditionalGet.ok(version, ApiResponse.success(...));
+ * }</pre>
+ *
+ * Reading the version before the body means a concurrent write can only make the body newer
+ * than its tag, which costs the client one extra 200 later but never serves it a stale 304.
+ */
+public final class ConditionalGet {
+
+    // Clients may store the response but must revalidate it on every use
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Evaluates If-None-Match (or, without it, If-Modified-Since) against the version. A null
+     * version, e.g. for a resource that does not exist, never matches.
+     */
+    public static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        return version != null && request.checkNotModified(version.etag(), version.lastModified());
+    }
+
+    public static ResponseEntity<ApiResponse<?>> notModified(ResourceVersion version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .cacheControl(CACHE_CONTROL)
+                .build();
+    }
+
+    public static ResponseEntity<ApiResponse<?>> ok(ResourceVersion version, ApiResponse<?> body) {
+        if (version == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+                .eTag(version.etag())
+                .lastModified(version.lastModified())
+                .cacheControl(CACHE_CONTROL)
+                .body(body);
+    }
+}
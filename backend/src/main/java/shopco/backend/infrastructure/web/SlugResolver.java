@@ -0,0 +1,164 @@
+package shopco.backend.infrastructure.web;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.domain.enums.SlugType;
+import shopco.backend.infrastructure.persistence.CatalogBulkChangedEvent;
+import shopco.backend.infrastructure.persistence.SlugChangedEvent;
+import shopco.backend.infrastructure.repository.BrandRepository;
+import shopco.backend.infrastructure.repository.CategoryRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.SlugRedirectRepository;
+import shopco.backend.infrastructure.repository.StaticPageRepository;
+
+/**
+ * Resolves storefront slugs of products, categories, brands and static pages to ids.
+ * Results, including "not found", are kept in a bounded in-memory cache so repeat URL hits
+ * never query the database. Renames evict the affected entries and record the old slug as a
+ * redirect to the entity's current slug.
+ */
+@Component
+public class SlugResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(SlugResolver.class);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private StaticPageRepository staticPageRepository;
+
+    @Autowired
+    private SlugRedirectRepository slugRedirectRepository;
+
+    private final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so a lookup that raced with a rename does not cache stale data
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxEntries;
+    private final long negativeTtlNanos;
+
+    public SlugResolver(@Value("${shopco.slugs.cache.max-entries:50000}") int maxEntries,
+                        @Value("${shopco.slugs.cache.negative-ttl-seconds:60}") long negativeTtlSeconds) {
+        this.maxEntries = maxEntries;
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+    }
+
+    /**
+     * @param slug canonical slug; differs from the requested one when {@code redirect} is true
+     */
+    public record Resolution(SlugType type, String id, String slug, boolean redirect) {
+    }
+
+    public Optional<Resolution> resolve(SlugType type, String slug) {
+        Key key = new Key(type, slug);
+        Entry entry = cache.get(key);
+        // Found slugs stay until invalidated, "not found" only for the negative TTL
+        if (entry != null && (entry.resolution() != null || entry.expiresAt() - System.nanoTime() > 0)) {
+            return Optional.ofNullable(entry.resolution());
+        }
+
+        long observed = generation.get();
+        Resolution resolution = load(type, slug);
+        Entry loaded = new Entry(resolution, System.nanoTime() + negativeTtlNanos);
+        evictIfFull();
+        cache.put(key, loaded);
+        // Checked after the insert: an invalidation landing before it found nothing to remove,
+        // and a found slug is never removed otherwise
+        if (generation.get() != observed) {
+            cache.remove(key, loaded);
+        }
+        return Optional.ofNullable(resolution);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlugChanged(SlugChangedEvent event) {
+        if (event.oldSlug() != null && event.newSlug() != null) {
+            try {
+                slugRedirectRepository.recordRedirect(event.type(), event.oldSlug(), event.entityId());
+            } catch (DataAccessException ex) {
+                // Another instance recorded the same rename first
+                log.debug("Redirect for {} {} not recorded", event.type(), event.oldSlug(), ex);
+            }
+        }
+        generation.incrementAndGet();
+        if (event.oldSlug() != null) {
+            cache.remove(new Key(event.type(), event.oldSlug()));
+        }
+        if (event.newSlug() != null) {
+            cache.remove(new Key(event.type(), event.newSlug()));
+        }
+        // Old slugs already redirecting to this entity carry its previous canonical slug
+        cache.entrySet().removeIf(cached -> cached.getValue().resolution() != null
+                && cached.getKey().type() == event.type()
+                && cached.getValue().resolution().id().equals(event.entityId()));
+    }
+
+    /**
+     * Bulk writes only add new slugs, so only cached "not found" answers can be stale.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogBulkChanged(CatalogBulkChangedEvent event) {
+        generation.incrementAndGet();
+        cache.values().removeIf(entry -> entry.resolution() == null);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private Resolution load(SlugType type, String slug) {
+        Optional<String> liveId = switch (type) {
+            case PRODUCT -> productRepository.findIdBySlug(slug);
+            case CATEGORY -> categoryRepository.findIdBySlug(slug);
+            case BRAND -> brandRepository.findIdBySlug(slug);
+            case PAGE -> staticPageRepository.findIdBySlug(slug);
+        };
+        if (liveId.isPresent()) {
+            return new Resolution(type, liveId.get(), slug, false);
+        }
+        return slugRedirectRepository.findTargetId(type, slug)
+                .flatMap(targetId -> currentSlug(type, targetId)
+                        .map(current -> new Resolution(type, targetId, current, true)))
+                .orElse(null);
+    }
+
+    private Optional<String> currentSlug(SlugType type, String id) {
+        return switch (type) {
+            case PRODUCT -> productRepository.findSlugById(id);
+            case CATEGORY -> categoryRepository.findSlugById(id);
+            case BRAND -> brandRepository.findSlugById(id);
+            case PAGE -> staticPageRepository.findSlugById(id);
+        };
+    }
+
+    private void evictIfFull() {
+        Iterator<Key> keys = cache.keySet().iterator();
+        while (cache.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Key(SlugType type, String slug) {
+    }
+
+    private record Entry(Resolution resolution, long expiresAt) {
+    }
+}
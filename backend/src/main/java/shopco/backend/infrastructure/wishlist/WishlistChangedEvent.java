@@ -0,0 +1,13 @@
+package shopco.backend.infrastructure.wishlist;
+
+/**
+ * Published when a product is added to or removed from a user's wishlist.
+ */
+public record WishlistChangedEvent(String userId, String productId, boolean added) {
+
+    public WishlistChangedEvent {
+        if (userId == null || productId == null) {
+            throw new IllegalArgumentException("User id and product id must not be null");
+        }
+    }
+}
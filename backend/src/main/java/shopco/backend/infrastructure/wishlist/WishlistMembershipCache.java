@@ -0,0 +1,146 @@
+package shopco.backend.infrastructure.wishlist;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import shopco.backend.infrastructure.catalog.ProductOrdinals;
+import shopco.backend.infrastructure.persistence.CatalogChangedEvent;
+import shopco.backend.infrastructure.persistence.CatalogEntityType;
+import shopco.backend.infrastructure.repository.WishlistItemRepository;
+
+/**
+ * Which products each active user has wishlisted, as a compressed bitmap of
+ * {@link ProductOrdinals}. A user's set is loaded with one query on first use and then kept up
+ * to date from committed wishlist changes, so a listing page asks about all of its cards with
+ * no query at all. Users idle for longer than the TTL are dropped, and the number of users held
+ * is bounded.
+ */
+@Component
+public class WishlistMembershipCache {
+
+    @Autowired
+    private WishlistItemRepository wishlistItemRepository;
+
+    private final ProductOrdinals ordinals = new ProductOrdinals();
+    private final ConcurrentHashMap<String, Membership> cache = new ConcurrentHashMap<>();
+    // Bumped on every change so a load that raced with one does not cache a stale set
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxUsers;
+    private final long idleTtlNanos;
+
+    public WishlistMembershipCache(@Value("${shopco.wishlist.cache.max-users:100000}") int maxUsers,
+                                   @Value("${shopco.wishlist.cache.idle-ttl-minutes:30}") long idleTtlMinutes) {
+        this.maxUsers = maxUsers;
+        this.idleTtlNanos = TimeUnit.MINUTES.toNanos(idleTtlMinutes);
+    }
+
+    /**
+     * The subset of {@code productIds} on the user's wishlist.
+     */
+    public Set<String> wishlisted(String userId, Collection<String> productIds) {
+        RoaringBitmap members = members(userId);
+        Set<String> result = new HashSet<>();
+        for (String productId : productIds) {
+            int ordinal = ordinals.find(productId);
+            if (ordinal >= 0 && members.contains(ordinal)) {
+                result.add(productId);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        generation.incrementAndGet();
+        // Users without a cached set load the change with it on their next request
+        cache.computeIfPresent(event.userId(), (userId, membership) ->
+                membership.with(ordinals.ordinalOf(event.productId()), event.added()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // Wishlist rows of a deleted product go with it; the ordinal is never handed out again
+        if (event.type() == CatalogEntityType.PRODUCT && event.removed()) {
+            ordinals.forget(event.productId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${shopco.wishlist.cache.sweep-delay-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        cache.values().removeIf(membership -> now - membership.lastAccess > idleTtlNanos);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private RoaringBitmap members(String userId) {
+        Membership cached = cache.get(userId);
+        if (cached != null) {
+            cached.lastAccess = System.nanoTime();
+            return cached.ordinals;
+        }
+
+        long observed = generation.get();
+        RoaringBitmap loaded = new RoaringBitmap();
+        for (String productId : wishlistItemRepository.findProductIdsByUserId(userId)) {
+            loaded.add(ordinals.ordinalOf(productId));
+        }
+        loaded.runOptimize();
+        evictIfFull();
+        Membership inserted = new Membership(loaded);
+        // Checked after the insert: a change landing before it found no entry to update, so
+        // the set may be stale and must not stay cached
+        if (cache.putIfAbsent(userId, inserted) == null && generation.get() != observed) {
+            cache.remove(userId, inserted);
+        }
+        return loaded;
+    }
+
+    private void evictIfFull() {
+        Iterator<String> users = cache.keySet().iterator();
+        while (cache.size() >= maxUsers && users.hasNext()) {
+            users.next();
+            users.remove();
+        }
+    }
+
+    /**
+     * One user's set. The bitmap is never modified once published; changes replace the entry.
+     */
+    private static final class Membership {
+
+        private final RoaringBitmap ordinals;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Membership(RoaringBitmap ordinals) {
+            this.ordinals = ordinals;
+        }
+
+        private Membership with(int ordinal, boolean added) {
+            RoaringBitmap updated = ordinals.clone();
+            if (added) {
+                updated.add(ordinal);
+            } else {
+                updated.remove(ordinal);
+            }
+            return new Membership(updated);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package shopco.backend.interfaces.controllers;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import shopco.backend.application.dto.BannerDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.interfaces.BannerService;
+import shopco.backend.infrastructure.web.ConditionalGet;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/banners")
+public class BannerController {
+
+    @Autowired
+    private BannerService bannerService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getBanners(
+            @RequestParam(required = false) String position,
+            WebRequest request) {
+        try {
+            ResourceVersion version = bannerService.getVersion();
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            List<BannerDto> banners = bannerService.getActive(position);
+            return ConditionalGet.ok(version, ApiResponse.success("Banners fetched successfully", banners));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package shopco.backend.interfaces.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemRequest;
+import shopco.backend.application.dto.CartPricingDto;
+import shopco.backend.application.interfaces.CartService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+/**
+ * The cart of a signed-in user ({@code ?userId=}) or a guest ({@code ?sessionId=}).
+ */
+@RestController
+@RequestMapping("/cart")
+public class CartController {
+
+    @Autowired
+    private CartService cartService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getCart(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String sessionId) {
+        try {
+            CartDto cart = cartService.getCart(userId, sessionId);
+            return ResponseEntity.ok(ApiResponse.success("Cart fetched successfully", cart));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Totals for checkout, optionally with {@code ?couponCode=}.
+     */
+    @GetMapping("/pricing")
+    public ResponseEntity<ApiResponse<?>> priceCart(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String sessionId,
+            @RequestParam(required = false) String couponCode) {
+        try {
+            CartPricingDto pricing = cartService.priceCart(userId, sessionId, couponCode);
+            return ResponseEntity.ok(ApiResponse.success("Cart priced successfully", pricing));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Adds a variant, e.g. {@code {"variantId": "v1", "quantity": 2}}.
+     */
+    @PostMapping("/items")
+    public ResponseEntity<ApiResponse<?>> addItem(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String sessionId,
+            @RequestBody CartItemRequest request) {
+        try {
+            CartDto cart = cartService.addItem(userId, sessionId, request);
+            return ResponseEntity.ok(ApiResponse.success("Item added to cart", cart));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Called when a guest signs in: moves the guest's lines into the user's cart.
+     */
+    @PostMapping("/merge")
+    public ResponseEntity<ApiResponse<?>> mergeGuestCart(
+            @RequestParam(required = false) String sessionId,
+            @RequestParam(required = false) String userId) {
+        try {
+            CartDto cart = cartService.mergeGuestCart(sessionId, userId);
+            return ResponseEntity.ok(ApiResponse.success("Guest cart merged", cart));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PutMapping("/items/{variantId}")
+    public ResponseEntity<ApiResponse<?>> setQuantity(
+            @PathVariable String variantId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String sessionId,
+            @RequestParam int quantity) {
+        try {
+            CartDto cart = cartService.setQuantity(userId, sessionId, variantId, quantity);
+            return ResponseEntity.ok(ApiResponse.success("Cart item updated", cart));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @DeleteMapping("/items/{variantId}")
+    public ResponseEntity<ApiResponse<?>> removeItem(
+            @PathVariable String variantId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String sessionId) {
+        try {
+            CartDto cart = cartService.removeItem(userId, sessionId, variantId);
+            return ResponseEntity.ok(ApiResponse.success("Item removed from cart", cart));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
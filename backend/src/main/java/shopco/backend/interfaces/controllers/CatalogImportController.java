@@ -0,0 +1,44 @@
+package shopco.backend.interfaces.controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import shopco.backend.application.dto.CatalogImportReportDto;
+import shopco.backend.application.interfaces.CatalogImportService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/catalog/imports")
+public class CatalogImportController {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    /**
+     * Imports a supplier feed (CSV with a header row, or JSON Lines), one variant per row.
+     * Rows that fail validation are skipped and listed in the report; the rest are written.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<?>> importCatalog(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        try (InputStream input = file.getInputStream()) {
+            CatalogImportReportDto report = catalogImportService.importCatalog(
+                    input, file.getOriginalFilename(), format);
+            return ResponseEntity.ok(ApiResponse.success("Catalog import finished", report));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IOException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(
+                    "Could not read uploaded file: " + ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package shopco.backend.interfaces.controllers;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import shopco.backend.application.dto.CategoryNodeDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.interfaces.CategoryService;
+import shopco.backend.infrastructure.web.ConditionalGet;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/categories")
+public class CategoryController {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getRootCategories(WebRequest request) {
+        try {
+            ResourceVersion version = categoryService.getVersion();
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            List<CategoryNodeDto> roots = categoryService.getChildren(null);
+            return ConditionalGet.ok(version, ApiResponse.success("Categories fetched successfully", roots));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/{id}/children")
+    public ResponseEntity<ApiResponse<?>> getChildCategories(@PathVariable String id, WebRequest request) {
+        try {
+            ResourceVersion version = categoryService.getVersion();
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            List<CategoryNodeDto> children = categoryService.getChildren(id);
+            return ConditionalGet.ok(version, ApiResponse.success("Categories fetched successfully", children));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/{id}/breadcrumb")
+    public ResponseEntity<ApiResponse<?>> getBreadcrumb(@PathVariable String id, WebRequest request) {
+        try {
+            ResourceVersion version = categoryService.getVersion();
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            List<CategoryNodeDto> trail = categoryService.getBreadcrumb(id);
+            return ConditionalGet.ok(version, ApiResponse.success("Breadcrumb fetched successfully", trail));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+}
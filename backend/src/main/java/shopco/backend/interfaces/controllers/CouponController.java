@@ -0,0 +1,57 @@
+package shopco.backend.interfaces.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.CouponRedemptionDto;
+import shopco.backend.application.interfaces.CouponService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/coupons")
+public class CouponController {
+
+    @Autowired
+    private CouponService couponService;
+
+    /**
+     * Uses the coupon for an order, e.g. {@code ?userId=u1&orderId=o1}. Refused with
+     * {@code 409 Conflict} once the coupon or the user's share of it is used up.
+     */
+    @PostMapping("/{code}/redemptions")
+    public ResponseEntity<ApiResponse<?>> redeem(
+            @PathVariable String code,
+            @RequestParam String userId,
+            @RequestParam String orderId) {
+        try {
+            CouponRedemptionDto redemption = couponService.redeem(code, userId, orderId);
+            return ResponseEntity.ok(ApiResponse.success("Coupon redeemed successfully", redemption));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Gives a cancelled order's coupon use back. Refused with {@code 409 Conflict} while the
+     * order is not cancelled.
+     */
+    @PostMapping("/orders/{orderId}/release")
+    public ResponseEntity<ApiResponse<?>> release(@PathVariable String orderId) {
+        try {
+            CouponRedemptionDto redemption = couponService.releaseForOrder(orderId);
+            return ResponseEntity.ok(ApiResponse.success("Coupon redemption released", redemption));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+}
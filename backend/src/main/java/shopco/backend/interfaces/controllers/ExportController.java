@@ -0,0 +1,54 @@
+package shopco.backend.interfaces.controllers;
+
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import shopco.backend.application.dto.ExportRequestDto;
+import shopco.backend.application.interfaces.DataExportService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+
+@RestController
+@RequestMapping("/exports")
+public class ExportController {
+
+    @Autowired
+    private DataExportService dataExportService;
+
+    /**
+     * Downloads a whole dataset (catalog, orders, users or reviews) as CSV or JSON Lines,
+     * optionally gzip-compressed. Rows are streamed while they are read, so the response starts
+     * immediately and its size is not limited by server memory.
+     */
+    @GetMapping("/{dataset}")
+    public ResponseEntity<?> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String until) {
+        ExportRequestDto request;
+        try {
+            request = dataExportService.prepare(dataset, format, gzip, since, until);
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        StreamingResponseBody body = output -> dataExportService.export(request, output);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(request.filename(LocalDate.now().toString()))
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(request.contentType()))
+                .body(body);
+    }
+}
@@ -0,0 +1,142 @@
+package shopco.backend.interfaces.controllers;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.FlashSaleDto;
+import shopco.backend.application.dto.StockAvailabilityDto;
+import shopco.backend.application.dto.StockReservationDto;
+import shopco.backend.application.dto.StockReservationRequest;
+import shopco.backend.application.interfaces.InventoryService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/inventory")
+public class InventoryController {
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    /**
+     * Reserves stock for a checkout, e.g.
+     * {@code {"lines": [{"variantId": "v1", "quantity": 2}]}}. Nothing is reserved if any line
+     * is short.
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<ApiResponse<?>> reserve(@RequestBody StockReservationRequest request) {
+        try {
+            StockReservationDto reservation = inventoryService.reserve(request.lines());
+            return ResponseEntity.ok(ApiResponse.success("Stock reserved successfully", reservation));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @PostMapping("/reservations/{reservationId}/commit")
+    public ResponseEntity<ApiResponse<?>> commit(@PathVariable String reservationId) {
+        try {
+            StockReservationDto reservation = inventoryService.commit(reservationId);
+            return ResponseEntity.ok(ApiResponse.success("Stock reservation committed", reservation));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    @PostMapping("/reservations/{reservationId}/release")
+    public ResponseEntity<ApiResponse<?>> release(@PathVariable String reservationId) {
+        try {
+            StockReservationDto reservation = inventoryService.release(reservationId);
+            return ResponseEntity.ok(ApiResponse.success("Stock reservation released", reservation));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Holds the cart's quantities for checkout; the hold lapses unless committed in time.
+     */
+    @PostMapping("/carts/{cartId}/hold")
+    public ResponseEntity<ApiResponse<?>> holdCart(@PathVariable String cartId) {
+        try {
+            StockReservationDto hold = inventoryService.holdCart(cartId);
+            return ResponseEntity.ok(ApiResponse.success("Cart stock held for checkout", hold));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+
+    /**
+     * Available-to-promise, e.g. {@code ?variantIds=v1&variantIds=v2}.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<?>> getAvailability(@RequestParam(required = false) List<String> variantIds) {
+        try {
+            List<StockAvailabilityDto> availability = inventoryService.getAvailability(variantIds);
+            return ResponseEntity.ok(ApiResponse.success("Stock availability fetched successfully", availability));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping("/flash-sales/{variantId}")
+    public ResponseEntity<ApiResponse<?>> startFlashSale(@PathVariable String variantId) {
+        try {
+            FlashSaleDto sale = inventoryService.startFlashSale(variantId);
+            return ResponseEntity.ok(ApiResponse.success("Flash sale started", sale));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/flash-sales/{variantId}")
+    public ResponseEntity<ApiResponse<?>> getFlashSale(@PathVariable String variantId) {
+        try {
+            FlashSaleDto sale = inventoryService.getFlashSale(variantId);
+            return ResponseEntity.ok(ApiResponse.success("Flash sale fetched successfully", sale));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @DeleteMapping("/flash-sales/{variantId}")
+    public ResponseEntity<ApiResponse<?>> endFlashSale(@PathVariable String variantId) {
+        try {
+            FlashSaleDto sale = inventoryService.endFlashSale(variantId);
+            return ResponseEntity.ok(ApiResponse.success("Flash sale ended", sale));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @PostMapping("/flash-sales/{variantId}/purchase")
+    public ResponseEntity<ApiResponse<?>> purchaseFlashSale(
+            @PathVariable String variantId,
+            @RequestParam(defaultValue = "1") int quantity) {
+        try {
+            FlashSaleDto sale = inventoryService.purchaseFlashSale(variantId, quantity);
+            return ResponseEntity.ok(ApiResponse.success("Flash sale purchase confirmed", sale));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (IllegalStateException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package shopco.backend.interfaces.controllers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import shopco.backend.application.dto.BoughtTogetherDto;
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.FacetQuery;
+import shopco.backend.application.dto.FacetResultDto;
+import shopco.backend.application.dto.ProductDetailDto;
+import shopco.backend.application.dto.ProductDetailVersion;
+import shopco.backend.application.dto.ProductListingQuery;
+import shopco.backend.application.dto.ProductSearchResultDto;
+import shopco.backend.application.dto.ProductSort;
+import shopco.backend.application.dto.ProductSummaryDto;
+import shopco.backend.application.dto.RankedProductDto;
+import shopco.backend.application.dto.RatingSummaryDto;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.SuggestionDto;
+import shopco.backend.application.dto.VariantSelectionDto;
+import shopco.backend.application.interfaces.ProductCatalogService;
+import shopco.backend.application.interfaces.ProductDetailService;
+import shopco.backend.application.interfaces.ProductFacetService;
+import shopco.backend.application.interfaces.ProductSearchService;
+import shopco.backend.application.interfaces.ProductVariantService;
+import shopco.backend.application.interfaces.RankingService;
+import shopco.backend.application.interfaces.RecommendationService;
+import shopco.backend.application.interfaces.ReviewService;
+import shopco.backend.application.interfaces.TypeaheadService;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.catalog.ProductFacetIndex;
+import shopco.backend.infrastructure.web.ConditionalGet;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/products")
+public class ProductController {
+
+    @Autowired
+    private ProductCatalogService productCatalogService;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ProductDetailService productDetailService;
+
+    @Autowired
+    private ProductVariantService productVariantService;
+
+    @Autowired
+    private TypeaheadService typeaheadService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @GetMapping("/published")
+    public ResponseEntity<ApiResponse<?>> getPublishedProducts(
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String brandId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ProductListingQuery.DEFAULT_SIZE) int size) {
+        try {
+            ProductListingQuery query = new ProductListingQuery(
+                    categoryId, brandId, ProductSort.fromParam(sort), cursor, size);
+            CursorPage<ProductSummaryDto> page = productCatalogService.listPublished(query);
+            return ResponseEntity.ok(ApiResponse.success("Products fetched successfully", page));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<?>> searchProducts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<ProductSearchResultDto> results = productSearchService.search(keyword, limit);
+            return ResponseEntity.ok(ApiResponse.success("Products fetched successfully", results));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Search-box autocomplete over product, brand, category and tag names, served from memory.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<?>> suggest(
+            @RequestParam(name = "q", defaultValue = "") String query,
+            @RequestParam(defaultValue = "8") int limit) {
+        try {
+            List<SuggestionDto> suggestions = typeaheadService.suggest(query, limit);
+            return ResponseEntity.ok(ApiResponse.success("Suggestions fetched successfully", suggestions));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Answers If-None-Match / If-Modified-Since with 304 from a single aggregate query, before
+     * the detail is loaded or serialized.
+     */
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<ApiResponse<?>> getProductBySlug(@PathVariable String slug, WebRequest request) {
+        try {
+            Optional<ProductDetailVersion> published = productDetailService.getPublishedVersion(slug);
+            // One page view per request, including ones answered with 304
+            published.ifPresent(found -> productDetailService.recordView(found.productId()));
+            ResourceVersion version = published.map(ProductDetailVersion::version).orElse(null);
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            ProductDetailDto product = productDetailService.getPublishedBySlug(slug);
+            return ConditionalGet.ok(version, ApiResponse.success("Product fetched successfully", product));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Resolves the variant for the chosen options, e.g. {@code ?size=M&color=Black}, and flags
+     * which other option values are still available in stock.
+     */
+    @GetMapping("/{productId}/variants/select")
+    public ResponseEntity<ApiResponse<?>> selectVariant(
+            @PathVariable String productId,
+            @RequestParam Map<String, String> options) {
+        try {
+            VariantSelectionDto selection = productVariantService.select(productId, options);
+            return ResponseEntity.ok(ApiResponse.success("Variant selection fetched successfully", selection));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * "Frequently bought together" for the product page, served from the in-memory
+     * co-occurrence matrix.
+     */
+    @GetMapping("/{productId}/bought-together")
+    public ResponseEntity<ApiResponse<?>> getBoughtTogether(
+            @PathVariable String productId,
+            @RequestParam(defaultValue = "6") int limit) {
+        try {
+            List<BoughtTogetherDto> products = recommendationService.getFrequentlyBoughtTogether(productId, limit);
+            return ResponseEntity.ok(ApiResponse.success("Products fetched successfully", products));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Approved reviews, newest first; pass the previous page's {@code nextCursor} to continue.
+     */
+    @GetMapping("/{productId}/reviews")
+    public ResponseEntity<ApiResponse<?>> getReviews(
+            @PathVariable String productId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<ReviewDto> page = reviewService.getApproved(productId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("Reviews fetched successfully", page));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Average rating and star histogram, for listings that show more than the summary's average.
+     */
+    @GetMapping("/{productId}/rating")
+    public ResponseEntity<ApiResponse<?>> getRatingSummary(@PathVariable String productId) {
+        RatingSummaryDto rating = productDetailService.getRatingSummary(productId);
+        return ResponseEntity.ok(ApiResponse.success("Rating fetched successfully", rating));
+    }
+
+    /**
+     * Best sellers or trending products from the in-memory decayed rankings, for the whole shop
+     * or one category or brand.
+     */
+    @GetMapping("/rankings/{type}")
+    public ResponseEntity<ApiResponse<?>> getRanking(
+            @PathVariable String type,
+            @RequestParam(required = false) String categoryId,
+            @RequestParam(required = false) String brandId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<RankedProductDto> products = rankingService.getTop(type, categoryId, brandId, limit);
+            return ResponseEntity.ok(ApiResponse.success("Products fetched successfully", products));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Sidebar facet counts. Accepts repeated brandId, categoryId and price params plus
+     * attr.&lt;name&gt; params for variant attributes, e.g. {@code ?brandId=b1&attr.size=M&attr.size=L}.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<?>> getFacets(@RequestParam MultiValueMap<String, String> params) {
+        try {
+            Map<String, Set<String>> attributes = new HashMap<>();
+            params.forEach((name, values) -> {
+                if (name.startsWith(ProductFacetIndex.ATTRIBUTE_PREFIX)) {
+                    attributes.put(name.substring(ProductFacetIndex.ATTRIBUTE_PREFIX.length()), new HashSet<>(values));
+                }
+            });
+            FacetQuery query = new FacetQuery(
+                    ProductStatus.PUBLISHED,
+                    paramValues(params, "brandId"),
+                    paramValues(params, "categoryId"),
+                    paramValues(params, "price"),
+                    attributes);
+            FacetResultDto facets = productFacetService.getFacets(query);
+            return ResponseEntity.ok(ApiResponse.success("Facets fetched successfully", facets));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static Set<String> paramValues(MultiValueMap<String, String> params, String name) {
+        List<String> values = params.get(name);
+        return values == null ? Set.of() : new HashSet<>(values);
+    }
+}
@@ -0,0 +1,55 @@
+package shopco.backend.interfaces.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.CursorPage;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.ReviewModerationRequest;
+import shopco.backend.application.dto.ReviewModerationResultDto;
+import shopco.backend.application.interfaces.ReviewService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/reviews/moderation")
+public class ReviewModerationController {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    /**
+     * Pending reviews, oldest first; pass the previous page's {@code nextCursor} to continue.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<?>> getQueue(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPage<ReviewDto> page = reviewService.getModerationQueue(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("Moderation queue fetched successfully", page));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Approves or rejects a batch of pending reviews, e.g.
+     * {@code {"reviewIds": ["r1", "r2"], "status": "APPROVED"}}.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<?>> moderate(@RequestBody ReviewModerationRequest request) {
+        try {
+            ReviewModerationResultDto result = reviewService.moderate(request.reviewIds(), request.status());
+            return ResponseEntity.ok(ApiResponse.success("Reviews moderated successfully", result));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package shopco.backend.interfaces.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.SlugResolutionDto;
+import shopco.backend.application.interfaces.SlugService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/slugs")
+public class SlugController {
+
+    @Autowired
+    private SlugService slugService;
+
+    /**
+     * Resolves a storefront URL segment, e.g. {@code /slugs/product/oxford-shirt}.
+     * Type is one of product, category, brand or page.
+     */
+    @GetMapping("/{type}/{slug}")
+    public ResponseEntity<ApiResponse<?>> resolveSlug(@PathVariable String type, @PathVariable String slug) {
+        try {
+            SlugResolutionDto resolution = slugService.resolve(type, slug);
+            return ResponseEntity.ok(ApiResponse.success("Slug resolved successfully", resolution));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+}
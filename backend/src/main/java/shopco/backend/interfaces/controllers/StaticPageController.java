@@ -0,0 +1,38 @@
+package shopco.backend.interfaces.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.application.dto.StaticPageDto;
+import shopco.backend.application.interfaces.StaticPageService;
+import shopco.backend.infrastructure.web.ConditionalGet;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/pages")
+public class StaticPageController {
+
+    @Autowired
+    private StaticPageService staticPageService;
+
+    @GetMapping("/{slug}")
+    public ResponseEntity<ApiResponse<?>> getPage(@PathVariable String slug, WebRequest request) {
+        try {
+            ResourceVersion version = staticPageService.getActiveVersion(slug).orElse(null);
+            if (ConditionalGet.isNotModified(request, version)) {
+                return ConditionalGet.notModified(version);
+            }
+            StaticPageDto page = staticPageService.getActiveBySlug(slug);
+            return ConditionalGet.ok(version, ApiResponse.success("Page fetched successfully", page));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+}
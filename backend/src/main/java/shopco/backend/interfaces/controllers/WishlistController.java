@@ -0,0 +1,56 @@
+package shopco.backend.interfaces.controllers;
+
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import shopco.backend.application.dto.WishlistMembershipDto;
+import shopco.backend.application.interfaces.WishlistService;
+import shopco.backend.infrastructure.web.GlobalExceptionHandler;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+@RestController
+@RequestMapping("/users/{userId}/wishlist")
+public class WishlistController {
+
+    @Autowired
+    private WishlistService wishlistService;
+
+    /**
+     * Wishlist flags for a page of product cards, e.g. {@code ?productIds=p1&productIds=p2}.
+     */
+    @GetMapping("/contains")
+    public ResponseEntity<ApiResponse<?>> getMembership(
+            @PathVariable String userId,
+            @RequestParam(required = false) List<String> productIds) {
+        try {
+            WishlistMembershipDto membership = wishlistService.getMembership(userId, productIds);
+            return ResponseEntity.ok(ApiResponse.success("Wishlist membership fetched successfully", membership));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PutMapping("/{productId}")
+    public ResponseEntity<ApiResponse<?>> add(@PathVariable String userId, @PathVariable String productId) {
+        try {
+            wishlistService.add(userId, productId);
+            return ResponseEntity.ok(ApiResponse.success("Product added to wishlist", null));
+        } catch (IllegalArgumentException ex) {
+            return GlobalExceptionHandler.errorResponseEntity(ex.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @DeleteMapping("/{productId}")
+    public ResponseEntity<ApiResponse<?>> remove(@PathVariable String userId, @PathVariable String productId) {
+        wishlistService.remove(userId, productId);
+        return ResponseEntity.ok(ApiResponse.success("Product removed from wishlist", null));
+    }
+}
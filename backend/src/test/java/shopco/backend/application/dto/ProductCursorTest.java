@@ -0,0 +1,42 @@
+package shopco.backend.application.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ProductCursorTest {
+
+    @Test
+    void newestCursorRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_000_000);
+        ProductCursor cursor = ProductCursor.newest(createdAt, "prod_1");
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertEquals(ProductSort.NEWEST, decoded.sort());
+        assertEquals("prod_1", decoded.id());
+        assertEquals(createdAt, decoded.createdAt());
+    }
+
+    @Test
+    void nameCursorKeepsSeparatorInName() {
+        ProductCursor cursor = ProductCursor.name("Áo thun\ncổ tròn", "prod_2");
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProductCursor.decode(new ProductCursor(ProductSort.NEWEST, "p", "yesterday").encode()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProductCursor.decode(new ProductCursor(ProductSort.PRICE_ASC, "p", "cheap").encode()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ProductCursor.decode(new ProductCursor(ProductSort.BESTSELLING, "p", "1.5").encode()));
+    }
+}
@@ -0,0 +1,240 @@
+package shopco.backend.infrastructure.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CartDto;
+import shopco.backend.application.dto.CartItemDto;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.model.User;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+
+// Not run in a test transaction: flushes commit on their own
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(CartStore.class)
+@TestPropertySource(properties = {"shopco.cart.flush-delay-ms=3600000", "shopco.cart.flush-batch-size=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartStoreTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("19.99");
+
+    @Autowired
+    private CartStore cartStore;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setId("cart-tee");
+        product.setName("Tee");
+        product.setSlug("cart-tee");
+        product.setStatus(ProductStatus.PUBLISHED);
+        productRepository.save(product);
+        variant("cart-s");
+        variant("cart-m");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cart_item");
+        jdbcTemplate.update("DELETE FROM cart");
+        jdbcTemplate.update("DELETE FROM product_variant WHERE product_id = 'cart-tee'");
+        jdbcTemplate.update("DELETE FROM product WHERE id = 'cart-tee'");
+        userRepository.deleteById("cart-ann");
+        jdbcTemplate.update("DELETE FROM user WHERE id = 'cart-bob'");
+    }
+
+    @Test
+    void servesChangesFromMemoryAndWritesEachCartOncePerFlush() {
+        for (int i = 0; i < 3; i++) {
+            cartStore.add(null, "guest-1", "cart-s", 1, PRICE);
+        }
+        cartStore.add(null, "guest-1", "cart-m", 2, PRICE);
+        cartStore.set(null, "guest-1", "cart-m", 1);
+        for (int i = 0; i < 4; i++) {
+            cartStore.add(null, "guest-" + (i + 2), "cart-s", 1, PRICE);
+        }
+        CartDto cart = cartStore.get(null, "guest-1");
+        assertEquals(List.of(3, 1), cart.items().stream().map(CartItemDto::quantity).toList());
+        assertNull(cartStore.set(null, "guest-1", "missing", 1));
+        // Nothing reaches the database until the write-behind runs
+        assertEquals(0, count("SELECT COUNT(*) FROM cart"));
+
+        // Five carts in batches of two, each written once however often it changed
+        assertEquals(5, cartStore.flush());
+        assertEquals(5, count("SELECT COUNT(*) FROM cart"));
+        assertEquals(3, count("SELECT quantity FROM cart_item WHERE cart_id = '" + cart.id()
+                + "' AND variant_id = 'cart-s'"));
+        assertEquals(0, cartStore.flush());
+        // Browsing without adding anything writes nothing
+        cartStore.get(null, "guest-browsing");
+        assertEquals(0, cartStore.flush());
+    }
+
+    @Test
+    void survivesAGracefulRestart() {
+        CartDto cart = cartStore.add(null, "guest-restart", "cart-s", 2, PRICE);
+        cartStore.flush();
+
+        // A restarted process knows only the database
+        CartStore restarted = beanFactory.createBean(CartStore.class);
+        assertEquals(cart, restarted.get(null, "guest-restart"));
+        restarted.set(null, "guest-restart", "cart-s", 0);
+        restarted.add(null, "guest-restart", "cart-m", 1, PRICE);
+        // Shutting down flushes what is still in memory
+        beanFactory.destroyBean(restarted);
+
+        assertEquals(1, count("SELECT COUNT(*) FROM cart_item"));
+        assertEquals(1, count("SELECT quantity FROM cart_item WHERE variant_id = 'cart-m'"));
+        assertEquals(cart.id(), jdbcTemplate.queryForObject("SELECT id FROM cart", String.class));
+        assertThrows(IllegalArgumentException.class, () -> cartStore.get("missing-user", null));
+    }
+
+    @Test
+    void mergesAGuestCartIntoTheUsersInOneWrite() {
+        User user = new User();
+        user.setId("cart-ann");
+        user.setName("Ann");
+        user.setEmail("cart-ann@example.com");
+        userRepository.save(user);
+        CartDto userCart = cartStore.add("cart-ann", null, "cart-s", 1, PRICE);
+        cartStore.add(null, "guest-merge", "cart-s", 2, PRICE);
+        cartStore.add(null, "guest-merge", "cart-m", 1, PRICE);
+        cartStore.flush();
+
+        List<List<CartItemDto>> revalidated = new ArrayList<>();
+        CartDto merged = cartStore.merge("guest-merge", "cart-ann", lines -> {
+            revalidated.add(lines);
+            // As if cart-m sold out and cart-s has two left
+            return List.of(new CartItemDto(lines.get(0).id(), "cart-s", 2, BigDecimal.ONE, lines.get(0).createdAt()));
+        });
+
+        // Every combined line is revalidated in one call, the user's line first
+        assertEquals(List.of(List.of(3, 1)), revalidated.stream()
+                .map(lines -> lines.stream().map(CartItemDto::quantity).toList()).toList());
+        assertEquals(userCart.id(), merged.id());
+        assertEquals(userCart.items().get(0).id(), merged.items().get(0).id());
+        // Written before merge returns, without waiting for the flush
+        assertEquals(List.of(userCart.id()), jdbcTemplate.queryForList("SELECT id FROM cart", String.class));
+        assertEquals(2, count("SELECT quantity FROM cart_item WHERE cart_id = '" + userCart.id() + "'"));
+        assertEquals(0, cartStore.flush());
+        assertEquals(List.of(), cartStore.get(null, "guest-merge").items());
+    }
+
+    @Test
+    void reportsAMergeThatCouldNotBeWrittenAndWritesItOnRetry() {
+        user("cart-bob");
+        cartStore.add(null, "guest-retry", "cart-s", 2, PRICE);
+        cartStore.flush();
+        cartStore.get("cart-bob", null);
+        // Gone from the database after the cart was loaded, so writing the user's cart fails
+        jdbcTemplate.update("DELETE FROM user WHERE id = 'cart-bob'");
+
+        assertThrows(IllegalStateException.class, () -> cartStore.merge("guest-retry", "cart-bob", lines -> lines));
+        assertEquals(1, count("SELECT COUNT(*) FROM cart WHERE session_id = 'guest-retry'"));
+
+        user("cart-bob");
+        CartDto merged = cartStore.merge("guest-retry", "cart-bob", lines -> lines);
+        assertEquals(List.of(2), merged.items().stream().map(CartItemDto::quantity).toList());
+        // The retry wrote the guest cart's deletion of the first attempt along with its own
+        assertEquals(0, count("SELECT COUNT(*) FROM cart WHERE session_id = 'guest-retry'"));
+        assertEquals(2, count("SELECT quantity FROM cart_item WHERE cart_id = '" + merged.id() + "'"));
+        assertEquals(0, cartStore.flush());
+    }
+
+    @Test
+    void checksAndAddsAtomically() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 40; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        cartStore.add(null, "guest-rush", "cart-s", 10, PRICE, total -> {
+                            if (total > 99) {
+                                throw new IllegalArgumentException("Too many");
+                            }
+                        });
+                        return true;
+                    } catch (IllegalArgumentException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int added = 0;
+            for (Future<Boolean> result : results) {
+                added += result.get() ? 1 : 0;
+            }
+            assertEquals(9, added);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(90, cartStore.get(null, "guest-rush").items().get(0).quantity());
+        // Written now, so the cart is not left behind for the other tests' flushes
+        cartStore.flush();
+    }
+
+    private void user(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setName(id);
+        user.setEmail(id + "@example.com");
+        userRepository.save(user);
+    }
+
+    private void variant(String id) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setProductId("cart-tee");
+        variant.setSku("SKU-" + id);
+        variant.setPrice(PRICE);
+        variant.setStockQuantity(10);
+        productVariantRepository.save(variant);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,47 @@
+package shopco.backend.infrastructure.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import shopco.backend.application.dto.CategoryTreeRow;
+
+class CategoryTreeTest {
+
+    private static CategoryTreeRow row(String id, String parentId, int sortOrder) {
+        return new CategoryTreeRow(id, parentId, id, id, sortOrder, true, null);
+    }
+
+    private final CategoryTree tree = CategoryTree.build(List.of(
+            row("men", null, 0),
+            row("women", null, 1),
+            row("men-tops", "men", 1),
+            row("men-shirts", "men-tops", 0),
+            row("men-tees", "men-tops", 1),
+            row("men-jeans", "men", 0)));
+
+    @Test
+    void materializesSubtreesAndDepth() {
+        assertEquals(Set.of("men", "men-tops", "men-shirts", "men-tees", "men-jeans"), tree.subtreeIds("men"));
+        assertEquals(Set.of("men-tops", "men-shirts", "men-tees"), tree.subtreeIds("men-tops"));
+        assertEquals(Set.of("unknown"), tree.subtreeIds("unknown"));
+        assertEquals(2, tree.node("men-tees").depth());
+        assertEquals(List.of("men-jeans", "men-tops"), tree.node("men").childIds());
+        assertEquals(List.of("men", "women"), tree.rootIds());
+    }
+
+    @Test
+    void breadcrumbRunsFromRoot() {
+        assertEquals(List.of("men", "men-tops", "men-shirts"),
+                tree.breadcrumb("men-shirts").stream().map(CategoryTree.Node::id).toList());
+    }
+
+    @Test
+    void parentCycleDoesNotLoop() {
+        CategoryTree cyclic = CategoryTree.build(List.of(row("a", "b", 0), row("b", "a", 0)));
+
+        assertEquals(0, cyclic.node("a").depth());
+        assertEquals(2, cyclic.rootIds().size());
+    }
+}
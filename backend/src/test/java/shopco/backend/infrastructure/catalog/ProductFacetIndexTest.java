@@ -0,0 +1,78 @@
+package shopco.backend.infrastructure.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import shopco.backend.application.dto.FacetQuery;
+import shopco.backend.application.dto.ProductFacetRow;
+import shopco.backend.application.dto.ProductVariantRow;
+import shopco.backend.domain.enums.ProductStatus;
+
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    private static ProductVariantRow variant(String id, String productId, String price, String salePrice,
+                                             String attributes) {
+        return new ProductVariantRow(id, productId, new BigDecimal(price),
+                salePrice == null ? null : new BigDecimal(salePrice), 5, attributes);
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex(List.of(new BigDecimal("50"), new BigDecimal("100")));
+        index.replaceAll(
+                List.of(
+                        new ProductFacetRow("p1", "zara", "shirts", ProductStatus.PUBLISHED),
+                        new ProductFacetRow("p2", "zara", "jeans", ProductStatus.PUBLISHED),
+                        new ProductFacetRow("p3", "gucci", "shirts", ProductStatus.PUBLISHED),
+                        new ProductFacetRow("p4", "gucci", "shirts", ProductStatus.DRAFT)),
+                List.of(
+                        variant("v1", "p1", "40", null, "{\"size\":\"M\",\"color\":\"Black\"}"),
+                        variant("v2", "p1", "60", null, "{\"size\":\"L\",\"color\":\"Black\"}"),
+                        variant("v3", "p2", "120", "45", "{\"Size\":\"m\"}"),
+                        variant("v4", "p3", "150", null, "{\"size\":\"S\"}"),
+                        variant("v5", "p4", "10", null, "{\"size\":\"M\"}")));
+    }
+
+    @Test
+    void countsEveryFacetForPublishedProducts() {
+        ProductFacetIndex.FacetCounts counts = index.count(new FacetQuery(null, null, null, null, null));
+
+        assertEquals(3, counts.totalProducts());
+        assertEquals(Map.of("zara", 2, "gucci", 1), counts.counts().get(ProductFacetIndex.BRAND));
+        assertEquals(Map.of("0-50", 2, "50-100", 1, "100+", 1), counts.counts().get(ProductFacetIndex.PRICE));
+        assertEquals(2, counts.counts().get("attr.size").get("m"));
+    }
+
+    @Test
+    void selectedFacetKeepsCountsForItsOtherValues() {
+        FacetQuery query = new FacetQuery(null, Set.of("zara"), null, null, Map.of("size", Set.of("M")));
+
+        ProductFacetIndex.FacetCounts counts = index.count(query);
+
+        assertEquals(2, counts.totalProducts());
+        assertEquals(Map.of("zara", 2), counts.counts().get(ProductFacetIndex.BRAND));
+        assertEquals(Map.of("m", 2, "l", 1), counts.counts().get("attr.size"));
+        assertEquals(Map.of("shirts", 1, "jeans", 1), counts.counts().get(ProductFacetIndex.CATEGORY));
+    }
+
+    @Test
+    void upsertMovesProductBetweenBitmaps() {
+        index.upsert(new ProductFacetRow("p2", "gucci", "jeans", ProductStatus.ARCHIVED), List.of());
+        index.remove("p1");
+
+        ProductFacetIndex.FacetCounts counts = index.count(new FacetQuery(null, null, null, null, null));
+
+        assertEquals(1, counts.totalProducts());
+        assertEquals(Map.of("gucci", 1), counts.counts().get(ProductFacetIndex.BRAND));
+        assertFalse(counts.counts().get("attr.size").containsKey("l"));
+        assertEquals(List.of("p3"), index.matchingProductIds(new FacetQuery(null, Set.of("gucci"), null, null, null)));
+    }
+}
@@ -0,0 +1,99 @@
+package shopco.backend.infrastructure.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.User;
+import shopco.backend.infrastructure.persistence.ReviewRatingChangedEvent;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+
+// Not run in a test transaction: the reconciliation counts on its own threads
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(RatingSummaryStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingSummaryStoreTest {
+
+    @Autowired
+    private RatingSummaryStore store;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("rating-buyer");
+        user.setName("Buyer");
+        user.setEmail("rating-buyer@example.com");
+        userRepository.save(user);
+        Product product = new Product();
+        product.setId("rating-tee");
+        product.setName("Tee");
+        product.setSlug("rating-tee");
+        product.setStatus(ProductStatus.PUBLISHED);
+        productRepository.save(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM review WHERE product_id = 'rating-tee'");
+        productRepository.deleteById("rating-tee");
+        userRepository.deleteById("rating-buyer");
+    }
+
+    @Test
+    void doesNotCountAReviewWhoseMoveIsStillInFlight() {
+        approvedReview("rating-1", 4);
+        store.reconcile();
+        assertEquals(RatingHistogram.of(0, 0, 0, 1, 0), store.get("rating-tee"));
+
+        // An approval published and committed, but not yet moved when the recount runs
+        ReviewRatingChangedEvent approved = new ReviewRatingChangedEvent("rating-tee", null, 5);
+        store.onRatingChanging(approved);
+        approvedReview("rating-2", 5);
+        store.reconcile();
+        store.onRatingChanged(approved);
+        assertEquals(RatingHistogram.of(0, 0, 0, 1, 1), store.get("rating-tee"));
+
+        // Nothing is in flight any more, so the next recount agrees
+        store.reconcile();
+        assertEquals(RatingHistogram.of(0, 0, 0, 1, 1), store.get("rating-tee"));
+
+        // A rolled back change leaves nothing marked
+        ReviewRatingChangedEvent rolledBack = new ReviewRatingChangedEvent("rating-tee", 4, null);
+        store.onRatingChanging(rolledBack);
+        store.onRatingRolledBack(rolledBack);
+        jdbcTemplate.update("DELETE FROM review WHERE id = 'rating-2'");
+        store.reconcile();
+        assertEquals(RatingHistogram.of(0, 0, 0, 1, 0), store.get("rating-tee"));
+    }
+
+    private void approvedReview(String id, int rating) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO review (id, product_id, user_id, rating, status, created_at, updated_at)
+                VALUES (?, 'rating-tee', 'rating-buyer', ?, 'APPROVED', ?, ?)
+                """, id, rating, now, now);
+    }
+}
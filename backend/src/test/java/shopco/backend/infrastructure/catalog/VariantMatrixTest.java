@@ -0,0 +1,49 @@
+package shopco.backend.infrastructure.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import shopco.backend.application.dto.ProductVariantRow;
+
+class VariantMatrixTest {
+
+    private static ProductVariantRow variant(String id, String size, String color, int stock) {
+        return new ProductVariantRow(id, "p1", new BigDecimal("20"), null, stock,
+                "{\"size\":\"" + size + "\",\"color\":\"" + color + "\"}");
+    }
+
+    private final VariantMatrix matrix = VariantMatrix.build("p1", List.of(
+            variant("v1", "M", "Black", 3),
+            variant("v2", "M", "White", 0),
+            variant("v3", "L", "Black", 0),
+            variant("v4", "L", "White", 5)));
+
+    @Test
+    void resolvesVariantFromOptionCombination() {
+        int[] selection = matrix.encode(Map.of("Size", "l", "color", "White"));
+        int variant = matrix.find(selection);
+
+        assertEquals("v4", matrix.variantId(variant));
+        assertEquals(5, matrix.stock(variant));
+        assertEquals(-1, matrix.find(matrix.encode(Map.of("size", "L"))));
+        assertEquals(-1, matrix.find(matrix.encode(Map.of("size", "XL", "color", "Black"))));
+    }
+
+    @Test
+    void reportsOptionsStillInStockForPartialSelection() {
+        int size = matrix.dimensionIndex("size");
+        int color = matrix.dimensionIndex("color");
+        int[] selection = matrix.encode(Map.of("size", "M"));
+
+        assertTrue(matrix.isAvailable(selection, color, matrix.valueCode(color, "black")));
+        assertFalse(matrix.isAvailable(selection, color, matrix.valueCode(color, "white")));
+        // the selected dimension itself is judged against the other selections only
+        assertTrue(matrix.isAvailable(selection, size, matrix.valueCode(size, "L")));
+        assertFalse(matrix.isAvailable(matrix.encode(Map.of("size", "XL")), color, 0));
+    }
+}
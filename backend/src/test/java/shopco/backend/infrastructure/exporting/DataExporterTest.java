@@ -0,0 +1,116 @@
+package shopco.backend.infrastructure.exporting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import shopco.backend.application.dto.ExportRequestDto;
+import shopco.backend.domain.enums.ExportDataset;
+import shopco.backend.domain.enums.ExportFormat;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.model.User;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(DataExporter.class)
+class DataExporterTest {
+
+    @Autowired
+    private DataExporter dataExporter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Product shirt = new Product();
+        shirt.setId("p1");
+        shirt.setName("Shirt, oxford");
+        shirt.setSlug("shirt-oxford");
+        shirt.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(shirt);
+        variant("v1", "OX-S", "30.00");
+        variant("v2", "OX-M", "32.50");
+
+        Product draft = new Product();
+        draft.setId("p2");
+        draft.setName("Draft");
+        draft.setSlug("draft");
+        entityManager.persist(draft);
+
+        User user = new User();
+        user.setId("u1");
+        user.setName("Buyer");
+        user.setEmail("buyer@example.com");
+        entityManager.persist(user);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void variant(String id, String sku, String price) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setProductId("p1");
+        variant.setSku(sku);
+        variant.setPrice(new BigDecimal(price));
+        variant.setStockQuantity(3);
+        entityManager.persist(variant);
+    }
+
+    private String export(ExportRequestDto request) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        dataExporter.export(request, output);
+        byte[] bytes = output.toByteArray();
+        if (request.gzip()) {
+            bytes = new GZIPInputStream(new ByteArrayInputStream(bytes)).readAllBytes();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportsCatalogAsCsvWithOneRowPerVariant() throws IOException {
+        String csv = export(new ExportRequestDto(ExportDataset.CATALOG, ExportFormat.CSV, false, null, null));
+
+        List<String> lines = csv.lines().toList();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("product_slug,product_name,description,status,"));
+        assertEquals("shirt-oxford,\"Shirt, oxford\",,PUBLISHED,,,,,OX-S,30.00,,3,,,", lines.get(1));
+        assertEquals("draft,Draft,,DRAFT,,,,,,,,,,,", lines.get(3));
+    }
+
+    @Test
+    void exportsGzipJsonLinesWithinTimeRange() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        String catalog = export(new ExportRequestDto(ExportDataset.CATALOG, ExportFormat.JSONL, true, null, null));
+        List<String> lines = catalog.lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"price\":30.00"));
+        JsonNode first = mapper.readTree(lines.get(0));
+        assertEquals("OX-S", first.get("sku").asText());
+        assertEquals(3, first.get("stock").intValue());
+
+        String users = export(new ExportRequestDto(ExportDataset.USERS, ExportFormat.JSONL, false, null, null));
+        assertEquals("buyer@example.com", mapper.readTree(users.lines().findFirst().orElseThrow()).get("email").asText());
+
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        assertEquals("", export(new ExportRequestDto(ExportDataset.USERS, ExportFormat.JSONL, false, future, null)));
+    }
+}
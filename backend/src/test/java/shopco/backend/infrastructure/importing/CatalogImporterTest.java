@@ -0,0 +1,121 @@
+package shopco.backend.infrastructure.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import shopco.backend.application.dto.CatalogImportErrorDto;
+import shopco.backend.application.dto.CatalogImportReportDto;
+import shopco.backend.domain.enums.CatalogImportFormat;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.repository.ProductImageRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductTagRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({CatalogImporter.class, CatalogImportWriter.class})
+@TestPropertySource(properties = "shopco.catalog.import.batch-size=2")
+class CatalogImporterTest {
+
+    private static final String HEADER = "product_slug,product_name,status,brand_name,category_name,"
+            + "parent_category_slug,tags,images,sku,price,sale_price,stock,attributes\n";
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductTagRepository productTagRepository;
+
+    private CatalogImportReportDto importFeed(CatalogImportFormat format, String content) {
+        CatalogImportReportDto report = catalogImporter.importFeed(
+                format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        entityManager.clear();
+        return report;
+    }
+
+    @Test
+    void importsRowsInBatchesAndReportsBadOnes() {
+        CatalogImportReportDto report = importFeed(CatalogImportFormat.CSV, HEADER
+                + ",Áo Oxford,PUBLISHED,Shopco,Shirts,,Cotton|Công sở,https://cdn/a.jpg|https://cdn/b.jpg,"
+                + "OX-S,30,25,3,size=S;color=White\n"
+                + ",Áo Oxford,,Shopco,Shirts,,Cotton,,OX-M,30,,0,\"{\"\"size\"\":\"\"M\"\",\"\"color\"\":\"\"White\"\"}\"\n"
+                + "tee,Tee,,,,,,,TEE-1,-5,,1,\n"
+                + "tee,Tee,,Shopco,Tees,missing,,,TEE-2,10,,1,\n"
+                + "jeans,Jeans,,Denimco,,,Cotton,,JE-30,50,,7,waist=30\n");
+
+        assertEquals(5, report.totalRows());
+        assertEquals(3, report.importedRows());
+        assertEquals(2, report.failedRows());
+        assertEquals(List.of(4L, 5L), report.errors().stream().map(CatalogImportErrorDto::line).toList());
+        assertFalse(report.errorsTruncated());
+
+        Product oxford = productRepository.findWithBrandAndCategoryBySlug("ao-oxford").orElseThrow();
+        assertEquals(ProductStatus.PUBLISHED, oxford.getStatus());
+        assertEquals("shopco", oxford.getBrand().getSlug());
+        assertEquals("shirts", oxford.getCategory().getSlug());
+        assertEquals("https://cdn/a.jpg", oxford.getDefaultImage());
+        assertEquals(2, productVariantRepository.findRowsByProductIdIn(List.of(oxford.getId())).size());
+        assertEquals(2, productTagRepository.findTagNamesByProductIdIn(List.of(oxford.getId())).size());
+        assertEquals(2, productImageRepository.findExistingIds(List.of(
+                CatalogImportWriter.imageId(oxford.getId(), "https://cdn/a.jpg"),
+                CatalogImportWriter.imageId(oxford.getId(), "https://cdn/b.jpg"))).size());
+
+        Product jeans = productRepository.findWithBrandAndCategoryBySlug("jeans").orElseThrow();
+        assertEquals(ProductStatus.DRAFT, jeans.getStatus());
+        assertEquals(List.of("Cotton"), productTagRepository.findTagNamesByProductIdIn(List.of(jeans.getId()))
+                .stream().map(row -> row.tagName()).toList());
+        assertTrue(productRepository.findIdBySlug("tee").isEmpty());
+    }
+
+    @Test
+    void upsertsExistingProductsAndVariantsFromJsonLines() {
+        importFeed(CatalogImportFormat.CSV, HEADER + "tee,Tee,DRAFT,,,,,,TEE-1,10,,1,size=M\n");
+
+        CatalogImportReportDto report = importFeed(CatalogImportFormat.JSONL, """
+                {"product_slug":"tee","product_name":"Tee v2","sku":"TEE-1","price":12.5,"stock":4,"tags":["Summer"]}
+                {"product_slug":"other","product_name":"Other","sku":"TEE-1","price":1}
+                not json
+                """);
+
+        assertEquals(3, report.totalRows());
+        assertEquals(1, report.importedRows());
+        assertEquals(2, report.failedRows());
+
+        Product tee = productRepository.findWithBrandAndCategoryBySlug("tee").orElseThrow();
+        assertEquals("Tee v2", tee.getName());
+        // Blank status keeps the stored one
+        assertEquals(ProductStatus.DRAFT, tee.getStatus());
+        List<ProductVariant> variants = productVariantRepository.findAll();
+        assertEquals(1, variants.size());
+        assertEquals(0, new BigDecimal("12.50").compareTo(variants.get(0).getPrice()));
+        assertEquals(4, variants.get(0).getStockQuantity());
+        assertTrue(productRepository.findIdBySlug("other").isEmpty());
+    }
+}
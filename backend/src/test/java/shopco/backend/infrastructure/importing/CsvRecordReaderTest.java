@@ -0,0 +1,59 @@
+package shopco.backend.infrastructure.importing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import shopco.backend.infrastructure.importing.CatalogRecordReader.MalformedRecordException;
+import shopco.backend.infrastructure.importing.CatalogRecordReader.RawRecord;
+
+class CsvRecordReaderTest {
+
+    private static CsvRecordReader reader(String csv) throws IOException {
+        return new CsvRecordReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvRecordReader reader = reader("\uFEFFSKU,Product_Name,description\r\n"
+                + "a-1,\"Shirt, oxford\",\"Says \"\"hi\"\"\non two lines\"\r\n"
+                + "\n"
+                + "a-2,Tee\n");
+
+        RawRecord first = reader.next();
+        assertEquals(2, first.line());
+        assertEquals("a-1", first.fields().get("sku"));
+        assertEquals("Shirt, oxford", first.fields().get("product_name"));
+        assertEquals("Says \"hi\"\non two lines", first.fields().get("description"));
+
+        RawRecord second = reader.next();
+        assertEquals(5, second.line());
+        assertEquals("Tee", second.fields().get("product_name"));
+        assertFalse(second.fields().containsKey("description"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void rejectsRowsWithTooManyColumnsAndKeepsReading() throws IOException {
+        CsvRecordReader reader = reader("sku,price\na,1,extra\nb,2\n");
+
+        MalformedRecordException ex = assertThrows(MalformedRecordException.class, reader::next);
+        assertEquals(2, ex.line());
+        assertFalse(ex.fatal());
+        assertEquals("b", reader.next().fields().get("sku"));
+    }
+
+    @Test
+    void stopsAtUnterminatedQuote() throws IOException {
+        CsvRecordReader reader = reader("sku,price\n\"a,1\nb,2\n");
+
+        MalformedRecordException ex = assertThrows(MalformedRecordException.class, reader::next);
+        assertTrue(ex.fatal());
+    }
+}
@@ -0,0 +1,378 @@
+package shopco.backend.infrastructure.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.StockLine;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+
+// Not run in a test transaction: flushes commit on their own
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({FlashSaleStock.class, StockReservationWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FlashSaleStockTest {
+
+    private static final Path JOURNAL = journalPath();
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) {
+        registry.add("shopco.inventory.flash-sale.journal", JOURNAL::toString);
+        registry.add("shopco.inventory.flash-sale.flush-delay-ms", () -> "3600000");
+    }
+
+    @Autowired
+    private FlashSaleStock flashSaleStock;
+
+    @Autowired
+    private StockReservationWriter writer;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setId("flash-tee");
+        product.setName("Tee");
+        product.setSlug("flash-tee");
+        product.setStatus(ProductStatus.PUBLISHED);
+        productRepository.save(product);
+        variant("flash-hot", 100);
+        variant("flash-cold", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String variantId : List.of("flash-hot", "flash-cold")) {
+            if (flashSaleStock.isActive(variantId)) {
+                flashSaleStock.end(variantId);
+            }
+        }
+        jdbcTemplate.update("DELETE FROM stock_reservation_line");
+        jdbcTemplate.update("DELETE FROM stock_reservation");
+        jdbcTemplate.update("DELETE FROM product_variant WHERE product_id = 'flash-tee'");
+        jdbcTemplate.update("DELETE FROM product WHERE id = 'flash-tee'");
+    }
+
+    @Test
+    void sellsExactlyTheStockAndWritesItBackInOneFlush() throws Exception {
+        assertEquals(100, flashSaleStock.start("flash-hot"));
+        assertThrows(IllegalStateException.class, () -> writer.reserve(List.of(new StockLine("flash-hot", 1))));
+
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 500; i++) {
+                int quantity = i % 5 == 0 ? 3 : 1;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        flashSaleStock.purchase("flash-hot", quantity);
+                        return quantity;
+                    } catch (IllegalStateException ex) {
+                        return 0;
+                    }
+                }));
+            }
+            start.countDown();
+            int sold = 0;
+            for (Future<Integer> result : results) {
+                sold += result.get();
+            }
+            assertEquals(100, sold);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(0, flashSaleStock.remaining("flash-hot"));
+        // Nothing reaches the row until the write-behind runs
+        assertEquals(100, stock("flash-hot"));
+
+        flashSaleStock.flush();
+        assertEquals(0, stock("flash-hot"));
+        assertEquals(0, flashSaleStock.end("flash-hot"));
+        assertThrows(IllegalStateException.class, () -> writer.reserve(List.of(new StockLine("flash-hot", 1))));
+    }
+
+    @Test
+    void replaysUnflushedPurchasesAfterACrashExactlyOnce() throws IOException {
+        flashSaleStock.start("flash-cold");
+        flashSaleStock.purchase("flash-cold", 3);
+        flashSaleStock.purchase("flash-cold", 2);
+        // The crash interrupted a third write, which was never acknowledged
+        Files.write(JOURNAL, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        // A restarted process knows only the journal and the database
+        FlashSaleStock restarted = beanFactory.createBean(FlashSaleStock.class);
+        try {
+            restarted.recover();
+            assertEquals(5, stock("flash-cold"));
+        } finally {
+            beanFactory.destroyBean(restarted);
+        }
+
+        // The original process flushing the same purchases changes nothing
+        flashSaleStock.flush();
+        assertEquals(5, stock("flash-cold"));
+        assertEquals(5, flashSaleStock.end("flash-cold"));
+    }
+
+    @Test
+    void putsBackAPurchaseThatCouldNotBeForcedWithoutSellingItTwice() throws IOException {
+        // Hand the journal file over to an instance whose fsync can be made to fail
+        flashSaleStock.close();
+        FaultyFlashSaleStock faulty = beanFactory.createBean(FaultyFlashSaleStock.class);
+        try {
+            faulty.start("flash-cold");
+            assertEquals(8, faulty.purchase("flash-cold", 2));
+
+            faulty.channel.failForce = true;
+            assertThrows(UncheckedIOException.class, () -> faulty.purchase("flash-cold", 3));
+            faulty.channel.failForce = false;
+            // Not acknowledged, so the units are on sale again
+            assertEquals(8, faulty.remaining("flash-cold"));
+
+            // A crash now replays the purchase and its cancellation, which cancel out
+            FlashSaleStock restarted = beanFactory.createBean(FlashSaleStock.class);
+            try {
+                restarted.recover();
+                assertEquals(8, stock("flash-cold"));
+            } finally {
+                beanFactory.destroyBean(restarted);
+            }
+            faulty.flush();
+            assertEquals(8, stock("flash-cold"));
+
+            assertEquals(0, faulty.purchase("flash-cold", 8));
+            assertEquals(0, faulty.end("flash-cold"));
+            assertEquals(0, stock("flash-cold"));
+        } finally {
+            beanFactory.destroyBean(faulty);
+        }
+    }
+
+    @Test
+    void keepsAFlushThatCommittedWhenTheJournalCannotBeTruncated() throws IOException {
+        flashSaleStock.close();
+        FaultyFlashSaleStock faulty = beanFactory.createBean(FaultyFlashSaleStock.class);
+        try {
+            faulty.start("flash-cold");
+            faulty.channel.failTruncate = true;
+            faulty.purchase("flash-cold", 2);
+            faulty.flush();
+            assertEquals(8, stock("flash-cold"));
+
+            // The next flush applies only the new purchase
+            faulty.purchase("flash-cold", 3);
+            faulty.flush();
+            assertEquals(5, stock("flash-cold"));
+
+            // The checkpoint skips the records left in the file on replay
+            FlashSaleStock restarted = beanFactory.createBean(FlashSaleStock.class);
+            try {
+                restarted.recover();
+                assertEquals(5, stock("flash-cold"));
+            } finally {
+                beanFactory.destroyBean(restarted);
+            }
+            faulty.channel.failTruncate = false;
+            assertEquals(5, faulty.end("flash-cold"));
+            assertEquals(5, stock("flash-cold"));
+        } finally {
+            beanFactory.destroyBean(faulty);
+        }
+    }
+
+    private void variant(String id, int stock) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setProductId("flash-tee");
+        variant.setSku("SKU-" + id);
+        variant.setPrice(BigDecimal.TEN);
+        variant.setStockQuantity(stock);
+        productVariantRepository.save(variant);
+    }
+
+    private int stock(String variantId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM product_variant WHERE id = ?", Integer.class, variantId);
+    }
+
+    static class FaultyFlashSaleStock extends FlashSaleStock {
+
+        private FaultyChannel channel;
+
+        FaultyFlashSaleStock(PlatformTransactionManager transactionManager) {
+            super(transactionManager);
+        }
+
+        @Override
+        FlashSaleJournal openJournal(Path path, long checkpoint) throws IOException {
+            channel = new FaultyChannel(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE));
+            return FlashSaleJournal.open(channel, checkpoint);
+        }
+    }
+
+    /**
+     * A file channel whose {@code force} or {@code truncate} fails on demand, as when the disk
+     * reports an I/O error.
+     */
+    static class FaultyChannel extends FileChannel {
+
+        private final FileChannel file;
+        private volatile boolean failForce;
+        private volatile boolean failTruncate;
+
+        FaultyChannel(FileChannel file) {
+            this.file = file;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            if (failForce) {
+                throw new IOException("Injected fsync failure");
+            }
+            file.force(metaData);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return file.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return file.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return file.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return file.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return file.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            file.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return file.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                throw new IOException("Injected truncate failure");
+            }
+            file.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return file.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return file.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return file.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return file.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return file.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return file.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return file.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            file.close();
+        }
+    }
+
+    private static Path journalPath() {
+        try {
+            return Files.createTempDirectory("flash-sale").resolve("flash-sale.journal");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package shopco.backend.infrastructure.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.StockHeldRow;
+import shopco.backend.application.dto.StockLine;
+import shopco.backend.application.dto.StockReservationDto;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.StockReservationStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.repository.ProductRepository;
+import shopco.backend.infrastructure.repository.ProductVariantRepository;
+import shopco.backend.infrastructure.repository.StockReservationRepository;
+
+// Not run in a test transaction: concurrent checkouts must see each other's commits
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({StockReservationWriter.class, StockHoldReaper.class, FlashSaleStock.class})
+@TestPropertySource(properties = "shopco.inventory.holds.reap-batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockReservationWriterTest {
+
+    @Autowired
+    private StockReservationWriter writer;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private StockHoldReaper reaper;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setId("inv-tee");
+        product.setName("Tee");
+        product.setSlug("inv-tee");
+        product.setStatus(ProductStatus.PUBLISHED);
+        productRepository.save(product);
+        variant("inv-hot", 50);
+        variant("inv-s", 3);
+        variant("inv-m", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM stock_reservation_line");
+        jdbcTemplate.update("DELETE FROM stock_reservation");
+        jdbcTemplate.update("DELETE FROM product_variant WHERE product_id = 'inv-tee'");
+        jdbcTemplate.update("DELETE FROM product WHERE id = 'inv-tee'");
+    }
+
+    @Test
+    void neverOversellsAHotVariant() throws Exception {
+        int checkouts = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < checkouts; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        writer.reserve(List.of(new StockLine("inv-hot", 1)));
+                        return true;
+                    } catch (IllegalStateException ex) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int reserved = 0;
+            for (Future<Boolean> result : results) {
+                reserved += result.get() ? 1 : 0;
+            }
+            assertEquals(50, reserved);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(0, stock("inv-hot"));
+        assertEquals(50, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_reservation", Integer.class));
+    }
+
+    @Test
+    void reservesAllLinesOrNoneAndReleasesOnce() {
+        IllegalStateException shortage = assertThrows(IllegalStateException.class, () -> writer.reserve(List.of(
+                new StockLine("inv-s", 2), new StockLine("inv-m", 2))));
+        assertEquals("Not enough stock for SKU-inv-m", shortage.getMessage());
+        // The line that fit was rolled back with the one that did not
+        assertEquals(3, stock("inv-s"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_reservation", Integer.class));
+
+        StockReservationDto reservation = writer.reserve(List.of(
+                new StockLine("inv-s", 2), new StockLine("inv-m", 1)));
+        assertEquals(1, stock("inv-s"));
+        assertEquals(0, stock("inv-m"));
+
+        assertEquals(StockReservationStatus.RELEASED, writer.release(reservation.id()).status());
+        // Retried releases do not put the stock back twice
+        writer.release(reservation.id());
+        assertEquals(3, stock("inv-s"));
+        assertEquals(1, stock("inv-m"));
+        assertThrows(IllegalStateException.class, () -> writer.commit(reservation.id()));
+
+        StockReservationDto sold = writer.reserve(List.of(new StockLine("inv-m", 1)));
+        assertEquals(List.of(new StockLine("inv-m", 1)), writer.commit(sold.id()).lines());
+        assertThrows(IllegalStateException.class, () -> writer.release(sold.id()));
+        assertEquals(0, stock("inv-m"));
+        assertThrows(IllegalArgumentException.class, () -> writer.commit("missing"));
+        assertThrows(IllegalArgumentException.class, () -> writer.reserve(List.of(new StockLine("missing", 1))));
+    }
+
+    @Test
+    void reaperReleasesOnlyLapsedHolds() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        for (int i = 0; i < 5; i++) {
+            writer.reserve(List.of(new StockLine("inv-hot", 2)), "cart-" + i, past);
+        }
+        StockReservationDto sold = writer.reserve(List.of(new StockLine("inv-hot", 3)), "cart-sold", past);
+        writer.commit(sold.id());
+        StockReservationDto active = writer.reserve(
+                List.of(new StockLine("inv-hot", 4), new StockLine("inv-s", 1)), "cart-active",
+                LocalDateTime.now().plusMinutes(15));
+        assertEquals(33, stock("inv-hot"));
+
+        // Lapsed holds already count as available again; only the active one is held
+        assertEquals(List.of(new StockHeldRow("inv-hot", 4L, 10L)), stockReservationRepository.sumHeldByVariantIdIn(
+                List.of("inv-hot"), StockReservationStatus.RESERVED, LocalDateTime.now()));
+
+        // Five lapsed holds with a batch size of two take three batches
+        assertEquals(5, reaper.reap());
+        assertEquals(43, stock("inv-hot"));
+        assertEquals(2, stock("inv-s"));
+        assertEquals(0, reaper.reap());
+        assertEquals(List.of(active.id()), stockReservationRepository.findIdsByCartIdAndStatus(
+                "cart-active", StockReservationStatus.RESERVED));
+    }
+
+    private void variant(String id, int stock) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setProductId("inv-tee");
+        variant.setSku("SKU-" + id);
+        variant.setPrice(BigDecimal.TEN);
+        variant.setStockQuantity(stock);
+        productVariantRepository.save(variant);
+    }
+
+    private int stock(String variantId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM product_variant WHERE id = ?", Integer.class, variantId);
+    }
+}
@@ -0,0 +1,64 @@
+package shopco.backend.infrastructure.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class StripedStockCounterTest {
+
+    @Test
+    void neverReportsSoldOutWhileUnitsRemain() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            for (int round = 0; round < 200; round++) {
+                StripedStockCounter counter = new StripedStockCounter(40, 8);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> buyers = new ArrayList<>();
+                for (int buyer = 0; buyer < 16; buyer++) {
+                    int quantity = buyer % 2 == 0 ? 3 : 1;
+                    buyers.add(pool.submit(() -> {
+                        start.await();
+                        int taken = 0;
+                        while (counter.tryTake(quantity)) {
+                            taken += quantity;
+                        }
+                        // Units are never put back here, so a refused single unit means none are left
+                        while (counter.tryTake(1)) {
+                            taken++;
+                        }
+                        return counter.remaining() == 0 ? taken : -1;
+                    }));
+                }
+                start.countDown();
+                int sold = 0;
+                for (Future<Integer> buyer : buyers) {
+                    int taken = buyer.get();
+                    assertFalse(taken < 0, "Refused a unit while stock remained");
+                    sold += taken;
+                }
+                assertEquals(40, sold);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void takesNothingWhenTooFewUnitsAreLeft() {
+        StripedStockCounter counter = new StripedStockCounter(5, 4);
+
+        assertFalse(counter.tryTake(6));
+        assertEquals(5, counter.remaining());
+        // Spread over all four cells, so only the gathering path can serve it
+        assertTrue(counter.tryTake(5));
+        assertEquals(0, counter.remaining());
+    }
+}
@@ -0,0 +1,128 @@
+package shopco.backend.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import shopco.backend.application.dto.RatingCountRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.catalog.RatingHistogram;
+import shopco.backend.infrastructure.catalog.RatingSummaryStore;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.Review;
+import shopco.backend.infrastructure.model.User;
+import shopco.backend.infrastructure.repository.ReviewRepository;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ReviewRatingListenerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("user-1");
+        user.setName("Buyer");
+        user.setEmail("buyer@example.com");
+        entityManager.persist(user);
+
+        Product product = new Product();
+        product.setId("tee");
+        product.setName("Tee");
+        product.setSlug("tee");
+        product.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(product);
+        entityManager.flush();
+        events.clear();
+    }
+
+    @Test
+    void publishesOnlyChangesToWhatTheReviewCountsFor() {
+        review("r1", 5, ReviewStatus.PENDING);
+        review("r2", 4, ReviewStatus.APPROVED);
+        entityManager.flush();
+        entityManager.clear();
+
+        Review r1 = entityManager.find(Review.class, "r1");
+        r1.setStatus(ReviewStatus.APPROVED);
+        entityManager.flush();
+        // Edits that do not touch status or rating are not rating changes
+        r1.setTitle("Great");
+        entityManager.flush();
+        r1.setRating(3);
+        entityManager.flush();
+        r1.setStatus(ReviewStatus.REJECTED);
+        entityManager.flush();
+        entityManager.remove(entityManager.find(Review.class, "r2"));
+        entityManager.remove(r1);
+        entityManager.flush();
+
+        assertEquals(List.of(
+                new ReviewRatingChangedEvent("tee", null, 4),
+                new ReviewRatingChangedEvent("tee", null, 5),
+                new ReviewRatingChangedEvent("tee", 5, 3),
+                new ReviewRatingChangedEvent("tee", 3, null),
+                new ReviewRatingChangedEvent("tee", 4, null)),
+                events.stream(ReviewRatingChangedEvent.class).toList());
+    }
+
+    @Test
+    void incrementalHistogramMatchesRecount() {
+        RatingSummaryStore store = new RatingSummaryStore();
+        int[] ratings = {5, 4, 4, 1, 3, 5, 5, 2};
+        for (int i = 0; i < ratings.length; i++) {
+            review("r" + i, ratings[i], ReviewStatus.PENDING);
+        }
+        entityManager.flush();
+        for (int i = 0; i < ratings.length; i++) {
+            // Approve all but the last, then reject one of them again
+            if (i < ratings.length - 1) {
+                entityManager.find(Review.class, "r" + i).setStatus(ReviewStatus.APPROVED);
+            }
+        }
+        entityManager.flush();
+        entityManager.find(Review.class, "r3").setStatus(ReviewStatus.REJECTED);
+        entityManager.remove(entityManager.find(Review.class, "r0"));
+        entityManager.flush();
+        events.stream(ReviewRatingChangedEvent.class).forEach(store::onRatingChanged);
+
+        long[] counts = new long[RatingHistogram.MAX_RATING];
+        for (RatingCountRow row : reviewRepository.countRatings(List.of("tee"), ReviewStatus.APPROVED)) {
+            counts[row.rating() - 1] = row.count();
+        }
+        RatingHistogram histogram = store.get("tee");
+        assertEquals(RatingHistogram.of(counts), histogram);
+        assertEquals(RatingHistogram.of(0, 0, 1, 2, 2), histogram);
+        assertEquals(5, histogram.count());
+        assertEquals(21.0 / 5, histogram.average(), 1e-9);
+        assertTrue(store.get("unknown").isEmpty());
+    }
+
+    private void review(String id, int rating, ReviewStatus status) {
+        Review review = new Review();
+        review.setId(id);
+        review.setProductId("tee");
+        review.setUserId("user-1");
+        review.setRating(rating);
+        review.setStatus(status);
+        entityManager.persist(review);
+    }
+}
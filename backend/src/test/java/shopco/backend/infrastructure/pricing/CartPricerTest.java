@@ -0,0 +1,55 @@
+package shopco.backend.infrastructure.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+import shopco.backend.domain.enums.CouponType;
+
+class CartPricerTest {
+
+    private final CartPricer pricer = new CartPricer(new BigDecimal("5.00"), new BigDecimal("100.00"));
+
+    private final long[] unitPrices = {MinorUnits.of(new BigDecimal("19.99")), MinorUnits.of(new BigDecimal("7.5"))};
+    private final int[] quantities = {2, 3};
+    private final long[] lineTotals = new long[2];
+
+    @Test
+    void pricesLinesAndChargesShippingBelowTheThreshold() {
+        CartTotals totals = pricer.price(unitPrices, quantities, 2, null, null, lineTotals);
+
+        assertArrayEquals(new long[]{3998, 2250}, lineTotals);
+        assertEquals(new CartTotals(6248, 0, 500, 6748), totals);
+        assertEquals(new BigDecimal("67.48"), MinorUnits.toDecimal(totals.finalAmount()));
+        // An empty cart ships nothing
+        assertEquals(new CartTotals(0, 0, 0, 0), pricer.price(unitPrices, quantities, 0, null, null, lineTotals));
+    }
+
+    @Test
+    void discountsOnlyEligibleLinesOnceTheMinimumIsReached() {
+        CouponTerms percent = new CouponTerms(CouponType.PERCENT, MinorUnits.of(new BigDecimal("12.5")), 0);
+        boolean[] firstOnly = {true, false};
+        // 12.5% of 39.98 is 4.9975, rounded half up
+        assertEquals(new CartTotals(6248, 500, 500, 6248),
+                pricer.price(unitPrices, quantities, 2, firstOnly, percent, lineTotals));
+
+        CouponTerms fixed = new CouponTerms(CouponType.FIXED, 5000, 10_000);
+        assertEquals(0, pricer.price(unitPrices, quantities, 2, null, fixed, lineTotals).discountAmount());
+        // Never more than the lines the coupon applies to
+        CouponTerms anyOrder = new CouponTerms(CouponType.FIXED, 5000, 0);
+        assertEquals(2250, pricer.price(unitPrices, quantities, 2, new boolean[]{false, true}, anyOrder, lineTotals)
+                .discountAmount());
+
+        CouponTerms freeShipping = new CouponTerms(CouponType.FREE_SHIPPING, 0, 0);
+        assertEquals(new CartTotals(6248, 500, 500, 6248),
+                pricer.price(unitPrices, quantities, 2, null, freeShipping, lineTotals));
+    }
+
+    @Test
+    void refusesAmountsThatOverflow() {
+        assertThrows(ArithmeticException.class, () -> pricer.price(
+                new long[]{Long.MAX_VALUE / 2}, new int[]{3}, 1, null, null, lineTotals));
+    }
+}
@@ -0,0 +1,169 @@
+package shopco.backend.infrastructure.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.domain.enums.CouponType;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.model.Category;
+import shopco.backend.infrastructure.model.Coupon;
+import shopco.backend.infrastructure.model.CouponApplicableCategory;
+import shopco.backend.infrastructure.model.CouponExcludedCategory;
+import shopco.backend.infrastructure.model.CouponExcludedProduct;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.repository.CategoryRepository;
+import shopco.backend.infrastructure.repository.CouponApplicableCategoryRepository;
+import shopco.backend.infrastructure.repository.CouponExcludedCategoryRepository;
+import shopco.backend.infrastructure.repository.CouponExcludedProductRepository;
+import shopco.backend.infrastructure.repository.CouponRepository;
+import shopco.backend.infrastructure.repository.ProductRepository;
+
+// Not run in a test transaction: invalidation happens after commit
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({CouponMatcherCache.class, CategoryTreeCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CouponMatcherCacheTest {
+
+    @Autowired
+    private CouponMatcherCache cache;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponApplicableCategoryRepository applicableCategoryRepository;
+
+    @Autowired
+    private CouponExcludedProductRepository excludedProductRepository;
+
+    @Autowired
+    private CouponExcludedCategoryRepository excludedCategoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        category("cp-apparel", null);
+        category("cp-tees", "cp-apparel");
+        category("cp-shoes", null);
+        categoryTreeCache.rebuild();
+        product("cp-tee", "cp-tees");
+        product("cp-hoodie", "cp-apparel");
+        product("cp-sneaker", "cp-shoes");
+        product("cp-sock", null);
+
+        coupon("c-apparel", "APPAREL10");
+        applicableCategoryRepository.save(new CouponApplicableCategory("c-apparel", null, "cp-apparel", null));
+        excludedProductRepository.save(new CouponExcludedProduct("c-apparel", null, "cp-hoodie", null));
+        coupon("c-all", "ALL5");
+        excludedCategoryRepository.save(new CouponExcludedCategory("c-all", null, "cp-shoes", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Stream.of("coupon_applicable_category", "coupon_excluded_product", "coupon_excluded_category", "coupon")
+                .forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+        jdbcTemplate.update("DELETE FROM product WHERE id LIKE 'cp-%'");
+        jdbcTemplate.update("UPDATE category SET parent_id = NULL WHERE id LIKE 'cp-%'");
+        jdbcTemplate.update("DELETE FROM category WHERE id LIKE 'cp-%'");
+    }
+
+    @Test
+    void expandsCategoryScopesThroughTheTreeAndAppliesExclusions() {
+        CouponMatcher apparel = cache.get("APPAREL10");
+        assertEquals(List.of(true, false, false, false), appliesTo(apparel));
+        // Compiled once, then answered from memory
+        assertSame(apparel, cache.get("APPAREL10"));
+
+        CouponMatcher all = cache.get("ALL5");
+        assertEquals(List.of(true, true, false, true), appliesTo(all));
+        assertTrue(all.appliesTo("never-seen"));
+        assertFalse(apparel.appliesTo("never-seen"));
+        assertNull(cache.get("NOPE"));
+
+        assertTrue(all.isRunning(LocalDateTime.now()));
+        assertFalse(all.isRunning(LocalDateTime.now().plusDays(2)));
+    }
+
+    @Test
+    void recompilesAfterCouponAndCatalogEdits() {
+        CouponMatcher all = cache.get("ALL5");
+        CouponMatcher apparel = cache.get("APPAREL10");
+
+        excludedProductRepository.save(new CouponExcludedProduct("c-all", null, "cp-tee", null));
+        CouponMatcher edited = cache.get("ALL5");
+        assertNotSame(all, edited);
+        assertEquals(List.of(false, true, false, true), appliesTo(edited));
+        // An edit to one coupon leaves the others compiled
+        assertSame(apparel, cache.get("APPAREL10"));
+
+        Product sneaker = productRepository.findById("cp-sneaker").orElseThrow();
+        sneaker.setCategoryId("cp-tees");
+        productRepository.save(sneaker);
+        assertEquals(List.of(true, false, true, false), appliesTo(cache.get("APPAREL10")));
+    }
+
+    private List<Boolean> appliesTo(CouponMatcher matcher) {
+        return Stream.of("cp-tee", "cp-hoodie", "cp-sneaker", "cp-sock").map(matcher::appliesTo).toList();
+    }
+
+    private void category(String id, String parentId) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(id);
+        category.setSlug(id);
+        category.setParentId(parentId);
+        categoryRepository.save(category);
+    }
+
+    private void product(String id, String categoryId) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(id);
+        product.setSlug(id);
+        product.setStatus(ProductStatus.PUBLISHED);
+        product.setCategoryId(categoryId);
+        productRepository.save(product);
+    }
+
+    private void coupon(String id, String code) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode(code);
+        coupon.setType(CouponType.PERCENT);
+        coupon.setValue(BigDecimal.TEN);
+        coupon.setStartsAt(LocalDateTime.now().minusDays(1));
+        coupon.setEndsAt(LocalDateTime.now().plusDays(1));
+        couponRepository.save(coupon);
+    }
+}
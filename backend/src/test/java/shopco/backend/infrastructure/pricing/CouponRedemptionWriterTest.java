@@ -0,0 +1,247 @@
+package shopco.backend.infrastructure.pricing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import shopco.backend.application.dto.CouponRedemptionDto;
+import shopco.backend.domain.enums.CouponRedemptionStatus;
+import shopco.backend.domain.enums.CouponType;
+import shopco.backend.domain.enums.OrderStatus;
+import shopco.backend.infrastructure.catalog.CategoryTreeCache;
+import shopco.backend.infrastructure.model.Coupon;
+import shopco.backend.infrastructure.model.Order;
+import shopco.backend.infrastructure.model.User;
+import shopco.backend.infrastructure.repository.CouponRepository;
+import shopco.backend.infrastructure.repository.OrderRepository;
+import shopco.backend.infrastructure.repository.UserRepository;
+
+// Not run in a test transaction: concurrent redemptions must see each other's commits
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({CouponRedemptionWriter.class, CouponMatcherCache.class, CategoryTreeCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CouponRedemptionWriterTest {
+
+    @Autowired
+    private CouponRedemptionWriter writer;
+
+    @Autowired
+    private CouponMatcherCache cache;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM coupon_redemption");
+        jdbcTemplate.update("DELETE FROM coupon_user_redemption");
+        orderRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM coupon");
+    }
+
+    @Test
+    void neverExceedsTheUsageLimitUnderARush() throws Exception {
+        coupon("cr-viral", "VIRAL", 50, 1);
+        CouponMatcher viral = cache.get("VIRAL");
+        // Two orders from each of 150 users
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String userId = "user-" + i / 2;
+            String orderId = "order-" + i;
+            attempts.add(() -> redeems(viral, userId, orderId));
+        }
+        assertEquals(50, runConcurrently(attempts));
+
+        assertEquals(50, usedCount("cr-viral"));
+        assertEquals(50, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupon_redemption", Integer.class));
+        assertEquals(50, jdbcTemplate.queryForObject(
+                "SELECT SUM(redeemed) FROM coupon_user_redemption", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT MAX(redeemed) FROM coupon_user_redemption", Integer.class));
+    }
+
+    @Test
+    void enforcesThePerUserLimitAndReleasesOnce() throws Exception {
+        coupon("cr-twice", "TWICE", null, 2);
+        CouponMatcher twice = cache.get("TWICE");
+        // All first redemptions of the user, racing to create the counter row
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String orderId = "order-" + i;
+            attempts.add(() -> redeems(twice, "user-1", orderId));
+        }
+        assertEquals(2, runConcurrently(attempts));
+        assertEquals(2, usedCount("cr-twice"));
+        assertEquals(2, redeemed("cr-twice", "user-1"));
+
+        String orderId = jdbcTemplate.queryForList("SELECT order_id FROM coupon_redemption", String.class).get(0);
+        // A retried redemption returns the one that exists
+        CouponRedemptionDto redemption = writer.redeem(twice, "user-1", orderId);
+        assertEquals(2, usedCount("cr-twice"));
+
+        assertEquals(CouponRedemptionStatus.RELEASED, writer.release(orderId).status());
+        // Retried releases do not give the slot back twice
+        writer.release(orderId);
+        assertEquals(1, usedCount("cr-twice"));
+        assertEquals(1, redeemed("cr-twice", "user-1"));
+        assertEquals(redemption.id(), writer.find(orderId).orElseThrow().id());
+        assertThrows(IllegalStateException.class, () -> writer.redeem(twice, "user-1", orderId));
+
+        writer.redeem(twice, "user-1", "order-new");
+        assertThrows(IllegalStateException.class, () -> writer.redeem(twice, "user-1", "order-newer"));
+        assertEquals(2, usedCount("cr-twice"));
+        assertThrows(IllegalArgumentException.class, () -> writer.release("missing"));
+    }
+
+    @Test
+    void refusesAUsedUpCouponUntilASlotIsReleased() {
+        coupon("cr-single", "SINGLE", 1, null);
+        CouponMatcher single = cache.get("SINGLE");
+        writer.redeem(single, "user-1", "order-1");
+
+        IllegalStateException usedUp = assertThrows(IllegalStateException.class,
+                () -> writer.redeem(single, "user-2", "order-2"));
+        assertEquals("Coupon SINGLE has reached its usage limit", usedUp.getMessage());
+        // The refusal rolled back the user's count
+        assertEquals(0, redeemed("cr-single", "user-2"));
+
+        writer.release("order-1");
+        writer.redeem(single, "user-2", "order-2");
+        assertEquals(1, usedCount("cr-single"));
+    }
+
+    @Test
+    void countsTheOrdersAUserPlacedBeforeTheirFirstRedemption() {
+        coupon("cr-loyal", "LOYAL", null, 2);
+        CouponMatcher loyal = cache.get("LOYAL");
+        User user = new User();
+        user.setId("cr-buyer");
+        user.setName("Buyer");
+        user.setEmail("cr-buyer@example.com");
+        userRepository.save(user);
+        order("order-1", "cr-loyal", OrderStatus.DELIVERED);
+        order("order-2", "cr-loyal", OrderStatus.PENDING);
+        order("order-3", "cr-loyal", OrderStatus.CANCELLED);
+        order("order-4", null, OrderStatus.PENDING);
+
+        // The two orders that were not cancelled already used up the user's share
+        assertThrows(IllegalStateException.class, () -> writer.redeem(loyal, "cr-buyer", "order-4"));
+        assertEquals(2, redeemed("cr-loyal", "cr-buyer"));
+        assertEquals(0, usedCount("cr-loyal"));
+    }
+
+    @Test
+    void returnsTheWinningRedemptionToConcurrentRetriesOfAnOrder() throws Exception {
+        // A retry that waits on the user's counter finds it used up by the winner
+        coupon("cr-retry", "RETRY", 5, 1);
+        CouponMatcher retry = cache.get("RETRY");
+        List<CouponRedemptionDto> redemptions = Collections.synchronizedList(new ArrayList<>());
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            attempts.add(() -> redemptions.add(writer.redeem(retry, "user-1", "order-1")));
+        }
+        assertEquals(10, runConcurrently(attempts));
+
+        assertEquals(1, redemptions.stream().map(CouponRedemptionDto::id).distinct().count());
+        assertEquals(1, usedCount("cr-retry"));
+        assertEquals(1, redeemed("cr-retry", "user-1"));
+        // Still refused for another coupon or user
+        assertThrows(IllegalStateException.class, () -> writer.redeem(retry, "user-2", "order-1"));
+    }
+
+    private boolean redeems(CouponMatcher coupon, String userId, String orderId) {
+        try {
+            writer.redeem(coupon, userId, orderId);
+            return true;
+        } catch (IllegalStateException ex) {
+            return false;
+        }
+    }
+
+    private int runConcurrently(List<Callable<Boolean>> attempts) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (Callable<Boolean> attempt : attempts) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return attempt.call();
+                }));
+            }
+            start.countDown();
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                succeeded += result.get() ? 1 : 0;
+            }
+            return succeeded;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void coupon(String id, String code, Integer usageLimit, Integer usageLimitPerUser) {
+        Coupon coupon = new Coupon();
+        coupon.setId(id);
+        coupon.setCode(code);
+        coupon.setType(CouponType.PERCENT);
+        coupon.setValue(BigDecimal.TEN);
+        coupon.setStartsAt(LocalDateTime.now().minusDays(1));
+        coupon.setEndsAt(LocalDateTime.now().plusDays(1));
+        coupon.setUsageLimit(usageLimit);
+        coupon.setUsageLimitPerUser(usageLimitPerUser);
+        couponRepository.save(coupon);
+    }
+
+    private void order(String id, String couponId, OrderStatus status) {
+        Order order = new Order();
+        order.setId(id);
+        order.setOrderNo(id);
+        order.setUserId("cr-buyer");
+        order.setTotalAmount(BigDecimal.TEN);
+        order.setFinalAmount(BigDecimal.TEN);
+        order.setOrderStatus(status);
+        order.setCouponId(couponId);
+        orderRepository.save(order);
+    }
+
+    private int usedCount(String couponId) {
+        return jdbcTemplate.queryForObject("SELECT used_count FROM coupon WHERE id = ?", Integer.class, couponId);
+    }
+
+    private int redeemed(String couponId, String userId) {
+        List<Integer> redeemed = jdbcTemplate.queryForList(
+                "SELECT redeemed FROM coupon_user_redemption WHERE coupon_id = ? AND user_id = ?",
+                Integer.class, couponId, userId);
+        return redeemed.isEmpty() ? 0 : redeemed.get(0);
+    }
+}
@@ -0,0 +1,79 @@
+package shopco.backend.infrastructure.ranking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DecayedRankingTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void topMatchesExactCountsAndSketchNeverUndercounts() {
+        Random random = new Random(14);
+        // A sketch much smaller than the key space, so collisions are certain
+        DecayedRanking ranking = new DecayedRanking(Long.MAX_VALUE / 4, 10, 4, 1024, 0);
+        Map<String, Double> exact = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            // Zipf-like: a few heavy products and a long tail
+            String product = "p" + (int) (5000 * Math.pow(random.nextDouble(), 4));
+            String scope = Integer.parseInt(product.substring(1)) % 2 == 0 ? "even" : "odd";
+            ranking.add(product, List.of(ProductRankingTracker.ALL, scope), 1, 0);
+            exact.merge(product, 1.0, Double::sum);
+        }
+
+        List<String> expected = exact.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        List<DecayedRanking.Ranked> top = ranking.top(ProductRankingTracker.ALL, 10, 0);
+        assertEquals(expected, top.stream().map(DecayedRanking.Ranked::productId).toList());
+        for (DecayedRanking.Ranked entry : top) {
+            assertEquals(exact.get(entry.productId()), entry.score(), exact.get(entry.productId()) * 0.01);
+        }
+        exact.forEach((product, count) -> assertTrue(ranking.score(product, 0) >= count - 1e-9));
+
+        List<DecayedRanking.Ranked> even = ranking.top("even", 5, 0);
+        assertEquals(5, even.size());
+        assertTrue(even.stream().allMatch(entry -> Integer.parseInt(entry.productId().substring(1)) % 2 == 0));
+        assertEquals(3, ranking.scopes());
+
+        ranking.remove(expected.get(0));
+        assertEquals(expected.get(1), ranking.top(ProductRankingTracker.ALL, 1, 0).get(0).productId());
+    }
+
+    @Test
+    void recentEventsOvertakeOlderOnesAndSurviveRenormalization() {
+        DecayedRanking ranking = new DecayedRanking(HOUR, 5, 4, 4096, 0);
+        List<String> scopes = List.of(ProductRankingTracker.ALL);
+        ranking.add("old", scopes, 10, 0);
+        ranking.add("new", scopes, 3, 2 * HOUR);
+
+        // Two half-lives later the 10 old units are worth 2.5, less than the 3 new ones
+        List<DecayedRanking.Ranked> top = ranking.top(ProductRankingTracker.ALL, 5, 2 * HOUR);
+        assertEquals(List.of("new", "old"), top.stream().map(DecayedRanking.Ranked::productId).toList());
+        assertEquals(2.5, top.get(1).score(), 1e-9);
+        assertEquals(3, top.get(0).score(), 1e-9);
+        assertEquals(1.5, ranking.score("new", 3 * HOUR), 1e-9);
+
+        // 100 half-lives on, the landmark has to move; relative order and magnitudes must not change
+        long later = 100 * HOUR;
+        ranking.add("late", scopes, 1, later);
+        ranking.add("late", scopes, 1, later);
+        top = ranking.top(ProductRankingTracker.ALL, 5, later);
+        assertEquals("late", top.get(0).productId());
+        assertEquals(2, top.get(0).score(), 1e-9);
+        assertEquals(3 * Math.pow(0.5, 98), top.get(1).score(), 1e-35);
+        assertTrue(top.stream().map(DecayedRanking.Ranked::score).allMatch(Double::isFinite));
+        assertEquals(top, top.stream()
+                .sorted(Comparator.comparingDouble(DecayedRanking.Ranked::score).reversed())
+                .toList());
+    }
+}
@@ -0,0 +1,77 @@
+package shopco.backend.infrastructure.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void scoresPairsAndRanksByLift() {
+        List<String[]> baskets = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            baskets.add(new String[]{"shirt", "tie"});
+        }
+        for (int i = 0; i < 4; i++) {
+            baskets.add(new String[]{"shirt", "socks"});
+            baskets.add(new String[]{"socks", "shoes"});
+        }
+        baskets.add(new String[]{"shirt", "shirt", "belt"});
+        // Too large to say anything about which items belong together
+        baskets.add(new String[]{"shirt", "tie", "socks", "shoes", "belt"});
+
+        CoOccurrenceMatrix matrix = CoOccurrenceMatrix.build(baskets, 4, new ForkJoinPool(2));
+
+        assertEquals(13, matrix.orders());
+        assertEquals(9, matrix.orders("shirt"));
+        assertEquals(4, matrix.coOrders("shirt", "tie"));
+        assertEquals(4, matrix.coOrders("tie", "shirt"));
+        assertEquals(1, matrix.coOrders("shirt", "belt"));
+
+        // tie only ever sells with a shirt, socks sell on their own too, belt is below min support
+        List<CoOccurrenceMatrix.Pair> top = matrix.top("shirt", 5, 2);
+        assertEquals(List.of("tie", "socks"), top.stream().map(CoOccurrenceMatrix.Pair::productId).toList());
+        CoOccurrenceMatrix.Pair tie = top.get(0);
+        assertEquals(4.0 / 13, tie.support(), 1e-9);
+        assertEquals(4.0 / 9, tie.confidence(), 1e-9);
+        assertEquals(4.0 * 13 / (9 * 4), tie.lift(), 1e-9);
+        assertTrue(tie.lift() > top.get(1).lift());
+        assertEquals(List.of(), matrix.top("unknown", 5, 1));
+    }
+
+    @Test
+    void parallelBuildMatchesIncrementalCounting() {
+        Random random = new Random(13);
+        List<String[]> baskets = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String[] basket = new String[1 + random.nextInt(4)];
+            for (int j = 0; j < basket.length; j++) {
+                // Skewed so a few products co-occur often
+                basket[j] = "p" + (int) Math.abs(random.nextGaussian() * 400) % 3000;
+            }
+            baskets.add(basket);
+        }
+
+        CoOccurrenceMatrix built = CoOccurrenceMatrix.build(baskets, 50, new ForkJoinPool(4));
+        CoOccurrenceMatrix incremental = CoOccurrenceMatrix.empty(50);
+        incremental.add(baskets.subList(0, 10_000));
+        incremental.add(baskets.subList(10_000, baskets.size()));
+
+        assertEquals(baskets.size(), built.orders());
+        assertEquals(built.orders(), incremental.orders());
+        assertEquals(built.size(), incremental.size());
+        for (int p = 0; p < 60; p++) {
+            String product = "p" + p;
+            assertEquals(built.orders(product), incremental.orders(product));
+            assertEquals(built.top(product, 10, 2), incremental.top(product, 10, 2));
+            for (int q = 0; q < 60; q++) {
+                assertEquals(built.coOrders(product, "p" + q), incremental.coOrders(product, "p" + q));
+            }
+        }
+    }
+}
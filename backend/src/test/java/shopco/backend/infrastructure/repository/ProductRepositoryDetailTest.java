@@ -0,0 +1,165 @@
+package shopco.backend.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import shopco.backend.application.dto.ProductVersionRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.model.Brand;
+import shopco.backend.infrastructure.model.Category;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductImage;
+import shopco.backend.infrastructure.model.ProductTag;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.model.Review;
+import shopco.backend.infrastructure.model.Tag;
+import shopco.backend.infrastructure.model.User;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductRepositoryDetailTest {
+
+    private static final long DETAIL_STATEMENTS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        Brand brand = new Brand();
+        brand.setId("brand-1");
+        brand.setName("Zara");
+        brand.setSlug("zara");
+        entityManager.persist(brand);
+
+        Category category = new Category();
+        category.setId("cat-1");
+        category.setName("Shirts");
+        category.setSlug("shirts");
+        entityManager.persist(category);
+
+        User user = new User();
+        user.setId("user-1");
+        user.setName("Buyer");
+        user.setEmail("buyer@example.com");
+        entityManager.persist(user);
+
+        Product product = new Product();
+        product.setId("prod-1");
+        product.setName("Oxford shirt");
+        product.setSlug("oxford-shirt");
+        product.setBrandId("brand-1");
+        product.setCategoryId("cat-1");
+        product.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(product);
+
+        for (int i = 0; i < 4; i++) {
+            ProductVariant variant = new ProductVariant();
+            variant.setId("var-" + i);
+            variant.setProductId("prod-1");
+            variant.setSku("SKU-" + i);
+            variant.setPrice(new BigDecimal("49.00"));
+            variant.setStockQuantity(10);
+            entityManager.persist(variant);
+
+            ProductImage image = new ProductImage();
+            image.setId("img-" + i);
+            image.setProductId("prod-1");
+            image.setUrl("/images/pic" + i + ".png");
+            entityManager.persist(image);
+
+            Tag tag = new Tag();
+            tag.setId("tag-" + i);
+            tag.setName("Tag " + i);
+            tag.setSlug("tag-" + i);
+            entityManager.persist(tag);
+            entityManager.persist(new ProductTag("prod-1", null, "tag-" + i, null));
+        }
+
+        for (int i = 0; i < 6; i++) {
+            Review review = new Review();
+            review.setId("rev-" + i);
+            review.setProductId("prod-1");
+            review.setUserId("user-1");
+            review.setRating(5);
+            review.setStatus(i < 5 ? ReviewStatus.APPROVED : ReviewStatus.PENDING);
+            entityManager.persist(review);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void loadsWholeAggregateInConstantStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProductRepository.ProductDetail detail = productRepository.loadDetailBySlug("oxford-shirt", 3).orElseThrow();
+
+        // Touch every association the product page renders
+        Product product = detail.product();
+        assertEquals("Zara", product.getBrand().getName());
+        assertEquals("Shirts", product.getCategory().getName());
+        assertEquals(4, product.getVariants().size());
+        assertEquals(4, product.getImages().size());
+        assertEquals(4, product.getTags().stream().map(productTag -> productTag.getTag().getName()).count());
+        assertEquals(3, detail.approvedReviews().size());
+        assertTrue(detail.approvedReviews().stream().allMatch(review -> review.getStatus() == ReviewStatus.APPROVED));
+
+        assertEquals(DETAIL_STATEMENTS, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void unknownSlugCostsOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertTrue(productRepository.loadDetailBySlug("missing", 3).isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void detailVersionCoversEveryChildInOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProductVersionRow version = productRepository.findDetailVersionBySlug("oxford-shirt", ReviewStatus.APPROVED)
+                .orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(ProductStatus.PUBLISHED, version.status());
+        assertNotNull(version.updatedAt());
+        assertNotNull(version.brandUpdatedAt());
+        assertNotNull(version.categoryUpdatedAt());
+        assertNotNull(version.variantsUpdatedAt());
+        assertEquals(4, version.variantCount());
+        assertEquals(4, version.imageCount());
+        assertNotNull(version.imagesUpdatedAt());
+        assertEquals(4, version.tagCount());
+        assertNotNull(version.tagsUpdatedAt());
+        assertEquals(5, version.approvedReviewCount());
+        assertNotNull(version.approvedReviewsUpdatedAt());
+        assertTrue(productRepository.findDetailVersionBySlug("missing", ReviewStatus.APPROVED).isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+package shopco.backend.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import shopco.backend.domain.enums.OrderStatus;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.model.Order;
+import shopco.backend.infrastructure.model.OrderItem;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.ProductSummary;
+import shopco.backend.infrastructure.model.ProductVariant;
+import shopco.backend.infrastructure.model.Review;
+import shopco.backend.infrastructure.model.User;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+class ProductSummaryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProductSummaryRepository productSummaryRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("user-1");
+        user.setName("Buyer");
+        user.setEmail("buyer@example.com");
+        entityManager.persist(user);
+
+        product("tee", "Tee");
+        variant("tee-s", "tee", "30.00", "25.00", 0);
+        variant("tee-m", "tee", "30.00", null, 4);
+        review("r1", "tee", 5, ReviewStatus.APPROVED);
+        review("r2", "tee", 4, ReviewStatus.APPROVED);
+        review("r3", "tee", 1, ReviewStatus.PENDING);
+        order("o1", OrderStatus.DELIVERED, "tee-s", 2);
+        order("o2", OrderStatus.CANCELLED, "tee-m", 7);
+
+        product("jacket", "Jacket");
+        variant("jacket-m", "jacket", "120.00", null, 0);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void refreshAggregatesEverySourceTable() {
+        productSummaryRepository.refresh(List.of("tee", "jacket"));
+        entityManager.flush();
+        entityManager.clear();
+
+        ProductSummary tee = productSummaryRepository.findById("tee").orElseThrow();
+        assertEquals(0, new BigDecimal("25.00").compareTo(tee.getMinPrice()));
+        assertEquals(0, new BigDecimal("30.00").compareTo(tee.getMaxPrice()));
+        assertTrue(tee.getInStock());
+        assertEquals(0, new BigDecimal("4.50").compareTo(tee.getRatingAverage()));
+        assertEquals(2L, tee.getRatingCount());
+        assertEquals(2L, tee.getUnitsSold());
+
+        ProductSummary jacket = productSummaryRepository.findById("jacket").orElseThrow();
+        assertFalse(jacket.getInStock());
+        assertEquals(0L, jacket.getRatingCount());
+        assertEquals(0L, jacket.getUnitsSold());
+    }
+
+    @Test
+    void summariesServeKeysetSortsAndFollowDeletes() {
+        productSummaryRepository.refresh(List.of("tee", "jacket"));
+        entityManager.flush();
+
+        List<ProductSummary> byPrice = productSummaryRepository.findFirstPageByPriceAsc(
+                ProductStatus.PUBLISHED, true, Set.of(""), null, Limit.of(10));
+        assertEquals(List.of("tee", "jacket"), byPrice.stream().map(ProductSummary::getProductId).toList());
+        List<ProductSummary> afterTee = productSummaryRepository.findNextPageByPriceAsc(
+                ProductStatus.PUBLISHED, true, Set.of(""), null, new BigDecimal("25.00"), "tee", Limit.of(10));
+        assertEquals(List.of("jacket"), afterTee.stream().map(ProductSummary::getProductId).toList());
+
+        entityManager.getEntityManager().createQuery("DELETE FROM ProductVariant v WHERE v.productId = 'jacket'")
+                .executeUpdate();
+        entityManager.getEntityManager().createQuery("DELETE FROM Product p WHERE p.id = 'jacket'").executeUpdate();
+        productSummaryRepository.refresh(List.of("jacket"));
+        entityManager.flush();
+        assertTrue(productSummaryRepository.findById("jacket").isEmpty());
+    }
+
+    private void product(String id, String name) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setSlug(id);
+        product.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(product);
+    }
+
+    private void variant(String id, String productId, String price, String salePrice, int stock) {
+        ProductVariant variant = new ProductVariant();
+        variant.setId(id);
+        variant.setProductId(productId);
+        variant.setSku(id);
+        variant.setPrice(new BigDecimal(price));
+        variant.setSalePrice(salePrice == null ? null : new BigDecimal(salePrice));
+        variant.setStockQuantity(stock);
+        entityManager.persist(variant);
+    }
+
+    private void review(String id, String productId, int rating, ReviewStatus status) {
+        Review review = new Review();
+        review.setId(id);
+        review.setProductId(productId);
+        review.setUserId("user-1");
+        review.setRating(rating);
+        review.setStatus(status);
+        entityManager.persist(review);
+    }
+
+    private void order(String id, OrderStatus status, String variantId, int quantity) {
+        Order order = new Order();
+        order.setId(id);
+        order.setOrderNo(id);
+        order.setUserId("user-1");
+        order.setTotalAmount(BigDecimal.TEN);
+        order.setFinalAmount(BigDecimal.TEN);
+        order.setOrderStatus(status);
+        entityManager.persist(order);
+
+        OrderItem item = new OrderItem();
+        item.setId(id + "-item");
+        item.setOrderId(id);
+        item.setVariantId(variantId);
+        item.setProductName("item");
+        item.setUnitPrice(BigDecimal.TEN);
+        item.setQuantity(quantity);
+        item.setSubtotal(BigDecimal.TEN);
+        entityManager.persist(item);
+    }
+}
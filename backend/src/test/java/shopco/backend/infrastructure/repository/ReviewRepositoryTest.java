@@ -0,0 +1,122 @@
+package shopco.backend.infrastructure.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import shopco.backend.application.dto.ReviewDto;
+import shopco.backend.application.dto.ReviewModerationRow;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.ReviewStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.Review;
+import shopco.backend.infrastructure.model.User;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+class ReviewRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId("user-1");
+        user.setName("Buyer");
+        user.setEmail("buyer@example.com");
+        entityManager.persist(user);
+        product("tee");
+        product("jacket");
+        entityManager.flush();
+
+        // Seven approved tee reviews, two sharing a timestamp, plus noise the feed must skip
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            review("a" + i, "tee", ReviewStatus.APPROVED, base.plusMinutes(i == 6 ? 5 : i));
+        }
+        review("p1", "tee", ReviewStatus.PENDING, base.plusMinutes(1));
+        review("p2", "jacket", ReviewStatus.PENDING, base);
+        review("p3", "tee", ReviewStatus.PENDING, base.plusMinutes(2));
+        review("x1", "tee", ReviewStatus.REJECTED, base.plusMinutes(3));
+        review("j1", "jacket", ReviewStatus.APPROVED, base);
+        entityManager.clear();
+    }
+
+    @Test
+    void feedPagesThroughApprovedReviewsNewestFirst() {
+        List<String> seen = new ArrayList<>();
+        List<ReviewDto> page = reviewRepository.findFirstFeedPage("tee", ReviewStatus.APPROVED, Limit.of(3));
+        while (!page.isEmpty()) {
+            page.forEach(review -> seen.add(review.id()));
+            ReviewDto last = page.get(page.size() - 1);
+            page = reviewRepository.findNextFeedPage("tee", ReviewStatus.APPROVED, last.createdAt(), last.id(),
+                    Limit.of(3));
+        }
+        assertEquals(List.of("a6", "a5", "a4", "a3", "a2", "a1", "a0"), seen);
+
+        List<ReviewDto> queue = reviewRepository.findFirstQueuePage(ReviewStatus.PENDING, Limit.of(2));
+        assertEquals(List.of("p2", "p1"), queue.stream().map(ReviewDto::id).toList());
+        ReviewDto last = queue.get(1);
+        assertEquals(List.of("p3"), reviewRepository.findNextQueuePage(
+                ReviewStatus.PENDING, last.createdAt(), last.id(), Limit.of(2)).stream().map(ReviewDto::id).toList());
+    }
+
+    @Test
+    void moderationLocksAndUpdatesOnlyPendingReviews() {
+        List<ReviewModerationRow> pending = reviewRepository.lockByIdInAndStatus(
+                List.of("p1", "p2", "a0", "x1", "missing"), ReviewStatus.PENDING);
+        assertEquals(List.of("p1", "p2"), pending.stream().map(ReviewModerationRow::id).sorted().toList());
+
+        LocalDateTime moderatedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        int updated = reviewRepository.updateStatus(pending.stream().map(ReviewModerationRow::id).toList(),
+                ReviewStatus.PENDING, ReviewStatus.APPROVED, moderatedAt);
+        assertEquals(2, updated);
+        // Already moderated rows are left alone
+        assertEquals(0, reviewRepository.updateStatus(List.of("p1", "x1"), ReviewStatus.PENDING, ReviewStatus.REJECTED,
+                moderatedAt.plusDays(1)));
+
+        assertEquals(ReviewStatus.APPROVED, reviewRepository.findById("p1").orElseThrow().getStatus());
+        assertEquals(moderatedAt, reviewRepository.findById("p1").orElseThrow().getUpdatedAt());
+        assertEquals(ReviewStatus.REJECTED, reviewRepository.findById("x1").orElseThrow().getStatus());
+        assertEquals(List.of("p3"), reviewRepository.findFirstQueuePage(ReviewStatus.PENDING, Limit.of(10)).stream()
+                .map(ReviewDto::id).toList());
+    }
+
+    private void product(String id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(id);
+        product.setSlug(id);
+        product.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(product);
+    }
+
+    private void review(String id, String productId, ReviewStatus status, LocalDateTime createdAt) {
+        Review review = new Review();
+        review.setId(id);
+        review.setProductId(productId);
+        review.setUserId("user-1");
+        review.setRating(4);
+        review.setStatus(status);
+        entityManager.persist(review);
+        entityManager.flush();
+        // created_at is not updatable through the entity; pin it for deterministic ordering
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE review SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, id)
+                .executeUpdate();
+    }
+}
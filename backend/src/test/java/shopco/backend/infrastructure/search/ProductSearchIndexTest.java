@@ -0,0 +1,50 @@
+package shopco.backend.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+    private static SearchDocument document(String id, String name, String brand, List<String> tags) {
+        return new SearchDocument(id, name, id, null, brand, "Áo", tags);
+    }
+
+    @Test
+    void foldsVietnameseDiacritics() {
+        assertEquals(List.of("ao", "so", "mi", "do", "dam"), SearchTextAnalyzer.tokenize("Áo sơ-mi ĐỎ đậm"));
+    }
+
+    @Test
+    void ranksProductsMatchingMoreTermsFirst() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.replaceAll(List.of(
+                document("p1", "Áo thun trắng", "Zara", List.of()),
+                document("p2", "Áo sơ mi trắng", "Gucci", List.of("công sở")),
+                document("p3", "Quần jean", "Zara", List.of())));
+
+        List<ProductSearchIndex.SearchHit> hits = index.search("ao so mi", 10).hits();
+
+        assertEquals("p2", hits.get(0).productId());
+        assertEquals(2, index.search("zara", 10).totalMatches());
+    }
+
+    @Test
+    void appliesIncrementalUpdatesAndRemovals() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.replaceAll(List.of(document("p1", "Áo thun", "Zara", List.of())));
+
+        index.upsert(document("p1", "Váy maxi", "Zara", List.of("mùa hè")));
+        index.upsert(document("p2", "Áo khoác", "Prada", List.of()));
+
+        assertTrue(index.search("thun", 10).hits().isEmpty());
+        assertEquals("p1", index.search("mua he", 10).hits().get(0).productId());
+
+        index.remove("p1");
+        assertEquals(1, index.size());
+        assertTrue(index.search("vay", 10).hits().isEmpty());
+        assertEquals("p2", index.search("khoac", 10).hits().get(0).productId());
+    }
+}
@@ -0,0 +1,52 @@
+package shopco.backend.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import shopco.backend.infrastructure.search.TypeaheadTrie.Kind;
+import shopco.backend.infrastructure.search.TypeaheadTrie.Suggestion;
+
+class TypeaheadTrieTest {
+
+    private static final TypeaheadTrie TRIE = TypeaheadTrie.build(List.of(
+            new Suggestion(Kind.PRODUCT, "p1", "Áo sơ mi trắng", "ao-so-mi-trang", 5),
+            new Suggestion(Kind.PRODUCT, "p2", "Áo thun", "ao-thun", 40),
+            new Suggestion(Kind.PRODUCT, "p3", "Quần short", "quan-short", 12),
+            new Suggestion(Kind.BRAND, "b1", "Shopco Basics", "shopco-basics", 30),
+            new Suggestion(Kind.TAG, "t1", "Sơ mi sơ mi", "so-mi", 1)), 3);
+
+    private static List<String> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::id).toList();
+    }
+
+    @Test
+    void ranksPrefixMatchesByWeight() {
+        assertEquals(List.of("p2", "p1"), ids(TRIE.suggest("ao", 10)));
+        assertEquals(List.of("b1", "p3"), ids(TRIE.suggest("SH", 10)));
+    }
+
+    @Test
+    void matchesLaterWordsAndFoldsDiacritics() {
+        assertEquals(List.of("p1", "t1"), ids(TRIE.suggest("sơ m", 10)));
+        assertEquals(List.of("p1"), ids(TRIE.suggest("trắ", 10)));
+        assertEquals(List.of("p1"), ids(TRIE.suggest("ao so mi tr", 10)));
+    }
+
+    @Test
+    void capsResultsAtLimitAndTopK() {
+        assertEquals(List.of("p2"), ids(TRIE.suggest("a", 1)));
+        List<Suggestion> everything = TRIE.suggest("s", 10);
+        assertEquals(3, everything.size());
+        assertEquals(List.of("b1", "p3", "p1"), ids(everything));
+    }
+
+    @Test
+    void returnsNothingForUnknownOrBlankPrefix() {
+        assertTrue(TRIE.suggest("xyz", 10).isEmpty());
+        assertTrue(TRIE.suggest("ao thun x", 10).isEmpty());
+        assertTrue(TRIE.suggest("  ", 10).isEmpty());
+        assertTrue(TypeaheadTrie.EMPTY.suggest("ao", 10).isEmpty());
+    }
+}
@@ -0,0 +1,59 @@
+package shopco.backend.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import shopco.backend.application.dto.ResourceVersion;
+import shopco.backend.interfaces.presenters.ApiResponse;
+
+class ConditionalGetTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+
+    @Test
+    void matchingEtagIsNotModifiedAndAnyChangeBreaksTheMatch() {
+        ResourceVersion version = ResourceVersion.of(UPDATED, "prod-1", 4L);
+        assertTrue(version.etag().startsWith("W/\""));
+        assertEquals(version, ResourceVersion.of(UPDATED, "prod-1", 4L));
+
+        assertTrue(ConditionalGet.isNotModified(request("If-None-Match", version.etag()), version));
+        // One variant deleted: same newest timestamp, different count
+        assertFalse(ConditionalGet.isNotModified(request("If-None-Match", version.etag()),
+                ResourceVersion.of(UPDATED, "prod-1", 3L)));
+        assertFalse(ConditionalGet.isNotModified(request("If-None-Match", version.etag()), null));
+
+        ResponseEntity<ApiResponse<?>> response = ConditionalGet.notModified(version);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(version.etag(), response.getHeaders().getETag());
+    }
+
+    @Test
+    void ifModifiedSinceComparesAtSecondPrecision() {
+        ResourceVersion version = ResourceVersion.of(UPDATED.plusNanos(250_000_000), "page");
+        long lastModifiedSeconds = version.lastModified() / 1000 * 1000;
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/pages/about");
+        servletRequest.addHeader("If-Modified-Since", lastModifiedSeconds);
+        assertTrue(ConditionalGet.isNotModified(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()), version));
+
+        servletRequest = new MockHttpServletRequest("GET", "/pages/about");
+        servletRequest.addHeader("If-Modified-Since", lastModifiedSeconds - 1000);
+        assertFalse(ConditionalGet.isNotModified(
+                new ServletWebRequest(servletRequest, new MockHttpServletResponse()), version));
+    }
+
+    private static ServletWebRequest request(String header, String value) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/products/slug/oxford-shirt");
+        servletRequest.addHeader(header, value);
+        return new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+    }
+}
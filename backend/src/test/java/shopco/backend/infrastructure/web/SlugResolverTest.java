@@ -0,0 +1,100 @@
+package shopco.backend.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.domain.enums.SlugType;
+import shopco.backend.infrastructure.model.Brand;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.persistence.SlugChangedEvent;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(SlugResolver.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SlugResolverTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SlugResolver slugResolver;
+
+    @BeforeEach
+    void setUp() {
+        slugResolver.clear();
+        Product product = new Product();
+        product.setId("prod-1");
+        product.setName("Oxford shirt");
+        product.setSlug("oxford-shirt");
+        product.setStatus(ProductStatus.PUBLISHED);
+        entityManager.persist(product);
+        entityManager.flush();
+    }
+
+    @Test
+    void repeatHitsAreServedFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        SlugResolver.Resolution first = slugResolver.resolve(SlugType.PRODUCT, "oxford-shirt").orElseThrow();
+        assertEquals("prod-1", first.id());
+        assertFalse(first.redirect());
+        assertTrue(slugResolver.resolve(SlugType.PRODUCT, "nope").isEmpty());
+
+        statistics.clear();
+        assertEquals("prod-1", slugResolver.resolve(SlugType.PRODUCT, "oxford-shirt").orElseThrow().id());
+        assertTrue(slugResolver.resolve(SlugType.PRODUCT, "nope").isEmpty());
+        // The same slug under another type is a different entry: live lookup plus redirect lookup
+        assertTrue(slugResolver.resolve(SlugType.BRAND, "oxford-shirt").isEmpty());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void newSlugEvictsNegativeEntry() {
+        assertTrue(slugResolver.resolve(SlugType.BRAND, "zara").isEmpty());
+
+        Brand brand = new Brand();
+        brand.setId("brand-1");
+        brand.setName("Zara");
+        brand.setSlug("zara");
+        entityManager.persist(brand);
+        entityManager.flush();
+        assertTrue(slugResolver.resolve(SlugType.BRAND, "zara").isEmpty());
+
+        // Delivered after commit in the application; the test transaction never commits
+        slugResolver.onSlugChanged(new SlugChangedEvent(SlugType.BRAND, "brand-1", null, "zara"));
+        assertEquals("brand-1", slugResolver.resolve(SlugType.BRAND, "zara").orElseThrow().id());
+    }
+
+    @Test
+    void renamedSlugRedirectsToCurrentOne() {
+        slugResolver.resolve(SlugType.PRODUCT, "oxford-shirt");
+
+        Product product = entityManager.find(Product.class, "prod-1");
+        product.setSlug("oxford-shirt-blue");
+        entityManager.flush();
+        slugResolver.onSlugChanged(new SlugChangedEvent(SlugType.PRODUCT, "prod-1", "oxford-shirt", "oxford-shirt-blue"));
+
+        SlugResolver.Resolution old = slugResolver.resolve(SlugType.PRODUCT, "oxford-shirt").orElseThrow();
+        assertTrue(old.redirect());
+        assertEquals("prod-1", old.id());
+        assertEquals("oxford-shirt-blue", old.slug());
+        assertFalse(slugResolver.resolve(SlugType.PRODUCT, "oxford-shirt-blue").orElseThrow().redirect());
+    }
+}
@@ -0,0 +1,98 @@
+package shopco.backend.infrastructure.wishlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import shopco.backend.domain.enums.ProductStatus;
+import shopco.backend.infrastructure.model.Product;
+import shopco.backend.infrastructure.model.User;
+import shopco.backend.infrastructure.model.WishlistItem;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(WishlistMembershipCache.class)
+class WishlistMembershipCacheTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WishlistMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.clear();
+        user("ann");
+        user("bob");
+        user("cy");
+        for (String id : List.of("tee", "jacket", "cap", "socks")) {
+            Product product = new Product();
+            product.setId(id);
+            product.setName(id);
+            product.setSlug(id);
+            product.setStatus(ProductStatus.PUBLISHED);
+            entityManager.persist(product);
+        }
+        wish("ann", "tee");
+        wish("ann", "cap");
+        wish("bob", "jacket");
+        entityManager.flush();
+    }
+
+    @Test
+    void answersAWholePageFromOneLoadPerUser() {
+        List<String> page = List.of("tee", "jacket", "cap", "socks", "unknown");
+        assertEquals(Set.of("tee", "cap"), cache.wishlisted("ann", page));
+        assertEquals(Set.of("jacket"), cache.wishlisted("bob", page));
+        assertEquals(Set.of(), cache.wishlisted("nobody", page));
+        assertEquals(3, cache.size());
+
+        // Later answers come from memory: rows removed behind the cache's back still show
+        entityManager.getEntityManager().createQuery("DELETE FROM WishlistItem").executeUpdate();
+        assertEquals(Set.of("tee", "cap"), cache.wishlisted("ann", page));
+    }
+
+    @Test
+    void followsAddsAndRemoves() {
+        List<String> page = List.of("tee", "jacket", "cap", "socks");
+        assertEquals(Set.of("tee", "cap"), cache.wishlisted("ann", page));
+
+        cache.onWishlistChanged(new WishlistChangedEvent("ann", "socks", true));
+        cache.onWishlistChanged(new WishlistChangedEvent("ann", "tee", false));
+        // Not cached yet: the change is picked up by the load instead
+        cache.onWishlistChanged(new WishlistChangedEvent("cy", "cap", true));
+        wish("cy", "cap");
+        entityManager.flush();
+
+        assertEquals(Set.of("cap", "socks"), cache.wishlisted("ann", page));
+        assertEquals(Set.of("cap"), cache.wishlisted("cy", page));
+
+        // Both were used just now, well within the idle TTL
+        cache.evictIdle();
+        assertEquals(2, cache.size());
+    }
+
+    private void user(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setName(id);
+        user.setEmail(id + "@example.com");
+        entityManager.persist(user);
+    }
+
+    private void wish(String userId, String productId) {
+        WishlistItem item = new WishlistItem();
+        item.setId(userId + "-" + productId);
+        item.setUserId(userId);
+        item.setProductId(productId);
+        entityManager.persist(item);
+    }
+}